@@ -0,0 +1,84 @@
+package redis.clients.jedis;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.executors.AsyncCommandExecutor;
+
+/**
+ * Asynchronous facade of a client: commands are built by the {@link CommandObjects} of the client
+ * and executed by an {@link AsyncCommandExecutor}, without blocking the calling thread.
+ * <p>
+ * Any command of {@link #commandObjects()} can be executed with
+ * {@link #executeCommand(CommandObject)}; the most common ones have shortcuts.
+ * <pre>{@code
+ * AsyncCommands async = client.async();
+ * CompletableFuture<String> value = async.get("key");
+ * CompletableFuture<Long> length = async.executeCommand(async.commandObjects().strlen("key"));
+ * }</pre>
+ *
+ * @see RedisClient#async()
+ */
+@Experimental
+public class AsyncCommands implements AutoCloseable {
+
+  private final CommandObjects commandObjects;
+  private final AsyncCommandExecutor executor;
+
+  public AsyncCommands(CommandObjects commandObjects, AsyncCommandExecutor executor) {
+    this.commandObjects = commandObjects;
+    this.executor = executor;
+  }
+
+  /**
+   * @return the command objects to build the commands with
+   */
+  public CommandObjects commandObjects() {
+    return commandObjects;
+  }
+
+  public <T> CompletableFuture<T> executeCommand(CommandObject<T> commandObject) {
+    return executor.executeCommand(commandObject);
+  }
+
+  public CompletableFuture<Object> executeCommand(CommandArguments args) {
+    return executeCommand(new CommandObject<>(args, BuilderFactory.RAW_OBJECT));
+  }
+
+  public CompletableFuture<String> get(String key) {
+    return executeCommand(commandObjects.get(key));
+  }
+
+  public CompletableFuture<String> set(String key, String value) {
+    return executeCommand(commandObjects.set(key, value));
+  }
+
+  public CompletableFuture<Long> del(String... keys) {
+    return executeCommand(commandObjects.del(keys));
+  }
+
+  public CompletableFuture<Long> incr(String key) {
+    return executeCommand(commandObjects.incr(key));
+  }
+
+  public CompletableFuture<String> hget(String key, String field) {
+    return executeCommand(commandObjects.hget(key, field));
+  }
+
+  public CompletableFuture<Long> hset(String key, String field, String value) {
+    return executeCommand(commandObjects.hset(key, field, value));
+  }
+
+  public CompletableFuture<Map<String, String>> hgetAll(String key) {
+    return executeCommand(commandObjects.hgetAll(key));
+  }
+
+  /**
+   * Waits for the pending commands and closes the executor.
+   */
+  @Override
+  public void close() {
+    executor.close();
+  }
+}
@@ -1,7 +1,20 @@
 package redis.clients.jedis;
 
+import java.util.concurrent.Executor;
+
 public abstract class BinaryJedisPubSub extends JedisPubSubBase<byte[]> {
 
+  public BinaryJedisPubSub() {
+  }
+
+  /**
+   * @param callbackExecutor the executor running the callbacks, see
+   *     {@link JedisPubSubBase#JedisPubSubBase(Executor)}
+   */
+  protected BinaryJedisPubSub(Executor callbackExecutor) {
+    super(callbackExecutor);
+  }
+
   @Override
   protected final byte[] encode(byte[] raw) {
     return raw;
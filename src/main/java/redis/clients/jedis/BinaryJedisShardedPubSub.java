@@ -1,7 +1,20 @@
 package redis.clients.jedis;
 
+import java.util.concurrent.Executor;
+
 public abstract class BinaryJedisShardedPubSub extends JedisShardedPubSubBase<byte[]> {
 
+  public BinaryJedisShardedPubSub() {
+  }
+
+  /**
+   * @param callbackExecutor the executor running the callbacks, see
+   *     {@link JedisShardedPubSubBase#JedisShardedPubSubBase(Executor)}
+   */
+  protected BinaryJedisShardedPubSub(Executor callbackExecutor) {
+    super(callbackExecutor);
+  }
+
   @Override
   protected final byte[] encode(byte[] raw) {
     return raw;
@@ -348,7 +348,7 @@ public final class BuilderFactory {
     }
   };
 
-  public static final Builder<Map<String, String>> STRING_MAP = new Builder<Map<String, String>>() {
+  public static final Builder<Map<String, String>> STRING_MAP = new StreamingBuilder<Map<String, String>>() {
     @Override
     @SuppressWarnings("unchecked")
     public Map<String, String> build(Object data) {
@@ -373,6 +373,18 @@ public final class BuilderFactory {
       }
     }
 
+    @Override
+    public Map<String, String> read(RespReader reader) {
+      final int size = reader.readAggregateLength();
+      if (size <= 0) return Collections.emptyMap();
+
+      final Map<String, String> map = new HashMap<>(size / 2, 1f);
+      for (int i = 0; i < size; i += 2) {
+        map.put(reader.readString(), reader.readString());
+      }
+      return map;
+    }
+
     @Override
     public String toString() {
       return "Map<String, String>";
@@ -712,7 +724,7 @@ public final class BuilderFactory {
     }
   };
 
-  public static final Builder<List<Tuple>> TUPLE_LIST = new Builder<List<Tuple>>() {
+  public static final Builder<List<Tuple>> TUPLE_LIST = new StreamingBuilder<List<Tuple>>() {
     @Override
     @SuppressWarnings("unchecked")
     public List<Tuple> build(Object data) {
@@ -728,13 +740,25 @@ public final class BuilderFactory {
       return result;
     }
 
+    @Override
+    public List<Tuple> read(RespReader reader) {
+      final int size = reader.readAggregateLength();
+      if (size == -1) return null;
+
+      final List<Tuple> result = new ArrayList<>(size / 2);
+      for (int i = 0; i < size; i += 2) {
+        result.add(new Tuple(reader.readBulk(), reader.readDouble()));
+      }
+      return result;
+    }
+
     @Override
     public String toString() {
       return "List<Tuple>";
     }
   };
 
-  public static final Builder<List<Tuple>> TUPLE_LIST_RESP3 = new Builder<List<Tuple>>() {
+  public static final Builder<List<Tuple>> TUPLE_LIST_RESP3 = new StreamingBuilder<List<Tuple>>() {
     @Override
     @SuppressWarnings("unchecked")
     public List<Tuple> build(Object data) {
@@ -742,6 +766,29 @@ public final class BuilderFactory {
       return ((List<Object>) data).stream().map(TUPLE::build).collect(Collectors.toList());
     }
 
+    @Override
+    public List<Tuple> read(RespReader reader) {
+      final int size = reader.readAggregateLength();
+      if (size == -1) return null;
+
+      final List<Tuple> result = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        final int tupleSize = reader.readAggregateLength();
+        if (tupleSize == -1) {
+          result.add(null);
+        } else if (tupleSize == 0) {
+          // as TUPLE builds an empty reply
+          result.add(null);
+        } else {
+          result.add(new Tuple(reader.readBulk(), reader.readDouble()));
+          for (int j = 2; j < tupleSize; j++) {
+            reader.skip();
+          }
+        }
+      }
+      return result;
+    }
+
     @Override
     public String toString() {
       return "List<Tuple>";
@@ -1417,7 +1464,7 @@ public final class BuilderFactory {
     }
   };
 
-  public static final Builder<List<StreamEntry>> STREAM_ENTRY_LIST = new Builder<List<StreamEntry>>() {
+  public static final Builder<List<StreamEntry>> STREAM_ENTRY_LIST = new StreamingBuilder<List<StreamEntry>>() {
     @Override
     @SuppressWarnings("unchecked")
     public List<StreamEntry> build(Object data) {
@@ -1464,6 +1511,50 @@ public final class BuilderFactory {
       return responses;
     }
 
+    @Override
+    public List<StreamEntry> read(RespReader reader) {
+      final int size = reader.readAggregateLength();
+      if (size == -1) {
+        return null;
+      }
+
+      List<StreamEntry> responses = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        final int entrySize = reader.readAggregateLength();
+        if (entrySize == -1) {
+          responses.add(null);
+          continue;
+        }
+        StreamEntryID entryID = new StreamEntryID(reader.readString());
+
+        Map<String, String> fieldsMap = null;
+        final int hashSize = reader.readAggregateLength();
+        if (hashSize != -1) {
+          fieldsMap = new LinkedHashMap<>(hashSize / 2, 1f);
+          for (int j = 0; j < hashSize; j += 2) {
+            fieldsMap.put(reader.readString(), reader.readString());
+          }
+        }
+
+        if (entrySize >= 4) {
+          Long millisElapsedFromDelivery = reader.readLong();
+          Long deliveredCount = reader.readLong();
+          for (int j = 4; j < entrySize; j++) {
+            reader.skip();
+          }
+          responses.add(new StreamEntry(entryID, fieldsMap, millisElapsedFromDelivery, deliveredCount));
+          continue;
+        }
+
+        for (int j = 2; j < entrySize; j++) {
+          reader.skip();
+        }
+        responses.add(new StreamEntry(entryID, fieldsMap));
+      }
+
+      return responses;
+    }
+
     @Override
     public String toString() {
       return "List<StreamEntry>";
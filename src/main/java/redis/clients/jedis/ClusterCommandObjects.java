@@ -12,7 +12,7 @@ import redis.clients.jedis.util.KeyValue;
 
 import java.util.*;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import static redis.clients.jedis.Protocol.Command.*;
@@ -124,7 +124,8 @@ public class ClusterCommandObjects extends CommandObjects {
         JedisClusterCRC16::getSlot,
         CommandArguments::key,
         CommandArguments::add,
-        false
+        false,
+        null
     );
   }
 
@@ -147,7 +148,8 @@ public class ClusterCommandObjects extends CommandObjects {
         JedisClusterCRC16::getSlot,
         CommandArguments::key,
         CommandArguments::add,
-        false
+        false,
+        null
     );
   }
 
@@ -157,17 +159,16 @@ public class ClusterCommandObjects extends CommandObjects {
    * across Redis cluster nodes by ensuring that each resulting command only operates on keys
    * that hash to the same slot.
    *
-   * <p><b>Order Preservation:</b> This method preserves the order of keys as they appear in the input array.
-   * Consecutive keys that hash to the same slot are grouped together into a single CommandArguments,
-   * but non-consecutive keys with the same slot are kept in separate CommandArguments to maintain order.
-   * For example, if input keys map to slots [A, B, A], the result will be 3 separate CommandArguments
-   * (not 2), ensuring that when results are concatenated, they match the original input key order.</p>
+   * <p><b>Grouping:</b> All the keys hashing to the same slot are grouped into a single
+   * CommandArguments, wherever they appear in the input array, so that as few commands as possible
+   * are sent. The groups are ordered by slot, and the keys of a group keep their input order. For
+   * example, if input keys map to slots [A, B, A], the result holds 2 CommandArguments.</p>
    *
    * @param args the original command arguments to copy (the command itself will be preserved)
    * @param keys variable number of keys to be grouped
    * @param params additional parameters for the command (may be null)
    * @return a list of CommandArguments objects, each containing only keys that belong to the same hash slot,
-   *         preserving the original key order
+   *         in their input order
    */
   protected List<CommandArguments> groupArgumentsByKeyHashSlot(CommandArguments args, String[] keys, IParams params) {
     return groupArgumentsByKeyValueHashSlotImpl(
@@ -177,7 +178,8 @@ public class ClusterCommandObjects extends CommandObjects {
         JedisClusterCRC16::getSlot,
         CommandArguments::key,
         null,
-        false
+        false,
+        null
     );
   }
 
@@ -187,17 +189,16 @@ public class ClusterCommandObjects extends CommandObjects {
    * across Redis cluster nodes by ensuring that each resulting command only operates on keys
    * that hash to the same slot.
    *
-   * <p><b>Order Preservation:</b> This method preserves the order of keys as they appear in the input array.
-   * Consecutive keys that hash to the same slot are grouped together into a single CommandArguments,
-   * but non-consecutive keys with the same slot are kept in separate CommandArguments to maintain order.
-   * For example, if input keys map to slots [A, B, A], the result will be 3 separate CommandArguments
-   * (not 2), ensuring that when results are concatenated, they match the original input key order.</p>
+   * <p><b>Grouping:</b> All the keys hashing to the same slot are grouped into a single
+   * CommandArguments, wherever they appear in the input array, so that as few commands as possible
+   * are sent. The groups are ordered by slot, and the keys of a group keep their input order. For
+   * example, if input keys map to slots [A, B, A], the result holds 2 CommandArguments.</p>
    *
    * @param args the original command arguments to copy (the command itself will be preserved)
    * @param keys variable number of keys to be grouped
    * @param params additional parameters for the command (may be null)
    * @return a list of CommandArguments objects, each containing only keys that belong to the same hash slot,
-   *         preserving the original key order
+   *         in their input order
    */
   protected List<CommandArguments> groupArgumentsByKeyHashSlot(CommandArguments args, byte[][] keys, IParams params) {
     return groupArgumentsByKeyValueHashSlotImpl(
@@ -207,7 +208,8 @@ public class ClusterCommandObjects extends CommandObjects {
         JedisClusterCRC16::getSlot,
         CommandArguments::key,
         null,
-        false
+        false,
+        null
     );
   }
 
@@ -215,9 +217,8 @@ public class ClusterCommandObjects extends CommandObjects {
    * Groups key-value pairs by their hash slot and creates separate CommandArguments for each slot.
    * Inserts the key count after the command but before the keys (for commands like MSETEX).
    *
-   * <p><b>Order Preservation:</b> This method preserves the order of key-value pairs as they appear
-   * in the input array. Consecutive pairs that hash to the same slot are grouped together, but
-   * non-consecutive pairs with the same slot are kept in separate CommandArguments to maintain order.</p>
+   * <p><b>Grouping:</b> All the pairs whose key hashes to the same slot are grouped into a single
+   * CommandArguments, in their input order.</p>
    *
    * @param args the original command arguments to copy (the command itself will be preserved)
    * @param keysValues variable number of key-value pairs to be grouped (must be even length)
@@ -233,7 +234,8 @@ public class ClusterCommandObjects extends CommandObjects {
         JedisClusterCRC16::getSlot,
         CommandArguments::key,
         CommandArguments::add,
-        true
+        true,
+        null
     );
   }
 
@@ -255,7 +257,8 @@ public class ClusterCommandObjects extends CommandObjects {
         JedisClusterCRC16::getSlot,
         CommandArguments::key,
         CommandArguments::add,
-        true
+        true,
+        null
     );
   }
 
@@ -264,11 +267,9 @@ public class ClusterCommandObjects extends CommandObjects {
    * When valueAdder is null, this method processes keys only (for commands like DEL, EXISTS, MGET).
    * When valueAdder is provided, this method processes key-value pairs (for commands like MSET).
    *
-   * <p><b>Order Preservation:</b> This method preserves the order of keys as they appear in the input array.
-   * Consecutive keys that hash to the same slot are grouped together into a single CommandArguments,
-   * but non-consecutive keys with the same slot are kept in separate CommandArguments to maintain order.
-   * For example, if input keys map to slots [A, B, A], the result will be 3 separate CommandArguments
-   * (not 2), preserving the original key order in the concatenated results.</p>
+   * <p>Each key is packed with its index into a {@code long}, the slot in the high bits, so that
+   * sorting a single primitive array buckets the keys by slot while keeping their input order within
+   * a slot. The common case of keys sharing one slot (e.g. through a hash tag) skips the sort.</p>
    *
    * @param <T> the type of key/value elements (String or byte[])
    * @param args the original command arguments to copy (the command itself will be preserved)
@@ -278,18 +279,20 @@ public class ClusterCommandObjects extends CommandObjects {
    * @param keyAdder function to add a key to CommandArguments
    * @param valueAdder function to add a value to CommandArguments (may be null for key-only operations)
    * @param insertKeyCount if true, inserts the number of keys after the command but before the keys (for commands like MSETEX)
+   * @param keyPositions if not null, receives for each returned CommandArguments the input index of each of its keys
    * @return a list of CommandArguments objects, each containing only keys/values that belong to the same hash slot,
-   *         preserving the original key order
+   *         ordered by slot
    * @throws IllegalArgumentException if valueAdder is provided and keysOrKeysValues has odd length
    */
   private <T> List<CommandArguments> groupArgumentsByKeyValueHashSlotImpl(
       CommandArguments args,
       T[] keysOrKeysValues,
       IParams params,
-      Function<T, Integer> slotCalculator,
+      ToIntFunction<T> slotCalculator,
       BiConsumer<CommandArguments, T> keyAdder,
       BiConsumer<CommandArguments, T> valueAdder,
-      boolean insertKeyCount) {
+      boolean insertKeyCount,
+      List<int[]> keyPositions) {
 
     boolean keyValueMode = valueAdder != null;
     int step = keyValueMode ? 2 : 1;
@@ -304,37 +307,41 @@ public class ClusterCommandObjects extends CommandObjects {
 
     // Wrap slotCalculator to apply keyPreProcessor transformation before slot calculation.
     // This ensures keys are grouped by their actual slot (after preprocessing), not the original key's slot.
-    Function<T, Integer> effectiveSlotCalculator = keyPreProcessor != null
+    ToIntFunction<T> effectiveSlotCalculator = keyPreProcessor != null
         ? key -> calculateSlotFromPreprocessedKey(keyPreProcessor.actualKey(key))
         : slotCalculator;
 
-    // Group consecutive keys with the same slot together, preserving input order
-    // Non-consecutive keys with the same slot will be in separate commands
-    List<CommandArguments> result = new ArrayList<>();
-
-    int currentSlot = -1;
-    List<T> currentGroup = new ArrayList<>();
-
-    for (int i = 0; i < keysOrKeysValues.length; i += step) {
-      T key = keysOrKeysValues[i];
-      int slot = effectiveSlotCalculator.apply(key);
+    final int keyCount = keysOrKeysValues.length / step;
+    final long[] slotted = new long[keyCount];
+    boolean singleSlot = true;
+    for (int k = 0; k < keyCount; k++) {
+      long slot = effectiveSlotCalculator.applyAsInt(keysOrKeysValues[k * step]);
+      slotted[k] = slot << 32 | k;
+      singleSlot &= slot == slotted[0] >>> 32;
+    }
+    if (!singleSlot) {
+      Arrays.sort(slotted);
+    }
 
-      if (slot != currentSlot && !currentGroup.isEmpty()) {
-        // Slot changed - finalize the current group
-        result.add(createCommandArgsForGroup(args, currentGroup, params, keyAdder, valueAdder, insertKeyCount, step));
-        currentGroup = new ArrayList<>();
+    List<CommandArguments> result = new ArrayList<>();
+    int from = 0;
+    while (from < keyCount) {
+      long slot = slotted[from] >>> 32;
+      int to = from + 1;
+      while (to < keyCount && slotted[to] >>> 32 == slot) {
+        to++;
       }
 
-      currentSlot = slot;
-      currentGroup.add(key);
-      if (keyValueMode) {
-        currentGroup.add(keysOrKeysValues[i + 1]);
+      result.add(createCommandArgsForGroup(args, keysOrKeysValues, slotted, from, to, params,
+          keyAdder, valueAdder, insertKeyCount, step));
+      if (keyPositions != null) {
+        int[] positions = new int[to - from];
+        for (int k = from; k < to; k++) {
+          positions[k - from] = (int) slotted[k];
+        }
+        keyPositions.add(positions);
       }
-    }
-
-    // Finalize the last group
-    if (!currentGroup.isEmpty()) {
-      result.add(createCommandArgsForGroup(args, currentGroup, params, keyAdder, valueAdder, insertKeyCount, step));
+      from = to;
     }
 
     return result;
@@ -358,11 +365,14 @@ public class ClusterCommandObjects extends CommandObjects {
   }
 
   /**
-   * Helper method to create a CommandArguments for a group of keys/values.
+   * Helper method to create a CommandArguments for the keys/values of {@code slotted[from..to)}.
    */
   private <T> CommandArguments createCommandArgsForGroup(
       CommandArguments args,
-      List<T> groupedElements,
+      T[] keysOrKeysValues,
+      long[] slotted,
+      int from,
+      int to,
       IParams params,
       BiConsumer<CommandArguments, T> keyAdder,
       BiConsumer<CommandArguments, T> valueAdder,
@@ -374,15 +384,15 @@ public class ClusterCommandObjects extends CommandObjects {
 
     // Insert key count after command but before keys (e.g., numkeys for MSETEX)
     if (insertKeyCount) {
-      int keyCount = groupedElements.size() / step;
-      slotArgs.add(keyCount);
+      slotArgs.add(to - from);
     }
 
     // Add keys (and optionally values) for this slot
-    for (int i = 0; i < groupedElements.size(); i += step) {
-      keyAdder.accept(slotArgs, groupedElements.get(i));
+    for (int k = from; k < to; k++) {
+      int i = (int) slotted[k] * step;
+      keyAdder.accept(slotArgs, keysOrKeysValues[i]);
       if (keyValueMode) {
-        valueAdder.accept(slotArgs, groupedElements.get(i + 1));
+        valueAdder.accept(slotArgs, keysOrKeysValues[i + 1]);
       }
     }
 
@@ -467,19 +477,20 @@ public class ClusterCommandObjects extends CommandObjects {
    * This enables the MGET command to be executed across multiple Redis cluster shards
    * when keys hash to different slots.
    *
-   * <p><b>Order Preservation:</b> The returned commands preserve the order of keys as they appear
-   * in the input array. When the results from all commands are concatenated in order, the values
-   * will correspond positionally to the input keys.</p>
+   * <p><b>Order Preservation:</b> All the keys of a slot are sent in one command, so the keys of a
+   * command need not be contiguous in the input array. When the keys span several slots, each
+   * command is a {@link PositionedCommandObject} holding the input positions of its keys, with which
+   * {@link redis.clients.jedis.executors.ClusterCommandExecutor#executeMultiShardCommand(List)}
+   * places every value at the position of its key.</p>
    *
    * @param keys the keys to retrieve values for
    * @return a list of CommandObject instances, each containing keys that belong to the same hash slot
    */
   public List<CommandObject<List<String>>> mgetMultiShard(String... keys) {
-    CommandArguments args = commandArguments(MGET);
-    List<CommandArguments> groupedArgs = groupArgumentsByKeyHashSlot(args, keys, null);
-    return groupedArgs.stream()
-        .map(cmdArgs -> new CommandObject<>(cmdArgs, BuilderFactory.STRING_LIST))
-        .collect(Collectors.toList());
+    List<int[]> keyPositions = new ArrayList<>();
+    List<CommandArguments> groupedArgs = groupArgumentsByKeyValueHashSlotImpl(commandArguments(MGET),
+        keys, null, JedisClusterCRC16::getSlot, CommandArguments::key, null, false, keyPositions);
+    return positionedCommands(groupedArgs, keyPositions, keys.length, BuilderFactory.STRING_LIST);
   }
 
   /**
@@ -487,19 +498,35 @@ public class ClusterCommandObjects extends CommandObjects {
    * This enables the MGET command to be executed across multiple Redis cluster shards
    * when keys hash to different slots.
    *
-   * <p><b>Order Preservation:</b> The returned commands preserve the order of keys as they appear
-   * in the input array. When the results from all commands are concatenated in order, the values
-   * will correspond positionally to the input keys.</p>
+   * <p><b>Order Preservation:</b> All the keys of a slot are sent in one command, so the keys of a
+   * command need not be contiguous in the input array. When the keys span several slots, each
+   * command is a {@link PositionedCommandObject} holding the input positions of its keys, with which
+   * {@link redis.clients.jedis.executors.ClusterCommandExecutor#executeMultiShardCommand(List)}
+   * places every value at the position of its key.</p>
    *
    * @param keys the keys to retrieve values for
    * @return a list of CommandObject instances, each containing keys that belong to the same hash slot
    */
   public List<CommandObject<List<byte[]>>> mgetMultiShard(byte[]... keys) {
-    CommandArguments args = commandArguments(MGET);
-    List<CommandArguments> groupedArgs = groupArgumentsByKeyHashSlot(args, keys, null);
-    return groupedArgs.stream()
-        .map(cmdArgs -> new CommandObject<>(cmdArgs, BuilderFactory.BINARY_LIST))
-        .collect(Collectors.toList());
+    List<int[]> keyPositions = new ArrayList<>();
+    List<CommandArguments> groupedArgs = groupArgumentsByKeyValueHashSlotImpl(commandArguments(MGET),
+        keys, null, JedisClusterCRC16::getSlot, CommandArguments::key, null, false, keyPositions);
+    return positionedCommands(groupedArgs, keyPositions, keys.length, BuilderFactory.BINARY_LIST);
+  }
+
+  private static <T> List<CommandObject<T>> positionedCommands(List<CommandArguments> groupedArgs,
+      List<int[]> keyPositions, int keyCount, Builder<T> builder) {
+    List<CommandObject<T>> commands = new ArrayList<>(groupedArgs.size());
+    if (groupedArgs.size() == 1) {
+      // a single slot keeps the input order
+      commands.add(new CommandObject<>(groupedArgs.get(0), builder));
+      return commands;
+    }
+    for (int i = 0; i < groupedArgs.size(); i++) {
+      commands.add(new PositionedCommandObject<>(groupedArgs.get(i), builder, keyPositions.get(i),
+          keyCount));
+    }
+    return commands;
   }
 
   /**
@@ -136,19 +136,24 @@ public class ClusterPipeline extends MultiNodePipelineBase {
     }
   }
 
+  @Override
+  protected ExecutorService getClientExecutorService() {
+    return provider.getPipelineExecutor();
+  }
+
   @Override
   protected HostAndPort getNodeKey(CommandArguments args) {
-    Set<Integer> slots = args.getKeyHashSlots();
+    int slot = args.getKeyHashSlot();
 
-    if (slots.size() > 1) {
+    if (slot == CommandArguments.MULTIPLE_KEY_SLOTS) {
       throw new JedisClusterOperationException("Cannot get NodeKey for command with multiple hash slots");
     }
 
-    if (slots.isEmpty()) {
+    if (slot == CommandArguments.NO_KEY_SLOT) {
       return null; // Let getConnection(null) handle it by using a random node
     }
 
-    return provider.getNode(slots.iterator().next());
+    return provider.getNode(slot);
   }
 
   @Override
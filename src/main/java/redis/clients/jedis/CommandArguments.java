@@ -19,6 +19,23 @@ public class CommandArguments implements Iterable<Rawable> {
    */
   private static final int DEFAULT_KEYS_CAPACITY = 4;
 
+  /**
+   * The {@link #getKeyHashSlot() hash slot} of a command without keys.
+   */
+  @Internal
+  public static final int NO_KEY_SLOT = -1;
+
+  /**
+   * The {@link #getKeyHashSlot() hash slot} of a command whose keys are in different slots.
+   */
+  @Internal
+  public static final int MULTIPLE_KEY_SLOTS = -2;
+
+  /**
+   * The hash slot has not been computed since the keys last changed.
+   */
+  private static final int UNKNOWN_SLOT = -3;
+
   private CommandKeyArgumentPreProcessor keyPreProc = null;
   private final ArrayList<Rawable> args;
 
@@ -34,6 +51,11 @@ public class CommandArguments implements Iterable<Rawable> {
    */
   private Set<Integer> cachedHashSlots;
 
+  /**
+   * Cached hash slot shared by all keys, {@link #UNKNOWN_SLOT} if it needs to be recomputed.
+   */
+  private int cachedHashSlot = UNKNOWN_SLOT;
+
   private boolean blocking;
 
   private CommandArguments() {
@@ -155,6 +177,7 @@ public class CommandArguments implements Iterable<Rawable> {
     keys.add(key);
     // Invalidate cached hash slots since keys have changed
     cachedHashSlots = null;
+    cachedHashSlot = UNKNOWN_SLOT;
     return this;
   }
 
@@ -162,6 +185,7 @@ public class CommandArguments implements Iterable<Rawable> {
     keys.add(key);
     // Invalidate cached hash slots since keys have changed
     cachedHashSlots = null;
+    cachedHashSlot = UNKNOWN_SLOT;
     return this;
   }
 
@@ -245,20 +269,55 @@ public class CommandArguments implements Iterable<Rawable> {
       return cachedHashSlots;
     }
 
-    // Compute hash slots and cache the result
-    Set<Integer> slots = new HashSet<>();
-    for (Object key : keys) {
-      if (key instanceof byte[]) {
-        slots.add(JedisClusterCRC16.getSlot((byte[]) key));
-      } else {
-        slots.add(JedisClusterCRC16.getSlot((String) key));
+    int slot = getKeyHashSlot();
+    if (slot == NO_KEY_SLOT) {
+      cachedHashSlots = Collections.emptySet();
+    } else if (slot != MULTIPLE_KEY_SLOTS) {
+      cachedHashSlots = Collections.singleton(slot);
+    } else {
+      // Compute hash slots and cache the result
+      Set<Integer> slots = new HashSet<>();
+      for (Object key : keys) {
+        slots.add(getSlot(key));
       }
+      // Cache as unmodifiable set to prevent external modification
+      cachedHashSlots = Collections.unmodifiableSet(slots);
     }
-    // Cache as unmodifiable set to prevent external modification
-    cachedHashSlots = Collections.unmodifiableSet(slots);
     return cachedHashSlots;
   }
 
+  /**
+   * Returns the hash slot of the keys of this command, without boxing nor allocation. The slot is
+   * computed once, and again only if keys are added.
+   *
+   * @return the hash slot shared by all keys, {@link #NO_KEY_SLOT} if there is no key, or
+   * {@link #MULTIPLE_KEY_SLOTS} if the keys are in different slots
+   */
+  @Internal
+  public int getKeyHashSlot() {
+    if (cachedHashSlot == UNKNOWN_SLOT) {
+      int slot = NO_KEY_SLOT;
+      for (int i = 0, size = keys.size(); i < size; i++) {
+        int keySlot = getSlot(keys.get(i));
+        if (slot == NO_KEY_SLOT) {
+          slot = keySlot;
+        } else if (slot != keySlot) {
+          slot = MULTIPLE_KEY_SLOTS;
+          break;
+        }
+      }
+      cachedHashSlot = slot;
+    }
+    return cachedHashSlot;
+  }
+
+  private static int getSlot(Object key) {
+    if (key instanceof byte[]) {
+      return JedisClusterCRC16.getSlot((byte[]) key);
+    }
+    return JedisClusterCRC16.getSlot((String) key);
+  }
+
   /**
    * @return true if this command has no keys, false otherwise
    */
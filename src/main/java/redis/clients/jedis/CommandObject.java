@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.function.Consumer;
 
 import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.annots.Internal;
 import redis.clients.jedis.args.Rawable;
 
 public class CommandObject<T> {
@@ -51,6 +52,15 @@ public class CommandObject<T> {
     return preProcessHooks;
   }
 
+  /**
+   * @return whether this command has pre-process hooks, which must run on the connection right
+   *     before the command is sent and may exchange commands of their own
+   */
+  @Internal
+  public boolean hasPreProcessHooks() {
+    return !preProcessHooks.isEmpty();
+  }
+
   /**
    * Returns a new command identical to this one with {@code hook} appended to its pre-process
    * hooks; this instance is immutable and unaffected. Hooks run in append order on the connection
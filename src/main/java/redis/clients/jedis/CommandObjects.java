@@ -3,6 +3,9 @@ package redis.clients.jedis;
 import static redis.clients.jedis.Protocol.Command.*;
 import static redis.clients.jedis.Protocol.Keyword.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.FloatBuffer;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
@@ -19,6 +22,7 @@ import redis.clients.jedis.args.*;
 import redis.clients.jedis.bloom.*;
 import redis.clients.jedis.bloom.RedisBloomProtocol.*;
 import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.json.*;
 import redis.clients.jedis.json.JsonProtocol.JsonCommand;
 import redis.clients.jedis.params.*;
@@ -4376,13 +4380,13 @@ public class CommandObjects {
 
   public final CommandObject<String> jsonSetWithEscape(String key, Path2 path, Object object) {
     return new CommandObject<>(commandArguments(JsonCommand.SET).key(key).add(path).add(
-        getJsonObjectMapper().toJson(object)), BuilderFactory.STRING);
+        toJsonArg(object)), BuilderFactory.STRING);
   }
 
   @Deprecated
   public final CommandObject<String> jsonSet(String key, Path path, Object pojo) {
     return new CommandObject<>(commandArguments(JsonCommand.SET).key(key).add(path).add(
-        getJsonObjectMapper().toJson(pojo)), BuilderFactory.STRING);
+        toJsonArg(pojo)), BuilderFactory.STRING);
   }
 
   @Deprecated
@@ -4396,13 +4400,13 @@ public class CommandObjects {
 
   public final CommandObject<String> jsonSetWithEscape(String key, Path2 path, Object object, JsonSetParams params) {
     return new CommandObject<>(commandArguments(JsonCommand.SET).key(key).add(path).add(
-        getJsonObjectMapper().toJson(object)).addParams(params), BuilderFactory.STRING);
+        toJsonArg(object)).addParams(params), BuilderFactory.STRING);
   }
 
   @Deprecated
   public final CommandObject<String> jsonSet(String key, Path path, Object pojo, JsonSetParams params) {
     return new CommandObject<>(commandArguments(JsonCommand.SET).key(key).add(path).add(
-        getJsonObjectMapper().toJson(pojo)).addParams(params), BuilderFactory.STRING);
+        toJsonArg(pojo)).addParams(params), BuilderFactory.STRING);
   }
 
   public final CommandObject<String> jsonMerge(String key, Path2 path, Object object) {
@@ -4412,7 +4416,7 @@ public class CommandObjects {
   @Deprecated
   public final CommandObject<String> jsonMerge(String key, Path path, Object pojo) {
     return new CommandObject<>(commandArguments(JsonCommand.MERGE).key(key).add(path).add(
-        getJsonObjectMapper().toJson(pojo)), BuilderFactory.STRING);
+        toJsonArg(pojo)), BuilderFactory.STRING);
   }
 
   public final CommandObject<Object> jsonGet(String key) {
@@ -4505,18 +4509,18 @@ public class CommandObjects {
   @Deprecated
   public final CommandObject<Long> jsonStrAppend(String key, Object string) {
     return new CommandObject<>(commandArguments(JsonCommand.STRAPPEND).key(key).add(
-        getJsonObjectMapper().toJson(string)), BuilderFactory.LONG);
+        toJsonArg(string)), BuilderFactory.LONG);
   }
 
   public final CommandObject<List<Long>> jsonStrAppend(String key, Path2 path, Object string) {
     return new CommandObject<>(commandArguments(JsonCommand.STRAPPEND).key(key).add(path).add(
-        getJsonObjectMapper().toJson(string)), BuilderFactory.LONG_LIST);
+        toJsonArg(string)), BuilderFactory.LONG_LIST);
   }
 
   @Deprecated
   public final CommandObject<Long> jsonStrAppend(String key, Path path, Object string) {
     return new CommandObject<>(commandArguments(JsonCommand.STRAPPEND).key(key).add(path).add(
-        getJsonObjectMapper().toJson(string)), BuilderFactory.LONG);
+        toJsonArg(string)), BuilderFactory.LONG);
   }
 
   @Deprecated
@@ -4560,7 +4564,7 @@ public class CommandObjects {
   public final CommandObject<List<Long>> jsonArrAppendWithEscape(String key, Path2 path, Object... objects) {
     CommandArguments args = commandArguments(JsonCommand.ARRAPPEND).key(key).add(path);
     for (Object object : objects) {
-      args.add(getJsonObjectMapper().toJson(object));
+      args.add(toJsonArg(object));
     }
     return new CommandObject<>(args, BuilderFactory.LONG_LIST);
   }
@@ -4569,7 +4573,7 @@ public class CommandObjects {
   public final CommandObject<Long> jsonArrAppend(String key, Path path, Object... pojos) {
     CommandArguments args = commandArguments(JsonCommand.ARRAPPEND).key(key).add(path);
     for (Object pojo : pojos) {
-      args.add(getJsonObjectMapper().toJson(pojo));
+      args.add(toJsonArg(pojo));
     }
     return new CommandObject<>(args, BuilderFactory.LONG);
   }
@@ -4580,13 +4584,13 @@ public class CommandObjects {
 
   public final CommandObject<List<Long>> jsonArrIndexWithEscape(String key, Path2 path, Object scalar) {
     return new CommandObject<>(commandArguments(JsonCommand.ARRINDEX).key(key).add(path).add(
-        getJsonObjectMapper().toJson(scalar)), BuilderFactory.LONG_LIST);
+        toJsonArg(scalar)), BuilderFactory.LONG_LIST);
   }
 
   @Deprecated
   public final CommandObject<Long> jsonArrIndex(String key, Path path, Object scalar) {
     return new CommandObject<>(commandArguments(JsonCommand.ARRINDEX).key(key).add(path).add(
-        getJsonObjectMapper().toJson(scalar)), BuilderFactory.LONG);
+        toJsonArg(scalar)), BuilderFactory.LONG);
   }
 
   public final CommandObject<List<Long>> jsonArrInsert(String key, Path2 path, int index, Object... objects) {
@@ -4597,7 +4601,7 @@ public class CommandObjects {
   public final CommandObject<List<Long>> jsonArrInsertWithEscape(String key, Path2 path, int index, Object... objects) {
     CommandArguments args = commandArguments(JsonCommand.ARRINSERT).key(key).add(path).add(index);
     for (Object object : objects) {
-      args.add(getJsonObjectMapper().toJson(object));
+      args.add(toJsonArg(object));
     }
     return new CommandObject<>(args, BuilderFactory.LONG_LIST);
   }
@@ -4606,7 +4610,7 @@ public class CommandObjects {
   public final CommandObject<Long> jsonArrInsert(String key, Path path, int index, Object... pojos) {
     CommandArguments args = commandArguments(JsonCommand.ARRINSERT).key(key).add(path).add(index);
     for (Object pojo : pojos) {
-      args.add(getJsonObjectMapper().toJson(pojo));
+      args.add(toJsonArg(pojo));
     }
     return new CommandObject<>(args, BuilderFactory.LONG);
   }
@@ -4808,6 +4812,34 @@ public class CommandObjects {
         .addParams(rangeParams), TimeSeriesBuilderFactory.TIMESERIES_ELEMENT_LIST);
   }
 
+  public final CommandObject<TSSamples> tsRangeSamples(String key, TSRangeParams rangeParams) {
+    return tsRangeSamples(key, rangeParams, null);
+  }
+
+  public final CommandObject<TSSamples> tsRangeSamples(String key, TSRangeParams rangeParams, TSSamples samples) {
+    return new CommandObject<>(commandArguments(TimeSeriesCommand.RANGE).key(key)
+        .addParams(rangeParams), TimeSeriesBuilderFactory.timeseriesSamples(samples));
+  }
+
+  public final CommandObject<Long> tsRange(String key, TSRangeParams rangeParams, TSSampleConsumer consumer) {
+    return new CommandObject<>(commandArguments(TimeSeriesCommand.RANGE).key(key)
+        .addParams(rangeParams), TimeSeriesBuilderFactory.timeseriesSamples(consumer));
+  }
+
+  public final CommandObject<TSSamples> tsRevRangeSamples(String key, TSRangeParams rangeParams) {
+    return tsRevRangeSamples(key, rangeParams, null);
+  }
+
+  public final CommandObject<TSSamples> tsRevRangeSamples(String key, TSRangeParams rangeParams, TSSamples samples) {
+    return new CommandObject<>(commandArguments(TimeSeriesCommand.REVRANGE).key(key)
+        .addParams(rangeParams), TimeSeriesBuilderFactory.timeseriesSamples(samples));
+  }
+
+  public final CommandObject<Long> tsRevRange(String key, TSRangeParams rangeParams, TSSampleConsumer consumer) {
+    return new CommandObject<>(commandArguments(TimeSeriesCommand.REVRANGE).key(key)
+        .addParams(rangeParams), TimeSeriesBuilderFactory.timeseriesSamples(consumer));
+  }
+
   public final CommandObject<List<TSElement>> tsRead(String key, long timestamp) {
     return new CommandObject<>(commandArguments(TimeSeriesCommand.READ).key(key)
         .add(timestamp), TimeSeriesBuilderFactory.TIMESERIES_ELEMENT_LIST);
@@ -4879,6 +4911,16 @@ public class CommandObjects {
         getTimeseriesMultiRangeResponseBuilder());
   }
 
+  public final CommandObject<Map<String, TSSamples>> tsMRangeSamples(TSMRangeParams multiRangeParams) {
+    return new CommandObject<>(commandArguments(TimeSeriesCommand.MRANGE)
+        .addParams(multiRangeParams), getTimeseriesMultiRangeSamplesBuilder());
+  }
+
+  public final CommandObject<Map<String, TSSamples>> tsMRevRangeSamples(TSMRangeParams multiRangeParams) {
+    return new CommandObject<>(commandArguments(TimeSeriesCommand.MREVRANGE)
+        .addParams(multiRangeParams), getTimeseriesMultiRangeSamplesBuilder());
+  }
+
   public final CommandObject<TSElement> tsGet(String key) {
     return new CommandObject<>(commandArguments(TimeSeriesCommand.GET).key(key), TimeSeriesBuilderFactory.TIMESERIES_ELEMENT);
   }
@@ -4945,6 +4987,11 @@ public class CommandObjects {
         : TimeSeriesBuilderFactory.TIMESERIES_MRANGE_RESPONSE;
   }
 
+  private Builder<Map<String, TSSamples>> getTimeseriesMultiRangeSamplesBuilder() {
+    return protocol == RedisProtocol.RESP3 ? TimeSeriesBuilderFactory.TIMESERIES_MRANGE_SAMPLES_RESP3
+        : TimeSeriesBuilderFactory.TIMESERIES_MRANGE_SAMPLES;
+  }
+
   private Builder<TSInfo> getTimeseriesInfoBuilder() {
     return protocol == RedisProtocol.RESP3 ? TSInfo.TIMESERIES_INFO_RESP3 : TSInfo.TIMESERIES_INFO;
   }
@@ -5264,6 +5311,46 @@ public class CommandObjects {
     this.jsonObjectMapper = jsonObjectMapper;
   }
 
+  /**
+   * Serializes an object to its JSON: the UTF-8 bytes written by a streaming mapper, which are sent
+   * without being copied, or else the {@link String} returned by {@link JsonObjectMapper#toJson}.
+   */
+  private Object toJsonArg(Object value) {
+    JsonObjectMapper mapper = getJsonObjectMapper();
+    if (!mapper.isStreaming()) {
+      return mapper.toJson(value);
+    }
+    JsonBuffer buffer = new JsonBuffer();
+    try {
+      mapper.writeTo(value, buffer);
+    } catch (IOException e) {
+      throw new JedisException(e);
+    }
+    return buffer.toRawable();
+  }
+
+  /**
+   * Deserializes a JSON reply, reading a bulk string from its bytes rather than from a decoded
+   * {@link String}.
+   */
+  private <T> T fromJsonReply(Object data, Class<T> clazz) {
+    if (!(data instanceof byte[])) {
+      return getJsonObjectMapper().fromJson(BuilderFactory.STRING.build(data), clazz);
+    }
+    return getJsonObjectMapper().readFrom((byte[]) data, clazz);
+  }
+
+  private static final class JsonBuffer extends ByteArrayOutputStream {
+
+    JsonBuffer() {
+      super(256);
+    }
+
+    Rawable toRawable() {
+      return RawableFactory.wrap(buf, 0, count);
+    }
+  }
+
   public void setDefaultSearchDialect(int dialect) {
     if (dialect == 0) throw new IllegalArgumentException("DIALECT=0 cannot be set.");
     this.searchDialect.set(dialect);
@@ -5327,7 +5414,7 @@ public class CommandObjects {
 
     @Override
     public T build(Object data) {
-      return getJsonObjectMapper().fromJson(BuilderFactory.STRING.build(data), clazz);
+      return fromJsonReply(data, clazz);
     }
   }
 
@@ -5349,8 +5436,8 @@ public class CommandObjects {
       if (data == null) {
         return null;
       }
-      List<String> list = BuilderFactory.STRING_LIST.build(data);
-      return list.stream().map(s -> getJsonObjectMapper().fromJson(s, clazz)).collect(Collectors.toList());
+      List<Object> list = (List<Object>) data;
+      return list.stream().map(s -> fromJsonReply(s, clazz)).collect(Collectors.toList());
     }
   }
 
@@ -5441,6 +5528,13 @@ public class CommandObjects {
     return new CommandObject<>(args, BuilderFactory.BOOLEAN);
   }
 
+  public final CommandObject<Boolean> vaddFP32(String key, FloatBuffer vector, String element, VAddParams params) {
+    CommandArguments args = commandArguments(Command.VADD).key(key);
+    args.add(Keyword.FP32).add(RawableFactory.fp32(vector)).add(element);
+    addOptionalParams(params, args);
+    return new CommandObject<>(args, BuilderFactory.BOOLEAN);
+  }
+
   public final CommandObject<Boolean> vadd(byte[] key, float[] vector, byte[] element) {
     return vadd(key, vector, element, null);
   }
@@ -5523,6 +5617,13 @@ public class CommandObjects {
     return new CommandObject<>(args, BuilderFactory.STRING_LIST);
   }
 
+  public final CommandObject<List<String>> vsimFP32(String key, FloatBuffer vector, VSimParams params) {
+    CommandArguments args = commandArguments(Command.VSIM).key(key);
+    args.add(Keyword.FP32).add(RawableFactory.fp32(vector));
+    addOptionalParams(params, args);
+    return new CommandObject<>(args, BuilderFactory.STRING_LIST);
+  }
+
   private static void addOptionalParams(VSimParams params, CommandArguments args) {
     if (params != null) {
       args.addParams(params);
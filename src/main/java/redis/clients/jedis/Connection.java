@@ -136,6 +136,7 @@ public class Connection implements Closeable {
   private AtomicReference<RedisCredentials> currentCredentials = new AtomicReference<>(null);
   private AuthXManager authXManager;
   private JedisClientConfig clientConfig;
+  private boolean streamingReplyDecoding;
   private final ProtocolHandshake handshake = new ProtocolHandshake(this);
   private final PushConsumerChainImpl pushConsumers = PushConsumerChainImpl.of();
 
@@ -168,12 +169,14 @@ public class Connection implements Closeable {
   public Connection(final JedisSocketFactory socketFactory, JedisClientConfig clientConfig) {
     this.socketFactory = socketFactory;
     this.clientConfig = clientConfig;
+    this.streamingReplyDecoding = clientConfig.isStreamingReplyDecoding();
     initializeFromClientConfig(clientConfig);
   }
 
   protected Connection(Builder builder) {
     this.socketFactory = builder.getSocketFactory();
     this.clientConfig = builder.getClientConfig();
+    this.streamingReplyDecoding = clientConfig != null && clientConfig.isStreamingReplyDecoding();
   }
 
   protected void initPushConsumers(JedisClientConfig config) {
@@ -312,6 +315,47 @@ public class Connection implements Closeable {
   }
 
   public <T> T executeCommand(final CommandObject<T> commandObject) {
+    if (streamingReplyDecoding && commandObject.getBuilder() instanceof StreamingBuilder) {
+      return executeCommandStreaming(commandObject, (StreamingBuilder<T>) commandObject.getBuilder());
+    }
+    final Object reply = executeCommandForReply(commandObject);
+    return commandObject.getBuilder().build(reply);
+  }
+
+  /**
+   * Sends the command and reads its reply without running the command's {@link Builder}.
+   * @param commandObject the command to execute
+   * @return the unprocessed reply as returned by {@link Protocol#read(RedisInputStream)}
+   */
+  protected Object executeCommandForReply(final CommandObject<?> commandObject) {
+    final CommandArguments args = sendCommandObject(commandObject);
+    if (!args.isBlocking()) {
+      return getOne();
+    }
+    try {
+      setTimeoutInfinite();
+      return getOne();
+    } finally {
+      rollbackTimeout();
+    }
+  }
+
+  private <T> T executeCommandStreaming(final CommandObject<T> commandObject,
+      final StreamingBuilder<T> builder) {
+    final CommandArguments args = sendCommandObject(commandObject);
+    flush();
+    if (!args.isBlocking()) {
+      return readProtocolWithCheckingBroken(builder);
+    }
+    try {
+      setTimeoutInfinite();
+      return readProtocolWithCheckingBroken(builder);
+    } finally {
+      rollbackTimeout();
+    }
+  }
+
+  private CommandArguments sendCommandObject(final CommandObject<?> commandObject) {
     himportSendPendingDiscards();
     List<Consumer<Connection>> preProcessHooks = commandObject.getPreProcessHooks();
     if (!preProcessHooks.isEmpty()) {
@@ -322,19 +366,7 @@ public class Connection implements Closeable {
 
     final CommandArguments args = commandObject.getArguments();
     sendCommand(args);
-    final Object reply;
-    if (!args.isBlocking()) {
-      reply = getOne();
-    } else {
-      try {
-        setTimeoutInfinite();
-        reply = getOne();
-      } finally {
-        rollbackTimeout();
-      }
-    }
-
-    return commandObject.getBuilder().build(reply);
+    return args;
   }
 
   public void sendCommand(final ProtocolCommand cmd) {
@@ -592,6 +624,12 @@ public class Connection implements Closeable {
     return Protocol.read(is, consumer);
   }
 
+  @Experimental
+  protected <T> T protocolRead(RedisInputStream is, PushConsumerChain consumer,
+      StreamingBuilder<T> builder) {
+    return Protocol.read(is, consumer, builder);
+  }
+
   @Experimental
   protected void protocolReadPushes(RedisInputStream is, PushConsumerChain consumer) {
   }
@@ -615,6 +653,23 @@ public class Connection implements Closeable {
     }
   }
 
+  protected <T> T readProtocolWithCheckingBroken(StreamingBuilder<T> builder) {
+    if (broken) {
+      throw new JedisConnectionException("Attempting to read from a broken connection.", brokenCause);
+    }
+
+    try {
+      return protocolRead(inputStream, pushConsumers, builder);
+    } catch (JedisDataException exc) {
+      // Redis error reply was fully parsed; the stream is aligned and the connection reusable.
+      throw exc;
+    } catch (RuntimeException exc) {
+      throw markBroken(exc);
+    } catch (Error err) {
+      throw markBroken(err);
+    }
+  }
+
   protected void readPushesWithCheckingBroken() {
     if (broken) {
       throw new JedisConnectionException("Attempting to read from a broken connection.", brokenCause);
@@ -6,6 +6,7 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocketFactory;
 
+import redis.clients.jedis.annots.Experimental;
 import redis.clients.jedis.authentication.AuthXManager;
 import redis.clients.jedis.json.JsonObjectMapper;
 import redis.clients.jedis.search.SearchProtocol;
@@ -42,6 +43,7 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
   private final CommandKeyArgumentPreProcessor commandKeyArgumentPreProcessor;
   private final JsonObjectMapper jsonObjectMapper;
   private final int searchDialect;
+  private final boolean streamingReplyDecoding;
 
   private DefaultJedisClientConfig(DefaultJedisClientConfig.Builder builder) {
     this.redisProtocol = builder.redisProtocol;
@@ -64,6 +66,7 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
     this.commandKeyArgumentPreProcessor = builder.commandKeyArgumentPreProcessor;
     this.jsonObjectMapper = builder.jsonObjectMapper;
     this.searchDialect = builder.searchDialect;
+    this.streamingReplyDecoding = builder.streamingReplyDecoding;
   }
 
   @Override
@@ -185,6 +188,11 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
     return searchDialect;
   }
 
+  @Override
+  public boolean isStreamingReplyDecoding() {
+    return streamingReplyDecoding;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -271,6 +279,7 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
     private CommandKeyArgumentPreProcessor commandKeyArgumentPreProcessor = null;
     private JsonObjectMapper jsonObjectMapper = null;
     private int searchDialect = SearchProtocol.DEFAULT_DIALECT;
+    private boolean streamingReplyDecoding = false;
 
     private Builder() {
     }
@@ -504,6 +513,19 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
       return this;
     }
 
+    /**
+     * Enables decoding the replies of supported commands directly from the connection's input
+     * stream. Defaults to {@code false}.
+     * @param streamingReplyDecoding whether to decode replies without an intermediate object tree
+     * @return this
+     * @see JedisClientConfig#isStreamingReplyDecoding()
+     */
+    @Experimental
+    public Builder streamingReplyDecoding(boolean streamingReplyDecoding) {
+      this.streamingReplyDecoding = streamingReplyDecoding;
+      return this;
+    }
+
     public Builder from(JedisClientConfig instance) {
       this.redisProtocol = instance.getRedisProtocol();
       this.autoNegotiateProtocol = instance.isAutoNegotiateProtocol();
@@ -525,6 +547,7 @@ public final class DefaultJedisClientConfig implements JedisClientConfig {
       this.commandKeyArgumentPreProcessor = instance.getCommandKeyArgumentPreProcessor();
       this.jsonObjectMapper = instance.getJsonObjectMapper();
       this.searchDialect = instance.getSearchDialect();
+      this.streamingReplyDecoding = instance.isStreamingReplyDecoding();
       return this;
     }
   }
@@ -0,0 +1,404 @@
+package redis.clients.jedis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisClusterOperationException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.jedis.providers.ClusterConnectionProvider;
+import redis.clients.jedis.providers.ConnectionProvider;
+import redis.clients.jedis.util.IOUtils;
+import redis.clients.jedis.util.JedisAsserts;
+import redis.clients.jedis.util.JedisClusterCRC16;
+
+/**
+ * Bulk loader creating one hash per row with {@code HIMPORT SET} against a {@link HashImport}
+ * template, obtained from {@link UnifiedJedis#hashImportLoader(HashImport)}.
+ * <p>
+ * Rows are pipelined over a connection of their own, with at most {@code maxInFlight} commands
+ * awaiting their reply per connection: once the window is full, the loader reads half of it before
+ * sending more, so neither the client nor the server buffers an unbounded backlog. No
+ * {@link Response} is created per row; the replies are only counted, and error replies are
+ * reported with the key of their row in the {@link Result}.
+ * <p>
+ * With a {@link ClusterConnectionProvider}, each row is routed to the primary serving the slot of
+ * its key, with one pipelined connection per node. A row redirected by {@code MOVED} or
+ * {@code ASK} is retried once on the target node; the target of a {@code MOVED} serves the slot
+ * for the rest of the load. A slot served by no node is looked up again after renewing the slot
+ * cache, and aborts the load with a {@link JedisClusterOperationException} if it is still
+ * unassigned.
+ * <p>
+ * A loader is not thread-safe, but may be reused for several loads. The connections are borrowed
+ * from the provider for the duration of a load. A connection failure aborts the load; rows sent
+ * before the failure may or may not have been imported.
+ *
+ * <pre>
+ * {@code
+ * try (HashImport fs = HashImport.of("name", "email")) {
+ *     HashImportLoader.Result result = client.hashImportLoader(fs)
+ *         .load(users.stream(), User::getId, u -> new String[] { u.getName(), u.getEmail() });
+ * }
+ * }
+ * </pre>
+ */
+@Experimental
+public class HashImportLoader {
+
+  public static final int DEFAULT_MAX_IN_FLIGHT = 1000;
+
+  private final ConnectionProvider provider;
+  private final CommandObjects commandObjects;
+  private final HashImport fieldset;
+  private final int maxInFlight;
+
+  HashImportLoader(ConnectionProvider provider, CommandObjects commandObjects, HashImport fieldset,
+      int maxInFlight) {
+    JedisAsserts.notNull(fieldset, "HashImport must not be null");
+    JedisAsserts.isTrue(maxInFlight > 0, "Max in-flight commands must be greater than 0");
+    this.provider = provider;
+    this.commandObjects = commandObjects;
+    this.fieldset = fieldset;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Creates a hash per row, named by {@code key} and holding the {@code values} of the row in the
+   * field order of the template.
+   * @param rows the rows
+   * @param key maps a row to its key
+   * @param values maps a row to its values, exactly one per template field
+   * @return the number of imported hashes and the failed rows
+   * @throws IllegalArgumentException if a row does not have one value per template field
+   * @throws IllegalStateException if the template has been closed
+   */
+  public <T> Result load(Iterator<? extends T> rows, Function<? super T, String> key,
+      Function<? super T, String[]> values) {
+    return load(rows, row -> {
+      String[] rowValues = values.apply(row);
+      HashImportSupport.checkArgs(fieldset, rowValues.length);
+      return commandObjects.himportSetBare(key.apply(row), fieldset, rowValues).getArguments();
+    });
+  }
+
+  /**
+   * Same as {@link #load(Iterator, Function, Function)}, consuming and closing a {@link Stream}.
+   */
+  public <T> Result load(Stream<? extends T> rows, Function<? super T, String> key,
+      Function<? super T, String[]> values) {
+    try (Stream<? extends T> stream = rows) {
+      return load(stream.iterator(), key, values);
+    }
+  }
+
+  /**
+   * Binary variant of {@link #load(Iterator, Function, Function)}.
+   */
+  public <T> Result loadBinary(Iterator<? extends T> rows, Function<? super T, byte[]> key,
+      Function<? super T, byte[][]> values) {
+    return load(rows, row -> {
+      byte[][] rowValues = values.apply(row);
+      HashImportSupport.checkArgs(fieldset, rowValues.length);
+      return commandObjects.himportSetBare(key.apply(row), fieldset, rowValues).getArguments();
+    });
+  }
+
+  /**
+   * Binary variant of {@link #load(Stream, Function, Function)}.
+   */
+  public <T> Result loadBinary(Stream<? extends T> rows, Function<? super T, byte[]> key,
+      Function<? super T, byte[][]> values) {
+    try (Stream<? extends T> stream = rows) {
+      return loadBinary(stream.iterator(), key, values);
+    }
+  }
+
+  private <T> Result load(Iterator<? extends T> rows,
+      Function<? super T, CommandArguments> toArguments) {
+    if (fieldset.isDiscarded()) {
+      throw new IllegalStateException("HashImport '" + fieldset.name() + "' has been discarded");
+    }
+    final Load load = provider instanceof ClusterConnectionProvider
+        ? new ClusterLoad((ClusterConnectionProvider) provider) : new Load();
+    boolean completed = false;
+    try {
+      while (rows.hasNext()) {
+        CommandArguments args = toArguments.apply(rows.next());
+        load.laneFor(args).send(args);
+      }
+      load.drain();
+      completed = true;
+      return load.result;
+    } finally {
+      load.close(completed);
+    }
+  }
+
+  /**
+   * The outcome of a load.
+   */
+  public static final class Result {
+
+    private long imported;
+    private final List<Failure> failures = new ArrayList<>();
+
+    private Result() {
+    }
+
+    /**
+     * @return the number of hashes created
+     */
+    public long getImported() {
+      return imported;
+    }
+
+    /**
+     * @return the number of rows whose command was replied with an error
+     */
+    public long getFailed() {
+      return failures.size();
+    }
+
+    /**
+     * @return the rows whose command was replied with an error, in reply order
+     */
+    public List<Failure> getFailures() {
+      return Collections.unmodifiableList(failures);
+    }
+
+    @Override
+    public String toString() {
+      return "Result{imported=" + imported + ", failed=" + failures.size() + "}";
+    }
+  }
+
+  /**
+   * A row whose {@code HIMPORT SET} was replied with an error.
+   */
+  public static final class Failure {
+
+    private final Object key;
+    private final JedisDataException error;
+
+    private Failure(Object key, JedisDataException error) {
+      this.key = key;
+      this.error = error;
+    }
+
+    /**
+     * @return the key of the row, a {@link String} or a {@code byte[]} as passed to the loader
+     */
+    public Object getKey() {
+      return key;
+    }
+
+    public JedisDataException getError() {
+      return error;
+    }
+
+    @Override
+    public String toString() {
+      Object printable = key instanceof byte[] ? Arrays.toString((byte[]) key) : key;
+      return "Failure{key=" + printable + ", error=" + error.getMessage() + "}";
+    }
+  }
+
+  /**
+   * The state of one load over a single connection.
+   */
+  private class Load {
+
+    final Result result = new Result();
+    private Lane lane;
+
+    Lane laneFor(CommandArguments args) {
+      if (lane == null) {
+        lane = new Lane(this, provider.getConnection());
+      }
+      return lane;
+    }
+
+    Iterable<Lane> lanes() {
+      return lane == null ? Collections.emptyList() : Collections.singletonList(lane);
+    }
+
+    void drain() {
+      for (Lane l : lanes()) {
+        l.drain();
+      }
+    }
+
+    void close(boolean completed) {
+      for (Lane l : lanes()) {
+        l.close(completed);
+      }
+    }
+
+    void onReply(CommandArguments args, JedisDataException error) {
+      if (error == null) {
+        result.imported++;
+      } else if (error instanceof JedisRedirectionException) {
+        retryRedirected(args, (JedisRedirectionException) error);
+      } else {
+        result.failures.add(new Failure(args.getKeys().get(0), error));
+      }
+    }
+
+    void retryRedirected(CommandArguments args, JedisRedirectionException error) {
+      result.failures.add(new Failure(args.getKeys().get(0), error));
+    }
+  }
+
+  /**
+   * A load routing each row to the node serving its slot, with a lane per node.
+   */
+  private final class ClusterLoad extends Load {
+
+    private final ClusterConnectionProvider clusterProvider;
+    private final Map<HostAndPort, Lane> nodeLanes = new HashMap<>();
+    private final Lane[] slotLanes = new Lane[Protocol.CLUSTER_HASHSLOTS];
+
+    ClusterLoad(ClusterConnectionProvider clusterProvider) {
+      this.clusterProvider = clusterProvider;
+    }
+
+    @Override
+    Lane laneFor(CommandArguments args) {
+      final int slot = slotOf(args.getKeys().get(0));
+      Lane lane = slotLanes[slot];
+      if (lane == null) {
+        final HostAndPort node = nodeOf(slot);
+        lane = nodeLanes.get(node);
+        if (lane == null) {
+          lane = new Lane(this, clusterProvider.getConnection(node));
+          nodeLanes.put(node, lane);
+        }
+        slotLanes[slot] = lane;
+      }
+      return lane;
+    }
+
+    @Override
+    Iterable<Lane> lanes() {
+      return nodeLanes.values();
+    }
+
+    @Override
+    void retryRedirected(CommandArguments args, JedisRedirectionException error) {
+      clusterProvider.handleRedirection(error);
+      if (error instanceof JedisMovedDataException) {
+        // the lanes stay, but the slot is routed again
+        slotLanes[error.getSlot()] = null;
+      }
+      try (Connection connection = clusterProvider.getConnection(error.getTargetNode())) {
+        HashImportSupport.prepareBeforeUse(connection, fieldset);
+        if (error instanceof JedisAskDataException) {
+          connection.executeCommand(Protocol.Command.ASKING);
+        }
+        connection.executeCommand(args);
+        result.imported++;
+      } catch (JedisDataException e) {
+        result.failures.add(new Failure(args.getKeys().get(0), e));
+      }
+    }
+
+    private HostAndPort nodeOf(int slot) {
+      HostAndPort node = clusterProvider.getNode(slot);
+      if (node == null) {
+        // the slot may have been assigned since the topology was last discovered
+        clusterProvider.renewSlotCache();
+        node = clusterProvider.getNode(slot);
+        if (node == null) {
+          throw new JedisClusterOperationException("No node is serving slot " + slot + ".");
+        }
+      }
+      return node;
+    }
+
+    private int slotOf(Object key) {
+      return key instanceof byte[] ? JedisClusterCRC16.getSlot((byte[]) key)
+          : JedisClusterCRC16.getSlot((String) key);
+    }
+  }
+
+  /**
+   * A connection with its window of commands awaiting their reply.
+   */
+  private final class Lane {
+
+    private final Load load;
+    private final Connection connection;
+    private final CommandArguments[] inFlight;
+    private int head = 0;
+    private int count = 0;
+
+    Lane(Load load, Connection connection) {
+      this.load = load;
+      this.connection = connection;
+      this.inFlight = new CommandArguments[maxInFlight];
+      try {
+        HashImportSupport.prepareBeforeUse(connection, fieldset);
+      } catch (RuntimeException e) {
+        IOUtils.closeQuietly(connection);
+        throw e;
+      }
+    }
+
+    void send(CommandArguments args) {
+      if (count == inFlight.length) {
+        connection.flush();
+        receive(Math.max(1, count / 2));
+      }
+      connection.sendCommand(args);
+      inFlight[(head + count) % inFlight.length] = args;
+      count++;
+    }
+
+    void drain() {
+      connection.flush();
+      receive(count);
+    }
+
+    private void receive(int replies) {
+      for (int i = 0; i < replies; i++) {
+        CommandArguments args = inFlight[head];
+        inFlight[head] = null;
+        head = (head + 1) % inFlight.length;
+        count--;
+        JedisDataException error = null;
+        try {
+          connection.getUnflushedObject();
+        } catch (JedisDataException e) {
+          error = e;
+        }
+        load.onReply(args, error);
+      }
+    }
+
+    /**
+     * Returns the connection to the provider. After an aborted load the replies still due are read
+     * first, so that the connection goes back in a clean state.
+     */
+    void close(boolean completed) {
+      try {
+        if (!completed && count > 0 && !connection.isBroken()) {
+          drain();
+        }
+      } catch (RuntimeException e) {
+        // a broken connection is destroyed by its pool
+      } finally {
+        connection.close();
+      }
+    }
+  }
+}
@@ -8,6 +8,7 @@ import static redis.clients.jedis.util.SafeEncoder.encode;
 
 import java.io.Closeable;
 import java.net.URI;
+import java.nio.FloatBuffer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -10934,6 +10935,12 @@ public class Jedis implements ServerCommands, DatabaseCommands, JedisCommands, J
     return connection.executeCommand(commandObjects.vaddFP32(key, vectorBlob, element, params));
   }
 
+  @Override
+  public boolean vaddFP32(String key, FloatBuffer vector, String element, VAddParams params) {
+    checkIsInMultiOrPipeline();
+    return connection.executeCommand(commandObjects.vaddFP32(key, vector, element, params));
+  }
+
   @Override
   public boolean vadd(String key, float[] vector, String element, int reduceDim, VAddParams params) {
     checkIsInMultiOrPipeline();
@@ -10958,6 +10965,12 @@ public class Jedis implements ServerCommands, DatabaseCommands, JedisCommands, J
     return connection.executeCommand(commandObjects.vsim(key, vector, params));
   }
 
+  @Override
+  public List<String> vsimFP32(String key, FloatBuffer vector, VSimParams params) {
+    checkIsInMultiOrPipeline();
+    return connection.executeCommand(commandObjects.vsimFP32(key, vector, params));
+  }
+
   @Override
   public Map<String, Double> vsimWithScores(String key, float[] vector, VSimParams params) {
     checkIsInMultiOrPipeline();
@@ -5,6 +5,7 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocketFactory;
 
+import redis.clients.jedis.annots.Experimental;
 import redis.clients.jedis.authentication.AuthXManager;
 import redis.clients.jedis.json.JsonObjectMapper;
 import redis.clients.jedis.search.SearchProtocol;
@@ -209,4 +210,17 @@ public interface JedisClientConfig {
   default int getSearchDialect() {
     return SearchProtocol.DEFAULT_DIALECT;
   }
+
+  /**
+   * Whether replies of commands whose {@link Builder} is a {@link StreamingBuilder} are decoded
+   * directly from the connection's input stream, without building the intermediate reply objects
+   * first. Defaults to {@code false}.
+   * <p>
+   * Only replies of commands executed one at a time are decoded this way; pipelined and
+   * transactional replies are always read in full first.
+   */
+  @Experimental
+  default boolean isStreamingReplyDecoding() {
+    return false;
+  }
 }
@@ -448,9 +448,9 @@ public class JedisCluster extends UnifiedJedis {
    * by reducing network round-trips. In a cluster environment, commands are routed
    * to the appropriate nodes based on key hash slots.</p>
    *
-   * <p>If the pipeline spans multiple nodes, a dedicated {@link ExecutorService} is
-   * created internally to execute requests in parallel and shutdown when the pipeline
-   * is synced.</p>
+   * <p>If the pipeline spans multiple nodes, an {@link ExecutorService} shared by the
+   * pipelines of this client is used to execute requests in parallel. It is created on
+   * first use and shut down when this client is closed.</p>
    *
    * @return a new {@link ClusterPipeline} instance
    * @see #pipelined(ExecutorService)
@@ -471,8 +471,8 @@ public class JedisCluster extends UnifiedJedis {
    * used to execute requests in parallel. The caller is responsible for managing
    * the lifecycle of this executor (creation, shutdown, etc.).</p>
    *
-   * <p>If {@code null} is provided, a dedicated executor is created and managed
-   * internally, similar to {@link #pipelined()}.</p>
+   * <p>If {@code null} is provided, the executor shared by the pipelines of this client
+   * is used, similar to {@link #pipelined()}.</p>
    *
    * @param executorService the executor to use for multi-node execution, or {@code null}
    * @return a new {@link ClusterPipeline} instance
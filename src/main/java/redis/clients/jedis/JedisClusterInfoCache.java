@@ -2,23 +2,26 @@ package redis.clients.jedis;
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.slf4j.Logger;
@@ -26,9 +29,15 @@ import org.slf4j.LoggerFactory;
 
 import redis.clients.jedis.annots.Experimental;
 import redis.clients.jedis.annots.Internal;
+import redis.clients.jedis.annots.VisibleForTesting;
 import redis.clients.jedis.csc.Cache;
 import redis.clients.jedis.exceptions.JedisClusterOperationException;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.resps.ClusterShardInfo;
+import redis.clients.jedis.resps.ClusterShardNodeInfo;
+import redis.clients.jedis.util.JedisExecutors;
 import redis.clients.jedis.util.SafeEncoder;
 
 import static redis.clients.jedis.RedisClusterClient.INIT_NO_ERROR_PROPERTY;
@@ -38,15 +47,13 @@ public class JedisClusterInfoCache {
 
   private static final Logger logger = LoggerFactory.getLogger(JedisClusterInfoCache.class);
 
-  private final Map<String, ConnectionPool> nodes = new HashMap<>();
-  private final Map<String, ConnectionPool> primaryNodesCache = new HashMap<>();
-  private final ConnectionPool[] slots = new ConnectionPool[Protocol.CLUSTER_HASHSLOTS];
-  private final HostAndPort[] slotNodes = new HostAndPort[Protocol.CLUSTER_HASHSLOTS];
-  private final List<ConnectionPool>[] replicaSlots;
+  /**
+   * The current topology. Lookups read it without locking; changes build a new snapshot and
+   * publish it under {@link #w}.
+   */
+  private volatile Topology topology;
 
-  private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
-  private final Lock r = rwl.readLock();
-  private final Lock w = rwl.writeLock();
+  private final Lock w = new ReentrantLock();
   private final Lock rediscoverLock = new ReentrantLock();
 
   private final GenericObjectPoolConfig<Connection> poolConfig;
@@ -57,16 +64,34 @@ public class JedisClusterInfoCache {
   private static final int MASTER_NODE_INDEX = 2;
 
   /**
-   * The single thread executor for the topology refresh task.
+   * The default minimum interval between two renewals requested by
+   * {@link #requestClusterSlotsRenewal()}.
+   */
+  public static final Duration DEFAULT_MIN_RENEWAL_INTERVAL = Duration.ofMillis(500);
+
+  /**
+   * The single thread executor for the periodic topology refresh task and the requested renewals,
+   * created on first use. Guarded by {@code this}.
    */
   private ScheduledExecutorService topologyRefreshExecutor = null;
+  private boolean closed = false;
+
+  /**
+   * Whether a requested renewal is scheduled and not started yet: further requests are coalesced
+   * into it.
+   */
+  private final AtomicBoolean renewalRequested = new AtomicBoolean();
+  private volatile long minRenewalIntervalNanos = DEFAULT_MIN_RENEWAL_INTERVAL.toNanos();
+  private volatile long lastRenewalNanos = System.nanoTime() - minRenewalIntervalNanos;
+
+  private volatile boolean useClusterShards = false;
 
   class TopologyRefreshTask implements Runnable {
     @Override
     public void run() {
-      logger.debug("Cluster topology refresh run, old nodes: {}", nodes.keySet());
+      logger.debug("Cluster topology refresh run, old nodes: {}", topology.nodes.keySet());
       renewClusterSlots(null);
-      logger.debug("Cluster topology refresh run, new nodes: {}", nodes.keySet());
+      logger.debug("Cluster topology refresh run, new nodes: {}", topology.nodes.keySet());
     }
   }
 
@@ -104,20 +129,172 @@ public class JedisClusterInfoCache {
     this.poolConfig = poolConfig;
     this.clientConfig = clientConfig;
     this.clientSideCache = clientSideCache;
+    if (clientSideCache != null) {
+      // topology changes delete the entries of the moved slots only
+      clientSideCache.enableSlotIndex();
+    }
     this.startNodes = startNodes;
     if (clientConfig.getAuthXManager() != null) {
       clientConfig.getAuthXManager().start();
     }
     if (topologyRefreshPeriod != null) {
       logger.info("Cluster topology refresh start, period: {}, startNodes: {}", topologyRefreshPeriod, startNodes);
-      topologyRefreshExecutor = Executors.newSingleThreadScheduledExecutor();
-      topologyRefreshExecutor.scheduleWithFixedDelay(new TopologyRefreshTask(), topologyRefreshPeriod.toMillis(),
+      refreshExecutor().scheduleWithFixedDelay(new TopologyRefreshTask(), topologyRefreshPeriod.toMillis(),
           topologyRefreshPeriod.toMillis(), TimeUnit.MILLISECONDS);
     }
-    if (clientConfig.isReadOnlyForRedisClusterReplicas()) {
-      replicaSlots = new ArrayList[Protocol.CLUSTER_HASHSLOTS];
-    } else {
-      replicaSlots = null;
+    this.topology = new TopologyBuilder(Collections.emptyMap(), Collections.emptyMap(), false)
+        .build();
+  }
+
+  /**
+   * An immutable snapshot of the cluster topology: neither the maps, nor the slot tables, nor the
+   * lists are modified once the snapshot is published.
+   */
+  private static final class Topology {
+
+    private final Map<String, ConnectionPool> nodes;
+    private final Map<String, ConnectionPool> primaryNodes;
+    private final SlotTable<ConnectionPool> slots;
+    private final SlotTable<HostAndPort> slotNodes;
+    // null unless reading from replicas is enabled
+    private final SlotTable<List<ConnectionPool>> replicaSlots;
+
+    private Topology(Map<String, ConnectionPool> nodes, Map<String, ConnectionPool> primaryNodes,
+        SlotTable<ConnectionPool> slots, SlotTable<HostAndPort> slotNodes,
+        SlotTable<List<ConnectionPool>> replicaSlots) {
+      this.nodes = Collections.unmodifiableMap(nodes);
+      this.primaryNodes = Collections.unmodifiableMap(primaryNodes);
+      this.slots = slots;
+      this.slotNodes = slotNodes;
+      this.replicaSlots = replicaSlots;
+    }
+  }
+
+  /**
+   * An immutable table of a value per slot, split in pages. A table derived from another one with
+   * {@link Builder} shares the pages it does not change, so that assigning a few slots copies only
+   * their pages.
+   */
+  private static final class SlotTable<T> {
+
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int PAGES = Protocol.CLUSTER_HASHSLOTS >> PAGE_BITS;
+
+    private static final SlotTable<?> EMPTY = new SlotTable<>(new Object[PAGES][]);
+
+    // a null page has no value for any of its slots
+    private final Object[][] pages;
+
+    private SlotTable(Object[][] pages) {
+      this.pages = pages;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> SlotTable<T> empty() {
+      return (SlotTable<T>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T get(int slot) {
+      Object[] page = pages[slot >>> PAGE_BITS];
+      return page != null ? (T) page[slot & PAGE_MASK] : null;
+    }
+
+    private static final class Builder<T> {
+
+      private final Object[][] pages;
+      private final boolean[] copied = new boolean[PAGES];
+
+      private Builder(SlotTable<T> source) {
+        this.pages = source.pages.clone();
+      }
+
+      @SuppressWarnings("unchecked")
+      private T get(int slot) {
+        Object[] page = pages[slot >>> PAGE_BITS];
+        return page != null ? (T) page[slot & PAGE_MASK] : null;
+      }
+
+      private void set(int slot, T value) {
+        final int index = slot >>> PAGE_BITS;
+        if (!copied[index]) {
+          pages[index] = pages[index] != null ? pages[index].clone() : new Object[PAGE_SIZE];
+          copied[index] = true;
+        }
+        pages[index][slot & PAGE_MASK] = value;
+      }
+
+      /**
+       * The builder must not be used after building its table.
+       */
+      private SlotTable<T> build() {
+        return new SlotTable<>(pages);
+      }
+    }
+  }
+
+  /**
+   * The mutable draft of the next {@link Topology}, only used under {@link #w}.
+   */
+  private final class TopologyBuilder {
+
+    private final Map<String, ConnectionPool> nodes;
+    private final Map<String, ConnectionPool> primaryNodes;
+    private final SlotTable.Builder<ConnectionPool> slots;
+    private final SlotTable.Builder<HostAndPort> slotNodes;
+    private final SlotTable.Builder<List<ConnectionPool>> replicaSlots;
+
+    /**
+     * A draft with the given nodes, and with the slots of the current topology, or no slots. The
+     * pages of the slot tables and the replica lists which are not changed are shared with the
+     * current topology.
+     */
+    private TopologyBuilder(Map<String, ConnectionPool> nodes,
+        Map<String, ConnectionPool> primaryNodes, boolean keepSlots) {
+      Topology current = topology;
+      this.nodes = new HashMap<>(nodes);
+      this.primaryNodes = new HashMap<>(primaryNodes);
+      this.slots = new SlotTable.Builder<>(keepSlots ? current.slots : SlotTable.empty());
+      this.slotNodes = new SlotTable.Builder<>(keepSlots ? current.slotNodes : SlotTable.empty());
+      if (!clientConfig.isReadOnlyForRedisClusterReplicas()) {
+        this.replicaSlots = null;
+      } else {
+        this.replicaSlots = new SlotTable.Builder<>(keepSlots && current.replicaSlots != null
+            ? current.replicaSlots : SlotTable.empty());
+      }
+    }
+
+    private ConnectionPool setupNode(HostAndPort node) {
+      return nodes.computeIfAbsent(getNodeKey(node), key -> createNodePool(node));
+    }
+
+    private void assignSlots(List<Integer> targetSlots, HostAndPort targetNode) {
+      ConnectionPool targetPool = setupNode(targetNode);
+      for (Integer slot : targetSlots) {
+        slots.set(slot, targetPool);
+        slotNodes.set(slot, targetNode);
+      }
+    }
+
+    private void assignReplicaSlots(List<Integer> targetSlots, HostAndPort targetNode) {
+      ConnectionPool targetPool = setupNode(targetNode);
+      for (Integer slot : targetSlots) {
+        // the lists may be shared with the current topology, so they are replaced
+        List<ConnectionPool> current = replicaSlots.get(slot);
+        List<ConnectionPool> pools = new ArrayList<>(current != null ? current.size() + 1 : 1);
+        if (current != null) {
+          pools.addAll(current);
+        }
+        pools.add(targetPool);
+        replicaSlots.set(slot, Collections.unmodifiableList(pools));
+      }
+    }
+
+    private Topology build() {
+      return new Topology(nodes, primaryNodes, slots.build(), slotNodes.build(),
+          replicaSlots != null ? replicaSlots.build() : null);
     }
   }
 
@@ -145,7 +322,8 @@ public class JedisClusterInfoCache {
   }
 
   public void discoverClusterNodesAndSlots(Connection jedis) {
-    List<Object> slotsInfo = executeClusterSlots(jedis);
+    List<Object> slotsInfo = useClusterShards ? executeClusterShards(jedis)
+        : executeClusterSlots(jedis);
     if (System.getProperty(INIT_NO_ERROR_PROPERTY) == null) {
       if (slotsInfo.isEmpty()) {
         throw new JedisClusterOperationException("Cluster slots list is empty.");
@@ -156,7 +334,9 @@ public class JedisClusterInfoCache {
     }
     w.lock();
     try {
-      reset();
+      // all the pools are created anew
+      TopologyBuilder next = new TopologyBuilder(Collections.emptyMap(), Collections.emptyMap(),
+          false);
       for (Object slotInfoObj : slotsInfo) {
         List<Object> slotInfo = (List<Object>) slotInfoObj;
 
@@ -175,24 +355,106 @@ public class JedisClusterInfoCache {
           }
 
           HostAndPort targetNode = generateHostAndPort(hostInfos);
-          setupNodeIfNotExist(targetNode);
+          ConnectionPool targetPool = next.setupNode(targetNode);
           if (i == MASTER_NODE_INDEX) {
-            primaryNodesCache.put(getNodeKey(targetNode), getNode(targetNode));
-            assignSlotsToNode(slotNums, targetNode);
+            next.primaryNodes.put(getNodeKey(targetNode), targetPool);
+            next.assignSlots(slotNums, targetNode);
           } else if (clientConfig.isReadOnlyForRedisClusterReplicas()) {
-            assignSlotsToReplicaNode(slotNums, targetNode);
+            next.assignReplicaSlots(slotNums, targetNode);
           }
         }
       }
+      Topology previous = topology;
+      topology = next.build();
+      destroyPools(previous.nodes.values());
     } finally {
       w.unlock();
     }
   }
 
+  /**
+   * Enables the discovery of the slots with {@code CLUSTER SHARDS}, which reports the health of
+   * each node, so that replicas which are not online are not used. If the server does not know
+   * the command, i.e. before Redis 7.0, the discovery falls back to {@code CLUSTER SLOTS} for good;
+   * other errors, e.g. {@code LOADING}, fail the discovery on that node only.
+   */
+  @Experimental
+  public void setUseClusterShards(boolean useClusterShards) {
+    this.useClusterShards = useClusterShards;
+  }
+
+  /**
+   * Sets the minimum interval between two renewals requested by
+   * {@link #requestClusterSlotsRenewal()}, {@link #DEFAULT_MIN_RENEWAL_INTERVAL} by default.
+   */
+  @Experimental
+  public void setMinRenewalInterval(Duration minRenewalInterval) {
+    this.minRenewalIntervalNanos = minRenewalInterval.toNanos();
+  }
+
+  /**
+   * Requests a renewal of the slots in the background and returns at once. Requests are coalesced:
+   * while a renewal is scheduled, further requests are ignored, and renewals start at least the
+   * minimum renewal interval apart.
+   */
+  public void requestClusterSlotsRenewal() {
+    if (!renewalRequested.compareAndSet(false, true)) {
+      return;
+    }
+    long delay = Math.max(0, lastRenewalNanos + minRenewalIntervalNanos - System.nanoTime());
+    try {
+      ScheduledExecutorService executor = refreshExecutor();
+      if (executor == null) {
+        renewalRequested.set(false);
+        return;
+      }
+      executor.schedule(() -> {
+        // signals from now on are about the topology this renewal may not see
+        renewalRequested.set(false);
+        renewClusterSlots(null);
+      }, delay, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      renewalRequested.set(false);
+    }
+  }
+
+  /**
+   * Applies a {@code MOVED} redirection to the slot table at once, so that the following commands
+   * on the slot go to its new primary, and requests a renewal of the slots in the background.
+   */
+  public void applyMovedRedirection(JedisMovedDataException moved) {
+    int slot = moved.getSlot();
+    HostAndPort target = moved.getTargetNode();
+    HostAndPort previous = topology.slotNodes.get(slot);
+    if (!target.equals(previous)) {
+      assignSlotToNode(slot, target);
+      if (clientSideCache != null && previous != null) {
+        BitSet movedSlot = new BitSet(Protocol.CLUSTER_HASHSLOTS);
+        movedSlot.set(slot);
+        clientSideCache.deleteBySlots(movedSlot);
+      }
+    }
+    requestClusterSlotsRenewal();
+  }
+
+  private synchronized ScheduledExecutorService refreshExecutor() {
+    if (topologyRefreshExecutor == null && !closed) {
+      topologyRefreshExecutor = Executors.newSingleThreadScheduledExecutor(
+          JedisExecutors.daemonThreadFactory("jedis-cluster-topology-"));
+    }
+    return topologyRefreshExecutor;
+  }
+
+  @VisibleForTesting
+  boolean isRenewalRequested() {
+    return renewalRequested.get();
+  }
+
   public void renewClusterSlots(Connection jedis) {
     // If rediscovering is already in process - no need to start one more same rediscovering, just return
     if (rediscoverLock.tryLock()) {
       try {
+        lastRenewalNanos = System.nanoTime();
         // First, if jedis is available, use jedis renew.
         if (jedis != null) {
           try {
@@ -237,7 +499,8 @@ public class JedisClusterInfoCache {
   }
 
   private void discoverClusterSlots(Connection jedis) {
-    List<Object> slotsInfo = executeClusterSlots(jedis);
+    List<Object> slotsInfo = useClusterShards ? executeClusterShards(jedis)
+        : executeClusterSlots(jedis);
     if (System.getProperty(INIT_NO_ERROR_PROPERTY) == null) {
       if (slotsInfo.isEmpty()) {
         throw new JedisClusterOperationException("Cluster slots list is empty.");
@@ -248,10 +511,9 @@ public class JedisClusterInfoCache {
     }
     w.lock();
     try {
-      resetSlots();
-      if (clientSideCache != null) {
-        clientSideCache.flush();
-      }
+      final Topology previous = topology;
+      // the slots are assigned anew, on the nodes already known
+      TopologyBuilder next = new TopologyBuilder(previous.nodes, previous.primaryNodes, false);
       Set<String> hostAndPortKeys = new HashSet<>();
 
       for (Object slotInfoObj : slotsInfo) {
@@ -272,36 +534,57 @@ public class JedisClusterInfoCache {
 
           HostAndPort targetNode = generateHostAndPort(hostInfos);
           hostAndPortKeys.add(getNodeKey(targetNode));
-          setupNodeIfNotExist(targetNode);
+          next.setupNode(targetNode);
           if (i == MASTER_NODE_INDEX) {
-            assignSlotsToNode(slotNums, targetNode);
+            next.assignSlots(slotNums, targetNode);
           } else if (clientConfig.isReadOnlyForRedisClusterReplicas()) {
-            assignSlotsToReplicaNode(slotNums, targetNode);
+            next.assignReplicaSlots(slotNums, targetNode);
           }
         }
       }
 
       // Remove dead nodes according to the latest query
-      Iterator<Entry<String, ConnectionPool>> entryIt = nodes.entrySet().iterator();
+      List<ConnectionPool> deadPools = new ArrayList<>();
+      Iterator<Entry<String, ConnectionPool>> entryIt = next.nodes.entrySet().iterator();
       while (entryIt.hasNext()) {
         Entry<String, ConnectionPool> entry = entryIt.next();
         if (!hostAndPortKeys.contains(entry.getKey())) {
-          ConnectionPool pool = entry.getValue();
-          try {
-            if (pool != null) {
-              pool.destroy();
-            }
-          } catch (Exception e) {
-            // pass, may be this node dead
-          }
+          deadPools.add(entry.getValue());
           entryIt.remove();
         }
       }
+
+      topology = next.build();
+
+      if (clientSideCache != null) {
+        invalidateMovedSlots(previous.slotNodes, topology.slotNodes);
+      }
+      // may be these nodes are dead
+      destroyPools(deadPools);
     } finally {
       w.unlock();
     }
   }
 
+  /**
+   * Deletes the client-side cache entries of the slots whose primary changed, which the new
+   * primary does not track for this client.
+   */
+  private void invalidateMovedSlots(SlotTable<HostAndPort> previousSlotNodes,
+      SlotTable<HostAndPort> slotNodes) {
+    BitSet movedSlots = new BitSet(Protocol.CLUSTER_HASHSLOTS);
+    for (int slot = 0; slot < Protocol.CLUSTER_HASHSLOTS; slot++) {
+      if (!Objects.equals(previousSlotNodes.get(slot), slotNodes.get(slot))) {
+        movedSlots.set(slot);
+      }
+    }
+    if (!movedSlots.isEmpty()) {
+      int deleted = clientSideCache.deleteBySlots(movedSlots);
+      logger.debug("{} slots moved, {} client-side cache entries deleted",
+          movedSlots.cardinality(), deleted);
+    }
+  }
+
   private HostAndPort generateHostAndPort(List<Object> hostInfos) {
     String host = SafeEncoder.encode((byte[]) hostInfos.get(0));
     int port = ((Long) hostInfos.get(1)).intValue();
@@ -309,14 +592,22 @@ public class JedisClusterInfoCache {
   }
 
   public ConnectionPool setupNodeIfNotExist(final HostAndPort node) {
+    String nodeKey = getNodeKey(node);
+    ConnectionPool existingPool = topology.nodes.get(nodeKey);
+    if (existingPool != null) return existingPool;
+
     w.lock();
     try {
-      String nodeKey = getNodeKey(node);
-      ConnectionPool existingPool = nodes.get(nodeKey);
+      Topology current = topology;
+      existingPool = current.nodes.get(nodeKey);
       if (existingPool != null) return existingPool;
 
       ConnectionPool nodePool = createNodePool(node);
+      Map<String, ConnectionPool> nodes = new HashMap<>(current.nodes);
       nodes.put(nodeKey, nodePool);
+      // the slot tables are immutable, so the new snapshot shares them
+      topology = new Topology(nodes, current.primaryNodes, current.slots, current.slotNodes,
+          current.replicaSlots);
       return nodePool;
     } finally {
       w.unlock();
@@ -339,25 +630,20 @@ public class JedisClusterInfoCache {
     }
   }
 
+  /**
+   * Assigns a slot to a node, publishing a new topology. Prefer a rediscovery for many slots.
+   */
   public void assignSlotToNode(int slot, HostAndPort targetNode) {
-    w.lock();
-    try {
-      ConnectionPool targetPool = setupNodeIfNotExist(targetNode);
-      slots[slot] = targetPool;
-      slotNodes[slot] = targetNode;
-    } finally {
-      w.unlock();
-    }
+    assignSlotsToNode(Collections.singletonList(slot), targetNode);
   }
 
   public void assignSlotsToNode(List<Integer> targetSlots, HostAndPort targetNode) {
     w.lock();
     try {
-      ConnectionPool targetPool = setupNodeIfNotExist(targetNode);
-      for (Integer slot : targetSlots) {
-        slots[slot] = targetPool;
-        slotNodes[slot] = targetNode;
-      }
+      Topology current = topology;
+      TopologyBuilder next = new TopologyBuilder(current.nodes, current.primaryNodes, true);
+      next.assignSlots(targetSlots, targetNode);
+      topology = next.build();
     } finally {
       w.unlock();
     }
@@ -366,25 +652,17 @@ public class JedisClusterInfoCache {
   public void assignSlotsToReplicaNode(List<Integer> targetSlots, HostAndPort targetNode) {
     w.lock();
     try {
-      ConnectionPool targetPool = setupNodeIfNotExist(targetNode);
-      for (Integer slot : targetSlots) {
-        if (replicaSlots[slot] == null) {
-          replicaSlots[slot] = new ArrayList<>();
-        }
-        replicaSlots[slot].add(targetPool);
-      }
+      Topology current = topology;
+      TopologyBuilder next = new TopologyBuilder(current.nodes, current.primaryNodes, true);
+      next.assignReplicaSlots(targetSlots, targetNode);
+      topology = next.build();
     } finally {
       w.unlock();
     }
   }
 
   public ConnectionPool getNode(String nodeKey) {
-    r.lock();
-    try {
-      return nodes.get(nodeKey);
-    } finally {
-      r.unlock();
-    }
+    return topology.nodes.get(nodeKey);
   }
 
   public ConnectionPool getNode(HostAndPort node) {
@@ -392,70 +670,64 @@ public class JedisClusterInfoCache {
   }
 
   public ConnectionPool getSlotPool(int slot) {
-    r.lock();
-    try {
-      return slots[slot];
-    } finally {
-      r.unlock();
-    }
+    return topology.slots.get(slot);
   }
 
   public HostAndPort getSlotNode(int slot) {
-    r.lock();
-    try {
-      return slotNodes[slot];
-    } finally {
-      r.unlock();
-    }
+    return topology.slotNodes.get(slot);
   }
 
+  /**
+   * @return the pools of the replicas serving the slot, an unmodifiable list, or {@code null}
+   */
   public List<ConnectionPool> getSlotReplicaPools(int slot) {
-    r.lock();
-    try {
-      return replicaSlots[slot];
-    } finally {
-      r.unlock();
-    }
+    SlotTable<List<ConnectionPool>> replicaSlots = topology.replicaSlots;
+    return replicaSlots != null ? replicaSlots.get(slot) : null;
   }
 
+  /**
+   * @return a copy of the pools of all the nodes, which is not updated by later topology changes
+   */
   public Map<String, ConnectionPool> getNodes() {
-    r.lock();
-    try {
-      return new HashMap<>(nodes);
-    } finally {
-      r.unlock();
-    }
+    return new HashMap<>(topology.nodes);
   }
 
+  /**
+   * @return a copy of the pools of the primary nodes, which is not updated by later topology
+   *     changes
+   */
   public Map<String, ConnectionPool> getPrimaryNodes() {
-    r.lock();
-    try {
-      return new HashMap<>(primaryNodesCache);
-    } finally {
-      r.unlock();
-    }
+    return new HashMap<>(topology.primaryNodes);
+  }
+
+  /**
+   * @return the pools of all the nodes, an unmodifiable snapshot which is not updated by later
+   *     topology changes and is not copied
+   */
+  @Internal
+  public Map<String, ConnectionPool> getNodesSnapshot() {
+    return topology.nodes;
+  }
+
+  /**
+   * @return the pools of the primary nodes, an unmodifiable snapshot which is not updated by later
+   *     topology changes and is not copied
+   */
+  @Internal
+  public Map<String, ConnectionPool> getPrimaryNodesSnapshot() {
+    return topology.primaryNodes;
   }
 
   public List<ConnectionPool> getShuffledPrimaryNodesPool() {
-    r.lock();
-    try {
-      List<ConnectionPool> pools = new ArrayList<>(primaryNodesCache.values());
-      Collections.shuffle(pools);
-      return pools;
-    } finally {
-      r.unlock();
-    }
+    List<ConnectionPool> pools = new ArrayList<>(topology.primaryNodes.values());
+    Collections.shuffle(pools);
+    return pools;
   }
 
   public List<ConnectionPool> getShuffledNodesPool() {
-    r.lock();
-    try {
-      List<ConnectionPool> pools = new ArrayList<>(nodes.values());
-      Collections.shuffle(pools);
-      return pools;
-    } finally {
-      r.unlock();
-    }
+    List<ConnectionPool> pools = new ArrayList<>(topology.nodes.values());
+    Collections.shuffle(pools);
+    return pools;
   }
 
   /**
@@ -464,30 +736,17 @@ public class JedisClusterInfoCache {
   public void reset() {
     w.lock();
     try {
-      resetNodes();
-      resetSlots();
+      Topology current = topology;
+      topology = new TopologyBuilder(Collections.emptyMap(), Collections.emptyMap(), false)
+          .build();
+      destroyPools(current.nodes.values());
     } finally {
       w.unlock();
     }
   }
 
-  private void resetSlots() {
-    Arrays.fill(slots, null);
-    Arrays.fill(slotNodes, null);
-    resetReplicaSlots();
-  }
-
-  private void resetReplicaSlots() {
-    if (replicaSlots == null) {
-      return;
-    }
-
-    Arrays.stream(replicaSlots).filter(Objects::nonNull).forEach(List::clear);
-    Arrays.fill(replicaSlots, null);
-  }
-
-  private void resetNodes() {
-    for (ConnectionPool pool : nodes.values()) {
+  private static void destroyPools(Collection<ConnectionPool> pools) {
+    for (ConnectionPool pool : pools) {
       try {
         if (pool != null) {
           pool.destroy();
@@ -496,16 +755,21 @@ public class JedisClusterInfoCache {
         // pass
       }
     }
-    nodes.clear();
-    primaryNodesCache.clear();
   }
 
   public void close() {
-    reset();
-    if (topologyRefreshExecutor != null) {
+    ScheduledExecutorService executor;
+    synchronized (this) {
+      closed = true;
+      executor = topologyRefreshExecutor;
+      topologyRefreshExecutor = null;
+    }
+    // stopped first, so that no renewal sets up pools again
+    if (executor != null) {
       logger.info("Cluster topology refresh shutdown, startNodes: {}", startNodes);
-      topologyRefreshExecutor.shutdownNow();
+      executor.shutdownNow();
     }
+    reset();
   }
 
   public static String getNodeKey(HostAndPort hnp) {
@@ -519,6 +783,71 @@ public class JedisClusterInfoCache {
     return (List<Object>) jedis.executeCommand(clusterSlotsCmd);
   }
 
+  /**
+   * Executes {@code CLUSTER SHARDS} and returns the reply in the shape of a {@code CLUSTER SLOTS}
+   * reply: a slot range per element, with the primary and then the online replicas. Falls back to
+   * {@code CLUSTER SLOTS} for good if the server does not support it.
+   */
+  private List<Object> executeClusterShards(Connection jedis) {
+    List<ClusterShardInfo> shards;
+    try {
+      CommandArguments clusterShardsCmd = new CommandArguments(Protocol.Command.CLUSTER).add(
+          "SHARDS");
+      shards = BuilderFactory.CLUSTER_SHARD_INFO_LIST.build(jedis.executeCommand(clusterShardsCmd));
+    } catch (JedisDataException e) {
+      if (!isUnknownCommand(e)) {
+        // e.g. LOADING or BUSY, CLUSTER SHARDS is tried again by the next discovery
+        throw e;
+      }
+      logger.info("CLUSTER SHARDS is not supported, discovering with CLUSTER SLOTS", e);
+      useClusterShards = false;
+      return executeClusterSlots(jedis);
+    }
+
+    List<Object> slotsInfo = new ArrayList<>();
+    for (ClusterShardInfo shard : shards) {
+      List<Object> primary = null;
+      List<Object> replicas = new ArrayList<>();
+      for (ClusterShardNodeInfo node : shard.getNodes()) {
+        Long port = clientConfig.isSsl() && node.getTlsPort() != null ? node.getTlsPort()
+            : node.getPort();
+        if (port == null || node.getEndpoint() == null) {
+          continue;
+        }
+        List<Object> hostInfos = new ArrayList<>(3);
+        hostInfos.add(SafeEncoder.encode(node.getEndpoint()));
+        hostInfos.add(port);
+        hostInfos.add(SafeEncoder.encode(node.getId()));
+        if ("master".equals(node.getRole())) {
+          primary = hostInfos;
+        } else if ("online".equals(node.getHealth())) {
+          replicas.add(hostInfos);
+        }
+      }
+      if (primary == null) {
+        continue;
+      }
+      for (List<Long> range : shard.getSlots()) {
+        List<Object> slotInfo = new ArrayList<>(MASTER_NODE_INDEX + 1 + replicas.size());
+        slotInfo.add(range.get(0));
+        slotInfo.add(range.get(1));
+        slotInfo.add(primary);
+        slotInfo.addAll(replicas);
+        slotsInfo.add(slotInfo);
+      }
+    }
+    return slotsInfo;
+  }
+
+  private static boolean isUnknownCommand(JedisDataException e) {
+    String message = e.getMessage();
+    if (message == null) {
+      return false;
+    }
+    message = message.toLowerCase(Locale.ROOT);
+    return message.contains("unknown subcommand") || message.contains("unknown command");
+  }
+
   private List<Integer> getAssignedSlotArray(List<Object> slotInfo) {
     List<Integer> slotNums = new ArrayList<>();
     for (int slot = ((Long) slotInfo.get(0)).intValue(); slot <= ((Long) slotInfo.get(1))
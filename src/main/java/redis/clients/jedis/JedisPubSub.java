@@ -1,9 +1,22 @@
 package redis.clients.jedis;
 
+import java.util.concurrent.Executor;
+
 import redis.clients.jedis.util.SafeEncoder;
 
 public abstract class JedisPubSub extends JedisPubSubBase<String> {
 
+  public JedisPubSub() {
+  }
+
+  /**
+   * @param callbackExecutor the executor running the callbacks, see
+   *     {@link JedisPubSubBase#JedisPubSubBase(Executor)}
+   */
+  protected JedisPubSub(Executor callbackExecutor) {
+    super(callbackExecutor);
+  }
+
   @Override
   protected final String encode(byte[] raw) {
     return SafeEncoder.encode(raw);
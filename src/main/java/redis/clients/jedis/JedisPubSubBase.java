@@ -1,12 +1,11 @@
 package redis.clients.jedis;
 
-import static redis.clients.jedis.Protocol.ResponseKeyword.*;
-
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.Protocol.ResponseKeyword;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.util.SafeEncoder;
 
@@ -15,10 +14,47 @@ public abstract class JedisPubSubBase<T> {
   private int subscribedChannels = 0;
   private final JedisSafeAuthenticator authenticator = new JedisSafeAuthenticator();
   private final Consumer<Object> pingResultHandler = this::processPingReply;
+  private final PubSubDispatcher dispatcher;
+
+  /**
+   * A subscriber whose callbacks run on the thread reading the connection.
+   */
+  public JedisPubSubBase() {
+    this.dispatcher = null;
+  }
+
+  /**
+   * A subscriber whose callbacks run on the given executor, so that a slow callback does not stall
+   * the reading of the connection. The callbacks of a channel run one at a time, in the order the
+   * messages were received; a callback throwing an exception is logged. Callbacks may still run
+   * after {@code proceed} returns. If the callbacks fall behind by a few thousand messages, the
+   * reading of the connection waits for them.
+   * @param callbackExecutor the executor running the callbacks
+   */
+  protected JedisPubSubBase(Executor callbackExecutor) {
+    this.dispatcher = new PubSubDispatcher(callbackExecutor);
+  }
 
   public void onMessage(T channel, T message) {
   }
 
+  /**
+   * Called for each message with its channel and payload as received. By default, decodes them and
+   * calls {@link #onMessage(Object, Object)}; a subscriber using the bytes only can override it to
+   * skip the decoding.
+   */
+  protected void onRawMessage(byte[] channel, byte[] message) {
+    onMessage(channel == null ? null : encode(channel), message == null ? null : encode(message));
+  }
+
+  /**
+   * Same as {@link #onRawMessage(byte[], byte[])} for {@link #onPMessage(Object, Object, Object)}.
+   */
+  protected void onRawPMessage(byte[] pattern, byte[] channel, byte[] message) {
+    onPMessage(pattern == null ? null : encode(pattern), channel == null ? null : encode(channel),
+      message == null ? null : encode(message));
+  }
+
   public void onPMessage(T pattern, T channel, T message) {
   }
 
@@ -139,51 +175,60 @@ public abstract class JedisPubSubBase<T> {
         if (!(firstObj instanceof byte[])) {
           throw new JedisException("Unknown message type: " + firstObj);
         }
-        final byte[] resp = (byte[]) firstObj;
-        if (Arrays.equals(SUBSCRIBE.getRaw(), resp)) {
-          subscribedChannels = ((Long) listReply.get(2)).intValue();
-          final byte[] bchannel = (byte[]) listReply.get(1);
-          final T enchannel = (bchannel == null) ? null : encode(bchannel);
-          onSubscribe(enchannel, subscribedChannels);
-        } else if (Arrays.equals(UNSUBSCRIBE.getRaw(), resp)) {
-          subscribedChannels = ((Long) listReply.get(2)).intValue();
-          final byte[] bchannel = (byte[]) listReply.get(1);
-          final T enchannel = (bchannel == null) ? null : encode(bchannel);
-          onUnsubscribe(enchannel, subscribedChannels);
-        } else if (Arrays.equals(MESSAGE.getRaw(), resp)) {
-          final byte[] bchannel = (byte[]) listReply.get(1);
-          final Object mesg = listReply.get(2);
-          final T enchannel = (bchannel == null) ? null : encode(bchannel);
-          if (mesg instanceof List) {
-            ((List<byte[]>) mesg).forEach(bmesg -> onMessage(enchannel, encode(bmesg)));
-          } else {
-            onMessage(enchannel, (mesg == null) ? null : encode((byte[]) mesg));
-          }
-        } else if (Arrays.equals(PMESSAGE.getRaw(), resp)) {
-          final byte[] bpattern = (byte[]) listReply.get(1);
-          final byte[] bchannel = (byte[]) listReply.get(2);
-          final byte[] bmesg = (byte[]) listReply.get(3);
-          final T enpattern = (bpattern == null) ? null : encode(bpattern);
-          final T enchannel = (bchannel == null) ? null : encode(bchannel);
-          final T enmesg = (bmesg == null) ? null : encode(bmesg);
-          onPMessage(enpattern, enchannel, enmesg);
-        } else if (Arrays.equals(PSUBSCRIBE.getRaw(), resp)) {
-          subscribedChannels = ((Long) listReply.get(2)).intValue();
-          final byte[] bpattern = (byte[]) listReply.get(1);
-          final T enpattern = (bpattern == null) ? null : encode(bpattern);
-          onPSubscribe(enpattern, subscribedChannels);
-        } else if (Arrays.equals(PUNSUBSCRIBE.getRaw(), resp)) {
-          subscribedChannels = ((Long) listReply.get(2)).intValue();
-          final byte[] bpattern = (byte[]) listReply.get(1);
-          final T enpattern = (bpattern == null) ? null : encode(bpattern);
-          onPUnsubscribe(enpattern, subscribedChannels);
-        } else if (Arrays.equals(PONG.getRaw(), resp)) {
-          final byte[] bpattern = (byte[]) listReply.get(1);
-          final T enpattern = (bpattern == null) ? null : encode(bpattern);
-          onPong(enpattern);
-        } else {
+        final ResponseKeyword type = PubSubDispatcher.typeOf((byte[]) firstObj);
+        if (type == null) {
           throw new JedisException("Unknown message type: " + firstObj);
         }
+        switch (type) {
+          case MESSAGE: {
+            final byte[] bchannel = (byte[]) listReply.get(1);
+            final Object mesg = listReply.get(2);
+            if (mesg instanceof List) {
+              for (Object bmesg : (List<?>) mesg) {
+                deliverMessage(bchannel, (byte[]) bmesg);
+              }
+            } else {
+              deliverMessage(bchannel, (byte[]) mesg);
+            }
+            break;
+          }
+          case PMESSAGE: {
+            final byte[] bpattern = (byte[]) listReply.get(1);
+            final byte[] bchannel = (byte[]) listReply.get(2);
+            final byte[] bmesg = (byte[]) listReply.get(3);
+            if (dispatcher == null) {
+              onRawPMessage(bpattern, bchannel, bmesg);
+            } else {
+              dispatcher.dispatch(bchannel, () -> onRawPMessage(bpattern, bchannel, bmesg));
+            }
+            break;
+          }
+          case SUBSCRIBE:
+          case UNSUBSCRIBE:
+          case PSUBSCRIBE:
+          case PUNSUBSCRIBE: {
+            final int subscribed = ((Long) listReply.get(2)).intValue();
+            subscribedChannels = subscribed;
+            final byte[] bchannel = (byte[]) listReply.get(1);
+            if (dispatcher == null) {
+              onSubscription(type, bchannel, subscribed);
+            } else {
+              dispatcher.dispatch(bchannel, () -> onSubscription(type, bchannel, subscribed));
+            }
+            break;
+          }
+          case PONG: {
+            final byte[] bpattern = (byte[]) listReply.get(1);
+            if (dispatcher == null) {
+              onPong(bpattern == null ? null : encode(bpattern));
+            } else {
+              dispatcher.dispatch(null, () -> onPong(bpattern == null ? null : encode(bpattern)));
+            }
+            break;
+          }
+          default:
+            throw new JedisException("Unknown message type: " + firstObj);
+        }
       } else if (reply instanceof byte[]) {
         Consumer<Object> resultHandler = authenticator.resultHandler.poll();
         if (resultHandler == null) {
@@ -199,6 +244,32 @@ public abstract class JedisPubSubBase<T> {
     //    this.client = null;
   }
 
+  private void deliverMessage(byte[] channel, byte[] message) {
+    if (dispatcher == null) {
+      onRawMessage(channel, message);
+    } else {
+      dispatcher.dispatch(channel, () -> onRawMessage(channel, message));
+    }
+  }
+
+  private void onSubscription(ResponseKeyword type, byte[] bchannel, int subscribed) {
+    final T enchannel = (bchannel == null) ? null : encode(bchannel);
+    switch (type) {
+      case SUBSCRIBE:
+        onSubscribe(enchannel, subscribed);
+        break;
+      case UNSUBSCRIBE:
+        onUnsubscribe(enchannel, subscribed);
+        break;
+      case PSUBSCRIBE:
+        onPSubscribe(enchannel, subscribed);
+        break;
+      default:
+        onPUnsubscribe(enchannel, subscribed);
+        break;
+    }
+  }
+
   private void processPingReply(Object reply) {
     byte[] resp = (byte[]) reply;
     if ("PONG".equals(SafeEncoder.encode(resp))) {
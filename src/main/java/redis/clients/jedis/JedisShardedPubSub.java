@@ -1,9 +1,22 @@
 package redis.clients.jedis;
 
+import java.util.concurrent.Executor;
+
 import redis.clients.jedis.util.SafeEncoder;
 
 public abstract class JedisShardedPubSub extends JedisShardedPubSubBase<String> {
 
+  public JedisShardedPubSub() {
+  }
+
+  /**
+   * @param callbackExecutor the executor running the callbacks, see
+   *     {@link JedisShardedPubSubBase#JedisShardedPubSubBase(Executor)}
+   */
+  protected JedisShardedPubSub(Executor callbackExecutor) {
+    super(callbackExecutor);
+  }
+
   @Override
   protected final String encode(byte[] raw) {
     return SafeEncoder.encode(raw);
@@ -1,12 +1,11 @@
 package redis.clients.jedis;
 
-import static redis.clients.jedis.Protocol.ResponseKeyword.*;
-
-import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.Protocol.ResponseKeyword;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.util.SafeEncoder;
 
@@ -14,10 +13,36 @@ public abstract class JedisShardedPubSubBase<T> {
 
   private int subscribedChannels = 0;
   private final JedisSafeAuthenticator authenticator = new JedisSafeAuthenticator();
+  private final PubSubDispatcher dispatcher;
+
+  /**
+   * A subscriber whose callbacks run on the thread reading the connection.
+   */
+  public JedisShardedPubSubBase() {
+    this.dispatcher = null;
+  }
+
+  /**
+   * A subscriber whose callbacks run on the given executor, see
+   * {@link JedisPubSubBase#JedisPubSubBase(Executor)}.
+   * @param callbackExecutor the executor running the callbacks
+   */
+  protected JedisShardedPubSubBase(Executor callbackExecutor) {
+    this.dispatcher = new PubSubDispatcher(callbackExecutor);
+  }
 
   public void onSMessage(T channel, T message) {
   }
 
+  /**
+   * Called for each message with its channel and payload as received. By default, decodes them and
+   * calls {@link #onSMessage(Object, Object)}; a subscriber using the bytes only can override it to
+   * skip the decoding.
+   */
+  protected void onRawSMessage(byte[] channel, byte[] message) {
+    onSMessage(channel == null ? null : encode(channel), message == null ? null : encode(message));
+  }
+
   public void onSSubscribe(T channel, int subscribedChannels) {
   }
 
@@ -81,23 +106,24 @@ public abstract class JedisShardedPubSubBase<T> {
         if (!(firstObj instanceof byte[])) {
           throw new JedisException("Unknown message type: " + firstObj);
         }
-        final byte[] resp = (byte[]) firstObj;
-        if (Arrays.equals(SSUBSCRIBE.getRaw(), resp)) {
-          subscribedChannels = ((Long) listReply.get(2)).intValue();
-          final byte[] bchannel = (byte[]) listReply.get(1);
-          final T enchannel = (bchannel == null) ? null : encode(bchannel);
-          onSSubscribe(enchannel, subscribedChannels);
-        } else if (Arrays.equals(SUNSUBSCRIBE.getRaw(), resp)) {
-          subscribedChannels = ((Long) listReply.get(2)).intValue();
-          final byte[] bchannel = (byte[]) listReply.get(1);
-          final T enchannel = (bchannel == null) ? null : encode(bchannel);
-          onSUnsubscribe(enchannel, subscribedChannels);
-        } else if (Arrays.equals(SMESSAGE.getRaw(), resp)) {
+        final ResponseKeyword type = PubSubDispatcher.typeOf((byte[]) firstObj);
+        if (type == ResponseKeyword.SMESSAGE) {
           final byte[] bchannel = (byte[]) listReply.get(1);
           final byte[] bmesg = (byte[]) listReply.get(2);
-          final T enchannel = (bchannel == null) ? null : encode(bchannel);
-          final T enmesg = (bmesg == null) ? null : encode(bmesg);
-          onSMessage(enchannel, enmesg);
+          if (dispatcher == null) {
+            onRawSMessage(bchannel, bmesg);
+          } else {
+            dispatcher.dispatch(bchannel, () -> onRawSMessage(bchannel, bmesg));
+          }
+        } else if (type == ResponseKeyword.SSUBSCRIBE || type == ResponseKeyword.SUNSUBSCRIBE) {
+          final int subscribed = ((Long) listReply.get(2)).intValue();
+          subscribedChannels = subscribed;
+          final byte[] bchannel = (byte[]) listReply.get(1);
+          if (dispatcher == null) {
+            onSubscription(type, bchannel, subscribed);
+          } else {
+            dispatcher.dispatch(bchannel, () -> onSubscription(type, bchannel, subscribed));
+          }
         } else {
           throw new JedisException("Unknown message type: " + firstObj);
         }
@@ -115,4 +141,13 @@ public abstract class JedisShardedPubSubBase<T> {
 //    /* Invalidate instance since this thread is no longer listening */
 //    this.client = null;
   }
+
+  private void onSubscription(ResponseKeyword type, byte[] bchannel, int subscribed) {
+    final T enchannel = (bchannel == null) ? null : encode(bchannel);
+    if (type == ResponseKeyword.SSUBSCRIBE) {
+      onSSubscribe(enchannel, subscribed);
+    } else {
+      onSUnsubscribe(enchannel, subscribed);
+    }
+  }
 }
@@ -11,6 +11,7 @@ import redis.clients.jedis.annots.Experimental;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.exceptions.JedisValidationException;
 import redis.clients.jedis.mcf.ConnectionFailoverException;
+import redis.clients.jedis.mcf.HealthCheckExecutors;
 import redis.clients.jedis.mcf.PingStrategy;
 import redis.clients.jedis.util.JedisAsserts;
 import redis.clients.jedis.mcf.HealthCheckStrategy;
@@ -661,6 +662,15 @@ public final class MultiDbConfig {
    */
   private InitializationPolicy initializationPolicy;
 
+  /**
+   * The threads running the health checks and the failback checks.
+   * <p>
+   * <strong>Default:</strong> {@link HealthCheckExecutors#shared()}
+   * </p>
+   * @see #getHealthCheckExecutors()
+   */
+  private HealthCheckExecutors healthCheckExecutors;
+
   /**
    * Constructs a new MultiDbConfig with the specified database configurations.
    * <p>
@@ -807,6 +817,15 @@ public final class MultiDbConfig {
     return initializationPolicy;
   }
 
+  /**
+   * Returns the threads running the health checks and the failback checks.
+   * @return the health check executors, defaults to {@link HealthCheckExecutors#shared()}
+   * @see #healthCheckExecutors
+   */
+  public HealthCheckExecutors getHealthCheckExecutors() {
+    return healthCheckExecutors;
+  }
+
   /**
    * Creates a new Builder instance for configuring MultiDbConfig.
    * <p>
@@ -1196,6 +1215,9 @@ public final class MultiDbConfig {
     /** Initialization policy for determining when the multi-database connection is ready. */
     private InitializationPolicy initializationPolicy = InitializationPolicy.BuiltIn.MAJORITY_AVAILABLE;
 
+    /** Threads running the health checks and the failback checks. */
+    private HealthCheckExecutors healthCheckExecutors = HealthCheckExecutors.shared();
+
     /**
      * Constructs a new Builder with the specified database configurations.
      */
@@ -1494,6 +1516,23 @@ public final class MultiDbConfig {
       return this;
     }
 
+    /**
+     * Sets the threads running the health checks and the failback checks.
+     * <p>
+     * By default, all clients share {@link HealthCheckExecutors#shared()}, with one scheduler thread
+     * and a bounded pool of probe threads whatever the number of clients and endpoints. An instance
+     * given here may be shared by several clients as well; it is not closed by them, but by its
+     * owner once they are closed.
+     * </p>
+     * @param healthCheckExecutors the health check executors
+     * @return this builder instance for method chaining
+     */
+    public Builder healthCheckExecutors(HealthCheckExecutors healthCheckExecutors) {
+      JedisAsserts.notNull(healthCheckExecutors, "healthCheckExecutors must not be null");
+      this.healthCheckExecutors = healthCheckExecutors;
+      return this;
+    }
+
     /**
      * Builds and returns a new MultiDbConfig instance with all configured settings.
      * <p>
@@ -1523,6 +1562,7 @@ public final class MultiDbConfig {
       config.maxNumFailoverAttempts = this.maxNumFailoverAttempts;
       config.delayInBetweenFailoverAttempts = this.delayInBetweenFailoverAttempts;
       config.initializationPolicy = this.initializationPolicy;
+      config.healthCheckExecutors = this.healthCheckExecutors;
 
       return config;
     }
@@ -1,22 +1,23 @@
 package redis.clients.jedis;
 
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import redis.clients.jedis.annots.Internal;
 import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.util.IOUtils;
+import redis.clients.jedis.util.JedisExecutors;
 
 public abstract class MultiNodePipelineBase extends AbstractPipeline {
 
@@ -29,13 +30,21 @@ public abstract class MultiNodePipelineBase extends AbstractPipeline {
    */
   public static volatile int MULTI_NODE_PIPELINE_SYNC_WORKERS = 3;
 
+  /**
+   * Whether the executors created for {@code sync()} run each task on a new virtual thread instead
+   * of {@link #MULTI_NODE_PIPELINE_SYNC_WORKERS} platform threads. Requires JDK 21 or later and is
+   * ignored otherwise. Read when an executor is created.
+   */
+  public static volatile boolean MULTI_NODE_PIPELINE_SYNC_VIRTUAL_THREADS = false;
+
   private final Map<HostAndPort, Queue<Response<?>>> pipelinedResponses;
   private final Map<HostAndPort, Connection> connections;
   private volatile boolean syncing = false;
   protected final CommandFlagsRegistry commandFlagsRegistry;
 
   /**
-   * External executor service to use for {@code sync()}. If not set, a new executor service will be
+   * External executor service to use for {@code sync()}. If not set, the executor of the client
+   * ({@link #getClientExecutorService()}) is used or, if there is none, a new executor service is
    * created for each {@code sync()} call.
    */
   private final ExecutorService sharedExecutorService;
@@ -111,20 +120,32 @@ public abstract class MultiNodePipelineBase extends AbstractPipeline {
     boolean multiNode = pipelinedResponses.size() > 1;
     Executor executor;
     ExecutorService executorService = null;
+    boolean dedicatedExecutor = false;
     if (multiNode) {
       executorService = getPipelineExecutor();
+      if (executorService == null) {
+        executorService = createSyncExecutorService();
+        dedicatedExecutor = true;
+      }
       executor = executorService;
+      // Write the buffered commands of all nodes before draining any replies, so that each node is
+      // already processing its commands while the replies of other nodes are read.
+      for (Connection connection : connections.values()) {
+        try {
+          connection.flush();
+        } catch (JedisConnectionException jce) {
+          // the connection is broken now, reading its replies will fail and clean it up
+        }
+      }
     } else {
       executor = Runnable::run;
     }
     CountDownLatch countDownLatch = multiNode
         ? new CountDownLatch(pipelinedResponses.size())
         : null;
+    Queue<HostAndPort> failedNodes = new ConcurrentLinkedQueue<>();
 
-    Iterator<Map.Entry<HostAndPort, Queue<Response<?>>>> pipelinedResponsesIterator = pipelinedResponses.entrySet()
-        .iterator();
-    while (pipelinedResponsesIterator.hasNext()) {
-      Map.Entry<HostAndPort, Queue<Response<?>>> entry = pipelinedResponsesIterator.next();
+    for (Map.Entry<HostAndPort, Queue<Response<?>>> entry : pipelinedResponses.entrySet()) {
       HostAndPort nodeKey = entry.getKey();
       Queue<Response<?>> queue = entry.getValue();
       Connection connection = connections.get(nodeKey);
@@ -136,11 +157,7 @@ public abstract class MultiNodePipelineBase extends AbstractPipeline {
           }
         } catch (JedisConnectionException jce) {
           log.error("Error with connection to " + nodeKey, jce);
-          // cleanup the connection
-          // TODO these operations not thread-safe and when executed here, the iter may moved
-          pipelinedResponsesIterator.remove();
-          connections.remove(nodeKey);
-          IOUtils.closeQuietly(connection);
+          failedNodes.add(nodeKey);
         } finally {
           if (multiNode) {
             countDownLatch.countDown();
@@ -156,7 +173,15 @@ public abstract class MultiNodePipelineBase extends AbstractPipeline {
         log.error("Thread is interrupted during sync.", e);
       }
 
-      releasePipelineExecutor(executorService);
+      if (dedicatedExecutor) {
+        executorService.shutdownNow();
+      }
+    }
+
+    // cleanup the failed connections
+    for (HostAndPort nodeKey : failedNodes) {
+      pipelinedResponses.remove(nodeKey);
+      IOUtils.closeQuietly(connections.remove(nodeKey));
     }
 
     syncing = false;
@@ -165,42 +190,62 @@ public abstract class MultiNodePipelineBase extends AbstractPipeline {
   /**
    * Acquires the executor service to run multi-node pipeline commands.
    * <p>
-   * If a shared executor is provided by the user, it is returned.
-   * Otherwise, a new dedicated executor is created for this pipeline.
+   * If a shared executor is provided by the user, it is returned. Otherwise, the executor of the
+   * client is returned, which may be {@code null}.
    * </p>
    */
   private ExecutorService getPipelineExecutor() {
-    return isUsingSharedExecutor()
+    return this.sharedExecutorService != null
             ? this.sharedExecutorService
-            : createDedicatedPipelineExecutor();
+            : getClientExecutorService();
   }
 
   /**
-   * Releases the executor service used by the pipeline.
-   * <p>
-   * Dedicated executors are shut down after use.
-   * Shared executors are managed externally and not shut down.
-   * </p>
+   * Returns the executor service of the client this pipeline belongs to, which is used by
+   * {@code sync()} when no executor service was provided to this pipeline. The executor service is
+   * managed by the client and is not shut down by the pipeline.
+   *
+   * @return the executor service, or {@code null} to create a dedicated executor service for each
+   *     {@code sync()} call
    */
-  private void releasePipelineExecutor(ExecutorService executorService) {
-    if (!isUsingSharedExecutor()) {
-      executorService.shutdownNow();
-    }
+  protected ExecutorService getClientExecutorService() {
+    return null;
   }
 
   /**
-   * Returns true if this pipeline is using a shared executor service
-   * provided externally.
+   * Creates an executor service for {@code sync()}, as configured by
+   * {@link #MULTI_NODE_PIPELINE_SYNC_WORKERS} and {@link #MULTI_NODE_PIPELINE_SYNC_VIRTUAL_THREADS}.
    */
-  private boolean isUsingSharedExecutor() {
-    return this.sharedExecutorService != null;
+  @Internal
+  public static ExecutorService createSyncExecutorService() {
+    if (MULTI_NODE_PIPELINE_SYNC_VIRTUAL_THREADS) {
+      ExecutorService virtual = JedisExecutors.newVirtualThreadPerTaskExecutor();
+      if (virtual != null) {
+        return virtual;
+      }
+    }
+    return JedisExecutors.newFixedDaemonThreadPool(MULTI_NODE_PIPELINE_SYNC_WORKERS,
+        "jedis-pipeline-sync-");
   }
 
   /**
-   * Creates a new dedicated executor for multi-node pipeline execution.
+   * Creates an executor service shared by the concurrent {@code sync()} calls of a client. Unless
+   * {@link #MULTI_NODE_PIPELINE_SYNC_VIRTUAL_THREADS} is set, it starts threads as needed, up to
+   * the given number and at least {@link #MULTI_NODE_PIPELINE_SYNC_WORKERS}, and stops them once
+   * idle. A task finding all the threads busy runs on the calling thread rather than waiting behind
+   * the tasks of other calls.
+   * @param maxThreads the number of threads at most
    */
-  private ExecutorService createDedicatedPipelineExecutor() {
-    return Executors.newFixedThreadPool(MULTI_NODE_PIPELINE_SYNC_WORKERS);
+  @Internal
+  public static ExecutorService createSharedSyncExecutorService(int maxThreads) {
+    if (MULTI_NODE_PIPELINE_SYNC_VIRTUAL_THREADS) {
+      ExecutorService virtual = JedisExecutors.newVirtualThreadPerTaskExecutor();
+      if (virtual != null) {
+        return virtual;
+      }
+    }
+    return JedisExecutors.newElasticDaemonThreadPool(
+        Math.max(MULTI_NODE_PIPELINE_SYNC_WORKERS, maxThreads), "jedis-pipeline-sync-");
   }
 
   /**
@@ -225,11 +270,11 @@ public abstract class MultiNodePipelineBase extends AbstractPipeline {
       case ALL_NODES:
       case SPECIAL:
         // If the command has keys that route to a single slot, allow it
-        Set<Integer> slots = args.getKeyHashSlots();
-        if (slots.size() == 1) {
+        if (args.getKeyHashSlot() >= 0) {
           // Command can be routed to a single slot - allow it
           return;
         }
+        Set<Integer> slots = args.getKeyHashSlots();
 
         // Command cannot be routed to a single slot - reject it
         String policyName = policy.name();
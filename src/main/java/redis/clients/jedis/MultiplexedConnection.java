@@ -0,0 +1,235 @@
+package redis.clients.jedis;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Shares a {@link Connection} between many threads by pipelining their commands.
+ * <p>
+ * Commands are written to the connection as they are submitted. A command is flushed by the last
+ * of the concurrently submitting threads, so that commands submitted at the same time share a
+ * single write, or as soon as {@value #MAX_UNFLUSHED_COMMANDS} commands are waiting to be flushed,
+ * so that a steady stream of writers can not delay a flush without bound. A dedicated reader
+ * thread reads the replies in FIFO order and completes the futures of the commands with the result
+ * of their {@link Builder}. Dependent stages of these futures which are not run asynchronously run
+ * on the reader thread and delay the following replies.
+ * <p>
+ * Blocking commands are rejected since they would delay all the following replies. Once the
+ * connection fails, all the pending and later commands fail with the cause of the failure.
+ */
+@Experimental
+public class MultiplexedConnection implements Closeable {
+
+  private static final AtomicInteger readerCounter = new AtomicInteger(1);
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  /**
+   * The number of written commands after which a writer flushes even if other writers follow. The
+   * bytes waiting to be flushed are bounded by the buffer of the connection, which writes itself
+   * out when it is full.
+   */
+  static final int MAX_UNFLUSHED_COMMANDS = 128;
+
+  private final Connection connection;
+  private final Object writeLock = new Object();
+  private final AtomicInteger writers = new AtomicInteger();
+  // guarded by the write lock
+  private int unflushed = 0;
+  private final Queue<PendingReply<?>> pending = new ConcurrentLinkedQueue<>();
+  private final Thread reader;
+  private volatile boolean closed = false;
+  private volatile JedisException failure;
+
+  /**
+   * @param connection the connection to share; it is closed when this multiplexed connection is
+   *     closed, which returns it to its pool if it is pooled
+   */
+  public MultiplexedConnection(Connection connection) {
+    this.connection = connection;
+    this.reader = new Thread(this::readReplies, "jedis-multiplexed-reader-"
+        + readerCounter.getAndIncrement());
+    this.reader.setDaemon(true);
+    this.reader.start();
+  }
+
+  /**
+   * Sends a command without waiting for its reply.
+   * @param commandObject the command
+   * @return the future completed with the result of the command
+   */
+  public <T> CompletableFuture<T> executeCommand(final CommandObject<T> commandObject) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    final CommandArguments args = commandObject.getArguments();
+    if (args.isBlocking()) {
+      future.completeExceptionally(new JedisException("Blocking command " + args.getCommand()
+          + " is not supported on a multiplexed connection."));
+      return future;
+    }
+    if (commandObject.hasPreProcessHooks()) {
+      future.completeExceptionally(new JedisException(
+          "Command " + args.getCommand() + " is not supported on a multiplexed connection."));
+      return future;
+    }
+
+    writers.incrementAndGet();
+    try {
+      synchronized (writeLock) {
+        if (failure != null) {
+          future.completeExceptionally(failure);
+          return future;
+        }
+        if (closed) {
+          future.completeExceptionally(new JedisException("Multiplexed connection is closed."));
+          return future;
+        }
+        try {
+          connection.sendCommand(args);
+        } catch (JedisConnectionException jce) {
+          future.completeExceptionally(jce);
+          fail(jce);
+          return future;
+        }
+        pending.add(new PendingReply<>(commandObject.getBuilder(), future));
+        if (++unflushed >= MAX_UNFLUSHED_COMMANDS) {
+          flushLocked();
+        }
+      }
+    } finally {
+      if (writers.decrementAndGet() == 0) {
+        flush();
+      }
+    }
+    LockSupport.unpark(reader);
+    return future;
+  }
+
+  /**
+   * @return whether the connection failed, in which case it can not execute commands anymore
+   */
+  public boolean isBroken() {
+    return failure != null;
+  }
+
+  /**
+   * Waits for the replies of the pending commands, then closes the underlying connection.
+   */
+  @Override
+  public void close() {
+    synchronized (writeLock) {
+      if (closed) {
+        return;
+      }
+      // commands whose writer has not flushed yet must still get their reply
+      flushLocked();
+      closed = true;
+    }
+    LockSupport.unpark(reader);
+    try {
+      reader.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    connection.close();
+  }
+
+  private void flush() {
+    synchronized (writeLock) {
+      if (!closed) {
+        flushLocked();
+      }
+    }
+  }
+
+  private void flushLocked() {
+    if (failure != null || unflushed == 0) {
+      return;
+    }
+    unflushed = 0;
+    try {
+      connection.flush();
+    } catch (JedisConnectionException jce) {
+      fail(jce);
+    }
+  }
+
+  private void readReplies() {
+    while (true) {
+      PendingReply<?> reply = pending.peek();
+      if (reply == null) {
+        if (closed || failure != null) {
+          return;
+        }
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        continue;
+      }
+      if (failure != null) {
+        // the commands were failed by the writer
+        pending.poll();
+        continue;
+      }
+
+      Object data;
+      try {
+        data = connection.readProtocolWithCheckingBroken();
+      } catch (JedisDataException jde) {
+        pending.poll();
+        reply.future.completeExceptionally(jde);
+        continue;
+      } catch (RuntimeException ex) {
+        synchronized (writeLock) {
+          fail(ex instanceof JedisException ? (JedisException) ex
+              : new JedisConnectionException(ex));
+        }
+        return;
+      }
+      pending.poll();
+      reply.complete(data);
+    }
+  }
+
+  /**
+   * Fails the pending commands and all later ones. Must hold the write lock.
+   */
+  private void fail(JedisException cause) {
+    if (failure == null) {
+      failure = cause;
+    }
+    PendingReply<?> reply;
+    while ((reply = pending.poll()) != null) {
+      reply.future.completeExceptionally(failure);
+    }
+  }
+
+  private static final class PendingReply<T> {
+
+    private final Builder<T> builder;
+    private final CompletableFuture<T> future;
+
+    private PendingReply(Builder<T> builder, CompletableFuture<T> future) {
+      this.builder = builder;
+      this.future = future;
+    }
+
+    private void complete(Object data) {
+      final T result;
+      try {
+        result = builder.build(data);
+      } catch (RuntimeException ex) {
+        future.completeExceptionally(ex);
+        return;
+      }
+      future.complete(result);
+    }
+  }
+}
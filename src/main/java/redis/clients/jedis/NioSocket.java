@@ -0,0 +1,373 @@
+package redis.clients.jedis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketImpl;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import redis.clients.jedis.util.IOUtils;
+
+/**
+ * A {@link Socket} backed by a non-blocking {@link SocketChannel}, as created by
+ * {@link NioSocketFactory}.
+ * <p>
+ * Its streams buffer the data in direct {@link ByteBuffer}s, which are pooled across sockets.
+ * {@link Connection} still reads and writes through its own heap buffers, so the data is copied
+ * between those and the direct buffers, just as a plain socket copies it internally. Writes are
+ * not gathered: the data is sent from the direct buffer alone, since a heap array written to a
+ * channel is copied into a temporary direct buffer by the JDK anyway. The socket timeout applies to
+ * reads and writes, and is enforced with a {@link Selector} per stream, which is only opened once
+ * the stream has to wait for the channel, i.e. the one of the output stream only once the send
+ * buffer of the socket is full.
+ * <p>
+ * Only the methods {@link Connection} relies on are supported; the other socket options must be
+ * set on the channel by the factory.
+ */
+final class NioSocket extends Socket {
+
+  private static final int MAX_POOLED_BUFFERS = 64;
+  private static final Queue<ByteBuffer> BUFFER_POOL = new ConcurrentLinkedQueue<>();
+  private static final AtomicInteger pooledBuffers = new AtomicInteger();
+
+  private final SocketChannel channel;
+  private final NioInputStream inputStream;
+  private final NioOutputStream outputStream;
+  private volatile int soTimeout;
+  private volatile boolean closed = false;
+
+  /**
+   * @param channel a connected channel, which is switched to non-blocking mode
+   * @param bufferSize the size of the direct buffers of each stream
+   */
+  NioSocket(SocketChannel channel, int bufferSize) throws IOException {
+    super((SocketImpl) null);
+    this.channel = channel;
+    channel.configureBlocking(false);
+    this.inputStream = new NioInputStream(bufferSize);
+    this.outputStream = new NioOutputStream(bufferSize);
+  }
+
+  @Override
+  public SocketChannel getChannel() {
+    return channel;
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    ensureOpen();
+    return inputStream;
+  }
+
+  @Override
+  public OutputStream getOutputStream() throws IOException {
+    ensureOpen();
+    return outputStream;
+  }
+
+  @Override
+  public int getSoTimeout() {
+    return soTimeout;
+  }
+
+  @Override
+  public void setSoTimeout(int timeout) throws SocketException {
+    if (timeout < 0) {
+      throw new IllegalArgumentException("timeout can't be negative");
+    }
+    this.soTimeout = timeout;
+  }
+
+  @Override
+  public SocketAddress getRemoteSocketAddress() {
+    try {
+      return channel.getRemoteAddress();
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public SocketAddress getLocalSocketAddress() {
+    try {
+      return channel.getLocalAddress();
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public boolean isConnected() {
+    return channel.isConnected();
+  }
+
+  @Override
+  public boolean isBound() {
+    return channel.isConnected() || getLocalSocketAddress() != null;
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public boolean isInputShutdown() {
+    return closed;
+  }
+
+  @Override
+  public boolean isOutputShutdown() {
+    return closed;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      channel.close();
+    } finally {
+      // the streams give their buffers back once a thread blocked in them has returned
+      inputStream.close();
+      outputStream.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "NioSocket{" + channel + "}";
+  }
+
+  private void ensureOpen() throws SocketException {
+    if (closed) {
+      throw new SocketException("Socket is closed");
+    }
+  }
+
+  private static ByteBuffer acquireBuffer(int capacity) {
+    ByteBuffer buffer = BUFFER_POOL.poll();
+    if (buffer != null) {
+      pooledBuffers.decrementAndGet();
+      if (buffer.capacity() == capacity) {
+        buffer.clear();
+        return buffer;
+      }
+    }
+    return ByteBuffer.allocateDirect(capacity);
+  }
+
+  private static void releaseBuffer(ByteBuffer buffer) {
+    if (pooledBuffers.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+      BUFFER_POOL.offer(buffer);
+    } else {
+      pooledBuffers.decrementAndGet();
+    }
+  }
+
+  /**
+   * Waits with its own selector until the channel is ready for an operation.
+   */
+  private final class Waiter {
+
+    private final int op;
+    // read by the closing thread to wake up a waiting one
+    private volatile Selector selector;
+
+    private Waiter(int op) {
+      this.op = op;
+    }
+
+    /**
+     * @param timeoutMillis the timeout, {@code 0} to wait forever
+     * @param deadline the {@link System#nanoTime()} at which the wait times out
+     */
+    private void await(int timeoutMillis, long deadline) throws IOException {
+      ensureOpen();
+      Selector s = selector;
+      if (s == null) {
+        s = Selector.open();
+        channel.register(s, op);
+        selector = s;
+      }
+      if (timeoutMillis == 0) {
+        s.select();
+      } else {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          throw new SocketTimeoutException(
+              op == SelectionKey.OP_READ ? "Read timed out" : "Write timed out");
+        }
+        // at least a millisecond, since zero would wait forever
+        s.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+      }
+      s.selectedKeys().clear();
+      ensureOpen();
+    }
+
+    private void wakeup() {
+      Selector s = selector;
+      if (s != null) {
+        s.wakeup();
+      }
+    }
+
+    private void close() {
+      IOUtils.closeQuietly(selector);
+      selector = null;
+    }
+  }
+
+  private final class NioInputStream extends InputStream {
+
+    private final Waiter waiter = new Waiter(SelectionKey.OP_READ);
+    private ByteBuffer buffer;
+
+    private NioInputStream(int bufferSize) {
+      buffer = acquireBuffer(bufferSize);
+      buffer.flip(); // empty, in read mode
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+      if (!buffer.hasRemaining() && fill() < 0) {
+        return -1;
+      }
+      return buffer.get() & 0xff;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining() && fill() < 0) {
+        return -1;
+      }
+      int n = Math.min(len, buffer.remaining());
+      buffer.get(b, off, n);
+      return n;
+    }
+
+    @Override
+    public synchronized int available() {
+      return buffer == null ? 0 : buffer.remaining();
+    }
+
+    private int fill() throws IOException {
+      buffer.clear();
+      int n;
+      try {
+        n = readFromChannel(buffer);
+      } finally {
+        buffer.flip();
+      }
+      return n;
+    }
+
+    private int readFromChannel(ByteBuffer dst) throws IOException {
+      ensureOpen();
+      final int timeout = soTimeout;
+      final long deadline = timeout == 0 ? 0 : System.nanoTime()
+          + TimeUnit.MILLISECONDS.toNanos(timeout);
+      int n;
+      while ((n = channel.read(dst)) == 0) {
+        waiter.await(timeout, deadline);
+      }
+      return n;
+    }
+
+    @Override
+    public void close() {
+      waiter.wakeup();
+      synchronized (this) {
+        waiter.close();
+        if (buffer != null) {
+          releaseBuffer(buffer);
+          buffer = ByteBuffer.allocate(0);
+        }
+      }
+    }
+  }
+
+  private final class NioOutputStream extends OutputStream {
+
+    private final Waiter waiter = new Waiter(SelectionKey.OP_WRITE);
+    private ByteBuffer buffer;
+
+    private NioOutputStream(int bufferSize) {
+      buffer = acquireBuffer(bufferSize);
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+      if (!buffer.hasRemaining()) {
+        drain();
+      }
+      buffer.put((byte) b);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+      while (len > 0) {
+        if (!buffer.hasRemaining()) {
+          drain();
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.put(b, off, n);
+        off += n;
+        len -= n;
+      }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+      if (buffer.position() > 0) {
+        drain();
+      }
+    }
+
+    private void drain() throws IOException {
+      ensureOpen();
+      final int timeout = soTimeout;
+      final long deadline = timeout == 0 ? 0 : System.nanoTime()
+          + TimeUnit.MILLISECONDS.toNanos(timeout);
+      buffer.flip();
+      try {
+        while (buffer.hasRemaining()) {
+          if (channel.write(buffer) == 0) {
+            // a peer not reading fails the write once the socket timeout is over
+            waiter.await(timeout, deadline);
+          }
+        }
+      } finally {
+        buffer.clear();
+      }
+    }
+
+    @Override
+    public void close() {
+      waiter.wakeup();
+      synchronized (this) {
+        waiter.close();
+        if (buffer != null) {
+          releaseBuffer(buffer);
+          buffer = ByteBuffer.allocate(0);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,234 @@
+package redis.clients.jedis;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProtocolFamily;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.util.IOUtils;
+import redis.clients.jedis.util.JedisAsserts;
+
+/**
+ * A {@link JedisSocketFactory} creating sockets backed by a {@link SocketChannel}, whose streams
+ * buffer the data in pooled direct {@link java.nio.ByteBuffer}s. It can be used instead of
+ * {@link DefaultJedisSocketFactory} through
+ * {@link ConnectionFactory.Builder#socketFactory(JedisSocketFactory)} or
+ * {@link Connection#Connection(JedisSocketFactory, JedisClientConfig)}.
+ * <p>
+ * {@link Connection} reads and writes through heap buffers, so the data is copied as many times as
+ * with a plain socket: this factory does not save copies of large values, nor gather the writes of
+ * pipelines.
+ * <p>
+ * Besides TCP, it connects to any address {@link SocketChannel} supports, e.g. a
+ * {@code java.net.UnixDomainSocketAddress} on Java 16 and later. The connection timeout applies to
+ * TCP and Unix domain socket addresses.
+ * <p>
+ * SSL/TLS is not supported.
+ */
+@Experimental
+public class NioSocketFactory implements JedisSocketFactory {
+
+  public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  private static final String UNIX_DOMAIN_SOCKET_ADDRESS = "java.net.UnixDomainSocketAddress";
+
+  /**
+   * {@code SocketChannel.open(ProtocolFamily)}, which is only available on Java 15 and later.
+   */
+  private static final Method OPEN_CHANNEL_OF_FAMILY = findOpenChannelOfFamily();
+
+  private final HostAndPort hostAndPort;
+  private final SocketAddress address;
+  private final int connectionTimeout;
+  private final int socketTimeout;
+  private final int bufferSize;
+  private final HostAndPortMapper hostAndPortMapper;
+
+  public NioSocketFactory(HostAndPort hostAndPort, JedisClientConfig config) {
+    this(hostAndPort, null, config, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * @param address the address of the server, e.g. a {@code java.net.UnixDomainSocketAddress}
+   * @param config the client config
+   */
+  public NioSocketFactory(SocketAddress address, JedisClientConfig config) {
+    this(address, config, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * @param address the address of the server, e.g. a {@code java.net.UnixDomainSocketAddress}
+   * @param config the client config
+   * @param bufferSize the size of the direct buffers of each socket stream
+   */
+  public NioSocketFactory(SocketAddress address, JedisClientConfig config, int bufferSize) {
+    this(null, address, config, bufferSize);
+  }
+
+  private NioSocketFactory(HostAndPort hostAndPort, SocketAddress address,
+      JedisClientConfig config, int bufferSize) {
+    JedisAsserts.notNull(config, "JedisClientConfig must not be null");
+    JedisAsserts.isTrue(!config.isSsl() && config.getSslOptions() == null,
+      "SSL is not supported by NioSocketFactory");
+    JedisAsserts.isTrue(bufferSize > 0, "Buffer size must be greater than 0");
+    this.hostAndPort = hostAndPort;
+    this.address = address;
+    this.connectionTimeout = config.getConnectionTimeoutMillis();
+    this.socketTimeout = config.getSocketTimeoutMillis();
+    this.bufferSize = bufferSize;
+    this.hostAndPortMapper = config.getHostAndPortMapper();
+  }
+
+  @Override
+  public Socket createSocket() throws JedisConnectionException {
+    SocketChannel channel = null;
+    try {
+      if (hostAndPort != null) {
+        channel = connectToFirstSuccessfulHost(getSocketHostAndPort());
+      } else if (address instanceof InetSocketAddress) {
+        channel = connectTcp((InetSocketAddress) address);
+      } else if (isUnixDomainSocketAddress(address)) {
+        channel = connect(openUnixDomainChannel(), address);
+      } else {
+        // no way to open a channel of another family without connecting it, i.e. without timeout
+        channel = SocketChannel.open(address);
+      }
+
+      Socket socket = new NioSocket(channel, bufferSize);
+      socket.setSoTimeout(socketTimeout);
+      return socket;
+
+    } catch (Exception ex) {
+      IOUtils.closeQuietly(channel);
+      if (ex instanceof JedisConnectionException) {
+        throw (JedisConnectionException) ex;
+      } else {
+        throw new JedisConnectionException("Failed to create socket.", ex);
+      }
+    }
+  }
+
+  private SocketChannel connectToFirstSuccessfulHost(HostAndPort hostAndPort) throws Exception {
+    List<InetAddress> hosts = Arrays.asList(InetAddress.getAllByName(hostAndPort.getHost()));
+    if (hosts.size() > 1) {
+      Collections.shuffle(hosts);
+    }
+
+    JedisConnectionException jce = new JedisConnectionException(
+        "Failed to connect to " + hostAndPort + ".");
+    for (InetAddress host : hosts) {
+      try {
+        return connectTcp(new InetSocketAddress(host, hostAndPort.getPort()));
+      } catch (Exception e) {
+        jce.addSuppressed(e);
+      }
+    }
+    throw jce;
+  }
+
+  private SocketChannel connectTcp(InetSocketAddress address) throws IOException {
+    SocketChannel channel = SocketChannel.open();
+    try {
+      channel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+      channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+      channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+      channel.setOption(StandardSocketOptions.SO_LINGER, 0);
+    } catch (IOException | RuntimeException e) {
+      IOUtils.closeQuietly(channel);
+      throw e;
+    }
+    return connect(channel, address);
+  }
+
+  /**
+   * Connects an unconnected channel within the connection timeout.
+   */
+  private SocketChannel connect(SocketChannel channel, SocketAddress address) throws IOException {
+    try {
+      channel.configureBlocking(false);
+      if (!channel.connect(address)) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(connectionTimeout);
+        try (Selector selector = Selector.open()) {
+          channel.register(selector, SelectionKey.OP_CONNECT);
+          // select() may also return on a spurious wakeup, so wait until the deadline
+          while (!channel.finishConnect()) {
+            if (connectionTimeout == 0) {
+              selector.select();
+            } else {
+              long remaining = deadline - System.nanoTime();
+              if (remaining <= 0) {
+                throw new SocketTimeoutException("Connect timed out");
+              }
+              // at least a millisecond, since zero would wait forever
+              selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+            }
+            selector.selectedKeys().clear();
+          }
+        }
+      }
+      return channel;
+    } catch (IOException | RuntimeException e) {
+      IOUtils.closeQuietly(channel);
+      throw e;
+    }
+  }
+
+  private static boolean isUnixDomainSocketAddress(SocketAddress address) {
+    return OPEN_CHANNEL_OF_FAMILY != null
+        && UNIX_DOMAIN_SOCKET_ADDRESS.equals(address.getClass().getName());
+  }
+
+  private static SocketChannel openUnixDomainChannel() throws IOException {
+    try {
+      return (SocketChannel) OPEN_CHANNEL_OF_FAMILY.invoke(null,
+        StandardProtocolFamily.valueOf("UNIX"));
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    } catch (ReflectiveOperationException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static Method findOpenChannelOfFamily() {
+    try {
+      return SocketChannel.class.getMethod("open", ProtocolFamily.class);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  private HostAndPort getSocketHostAndPort() {
+    HostAndPortMapper mapper = hostAndPortMapper;
+    if (mapper != null) {
+      HostAndPort mapped = mapper.getHostAndPort(hostAndPort);
+      if (mapped != null) {
+        return mapped;
+      }
+    }
+    return hostAndPort;
+  }
+
+  @Override
+  public String toString() {
+    return "NioSocketFactory{" + (hostAndPort != null ? hostAndPort : address) + "}";
+  }
+}
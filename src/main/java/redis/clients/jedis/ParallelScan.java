@@ -0,0 +1,372 @@
+package redis.clients.jedis;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import redis.clients.jedis.Protocol.Keyword;
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.providers.ConnectionProvider;
+import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.util.JedisAsserts;
+import redis.clients.jedis.util.JedisExecutors;
+import redis.clients.jedis.util.Pool;
+
+/**
+ * Scans the keys of all the primary nodes at the same time, unlike {@link ScanIteration} which
+ * scans the nodes one after the other.
+ * <p>
+ * Each node is scanned by one SCAN at a time, run on an {@link Executor}, and up to
+ * {@code prefetch} of its batches are fetched ahead of the consumer. The keys are consumed through
+ * {@link #stream()} or {@link #spliterator()}; the spliterator splits by node, so a parallel stream
+ * consumes the nodes on as many threads as it is given.
+ * <p>
+ * The scan can be paused by closing it, and resumed from {@link #checkpoint()} by a new scan:
+ * <pre>
+ * ScanCheckpoint checkpoint;
+ * try (ParallelScan scan = jedis.parallelScan(1000, "user:*")) {
+ *   scan.stream().limit(10_000).forEach(audit);
+ *   checkpoint = scan.checkpoint();
+ * }
+ * try (ParallelScan scan = jedis.parallelScan(1000, "user:*", null, checkpoint)) {
+ *   scan.stream().forEach(audit);
+ * }
+ * </pre>
+ */
+@Experimental
+public class ParallelScan implements AutoCloseable {
+
+  /**
+   * The default number of batches fetched ahead of the consumer, for each node.
+   */
+  public static final int DEFAULT_PREFETCH = 2;
+
+  /**
+   * The maximum number of threads of the executor created when none is given.
+   */
+  private static final int MAX_DEFAULT_THREADS = 16;
+
+  private final Function<String, CommandArguments> args;
+  private final List<NodeScan> nodes;
+  private final int prefetch;
+  private final Executor executor;
+  private final ExecutorService ownedExecutor;
+  private final AtomicBoolean started = new AtomicBoolean();
+  private volatile boolean closed;
+
+  public ParallelScan(ConnectionProvider connectionProvider, int batchCount, String match) {
+    this(connectionProvider, batchCount, match, null, null, DEFAULT_PREFETCH, null);
+  }
+
+  public ParallelScan(ConnectionProvider connectionProvider, int batchCount, String match,
+      String type) {
+    this(connectionProvider, batchCount, match, type, null, DEFAULT_PREFETCH, null);
+  }
+
+  /**
+   * @param connectionProvider the provider of the primary nodes to scan
+   * @param batchCount COUNT for each batch execution
+   * @param match pattern, {@code null} for all keys
+   * @param type key type, {@code null} for all types
+   * @param resumeFrom the checkpoint to resume from, {@code null} to scan from the start
+   * @param prefetch the number of batches fetched ahead of the consumer, for each node
+   * @param executor the executor running the SCAN commands, {@code null} for a pool of daemon
+   *     threads, one per node up to 16, stopped on {@link #close()}
+   */
+  public ParallelScan(ConnectionProvider connectionProvider, int batchCount, String match,
+      String type, ScanCheckpoint resumeFrom, int prefetch, Executor executor) {
+    JedisAsserts.isTrue(prefetch > 0, "Prefetch must be greater than 0");
+    this.args = cursor -> {
+      CommandArguments arguments = new CommandArguments(Protocol.Command.SCAN).add(cursor);
+      if (match != null) {
+        arguments.add(Keyword.MATCH).add(match);
+      }
+      arguments.add(Keyword.COUNT).add(batchCount);
+      if (type != null) {
+        arguments.add(Keyword.TYPE).add(type);
+      }
+      return arguments;
+    };
+    this.prefetch = prefetch;
+
+    Map<?, ?> connectionMap = connectionProvider.getPrimaryNodesConnectionMap();
+    this.nodes = new ArrayList<>(connectionMap.size());
+    for (Map.Entry<?, ?> entry : connectionMap.entrySet()) {
+      String name = String.valueOf(entry.getKey());
+      nodes.add(new NodeScan(name, entry.getValue(),
+          resumeFrom == null ? null : resumeFrom.getCursor(name)));
+    }
+
+    if (executor != null) {
+      this.executor = executor;
+      this.ownedExecutor = null;
+    } else {
+      this.ownedExecutor = JedisExecutors.newFixedDaemonThreadPool(
+          Math.max(1, Math.min(nodes.size(), MAX_DEFAULT_THREADS)), "jedis-scan-");
+      this.executor = ownedExecutor;
+    }
+  }
+
+  /**
+   * Starts the scan of all the nodes. This can only be called once.
+   * @return the keys of all the nodes
+   */
+  public Spliterator<String> spliterator() {
+    if (closed) {
+      throw new IllegalStateException("The scan is closed.");
+    }
+    if (!started.compareAndSet(false, true)) {
+      throw new IllegalStateException("The scan has already started.");
+    }
+    nodes.forEach(NodeScan::fetchAhead);
+    return new NodeSpliterator(0, nodes.size());
+  }
+
+  /**
+   * Starts the scan of all the nodes. This can only be called once. The stream is sequential,
+   * {@link Stream#parallel()} consumes the nodes in parallel. Closing the stream closes the scan.
+   * @return the keys of all the nodes
+   */
+  public Stream<String> stream() {
+    return StreamSupport.stream(spliterator(), false).onClose(this::close);
+  }
+
+  /**
+   * The keys consumed so far are not returned again when resuming from the checkpoint, except for
+   * those of partly consumed batches. Taking a checkpoint after {@link #close()} gives a
+   * consistent view of all the nodes.
+   * @return the progress of the scan
+   */
+  public ScanCheckpoint checkpoint() {
+    Map<String, String> cursors = new LinkedHashMap<>();
+    for (NodeScan node : nodes) {
+      String cursor = node.consumedCursor;
+      if (cursor != null) {
+        cursors.put(node.name, cursor);
+      }
+    }
+    return new ScanCheckpoint(cursors);
+  }
+
+  /**
+   * Stops fetching batches. The SCAN commands already running complete. The executor is stopped
+   * if it was created by this scan.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+    }
+  }
+
+  private Object execute(Object connection, CommandArguments arguments) {
+    if (connection instanceof Connection) {
+      return ((Connection) connection).executeCommand(arguments);
+    } else if (connection instanceof Pool) {
+      try (Connection c = ((Pool<Connection>) connection).getResource()) {
+        return c.executeCommand(arguments);
+      }
+    } else {
+      throw new IllegalArgumentException(connection.getClass() + " is not supported.");
+    }
+  }
+
+  private static final class Batch {
+
+    private final List<String> keys;
+    private final String cursor;
+    private final RuntimeException error;
+
+    private Batch(List<String> keys, String cursor, RuntimeException error) {
+      this.keys = keys;
+      this.cursor = cursor;
+      this.error = error;
+    }
+  }
+
+  /**
+   * The scan of one node. At most one SCAN of a node runs at a time, and only while fewer than
+   * {@code prefetch} of its batches wait for the consumer, so no task ever waits for room.
+   */
+  private final class NodeScan implements Runnable {
+
+    private final String name;
+    private final Object connection;
+    private final BlockingQueue<Batch> ready;
+    private final AtomicBoolean fetching = new AtomicBoolean();
+
+    /**
+     * The cursor of the next SCAN, only used by the fetching task.
+     */
+    private String nextCursor;
+    private volatile boolean fetched;
+
+    /**
+     * The cursor after the last batch consumed entirely, {@code null} if none.
+     */
+    private volatile String consumedCursor;
+
+    private NodeScan(String name, Object connection, String resumeCursor) {
+      this.name = name;
+      this.connection = connection;
+      this.ready = new ArrayBlockingQueue<>(prefetch);
+      this.consumedCursor = resumeCursor;
+      this.nextCursor = resumeCursor == null ? ScanParams.SCAN_POINTER_START : resumeCursor;
+      this.fetched = isCompleted();
+    }
+
+    boolean isCompleted() {
+      return ScanParams.SCAN_POINTER_START.equals(consumedCursor);
+    }
+
+    void fetchAhead() {
+      while (!fetched && ready.size() < prefetch && fetching.compareAndSet(false, true)) {
+        // only the owner of the flag adds batches, so the room is checked again once owned
+        if (ready.size() < prefetch) {
+          submit();
+          return;
+        }
+        fetching.set(false);
+      }
+    }
+
+    private void submit() {
+      if (closed) {
+        fail(new IllegalStateException("The scan is closed."));
+        return;
+      }
+      try {
+        executor.execute(this);
+      } catch (RejectedExecutionException e) {
+        fail(e);
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        if (closed) {
+          throw new IllegalStateException("The scan is closed.");
+        }
+        ScanResult<String> reply = BuilderFactory.SCAN_RESPONSE.build(
+            execute(connection, args.apply(nextCursor)));
+        nextCursor = reply.getCursor();
+        fetched = reply.isCompleteIteration();
+        ready.add(new Batch(reply.getResult(), reply.getCursor(), null));
+      } catch (RuntimeException e) {
+        fail(e);
+        return;
+      }
+      fetching.set(false);
+      fetchAhead();
+    }
+
+    private void fail(RuntimeException error) {
+      fetched = true;
+      ready.add(new Batch(null, null, error));
+    }
+
+    Batch take() {
+      try {
+        Batch batch = ready.take();
+        if (batch.error != null) {
+          // the consumer of this node sees the error again if it asks for more
+          ready.add(batch);
+          throw batch.error;
+        }
+        fetchAhead();
+        return batch;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JedisException("Interrupted while waiting for the scan of " + name + ".", e);
+      }
+    }
+  }
+
+  /**
+   * Consumes the nodes of a range one after the other. Splitting hands over half of the nodes not
+   * yet started.
+   */
+  private final class NodeSpliterator implements Spliterator<String> {
+
+    private int index;
+    private int end;
+    private NodeScan node;
+    private Batch batch;
+    private Iterator<String> keys;
+
+    private NodeSpliterator(int index, int end) {
+      this.index = index;
+      this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+      while (true) {
+        if (keys != null && keys.hasNext()) {
+          action.accept(keys.next());
+          if (!keys.hasNext()) {
+            consumed();
+          }
+          return true;
+        }
+        if (batch != null) {
+          consumed();
+        }
+        if (node == null || node.isCompleted()) {
+          if (index == end) {
+            return false;
+          }
+          node = nodes.get(index++);
+          continue;
+        }
+        batch = node.take();
+        keys = batch.keys.iterator();
+      }
+    }
+
+    private void consumed() {
+      node.consumedCursor = batch.cursor;
+      batch = null;
+      keys = null;
+    }
+
+    @Override
+    public Spliterator<String> trySplit() {
+      int remaining = end - index;
+      if (remaining < (node == null ? 2 : 1)) {
+        return null;
+      }
+      int middle = index + remaining / 2;
+      NodeSpliterator suffix = new NodeSpliterator(middle, end);
+      end = middle;
+      return suffix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+      return NONNULL;
+    }
+  }
+}
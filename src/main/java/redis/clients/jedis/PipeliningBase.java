@@ -1,5 +1,6 @@
 package redis.clients.jedis;
 
+import java.nio.FloatBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -4811,6 +4812,26 @@ public abstract class PipeliningBase
     return appendCommand(commandObjects.tsRevRange(key, rangeParams));
   }
 
+  @Override
+  public Response<TSSamples> tsRangeSamples(String key, TSRangeParams rangeParams) {
+    return appendCommand(commandObjects.tsRangeSamples(key, rangeParams));
+  }
+
+  @Override
+  public Response<TSSamples> tsRangeSamples(String key, TSRangeParams rangeParams, TSSamples samples) {
+    return appendCommand(commandObjects.tsRangeSamples(key, rangeParams, samples));
+  }
+
+  @Override
+  public Response<TSSamples> tsRevRangeSamples(String key, TSRangeParams rangeParams) {
+    return appendCommand(commandObjects.tsRevRangeSamples(key, rangeParams));
+  }
+
+  @Override
+  public Response<TSSamples> tsRevRangeSamples(String key, TSRangeParams rangeParams, TSSamples samples) {
+    return appendCommand(commandObjects.tsRevRangeSamples(key, rangeParams, samples));
+  }
+
   @Override
   public Response<List<TSElement>> tsRead(String key, long timestamp) {
     return appendCommand(commandObjects.tsRead(key, timestamp));
@@ -4861,6 +4882,16 @@ public abstract class PipeliningBase
     return appendCommand(commandObjects.tsMRevRange(multiRangeParams));
   }
 
+  @Override
+  public Response<Map<String, TSSamples>> tsMRangeSamples(TSMRangeParams multiRangeParams) {
+    return appendCommand(commandObjects.tsMRangeSamples(multiRangeParams));
+  }
+
+  @Override
+  public Response<Map<String, TSSamples>> tsMRevRangeSamples(TSMRangeParams multiRangeParams) {
+    return appendCommand(commandObjects.tsMRevRangeSamples(multiRangeParams));
+  }
+
   @Override
   public Response<TSElement> tsGet(String key) {
     return appendCommand(commandObjects.tsGet(key));
@@ -5230,6 +5261,11 @@ public abstract class PipeliningBase
     return appendCommand(commandObjects.vaddFP32(key, vectorBlob, element, params));
   }
 
+  @Override
+  public Response<Boolean> vaddFP32(String key, FloatBuffer vector, String element, VAddParams params) {
+    return appendCommand(commandObjects.vaddFP32(key, vector, element, params));
+  }
+
   @Override
   public Response<Boolean> vadd(String key, float[] vector, String element, int reduceDim, VAddParams params) {
     return appendCommand(commandObjects.vadd(key, vector, element, reduceDim, params));
@@ -5250,6 +5286,11 @@ public abstract class PipeliningBase
     return appendCommand(commandObjects.vsim(key, vector, params));
   }
 
+  @Override
+  public Response<List<String>> vsimFP32(String key, FloatBuffer vector, VSimParams params) {
+    return appendCommand(commandObjects.vsimFP32(key, vector, params));
+  }
+
   @Override
   public Response<Map<String, Double>> vsimWithScores(String key, float[] vector, VSimParams params) {
     return appendCommand(commandObjects.vsimWithScores(key, vector, params));
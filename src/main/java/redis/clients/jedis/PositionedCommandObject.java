@@ -0,0 +1,44 @@
+package redis.clients.jedis;
+
+import redis.clients.jedis.annots.Internal;
+
+/**
+ * A command of a multi-key command split by hash slot, e.g. by
+ * {@link ClusterCommandObjects#mgetMultiShard(String...)}, which knows the position in the
+ * original command of each of its keys. The executor uses them to place each value of the reply at
+ * the position of its key, as the keys of one slot need not be contiguous in the original command.
+ */
+@Internal
+public class PositionedCommandObject<T> extends CommandObject<T> {
+
+  private final int[] keyPositions;
+  private final int keyCount;
+
+  /**
+   * @param args the arguments, with the keys of one slot
+   * @param builder the builder of the reply
+   * @param keyPositions the position in the original command of each key of {@code args}, in
+   *     argument order
+   * @param keyCount the number of keys of the original command
+   */
+  public PositionedCommandObject(CommandArguments args, Builder<T> builder, int[] keyPositions,
+      int keyCount) {
+    super(args, builder);
+    this.keyPositions = keyPositions;
+    this.keyCount = keyCount;
+  }
+
+  /**
+   * @return the position in the original command of each key of this command, in argument order
+   */
+  public int[] getKeyPositions() {
+    return keyPositions;
+  }
+
+  /**
+   * @return the number of keys of the original command
+   */
+  public int getKeyCount() {
+    return keyCount;
+  }
+}
@@ -10,6 +10,7 @@ import java.util.Locale;
 
 import redis.clients.jedis.annots.Experimental;
 import redis.clients.jedis.exceptions.*;
+import redis.clients.jedis.args.RawableFactory;
 import redis.clients.jedis.args.Rawable;
 import redis.clients.jedis.commands.ProtocolCommand;
 import redis.clients.jedis.util.KeyValue;
@@ -71,14 +72,22 @@ public final class Protocol {
 
   public static void sendCommand(final RedisOutputStream os, CommandArguments args) {
     try {
+      final int size = args.size();
       os.write(ASTERISK_BYTE);
-      os.writeIntCrLf(args.size());
-      for (Rawable arg : args) {
-        os.write(DOLLAR_BYTE);
-        final byte[] bin = arg.getRaw();
-        os.writeIntCrLf(bin.length);
-        os.write(bin);
-        os.writeCrLf();
+      os.writeIntCrLf(size);
+      for (int i = 0; i < size; i++) {
+        // class checks only: interface checks on the same classes as the Rawable casts would
+        // contend for their secondary super cache
+        final Rawable arg = args.get(i);
+        if (arg instanceof Command) {
+          os.write(((Command) arg).bulk);
+        } else if (arg instanceof Keyword) {
+          os.write(((Keyword) arg).bulk);
+        } else if (arg instanceof RawableFactory.Raw) {
+          ((RawableFactory.Raw) arg).writeBulk(os);
+        } else {
+          os.writeBulk(arg.getRaw());
+        }
       }
     } catch (IOException e) {
       throw new JedisConnectionException(e);
@@ -298,6 +307,49 @@ public final class Protocol {
     return process(is, pushConsumer);
   }
 
+  /**
+   * Read a reply from the server and decode it with a {@link StreamingBuilder}, without building
+   * the intermediate reply objects.
+   * <p>
+   * Error replies and RESP3 push messages are handled like in
+   * {@link #read(RedisInputStream, PushConsumerChain)}; a push message which is not consumed by
+   * the {@link PushConsumerChain} is passed to {@link StreamingBuilder#build(Object)}.
+   * </p>
+   * @param is The input stream to read from
+   * @param pushConsumer The chain of push consumers to process push messages
+   * @param builder The builder decoding the reply
+   * @return The decoded reply
+   */
+  @Experimental
+  public static <T> T read(final RedisInputStream is, PushConsumerChain pushConsumer,
+      StreamingBuilder<T> builder) {
+    while (true) {
+      if (is.peek(GREATER_THAN_BYTE)) {
+        is.readByte();
+        PushMessage message = processPush(is, pushConsumer);
+        if (message != null) {
+          return builder.build(message.getContent());
+        }
+      } else if (is.peek(MINUS_BYTE)) {
+        is.readByte();
+        processError(is);
+      } else {
+        return builder.read(new RespReader(is));
+      }
+    }
+  }
+
+  /**
+   * Reads an element nested in a reply; a nested error is returned rather than thrown.
+   */
+  static Object readNested(final RedisInputStream is) {
+    try {
+      return process(is, null);
+    } catch (JedisDataException e) {
+      return e;
+    }
+  }
+
   @Experimental
   public static Object readPushes(final RedisInputStream is, final PushConsumerChain pushConsumer) {
     Object unhandledPush = null;
@@ -321,6 +373,25 @@ public final class Protocol {
     return consumer.process(new PushMessage(list));
   }
 
+  /**
+   * @return the RESP bulk string of {@code raw}, to be written as is
+   */
+  private static byte[] bulk(final byte[] raw) {
+    byte[] length = SafeEncoder.encode(String.valueOf(raw.length));
+    byte[] bulk = new byte[1 + length.length + 2 + raw.length + 2];
+    int pos = 0;
+    bulk[pos++] = DOLLAR_BYTE;
+    System.arraycopy(length, 0, bulk, pos, length.length);
+    pos += length.length;
+    bulk[pos++] = '\r';
+    bulk[pos++] = '\n';
+    System.arraycopy(raw, 0, bulk, pos, raw.length);
+    pos += raw.length;
+    bulk[pos++] = '\r';
+    bulk[pos] = '\n';
+    return bulk;
+  }
+
   public static final byte[] toByteArray(final boolean value) {
     return value ? BYTES_TRUE : BYTES_FALSE;
   }
@@ -379,9 +450,11 @@ public final class Protocol {
     ARMGET, ARMSET, ARNEXT, AROP, ARRING, ARSCAN, ARSEEK, ARSET; // <-- array
 
     private final byte[] raw;
+    private final byte[] bulk;
 
     private Command() {
       raw = SafeEncoder.encode(name());
+      bulk = bulk(raw);
     }
 
     @Override
@@ -424,9 +497,11 @@ public final class Protocol {
     PREPARE, DISCARD;
 
     private final byte[] raw;
+    private final byte[] bulk;
 
     private Keyword() {
       raw = SafeEncoder.encode(name());
+      bulk = bulk(raw);
     }
 
     @Override
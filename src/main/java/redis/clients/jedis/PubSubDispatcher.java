@@ -0,0 +1,157 @@
+package redis.clients.jedis;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.Protocol.ResponseKeyword;
+import redis.clients.jedis.annots.VisibleForTesting;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Runs the callbacks of a subscriber on an {@link Executor}, so that a slow callback does not stall
+ * the thread reading the connection.
+ * <p>
+ * The callbacks of a channel run one at a time, in the order the messages were received. Channels
+ * are spread over a fixed number of stripes, each running its callbacks in order as a single task
+ * of the executor at a time: callbacks of channels sharing a stripe are ordered as well, and no
+ * state is kept per channel.
+ * <p>
+ * A stripe holds up to {@link #CAPACITY} callbacks waiting to run. Once it is full, the thread
+ * reading the connection blocks until the executor catches up, so that the messages wait in the
+ * socket buffers, and eventually in the output buffer of the server, rather than in memory.
+ */
+final class PubSubDispatcher {
+
+  private static final Logger log = LoggerFactory.getLogger(PubSubDispatcher.class);
+
+  private static final int STRIPES = 64;
+
+  /**
+   * The callbacks a stripe runs before giving its thread back to the executor.
+   */
+  private static final int BATCH = 256;
+
+  /**
+   * The callbacks a stripe holds before the thread reading the connection blocks.
+   */
+  static final int CAPACITY = 4096;
+
+  private final Executor executor;
+  private final Stripe[] stripes = new Stripe[STRIPES];
+
+  PubSubDispatcher(Executor executor) {
+    this(executor, CAPACITY);
+  }
+
+  @VisibleForTesting
+  PubSubDispatcher(Executor executor, int capacity) {
+    this.executor = executor;
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe(capacity);
+    }
+  }
+
+  /**
+   * Queues a callback, waiting while its stripe is full.
+   * @param channel the channel the callback is about, {@code null} for none
+   * @param callback the callback
+   */
+  void dispatch(byte[] channel, Runnable callback) {
+    int hash = channel == null ? 0 : Arrays.hashCode(channel);
+    stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)].add(callback);
+  }
+
+  /**
+   * Returns the keyword of the type of a pub/sub reply. The type is told by its length and first
+   * byte, and then checked in full once, rather than compared to each keyword in turn.
+   * @param type the first element of the reply
+   * @return the keyword, or {@code null} if the type is unknown
+   */
+  static ResponseKeyword typeOf(byte[] type) {
+    final ResponseKeyword keyword;
+    switch (type.length) {
+      case 4:
+        keyword = ResponseKeyword.PONG;
+        break;
+      case 7:
+        keyword = ResponseKeyword.MESSAGE;
+        break;
+      case 8:
+        keyword = type[0] == 'p' ? ResponseKeyword.PMESSAGE : ResponseKeyword.SMESSAGE;
+        break;
+      case 9:
+        keyword = ResponseKeyword.SUBSCRIBE;
+        break;
+      case 10:
+        keyword = type[0] == 'p' ? ResponseKeyword.PSUBSCRIBE : ResponseKeyword.SSUBSCRIBE;
+        break;
+      case 11:
+        keyword = ResponseKeyword.UNSUBSCRIBE;
+        break;
+      case 12:
+        keyword = type[0] == 'p' ? ResponseKeyword.PUNSUBSCRIBE : ResponseKeyword.SUNSUBSCRIBE;
+        break;
+      default:
+        return null;
+    }
+    return Arrays.equals(keyword.getRaw(), type) ? keyword : null;
+  }
+
+  private final class Stripe implements Runnable {
+
+    private final BlockingQueue<Runnable> callbacks;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    Stripe(int capacity) {
+      this.callbacks = new ArrayBlockingQueue<>(capacity);
+    }
+
+    void add(Runnable callback) {
+      try {
+        callbacks.put(callback);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JedisException("Interrupted while waiting to dispatch a pub/sub callback.", e);
+      }
+      schedule();
+    }
+
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        try {
+          executor.execute(this);
+        } catch (RuntimeException e) {
+          // nothing runs the callbacks queued any more, and they must not block the reader
+          callbacks.clear();
+          scheduled.set(false);
+          throw e;
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      try {
+        Runnable callback;
+        for (int i = 0; i < BATCH && (callback = callbacks.poll()) != null; i++) {
+          try {
+            callback.run();
+          } catch (RuntimeException e) {
+            log.warn("Pub/sub callback failed.", e);
+          }
+        }
+      } finally {
+        scheduled.set(false);
+        if (!callbacks.isEmpty()) {
+          schedule();
+        }
+      }
+    }
+  }
+}
@@ -2,11 +2,14 @@ package redis.clients.jedis;
 
 import java.net.URI;
 
+import redis.clients.jedis.annots.Experimental;
 import redis.clients.jedis.builders.StandaloneClientBuilder;
 import redis.clients.jedis.csc.Cache;
 import redis.clients.jedis.executors.CommandExecutor;
+import redis.clients.jedis.executors.MultiplexedCommandExecutor;
 import redis.clients.jedis.providers.ConnectionProvider;
 import redis.clients.jedis.providers.PooledConnectionProvider;
+import redis.clients.jedis.util.IOUtils;
 import redis.clients.jedis.util.JedisAsserts;
 import redis.clients.jedis.util.JedisURIHelper;
 import redis.clients.jedis.util.Pool;
@@ -38,6 +41,8 @@ import redis.clients.jedis.util.Pool;
  */
 public class RedisClient extends UnifiedJedis {
 
+  private AsyncCommands async;
+
   private RedisClient(CommandExecutor commandExecutor, ConnectionProvider connectionProvider,
       JedisClientConfig clientConfig, Cache cache) {
     super(commandExecutor, connectionProvider, clientConfig, cache);
@@ -166,4 +171,34 @@ public class RedisClient extends UnifiedJedis {
   public Pipeline pipelined() {
     return (Pipeline) super.pipelined();
   }
+
+  /**
+   * Returns the asynchronous facade of this client. Its commands are pipelined over
+   * {@link MultiplexedCommandExecutor#DEFAULT_CONNECTIONS} connections borrowed from the pool of
+   * this client, so that many threads can share a few connections. The connections are borrowed on
+   * first use and returned when this client is closed.
+   * @return the asynchronous facade
+   * @see MultiplexedConnection
+   */
+  @Experimental
+  public synchronized AsyncCommands async() {
+    if (async == null) {
+      async = new AsyncCommands(commandObjects, new MultiplexedCommandExecutor(provider));
+    }
+    return async;
+  }
+
+  @Override
+  public void close() {
+    AsyncCommands toClose;
+    synchronized (this) {
+      toClose = async;
+      async = null;
+    }
+    try {
+      IOUtils.closeQuietly(toClose);
+    } finally {
+      super.close();
+    }
+  }
 }
@@ -214,9 +214,9 @@ public class RedisClusterClient extends UnifiedJedis {
    * by reducing network round-trips. In a cluster environment, commands are routed
    * to the appropriate nodes based on key hash slots.</p>
    *
-   * <p>If the pipeline spans multiple nodes, a dedicated {@link ExecutorService} is
-   * created internally to execute requests in parallel and shutdown when the pipeline
-   * is synced.</p>
+   * <p>If the pipeline spans multiple nodes, an {@link ExecutorService} shared by the
+   * pipelines of this client is used to execute requests in parallel. It is created on
+   * first use and shut down when this client is closed.</p>
    *
    * @return a new {@link ClusterPipeline} instance
    * @see #pipelined(ExecutorService)
@@ -237,8 +237,8 @@ public class RedisClusterClient extends UnifiedJedis {
    * used to execute requests in parallel. The caller is responsible for managing
    * the lifecycle of this executor (creation, shutdown, etc.).</p>
    *
-   * <p>If {@code null} is provided, a dedicated executor is created and managed
-   * internally, similar to {@link #pipelined()}.</p>
+   * <p>If {@code null} is provided, the executor shared by the pipelines of this client
+   * is used, similar to {@link #pipelined()}.</p>
    *
    * @param executorService the executor to use for multi-node execution, or {@code null}
    * @return a new {@link ClusterPipeline} instance
@@ -352,22 +352,12 @@ public class RedisClusterClient extends UnifiedJedis {
    * {@inheritDoc}
    * <p>
    * This override automatically splits the keys by hash slot and executes MGET on each shard,
-   * concatenating the results.
+   * with one command per slot, and puts the values back in key order.
    * </p>
    *
    * <p><b>Order Guarantee:</b> The returned values are in the same order as the input keys.
-   * Each {@code values.get(i)} corresponds to {@code keys[i]}.</p>
-   *
-   * <p><b>Performance Tip:</b> For better performance, pre-sort keys by hash slot before calling
-   * this method. This minimizes the number of separate Redis commands by allowing consecutive
-   * keys with the same slot to be batched together. Example:</p>
-   * <pre>{@code
-   * // Sort keys by hash slot for optimal batching
-   * String[] sortedKeys = Arrays.stream(keys)
-   *     .sorted(Comparator.comparingInt(JedisClusterCRC16::getSlot))
-   *     .toArray(String[]::new);
-   * List<String> values = client.mget(sortedKeys);
-   * }</pre>
+   * Each {@code values.get(i)} corresponds to {@code keys[i]}. The keys do not need to be sorted
+   * by hash slot.</p>
    */
   @Override
   public List<String> mget(String... keys) {
@@ -378,22 +368,12 @@ public class RedisClusterClient extends UnifiedJedis {
    * {@inheritDoc}
    * <p>
    * This override automatically splits the keys by hash slot and executes MGET on each shard,
-   * concatenating the results.
+   * with one command per slot, and puts the values back in key order.
    * </p>
    *
    * <p><b>Order Guarantee:</b> The returned values are in the same order as the input keys.
-   * Each {@code values.get(i)} corresponds to {@code keys[i]}.</p>
-   *
-   * <p><b>Performance Tip:</b> For better performance, pre-sort keys by hash slot before calling
-   * this method. This minimizes the number of separate Redis commands by allowing consecutive
-   * keys with the same slot to be batched together. Example:</p>
-   * <pre>{@code
-   * // Sort keys by hash slot for optimal batching
-   * byte[][] sortedKeys = Arrays.stream(keys)
-   *     .sorted(Comparator.comparingInt(JedisClusterCRC16::getSlot))
-   *     .toArray(byte[][]::new);
-   * List<byte[]> values = client.mget(sortedKeys);
-   * }</pre>
+   * Each {@code values.get(i)} corresponds to {@code keys[i]}. The keys do not need to be sorted
+   * by hash slot.</p>
    */
   @Override
   public List<byte[]> mget(byte[]... keys) {
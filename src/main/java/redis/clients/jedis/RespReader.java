@@ -0,0 +1,240 @@
+package redis.clients.jedis;
+
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.util.DoublePrecision;
+import redis.clients.jedis.util.RedisInputStream;
+
+/**
+ * Pull reader of RESP2/RESP3 replies, used by {@link StreamingBuilder}s to decode a reply token by
+ * token while it is read from the connection.
+ * <p>
+ * RESP3 maps are read like flat arrays of alternating keys and values; RESP3 sets are read like
+ * arrays. Since a reply can not be resynchronized once it is partially consumed, an unexpected
+ * element type or an error nested in the reply fails with a {@link JedisConnectionException}, which
+ * marks the connection as broken.
+ */
+@Experimental
+public final class RespReader {
+
+  private final RedisInputStream is;
+
+  public RespReader(RedisInputStream is) {
+    this.is = is;
+  }
+
+  /**
+   * Reads the header of an array, set or map.
+   * @return the number of elements that follow (twice the number of entries for a map), or -1 for
+   *     a null reply
+   */
+  public int readAggregateLength() {
+    final byte b = is.readByte();
+    switch (b) {
+      case Protocol.ASTERISK_BYTE:
+      case Protocol.TILDE_BYTE:
+        return is.readIntCrLf();
+      case Protocol.PERCENT_BYTE:
+        final int num = is.readIntCrLf();
+        return num == -1 ? -1 : 2 * num;
+      case Protocol.UNDERSCORE_BYTE:
+        is.readNullCrLf();
+        return -1;
+      default:
+        throw unexpected(b);
+    }
+  }
+
+  /**
+   * Reads a bulk, simple or verbatim string.
+   * @return the raw bytes, or {@code null} for a null reply
+   */
+  public byte[] readBulk() {
+    final byte b = is.readByte();
+    switch (b) {
+      case Protocol.DOLLAR_BYTE:
+        return readBulkBytes(is.readIntCrLf(), 0);
+      case Protocol.EQUAL_BYTE:
+        return readBulkBytes(is.readIntCrLf(), 4);
+      case Protocol.PLUS_BYTE:
+        return is.readLineBytes();
+      case Protocol.UNDERSCORE_BYTE:
+        return (byte[]) is.readNullCrLf();
+      default:
+        throw unexpected(b);
+    }
+  }
+
+  /**
+   * Reads a bulk, simple or verbatim string and decodes it as UTF-8, without copying the buffered
+   * bytes first.
+   * @return the string, or {@code null} for a null reply
+   */
+  public String readString() {
+    final byte b = is.readByte();
+    switch (b) {
+      case Protocol.DOLLAR_BYTE:
+        return readBulkString(is.readIntCrLf());
+      case Protocol.EQUAL_BYTE: {
+        final int len = is.readIntCrLf();
+        if (len < 4) {
+          throw new JedisConnectionException("Bulk reply length " + len + " is less than expected 4");
+        }
+        is.skipBytes(4);
+        return readBulkString(len - 4);
+      }
+      case Protocol.PLUS_BYTE:
+        return is.readLine();
+      case Protocol.UNDERSCORE_BYTE:
+        return (String) is.readNullCrLf();
+      default:
+        throw unexpected(b);
+    }
+  }
+
+  /**
+   * Reads a RESP3 double, or a string or integer holding a number.
+   * @return the number, or {@code null} for a null reply
+   */
+  public Double readDouble() {
+    final byte b = is.readByte();
+    switch (b) {
+      case Protocol.COMMA_BYTE:
+        return is.readDoubleCrLf();
+      case Protocol.COLON_BYTE:
+        return (double) is.readLongCrLf();
+      case Protocol.DOLLAR_BYTE: {
+        final String str = readBulkString(is.readIntCrLf());
+        return str == null ? null : DoublePrecision.parseFloatingPointNumber(str);
+      }
+      case Protocol.PLUS_BYTE:
+        return DoublePrecision.parseFloatingPointNumber(is.readLine());
+      case Protocol.UNDERSCORE_BYTE:
+        return (Double) is.readNullCrLf();
+      default:
+        throw unexpected(b);
+    }
+  }
+
+  /**
+   * Reads an integer, or a string holding an integer.
+   * @return the number, or {@code null} for a null reply
+   */
+  public Long readLong() {
+    final byte b = is.readByte();
+    switch (b) {
+      case Protocol.COLON_BYTE:
+        return is.readLongCrLf();
+      case Protocol.DOLLAR_BYTE: {
+        final String str = readBulkString(is.readIntCrLf());
+        return str == null ? null : Long.valueOf(str);
+      }
+      case Protocol.UNDERSCORE_BYTE:
+        return (Long) is.readNullCrLf();
+      default:
+        throw unexpected(b);
+    }
+  }
+
+  /**
+   * Same as {@link #readDouble()}, without boxing the number. A bulk string holding a plain
+   * decimal number is parsed without being decoded to a {@link String}.
+   * @return the number
+   * @throws JedisConnectionException for a null reply
+   */
+  public double readDoubleValue() {
+    final byte b = is.readByte();
+    switch (b) {
+      case Protocol.COMMA_BYTE:
+        return is.readDoubleCrLf();
+      case Protocol.COLON_BYTE:
+        return is.readLongCrLf();
+      case Protocol.DOLLAR_BYTE: {
+        final double value = is.readDouble(readNonNullLength());
+        is.readByte();
+        is.readByte();
+        return value;
+      }
+      case Protocol.PLUS_BYTE:
+        return DoublePrecision.parseDouble(is.readLine());
+      default:
+        throw unexpected(b);
+    }
+  }
+
+  /**
+   * Same as {@link #readLong()}, without boxing the number.
+   * @return the number
+   * @throws JedisConnectionException for a null reply
+   */
+  public long readLongValue() {
+    final byte b = is.readByte();
+    switch (b) {
+      case Protocol.COLON_BYTE:
+        return is.readLongCrLf();
+      case Protocol.DOLLAR_BYTE:
+        readNonNullLength();
+        // the digits are followed by CRLF like an integer reply
+        return is.readLongCrLf();
+      default:
+        throw unexpected(b);
+    }
+  }
+
+  /**
+   * Reads the next element of any type the way {@link Protocol#read} does. A nested error is
+   * returned as a {@link redis.clients.jedis.exceptions.JedisDataException}.
+   * @return the element
+   */
+  public Object readObject() {
+    return Protocol.readNested(is);
+  }
+
+  /**
+   * Skips the next element, including all of its nested elements.
+   */
+  public void skip() {
+    readObject();
+  }
+
+  private int readNonNullLength() {
+    final int len = is.readIntCrLf();
+    if (len == -1) {
+      throw new JedisConnectionException("Unexpected null reply");
+    }
+    return len;
+  }
+
+  private byte[] readBulkBytes(final int len, final int skipBytes) {
+    if (len == -1) {
+      return null;
+    }
+    if (len < skipBytes) {
+      throw new JedisConnectionException(
+          "Bulk reply length " + len + " is less than expected " + skipBytes);
+    }
+    is.skipBytes(skipBytes);
+    final byte[] read = new byte[len - skipBytes];
+    is.readFully(read);
+    is.readByte();
+    is.readByte();
+    return read;
+  }
+
+  private String readBulkString(final int len) {
+    if (len == -1) {
+      return null;
+    }
+    final String str = is.readString(len);
+    is.readByte();
+    is.readByte();
+    return str;
+  }
+
+  private JedisConnectionException unexpected(byte b) {
+    if (b == Protocol.MINUS_BYTE) {
+      return new JedisConnectionException("Unexpected error reply: " + is.readLine());
+    }
+    return new JedisConnectionException("Unexpected reply type: " + (char) b);
+  }
+}
@@ -0,0 +1,78 @@
+package redis.clients.jedis;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.params.ScanParams;
+
+/**
+ * The progress of a {@link ParallelScan}: for each node, the cursor from which its scan resumes.
+ * <p>
+ * The nodes are named as the keys of
+ * {@link redis.clients.jedis.providers.ConnectionProvider#getPrimaryNodesConnectionMap()}, i.e.
+ * {@code host:port} for a cluster. A node whose cursor is {@link ScanParams#SCAN_POINTER_START} has
+ * been scanned entirely; a node missing from the checkpoint, such as a primary promoted since, is
+ * scanned from the start.
+ * <p>
+ * A cursor is only recorded once all the keys of the batch it follows have been consumed, so the
+ * keys consumed from a partly consumed batch are returned again after resuming.
+ */
+@Experimental
+public final class ScanCheckpoint {
+
+  private final Map<String, String> cursors;
+
+  /**
+   * @param cursors the cursor of each node
+   */
+  public ScanCheckpoint(Map<String, String> cursors) {
+    this.cursors = Collections.unmodifiableMap(new LinkedHashMap<>(cursors));
+  }
+
+  /**
+   * @return the cursor of each node
+   */
+  public Map<String, String> getCursors() {
+    return cursors;
+  }
+
+  /**
+   * @param node the name of a node
+   * @return the cursor from which the scan of the node resumes, or {@code null} if it starts over
+   */
+  public String getCursor(String node) {
+    return cursors.get(node);
+  }
+
+  /**
+   * @param node the name of a node
+   * @return whether the node has been scanned entirely
+   */
+  public boolean isNodeCompleted(String node) {
+    return ScanParams.SCAN_POINTER_START.equals(cursors.get(node));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ScanCheckpoint)) {
+      return false;
+    }
+    return cursors.equals(((ScanCheckpoint) o).cursors);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(cursors);
+  }
+
+  @Override
+  public String toString() {
+    return "ScanCheckpoint" + cursors;
+  }
+}
@@ -3,14 +3,20 @@ package redis.clients.jedis;
 import redis.clients.jedis.annots.Internal;
 import redis.clients.jedis.args.Rawable;
 import redis.clients.jedis.commands.ProtocolCommand;
-import redis.clients.jedis.util.JedisByteMap;
 import redis.clients.jedis.util.SafeEncoder;
 
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Static implementation of CommandFlagsRegistry.
+ * <p>
+ * The metadata of the commands declared as enum constants, such as {@link Protocol.Command} and
+ * the module commands, is resolved once per enum type into an array indexed by ordinal, and that of
+ * subcommands given as enum constants, such as {@link Protocol.Keyword}, once per constant. Other
+ * commands are looked up by name, ignoring case, without copying the name.
  */
 @Internal
 public class StaticCommandFlagsRegistry implements CommandFlagsRegistry {
@@ -24,11 +30,28 @@ public class StaticCommandFlagsRegistry implements CommandFlagsRegistry {
   // Default response policy for commands without a specific policy
   public static final ResponsePolicy DEFAULT_RESPONSE_POLICY = ResponsePolicy.DEFAULT;
 
+  // Marks the commands and subcommands resolved as unknown, as caches cannot hold null
+  private static final CommandMeta UNKNOWN = new CommandMeta(EMPTY_FLAGS);
+
   // Singleton instance
   private static final StaticCommandFlagsRegistry REGISTRY = createRegistry();
 
   private final Commands commands;
 
+  // The metadata of the constants of each enum command type, indexed by ordinal
+  private final ClassValue<CommandMeta[]> enumCommands = new ClassValue<CommandMeta[]>() {
+    @Override
+    protected CommandMeta[] computeValue(Class<?> type) {
+      Object[] constants = type.getEnumConstants();
+      CommandMeta[] metas = new CommandMeta[constants.length];
+      for (int i = 0; i < constants.length; i++) {
+        CommandMeta meta = commands.getCommand(((ProtocolCommand) constants[i]).getRaw());
+        metas[i] = meta != null ? meta : UNKNOWN;
+      }
+      return metas;
+    }
+  };
+
   private StaticCommandFlagsRegistry(Commands commands) {
     this.commands = commands;
   }
@@ -112,62 +135,102 @@ public class StaticCommandFlagsRegistry implements CommandFlagsRegistry {
    */
   private CommandMeta lookupCommandMeta(CommandArguments commandArguments) {
     ProtocolCommand cmd = commandArguments.getCommand();
-    byte[] raw = cmd.getRaw();
-    byte[] uppercaseBytes = SafeEncoder.toUpperCase(raw);
 
-    CommandMeta commandMeta = commands.getCommand(uppercaseBytes);
-    if (commandMeta == null) {
-      return null;
+    CommandMeta commandMeta;
+    if (cmd instanceof Enum) {
+      Enum<?> constant = (Enum<?>) cmd;
+      commandMeta = enumCommands.get(constant.getDeclaringClass())[constant.ordinal()];
+      if (commandMeta == UNKNOWN) {
+        return null;
+      }
+    } else {
+      commandMeta = commands.getCommand(cmd.getRaw());
+      if (commandMeta == null) {
+        return null;
+      }
     }
 
-    if (commandMeta.hasSubcommands()) {
-      byte[] subCommand = getSubCommand(commandArguments);
-      if (subCommand != null) {
-        CommandMeta subCommandMeta = commandMeta.getSubcommand(subCommand);
-        if (subCommandMeta != null) {
-          return subCommandMeta;
-        }
+    if (commandMeta.hasSubcommands() && commandArguments.size() > 1) {
+      CommandMeta subCommandMeta = commandMeta.getSubcommand(commandArguments.get(1));
+      if (subCommandMeta != null) {
+        return subCommandMeta;
       }
     }
     return commandMeta;
   }
 
-  private byte[] getSubCommand(CommandArguments commandArguments) {
-    if (commandArguments.size() > 1) {
-      Rawable secondArg = commandArguments.get(1);
-      byte[] subRaw = secondArg.getRaw();
+  /**
+   * A command name whose hash code and equality ignore ASCII case, so that names can be looked up
+   * as they are sent.
+   */
+  static final class CommandName {
 
-      // Convert to uppercase using SafeEncoder utility
-      return SafeEncoder.toUpperCase(subRaw);
-    } else {
-      return null;
+    private final byte[] name;
+    private final int hashCode;
+
+    CommandName(byte[] name) {
+      this.name = name;
+      int hash = 1;
+      for (byte b : name) {
+        hash = 31 * hash + toUpperCase(b);
+      }
+      this.hashCode = hash;
+    }
+
+    private static int toUpperCase(byte b) {
+      return b >= 'a' && b <= 'z' ? b - ('a' - 'A') : b;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof CommandName)) {
+        return false;
+      }
+      byte[] other = ((CommandName) o).name;
+      if (name.length != other.length) {
+        return false;
+      }
+      for (int i = 0; i < name.length; i++) {
+        if (toUpperCase(name[i]) != toUpperCase(other[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
     }
   }
 
   // Internal class to hold subcommand mappings for parent commands.
   static class Commands {
 
-    final JedisByteMap<CommandMeta> commands = new JedisByteMap<>();
+    final Map<CommandName, CommandMeta> commands = new HashMap<>();
 
     boolean isEmpty() {
       return commands.isEmpty();
     }
 
     public Commands register(byte[] cmd, CommandMeta command) {
-      commands.put(cmd, command);
+      commands.put(new CommandName(cmd), command);
       return this;
     }
 
     public boolean containsKey(byte[] command) {
-      return commands.containsKey(command);
+      return commands.containsKey(new CommandName(command));
     }
 
+    /**
+     * @param command the name of a command, in any case
+     * @return the metadata of the command, or {@code null} if it is unknown
+     */
     public CommandMeta getCommand(byte[] command) {
-      return commands.get(command);
-    }
-
-    public Map<byte[], CommandMeta> getCommands() {
-      return commands;
+      return commands.get(new CommandName(command));
     }
   }
 
@@ -181,6 +244,9 @@ public class StaticCommandFlagsRegistry implements CommandFlagsRegistry {
     final ResponsePolicy responsePolicy;
     final Commands subcommands = new Commands();
 
+    // The subcommands given as enum constants, resolved once per constant
+    private final Map<Rawable, CommandMeta> enumSubcommands = new ConcurrentHashMap<>();
+
     CommandMeta(EnumSet<CommandFlag> flags) {
       this(flags, DEFAULT_REQUEST_POLICY, DEFAULT_RESPONSE_POLICY);
     }
@@ -218,6 +284,18 @@ public class StaticCommandFlagsRegistry implements CommandFlagsRegistry {
     CommandMeta getSubcommand(byte[] subcommand) {
       return subcommands.getCommand(subcommand);
     }
+
+    CommandMeta getSubcommand(Rawable subcommand) {
+      if (!(subcommand instanceof Enum)) {
+        return subcommands.getCommand(subcommand.getRaw());
+      }
+      CommandMeta meta = enumSubcommands.get(subcommand);
+      if (meta == null) {
+        meta = subcommands.getCommand(subcommand.getRaw());
+        enumSubcommands.put(subcommand, meta != null ? meta : UNKNOWN);
+      }
+      return meta != UNKNOWN ? meta : null;
+    }
   }
 
   /**
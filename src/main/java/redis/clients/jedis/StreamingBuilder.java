@@ -0,0 +1,23 @@
+package redis.clients.jedis;
+
+import redis.clients.jedis.annots.Experimental;
+
+/**
+ * A {@link Builder} that can also decode its result directly from the connection's input stream,
+ * without building the intermediate reply objects of {@link Protocol#read} first.
+ * <p>
+ * {@link #build(Object)} must still be implemented: it is used for pipelined and transactional
+ * replies, for replies served by the client-side cache and whenever streaming decoding is not
+ * enabled (see {@link JedisClientConfig#isStreamingReplyDecoding()}).
+ */
+@Experimental
+public abstract class StreamingBuilder<T> extends Builder<T> {
+
+  /**
+   * Decodes a complete reply. Error replies and push messages preceding the reply are already
+   * handled when this method is called.
+   * @param reader the reader positioned at the start of the reply
+   * @return the result
+   */
+  public abstract T read(RespReader reader);
+}
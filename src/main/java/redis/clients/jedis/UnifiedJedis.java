@@ -1,5 +1,6 @@
 package redis.clients.jedis;
 
+import java.nio.FloatBuffer;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -683,6 +684,30 @@ public class UnifiedJedis implements JedisCommands, JedisBinaryCommands,
     return new ScanIteration(provider, batchCount, match, type);
   }
 
+  /**
+   * @param batchCount COUNT for each batch execution
+   * @param match pattern
+   * @return scan of all the primary nodes at the same time
+   */
+  @Experimental
+  public ParallelScan parallelScan(int batchCount, String match) {
+    return new ParallelScan(provider, batchCount, match);
+  }
+
+  /**
+   * @param batchCount COUNT for each batch execution
+   * @param match pattern, {@code null} for all keys
+   * @param type key type, {@code null} for all types
+   * @param resumeFrom the checkpoint to resume from, {@code null} to scan from the start
+   * @return scan of all the primary nodes at the same time
+   */
+  @Experimental
+  public ParallelScan parallelScan(int batchCount, String match, String type,
+      ScanCheckpoint resumeFrom) {
+    return new ParallelScan(provider, batchCount, match, type, resumeFrom,
+        ParallelScan.DEFAULT_PREFETCH, null);
+  }
+
   @Override
   public Set<byte[]> keys(byte[] pattern) {
     return executeCommand(commandObjects.keys(pattern));
@@ -1678,6 +1703,33 @@ public class UnifiedJedis implements JedisCommands, JedisBinaryCommands,
     return executeCommand(commandObjects.himportSet(key, fieldset, values));
   }
 
+  /**
+   * Creates a bulk loader of hashes from {@code fieldset}, pipelining at most
+   * {@link HashImportLoader#DEFAULT_MAX_IN_FLIGHT} commands per connection.
+   * @param fieldset the template of the hashes
+   * @return the loader
+   * @see HashImportLoader
+   */
+  @Experimental
+  public HashImportLoader hashImportLoader(HashImport fieldset) {
+    return hashImportLoader(fieldset, HashImportLoader.DEFAULT_MAX_IN_FLIGHT);
+  }
+
+  /**
+   * Creates a bulk loader of hashes from {@code fieldset}.
+   * @param fieldset the template of the hashes
+   * @param maxInFlight the maximum number of commands awaiting their reply per connection
+   * @return the loader
+   * @see HashImportLoader
+   */
+  @Experimental
+  public HashImportLoader hashImportLoader(HashImport fieldset, int maxInFlight) {
+    if (provider == null) {
+      throw new IllegalStateException("It is not allowed to create HashImportLoader from this " + getClass());
+    }
+    return new HashImportLoader(provider, commandObjects, fieldset, maxInFlight);
+  }
+
   @Override
   public long hincrBy(String key, String field, long value) {
     return executeCommand(commandObjects.hincrBy(key, field, value));
@@ -4965,6 +5017,22 @@ public class UnifiedJedis implements JedisCommands, JedisBinaryCommands,
     return new AggregateIterator(provider, indexName, aggr);
   }
 
+  /**
+   * Creates an iterator for aggregation results with cursor support, reading up to
+   * {@code readAhead} batches in the background while the current one is processed.
+   * @param indexName the search index name
+   * @param aggr aggregation builder with cursor configuration
+   * @param readAhead the number of batches read ahead of the caller
+   * @return aggregate iterator for cursor-based pagination
+   * @throws IllegalArgumentException if aggregation doesn't have cursor configured
+   * @see AggregateIterator#stream()
+   */
+  @Experimental
+  public AggregateIterator ftAggregateIterator(String indexName, AggregationBuilder aggr,
+      int readAhead) {
+    return new AggregateIterator(provider, indexName, aggr, readAhead, null);
+  }
+
   @Override
   public Map.Entry<AggregationResult, ProfilingInfo> ftProfileAggregate(String indexName,
       FTProfileParams profileParams, AggregationBuilder aggr) {
@@ -5590,6 +5658,36 @@ public class UnifiedJedis implements JedisCommands, JedisBinaryCommands,
     return executeCommand(commandObjects.tsRevRange(key, rangeParams));
   }
 
+  @Override
+  public TSSamples tsRangeSamples(String key, TSRangeParams rangeParams) {
+    return executeCommand(commandObjects.tsRangeSamples(key, rangeParams));
+  }
+
+  @Override
+  public TSSamples tsRangeSamples(String key, TSRangeParams rangeParams, TSSamples samples) {
+    return executeCommand(commandObjects.tsRangeSamples(key, rangeParams, samples));
+  }
+
+  @Override
+  public long tsRange(String key, TSRangeParams rangeParams, TSSampleConsumer consumer) {
+    return executeCommand(commandObjects.tsRange(key, rangeParams, consumer));
+  }
+
+  @Override
+  public TSSamples tsRevRangeSamples(String key, TSRangeParams rangeParams) {
+    return executeCommand(commandObjects.tsRevRangeSamples(key, rangeParams));
+  }
+
+  @Override
+  public TSSamples tsRevRangeSamples(String key, TSRangeParams rangeParams, TSSamples samples) {
+    return executeCommand(commandObjects.tsRevRangeSamples(key, rangeParams, samples));
+  }
+
+  @Override
+  public long tsRevRange(String key, TSRangeParams rangeParams, TSSampleConsumer consumer) {
+    return executeCommand(commandObjects.tsRevRange(key, rangeParams, consumer));
+  }
+
   @Override
   public List<TSElement> tsRead(String key, long timestamp) {
     return executeCommand(commandObjects.tsRead(key, timestamp));
@@ -5640,6 +5738,16 @@ public class UnifiedJedis implements JedisCommands, JedisBinaryCommands,
     return executeCommand(commandObjects.tsMRevRange(multiRangeParams));
   }
 
+  @Override
+  public Map<String, TSSamples> tsMRangeSamples(TSMRangeParams multiRangeParams) {
+    return executeCommand(commandObjects.tsMRangeSamples(multiRangeParams));
+  }
+
+  @Override
+  public Map<String, TSSamples> tsMRevRangeSamples(TSMRangeParams multiRangeParams) {
+    return executeCommand(commandObjects.tsMRevRangeSamples(multiRangeParams));
+  }
+
   @Override
   public TSElement tsGet(String key) {
     return executeCommand(commandObjects.tsGet(key));
@@ -6171,6 +6279,22 @@ public class UnifiedJedis implements JedisCommands, JedisBinaryCommands,
     return executeCommand(commandObjects.vaddFP32(key, vectorBlob, element, params));
   }
 
+  @Override
+  public boolean vaddFP32(String key, FloatBuffer vector, String element, VAddParams params) {
+    return executeCommand(commandObjects.vaddFP32(key, vector, element, params));
+  }
+
+  /**
+   * @param key the vector set
+   * @param params the parameters of each VADD, may be {@code null}
+   * @param maxInFlight the maximum number of commands awaiting their replies
+   * @return loader adding elements to the vector set through a pipeline
+   */
+  @Experimental
+  public VectorSetLoader vectorSetLoader(String key, VAddParams params, int maxInFlight) {
+    return new VectorSetLoader(this, key, params, maxInFlight);
+  }
+
   @Override
   public boolean vadd(String key, float[] vector, String element, int reduceDim, VAddParams params) {
     return executeCommand(commandObjects.vadd(key, vector, element, reduceDim, params));
@@ -6191,6 +6315,11 @@ public class UnifiedJedis implements JedisCommands, JedisBinaryCommands,
     return executeCommand(commandObjects.vsim(key, vector, params));
   }
 
+  @Override
+  public List<String> vsimFP32(String key, FloatBuffer vector, VSimParams params) {
+    return executeCommand(commandObjects.vsimFP32(key, vector, params));
+  }
+
   @Override
   public Map<String, Double> vsimWithScores(String key, float[] vector, VSimParams params) {
     return executeCommand(commandObjects.vsimWithScores(key, vector, params));
@@ -0,0 +1,126 @@
+package redis.clients.jedis;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.params.VAddParams;
+import redis.clients.jedis.util.JedisAsserts;
+
+/**
+ * Adds elements to a vector set through a pipeline of VADD commands, with their vectors sent as
+ * FP32 blobs and at most {@code maxInFlight} commands awaiting their replies.
+ * <p>
+ * The vectors are not copied: they are encoded when the commands are written to the connection, so
+ * a vector must not be modified until the next {@link #flush()}, whether explicit or done by
+ * {@link #add(String, FloatBuffer)} once {@code maxInFlight} commands are pending.
+ * <pre>
+ * try (VectorSetLoader loader = jedis.vectorSetLoader("embeddings", new VAddParams().q8(), 1000)) {
+ *   for (Document doc : documents) {
+ *     loader.add(doc.getId(), doc.getEmbedding());
+ *   }
+ * }
+ * </pre>
+ * An instance is not thread-safe.
+ */
+@Experimental
+public class VectorSetLoader implements AutoCloseable {
+
+  private final AbstractPipeline pipeline;
+  private final String key;
+  private final VAddParams params;
+  private final int maxInFlight;
+  private final List<Response<Boolean>> inFlight;
+
+  private long added;
+
+  /**
+   * @param jedis the client to add the elements with
+   * @param key the vector set
+   * @param params the parameters of each VADD, may be {@code null}
+   * @param maxInFlight the maximum number of commands awaiting their replies
+   */
+  public VectorSetLoader(UnifiedJedis jedis, String key, VAddParams params, int maxInFlight) {
+    JedisAsserts.isTrue(maxInFlight > 0, "maxInFlight must be greater than 0");
+    this.pipeline = jedis.pipelined();
+    this.key = key;
+    this.params = params;
+    this.maxInFlight = maxInFlight;
+    this.inFlight = new ArrayList<>(maxInFlight);
+  }
+
+  /**
+   * Adds an element, waiting for the replies of the pending commands first if there are
+   * {@code maxInFlight} of them.
+   * @param element the element
+   * @param vector the remaining floats of the buffer, which is not changed
+   */
+  public void add(String element, FloatBuffer vector) {
+    if (inFlight.size() == maxInFlight) {
+      flush();
+    }
+    inFlight.add(pipeline.vaddFP32(key, vector, element, params));
+  }
+
+  /**
+   * Adds an element, waiting for the replies of the pending commands first if there are
+   * {@code maxInFlight} of them.
+   * @param element the element
+   * @param vector the vector
+   */
+  public void add(String element, float[] vector) {
+    add(element, FloatBuffer.wrap(vector));
+  }
+
+  /**
+   * Waits for the replies of the pending commands.
+   * @throws redis.clients.jedis.exceptions.JedisDataException if a command failed; the replies of
+   *     the other commands are read all the same
+   * @throws redis.clients.jedis.exceptions.JedisConnectionException if the replies could not be
+   *     read; the pending commands are dropped
+   */
+  public void flush() {
+    RuntimeException error = null;
+    try {
+      pipeline.sync();
+      for (Response<Boolean> response : inFlight) {
+        try {
+          if (response.get()) {
+            added++;
+          }
+        } catch (RuntimeException e) {
+          if (error == null) {
+            error = e;
+          }
+        }
+      }
+    } finally {
+      // the replies of a failed sync are never read, so they are not waited for again
+      inFlight.clear();
+    }
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  /**
+   * @return the number of elements added to the vector set, rather than updated, among those whose
+   *         replies were read
+   */
+  public long getAdded() {
+    return added;
+  }
+
+  /**
+   * Waits for the replies of the pending commands, then closes the pipeline.
+   */
+  @Override
+  public void close() {
+    try {
+      flush();
+    } finally {
+      pipeline.close();
+    }
+  }
+}
@@ -2,7 +2,14 @@ package redis.clients.jedis.args;
 
 import static redis.clients.jedis.Protocol.toByteArray;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
 import java.util.Arrays;
+
+import redis.clients.jedis.annots.Internal;
+import redis.clients.jedis.util.RedisOutputStream;
 import redis.clients.jedis.util.SafeEncoder;
 
 /**
@@ -25,7 +32,7 @@ public final class RawableFactory {
    * @return raw
    */
   public static Rawable from(int i) {
-    return from(toByteArray(i));
+    return new RawLong(i);
   }
 
   /**
@@ -34,7 +41,7 @@ public final class RawableFactory {
    * @return raw
    */
   public static Rawable from(long l) {
-    return from(toByteArray(l));
+    return new RawLong(l);
   }
 
   /**
@@ -64,6 +71,35 @@ public final class RawableFactory {
     return new RawString(string);
   }
 
+  /**
+   * Get a {@link Rawable} from a part of a byte array, which is not copied and must not be modified
+   * afterwards.
+   * @param binary the array
+   * @param offset the start of the part
+   * @param length the length of the part
+   * @return raw
+   */
+  @Internal
+  public static Rawable wrap(byte[] binary, int offset, int length) {
+    if (offset < 0 || length < 0 || offset + length > binary.length) {
+      throw new IndexOutOfBoundsException("offset " + offset + ", length " + length
+          + ", array length " + binary.length);
+    }
+    return new RawSlice(binary, offset, length);
+  }
+
+  /**
+   * Get a {@link Rawable} of the remaining floats of a buffer as an FP32 blob, i.e. little-endian
+   * IEEE 754 single precision numbers. The floats are not copied: they are encoded when written to
+   * the connection or on the first {@link Rawable#getRaw()}, which caches the encoding, so they must
+   * not be modified before.
+   * @param floats the floats, whose position is not changed
+   * @return raw
+   */
+  public static Rawable fp32(FloatBuffer floats) {
+    return new RawFP32(floats.duplicate());
+  }
+
   /**
    * Default implementation of {@link Rawable}.
    */
@@ -75,33 +111,175 @@ public final class RawableFactory {
       this.raw = Arrays.copyOf(raw, raw.length);
     }
 
+    /**
+     * For subclasses which encode their raw bytes on demand in {@link #getRaw()}.
+     */
+    private Raw() {
+      this.raw = null;
+    }
+
     @Override
     public byte[] getRaw() {
       return raw;
     }
 
+    /**
+     * Writes this argument as a RESP bulk string, i.e. {@code $<length>\r\n<bytes>\r\n}.
+     * Subclasses write it without materializing {@link #getRaw()}.
+     * @param out the stream to write to
+     * @throws IOException if the stream fails
+     */
+    @Internal
+    public void writeBulk(RedisOutputStream out) throws IOException {
+      out.writeBulk(getRaw());
+    }
+
+    /**
+     * Raws are equal when their raw bytes are, whichever way they encode them.
+     */
     @Override
     public boolean equals(Object o) {
       if (this == o) return true;
-      if (o == null || getClass() != o.getClass()) return false;
-      return Arrays.equals(raw, ((Raw) o).raw);
+      if (!(o instanceof Raw)) return false;
+      return Arrays.equals(getRaw(), ((Raw) o).getRaw());
     }
 
     @Override
     public int hashCode() {
-      return Arrays.hashCode(raw);
+      return Arrays.hashCode(getRaw());
     }
   }
 
   /**
-   * A {@link Rawable} wrapping a {@link String}.
+   * A {@link Rawable} wrapping a {@link String}. The string is encoded when its raw bytes are first
+   * needed; it is written to the connection without being encoded to a {@code byte[]}.
    */
   public static class RawString extends Raw {
 
-    // TODO: private final String str; ^ implements Rawable
+    private final String str;
+    private volatile byte[] raw;
 
     public RawString(String str) {
-      super(SafeEncoder.encode(str));
+      if (str == null) {
+        throw new IllegalArgumentException("null value cannot be sent to redis");
+      }
+      this.str = str;
+    }
+
+    @Override
+    public byte[] getRaw() {
+      byte[] encoded = raw;
+      if (encoded == null) {
+        raw = encoded = SafeEncoder.encode(str);
+      }
+      return encoded;
+    }
+
+    @Override
+    public void writeBulk(RedisOutputStream out) throws IOException {
+      byte[] encoded = raw;
+      if (encoded != null) {
+        out.writeBulk(encoded);
+      } else {
+        out.writeBulkUtf8(str);
+      }
+    }
+  }
+
+  /**
+   * A {@link Rawable} wrapping a part of a byte array, written to the connection without being
+   * copied.
+   */
+  private static final class RawSlice extends Raw {
+
+    private final byte[] array;
+    private final int offset;
+    private final int length;
+    private volatile byte[] raw;
+
+    private RawSlice(byte[] array, int offset, int length) {
+      this.array = array;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    @Override
+    public byte[] getRaw() {
+      byte[] copy = raw;
+      if (copy == null) {
+        raw = copy = Arrays.copyOfRange(array, offset, offset + length);
+      }
+      return copy;
+    }
+
+    @Override
+    public void writeBulk(RedisOutputStream out) throws IOException {
+      out.writeBulk(array, offset, length);
+    }
+  }
+
+  /**
+   * A {@link Rawable} wrapping floats, written to the connection as an FP32 blob without being
+   * encoded to a {@code byte[]}.
+   */
+  private static final class RawFP32 extends Raw {
+
+    private final FloatBuffer floats;
+    private volatile byte[] raw;
+
+    private RawFP32(FloatBuffer floats) {
+      this.floats = floats;
+    }
+
+    @Override
+    public byte[] getRaw() {
+      byte[] encoded = raw;
+      if (encoded == null) {
+        encoded = new byte[floats.remaining() * Float.BYTES];
+        ByteBuffer.wrap(encoded).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer()
+            .put(floats.duplicate());
+        raw = encoded;
+      }
+      return encoded;
+    }
+
+    @Override
+    public void writeBulk(RedisOutputStream out) throws IOException {
+      final byte[] encoded = raw;
+      if (encoded != null) {
+        // keep writing the bytes the equality and hash code are based on
+        out.writeBulk(encoded);
+      } else {
+        out.writeBulkFP32(floats);
+      }
+    }
+  }
+
+  /**
+   * A {@link Rawable} wrapping an integer, written to the connection without being encoded to a
+   * {@code byte[]}.
+   */
+  private static final class RawLong extends Raw {
+
+    private final long value;
+    private volatile byte[] raw;
+
+    private RawLong(long value) {
+      this.value = value;
+    }
+
+    @Override
+    public byte[] getRaw() {
+      byte[] encoded = raw;
+      if (encoded == null) {
+        raw = encoded = toByteArray(value);
+      }
+      return encoded;
+    }
+
+    @Override
+    public void writeBulk(RedisOutputStream out) throws IOException {
+      out.writeBulk(value);
     }
   }
 
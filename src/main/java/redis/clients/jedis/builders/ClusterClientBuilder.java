@@ -23,6 +23,8 @@ public abstract class ClusterClientBuilder<C>
   private int maxAttempts = RedisClusterClient.DEFAULT_MAX_ATTEMPTS;
   private Duration maxTotalRetriesDuration;
   private Duration topologyRefreshPeriod = null;
+  private Duration topologyRenewalMinInterval = null;
+  private boolean useClusterShards = false;
   private CommandFlagsRegistry commandFlags = null;
 
   /**
@@ -78,6 +80,35 @@ public abstract class ClusterClientBuilder<C>
     return this;
   }
 
+  /**
+   * Sets the minimum interval between two renewals of the cluster topology triggered by
+   * redirections.
+   * <p>
+   * A {@code MOVED} redirection is applied to the slot mapping at once, and the whole topology is
+   * renewed in the background. Redirections arriving meanwhile are coalesced into a single renewal,
+   * and renewals start at least this interval apart.
+   * @param topologyRenewalMinInterval the minimum interval, 500 milliseconds by default
+   * @return this builder
+   */
+  public ClusterClientBuilder<C> topologyRenewalMinInterval(Duration topologyRenewalMinInterval) {
+    this.topologyRenewalMinInterval = topologyRenewalMinInterval;
+    return this;
+  }
+
+  /**
+   * Sets whether the cluster topology is discovered and renewed with {@code CLUSTER SHARDS} instead
+   * of {@code CLUSTER SLOTS}.
+   * <p>
+   * {@code CLUSTER SHARDS} reports the health of each node, so that replicas which are not online
+   * are not used. Servers without it, before Redis 7.0, are queried with {@code CLUSTER SLOTS}.
+   * @param useClusterShards whether to use {@code CLUSTER SHARDS}, {@code false} by default
+   * @return this builder
+   */
+  public ClusterClientBuilder<C> useClusterShards(boolean useClusterShards) {
+    this.useClusterShards = useClusterShards;
+    return this;
+  }
+
   /**
    * Overrides the default command flags registry.
    * @param commandFlags custom command flags registry
@@ -106,8 +137,13 @@ public abstract class ClusterClientBuilder<C>
 
   @Override
   protected ConnectionProvider createDefaultConnectionProvider() {
-    return new ClusterConnectionProvider(this.nodes, this.clientConfig, this.cache, this.poolConfig,
-        this.topologyRefreshPeriod);
+    ClusterConnectionProvider provider = new ClusterConnectionProvider(this.nodes,
+        this.clientConfig, this.cache, this.poolConfig, this.topologyRefreshPeriod,
+        this.useClusterShards);
+    if (this.topologyRenewalMinInterval != null) {
+      provider.setMinSlotCacheRenewalInterval(this.topologyRenewalMinInterval);
+    }
+    return provider;
   }
 
   /**
@@ -154,6 +190,11 @@ public abstract class ClusterClientBuilder<C>
       throw new IllegalArgumentException(
           "Topology refresh period cannot be negative for cluster mode");
     }
+
+    if (topologyRenewalMinInterval != null && topologyRenewalMinInterval.isNegative()) {
+      throw new IllegalArgumentException(
+          "Topology renewal min interval cannot be negative for cluster mode");
+    }
   }
 
 }
@@ -1,5 +1,6 @@
 package redis.clients.jedis.commands;
 
+import java.nio.FloatBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -74,6 +75,23 @@ public interface VectorSetCommands {
   @Experimental
   boolean vaddFP32(String key, byte[] vectorBlob, String element, VAddParams params);
 
+  /**
+   * <b><a href="https://redis.io/docs/latest/commands/vadd/">VADD Command</a></b> Add a new element
+   * into the vector set specified by key using FP32 binary format, encoded from the floats as they
+   * are sent rather than into an intermediate blob.
+   * <p>
+   * Time complexity: O(log(N)) for each element added, where N is the number of elements in the
+   * vector set.
+   * @param key the name of the key that will hold the vector set data
+   * @param vector the remaining floats of the buffer, which is not changed; a little-endian
+   *     {@code ByteBuffer} holding an FP32 blob can be given as {@code asFloatBuffer()}
+   * @param element the name of the element that is being added to the vector set
+   * @param params additional parameters for the VADD command, may be {@code null}
+   * @return 1 if key was added; 0 if key was not added
+   */
+  @Experimental
+  boolean vaddFP32(String key, FloatBuffer vector, String element, VAddParams params);
+
   /**
    * <b><a href="https://redis.io/docs/latest/commands/vadd/">VADD Command</a></b> Add a new element
    * into the vector set specified by key with dimension reduction and additional parameters.
@@ -132,6 +150,19 @@ public interface VectorSetCommands {
   @Experimental
   List<String> vsim(String key, float[] vector, VSimParams params);
 
+  /**
+   * <b><a href="https://redis.io/docs/latest/commands/vsim/">VSIM Command</a></b> Return elements
+   * similar to a given vector, sent in FP32 binary format.
+   * <p>
+   * Time complexity: O(log(N)) where N is the number of elements in the vector set.
+   * @param key the name of the key that holds the vector set data
+   * @param vector the remaining floats of the buffer, which is not changed
+   * @param params additional parameters for the VSIM command, may be {@code null}
+   * @return list of similar elements
+   */
+  @Experimental
+  List<String> vsimFP32(String key, FloatBuffer vector, VSimParams params);
+
   /**
    * <b><a href="https://redis.io/docs/latest/commands/vsim/">VSIM Command</a></b> Return elements
    * similar to a given vector with their similarity scores.
@@ -1,5 +1,6 @@
 package redis.clients.jedis.commands;
 
+import java.nio.FloatBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -74,6 +75,13 @@ public interface VectorSetPipelineCommands {
   @Experimental
   Response<Boolean> vaddFP32(String key, byte[] vectorBlob, String element, VAddParams params);
 
+  /**
+   * Pipeline variant of {@link VectorSetCommands#vaddFP32(String, FloatBuffer, String, VAddParams)}.
+   * The floats are read when the command is written to the connection.
+   */
+  @Experimental
+  Response<Boolean> vaddFP32(String key, FloatBuffer vector, String element, VAddParams params);
+
   /**
    * <b><a href="https://redis.io/docs/latest/commands/vadd/">VADD Command</a></b> Add a new element
    * into the vector set specified by key with dimension reduction and additional parameters.
@@ -134,6 +142,13 @@ public interface VectorSetPipelineCommands {
   @Experimental
   Response<List<String>> vsim(String key, float[] vector, VSimParams params);
 
+  /**
+   * Pipeline variant of {@link VectorSetCommands#vsimFP32(String, FloatBuffer, VSimParams)}. The
+   * floats are read when the command is written to the connection.
+   */
+  @Experimental
+  Response<List<String>> vsimFP32(String key, FloatBuffer vector, VSimParams params);
+
   /**
    * <b><a href="https://redis.io/docs/latest/commands/vsim/">VSIM Command</a></b> Return elements
    * similar to a given vector with their similarity scores.
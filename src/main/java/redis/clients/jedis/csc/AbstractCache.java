@@ -2,7 +2,10 @@ package redis.clients.jedis.csc;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -10,6 +13,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+import redis.clients.jedis.Protocol;
 import redis.clients.jedis.annots.Experimental;
 import redis.clients.jedis.util.SafeEncoder;
 
@@ -22,7 +26,12 @@ public abstract class AbstractCache implements Cache {
 
   private Cacheable cacheable;
   private final Map<ByteBuffer, Set<CacheKey<?>>> redisKeysToCacheKeys = new ConcurrentHashMap<>();
+  // The cache keys of each cluster hash slot, guarded by the lock, so that a topology change
+  // deletes only the entries of the slots which moved. Only allocated for cluster clients.
+  private Set<CacheKey<?>>[] slotsToCacheKeys;
   private final int maximumSize;
+  private final long maximumBytes;
+  private final OffHeapStore offHeapStore;
   private ReentrantLock lock = new ReentrantLock();
   private volatile CacheStats stats = new CacheStats();
 
@@ -32,7 +41,20 @@ public abstract class AbstractCache implements Cache {
 
   protected AbstractCache(int maximumSize, Cacheable cacheable) {
     this.maximumSize = maximumSize;
+    this.maximumBytes = 0;
     this.cacheable = cacheable;
+    this.offHeapStore = null;
+  }
+
+  /**
+   * @param config provides the maximum size, the maximum bytes, the off-heap option and the
+   * cacheable of the cache
+   */
+  protected AbstractCache(CacheConfig config) {
+    this.maximumSize = config.getMaxSize();
+    this.maximumBytes = config.getMaxBytes();
+    this.cacheable = config.getCacheable() != null ? config.getCacheable() : DefaultCacheable.INSTANCE;
+    this.offHeapStore = config.isOffHeap() ? new OffHeapStore() : null;
   }
 
   // Cache interface methods
@@ -45,6 +67,16 @@ public abstract class AbstractCache implements Cache {
   @Override
   public abstract int getSize();
 
+  @Override
+  public long getMaxBytes() {
+    return maximumBytes;
+  }
+
+  @Override
+  public boolean isOverCapacity() {
+    return getSize() > maximumSize || (maximumBytes > 0 && stats.getBytes() > maximumBytes);
+  }
+
   @Override
   public abstract Collection<CacheEntry> getCacheEntries();
 
@@ -61,23 +93,45 @@ public abstract class AbstractCache implements Cache {
   public CacheEntry set(CacheKey cacheKey, CacheEntry entry) {
     lock.lock();
     try {
-      entry = putIntoStore(cacheKey, entry);
+      if (maximumBytes > 0 && entry.getWeight() > maximumBytes) {
+        // an entry which can never fit is not cached, rather than evicting all the others; only a
+        // previous entry of the same key is dropped, since it is outdated
+        if (containsKeyInStore(cacheKey)) {
+          delete(cacheKey);
+        }
+        return null;
+      }
+      if (offHeapStore != null) {
+        entry = entry.toOffHeap(offHeapStore);
+      }
+      CacheEntry previous = putIntoStore(cacheKey, entry);
+      if (previous != null) {
+        release(previous);
+      }
+      stats.addBytes(entry.getWeight());
       EvictionPolicy policy = getEvictionPolicy();
       policy.touch(cacheKey);
       CacheKey evictedKey = policy.evictNext();
-      if (evictedKey != null) {
+      while (evictedKey != null) {
         delete(evictedKey);
         stats.evict();
+        // a single entry may take the room of many when the cache is bounded in bytes
+        evictedKey = maximumBytes > 0 && isOverCapacity() ? policy.evictNext() : null;
       }
-      for (Object redisKey : cacheKey.getRedisKeys()) {
-        ByteBuffer mapKey = makeKeyForRedisKeysToCacheKeys(redisKey);
-        if (redisKeysToCacheKeys.containsKey(mapKey)) {
-          redisKeysToCacheKeys.get(mapKey).add(cacheKey);
-        } else {
-          Set<CacheKey<?>> set = ConcurrentHashMap.newKeySet();
-          set.add(cacheKey);
-          redisKeysToCacheKeys.put(mapKey, set);
+      entry = previous;
+      // the policy may have rejected the new entry, which must not be indexed then
+      if (containsKeyInStore(cacheKey)) {
+        for (Object redisKey : cacheKey.getRedisKeys()) {
+          ByteBuffer mapKey = makeKeyForRedisKeysToCacheKeys(redisKey);
+          if (redisKeysToCacheKeys.containsKey(mapKey)) {
+            redisKeysToCacheKeys.get(mapKey).add(cacheKey);
+          } else {
+            Set<CacheKey<?>> set = ConcurrentHashMap.newKeySet();
+            set.add(cacheKey);
+            redisKeysToCacheKeys.put(mapKey, set);
+          }
         }
+        addToSlots(cacheKey);
       }
       stats.load();
       return entry;
@@ -90,7 +144,7 @@ public abstract class AbstractCache implements Cache {
   public boolean delete(CacheKey cacheKey) {
     lock.lock();
     try {
-      boolean removed = removeFromStore(cacheKey);
+      boolean removed = removeEntry(cacheKey);
       getEvictionPolicy().reset(cacheKey);
 
       // removing it from redisKeysToCacheKeys as well
@@ -102,6 +156,7 @@ public abstract class AbstractCache implements Cache {
           cacheKeysRelatedtoRedisKey.remove(cacheKey);
         }
       }
+      removeFromSlots(cacheKey);
       return removed;
     } finally {
       lock.unlock();
@@ -127,7 +182,8 @@ public abstract class AbstractCache implements Cache {
       Set<CacheKey<?>> commands = redisKeysToCacheKeys.get(mapKey);
       List<CacheKey> cacheKeys = new ArrayList<>();
       if (commands != null) {
-        cacheKeys.addAll(commands.stream().filter(this::removeFromStore).collect(Collectors.toList()));
+        cacheKeys.addAll(commands.stream().filter(this::removeEntry).collect(Collectors.toList()));
+        cacheKeys.forEach(this::removeFromSlots);
         stats.invalidationByServer(cacheKeys.size());
         redisKeysToCacheKeys.remove(mapKey);
       }
@@ -159,15 +215,65 @@ public abstract class AbstractCache implements Cache {
     try {
       int result = this.getSize();
       clearStore();
+      if (offHeapStore != null) {
+        offHeapStore.clear();
+      }
       redisKeysToCacheKeys.clear();
+      if (slotsToCacheKeys != null) {
+        Arrays.fill(slotsToCacheKeys, null);
+      }
       getEvictionPolicy().resetAll();
       getStats().flush();
+      getStats().addBytes(-getStats().getBytes());
       return result;
     } finally {
       lock.unlock();
     }
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public void enableSlotIndex() {
+    lock.lock();
+    try {
+      if (slotsToCacheKeys == null) {
+        slotsToCacheKeys = new Set[Protocol.CLUSTER_HASHSLOTS];
+        for (CacheEntry entry : getCacheEntries()) {
+          addToSlots(entry.getCacheKey());
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int deleteBySlots(BitSet slots) {
+    lock.lock();
+    try {
+      if (slotsToCacheKeys == null) {
+        return flush();
+      }
+      int deleted = 0;
+      for (int slot = slots.nextSetBit(0); slot >= 0 && slot < slotsToCacheKeys.length;
+          slot = slots.nextSetBit(slot + 1)) {
+        Set<CacheKey<?>> slotCacheKeys = slotsToCacheKeys[slot];
+        if (slotCacheKeys != null) {
+          // delete() updates the set of the slot
+          for (CacheKey<?> cacheKey : new ArrayList<>(slotCacheKeys)) {
+            if (delete(cacheKey)) {
+              deleted++;
+            }
+          }
+          slotsToCacheKeys[slot] = null;
+        }
+      }
+      return deleted;
+    } finally {
+      lock.unlock();
+    }
+  }
+
   @Override
   public boolean isCacheable(CacheKey cacheKey) {
     return cacheable.isCacheable(cacheKey.getRedisCommand(), cacheKey.getRedisKeys());
@@ -188,9 +294,16 @@ public abstract class AbstractCache implements Cache {
 
   @Override
   public CacheStats getAndResetStats() {
-    CacheStats result = stats;
-    stats = new CacheStats();
-    return result;
+    lock.lock();
+    try {
+      CacheStats result = stats;
+      stats = new CacheStats();
+      // the weight is the state of the cache rather than a counter
+      stats.addBytes(result.getBytes());
+      return result;
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
@@ -214,6 +327,67 @@ public abstract class AbstractCache implements Cache {
 
   // End of abstract methods to be implemented by the concrete classes
 
+  /**
+   * @return the number of cache keys indexed by Redis key and by hash slot, for tests
+   */
+  int getIndexedCount() {
+    lock.lock();
+    try {
+      int count = redisKeysToCacheKeys.values().stream().mapToInt(Set::size).sum();
+      if (slotsToCacheKeys != null) {
+        for (Set<CacheKey<?>> slotCacheKeys : slotsToCacheKeys) {
+          count += slotCacheKeys != null ? slotCacheKeys.size() : 0;
+        }
+      }
+      return count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean removeEntry(CacheKey cacheKey) {
+    CacheEntry entry = getFromStore(cacheKey);
+    boolean removed = removeFromStore(cacheKey);
+    if (removed && entry != null) {
+      release(entry);
+    }
+    return removed;
+  }
+
+  private void addToSlots(CacheKey<?> cacheKey) {
+    if (slotsToCacheKeys == null) {
+      return;
+    }
+    for (int slot : cacheKey.getRedisKeySlots()) {
+      Set<CacheKey<?>> slotCacheKeys = slotsToCacheKeys[slot];
+      if (slotCacheKeys == null) {
+        slotCacheKeys = new HashSet<>();
+        slotsToCacheKeys[slot] = slotCacheKeys;
+      }
+      slotCacheKeys.add(cacheKey);
+    }
+  }
+
+  private void removeFromSlots(CacheKey<?> cacheKey) {
+    if (slotsToCacheKeys == null) {
+      return;
+    }
+    for (int slot : cacheKey.getRedisKeySlots()) {
+      Set<CacheKey<?>> slotCacheKeys = slotsToCacheKeys[slot];
+      if (slotCacheKeys != null && slotCacheKeys.remove(cacheKey) && slotCacheKeys.isEmpty()) {
+        slotsToCacheKeys[slot] = null;
+      }
+    }
+  }
+
+  private void release(CacheEntry entry) {
+    stats.addBytes(-entry.getWeight());
+    OffHeapStore.Handle handle = entry.getOffHeapHandle();
+    if (handle != null) {
+      offHeapStore.release(handle);
+    }
+  }
+
   /**
    * Normalizes Redis keys to ByteBuffer for use as map keys in {@link #redisKeysToCacheKeys}.
    * <p>
@@ -1,5 +1,6 @@
 package redis.clients.jedis.csc;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
 
@@ -18,6 +19,21 @@ public interface Cache {
      */
     int getSize();
 
+    /**
+     * @return The maximum total weight of the cache entries in bytes, 0 if the cache is not
+     * bounded in bytes
+     */
+    default long getMaxBytes() {
+        return 0;
+    }
+
+    /**
+     * @return True if the cache holds more entries, or more bytes, than it is allowed to
+     */
+    default boolean isOverCapacity() {
+        return getSize() > getMaxSize();
+    }
+
     /**
      * @return All the entries within the cache
      */
@@ -71,6 +87,26 @@ public interface Cache {
      */
     List<CacheKey> deleteByRedisKeys(List keys);
 
+    /**
+     * Makes the cache index its entries by the cluster slots of their Redis keys, so that
+     * {@link #deleteBySlots(BitSet)} can delete only the entries of some slots. Called by the
+     * cluster clients using the cache; the default implementation does nothing.
+     */
+    default void enableSlotIndex() {
+    }
+
+    /**
+     * Delete the entries whose Redis keys hash to any of the given cluster slots, e.g. because the
+     * slots moved to another node. The default implementation flushes the entire cache, as does a
+     * cache whose slot index is not enabled.
+     *
+     * @param slots The hash slots
+     * @return The number of entries that were deleted
+     */
+    default int deleteBySlots(BitSet slots) {
+        return flush();
+    }
+
     /**
      * Flushes the entire cache
      *
@@ -3,6 +3,8 @@ package redis.clients.jedis.csc;
 public class CacheConfig {
 
     private int maxSize;
+    private long maxBytes;
+    private boolean offHeap;
     private Cacheable cacheable;
     private EvictionPolicy evictionPolicy;
     private Class cacheClass;
@@ -11,6 +13,14 @@ public class CacheConfig {
         return maxSize;
     }
 
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
     public Cacheable getCacheable() {
         return cacheable;
     }
@@ -29,6 +39,8 @@ public class CacheConfig {
     public static class Builder {
         private final int DEFAULT_MAX_SIZE = 10000;
         private int maxSize = DEFAULT_MAX_SIZE;
+        private long maxBytes = 0;
+        private boolean offHeap = false;
         private Cacheable cacheable = DefaultCacheable.INSTANCE;
         private EvictionPolicy evictionPolicy;
         private Class cacheClass;
@@ -38,6 +50,31 @@ public class CacheConfig {
             return this;
         }
 
+        /**
+         * Bounds the total weight of the cached entries, i.e. the approximate size of their data.
+         * Entries are evicted when either this or the {@link #maxSize(int) entry count} is exceeded.
+         *
+         * @param maxBytes maximum weight in bytes, 0 for no limit (default)
+         */
+        public Builder maxBytes(long maxBytes) {
+            if (maxBytes < 0) {
+                throw new IllegalArgumentException("maxBytes must not be negative");
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Keeps the data of cached entries in direct memory slabs instead of the Java heap. Entries
+         * are decoded on every hit.
+         *
+         * @param offHeap true to store entries off-heap, false (default) to keep them on-heap
+         */
+        public Builder offHeap(boolean offHeap) {
+            this.offHeap = offHeap;
+            return this;
+        }
+
         public Builder evictionPolicy(EvictionPolicy policy) {
             this.evictionPolicy = policy;
             return this;
@@ -56,6 +93,8 @@ public class CacheConfig {
         public CacheConfig build() {
             CacheConfig cacheConfig = new CacheConfig();
             cacheConfig.maxSize = this.maxSize;
+            cacheConfig.maxBytes = this.maxBytes;
+            cacheConfig.offHeap = this.offHeap;
             cacheConfig.cacheable = this.cacheable;
             cacheConfig.evictionPolicy = this.evictionPolicy;
             cacheConfig.cacheClass = this.cacheClass;
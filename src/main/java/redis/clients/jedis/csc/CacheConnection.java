@@ -10,6 +10,7 @@ import redis.clients.jedis.JedisSocketFactory;
 import redis.clients.jedis.Protocol;
 import redis.clients.jedis.PushConsumerChain;
 import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.StreamingBuilder;
 import redis.clients.jedis.annots.VisibleForTesting;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.util.RedisInputStream;
@@ -94,6 +95,17 @@ public class CacheConnection extends Connection {
     }
   }
 
+  @Override
+  protected <T> T protocolRead(RedisInputStream inputStream, PushConsumerChain consumer,
+      StreamingBuilder<T> builder) {
+    lock.lock();
+    try {
+      return Protocol.read(inputStream, consumer, builder);
+    } finally {
+      lock.unlock();
+    }
+  }
+
   @Override
   protected void protocolReadPushes(RedisInputStream inputStream, PushConsumerChain consumer) {
     if (lock.tryLock()) {
@@ -131,12 +143,11 @@ public class CacheConnection extends Connection {
 
     // CACHE MISS !!
     cache.getStats().miss();
-    T value = super.executeCommand(commandObject);
-    cacheEntry = new CacheEntry<>(cacheKey, value, this);
+    Object reply = super.executeCommandForReply(commandObject);
+    cacheEntry = CacheEntry.fromReply(cacheKey, commandObject.getBuilder(), reply, this);
     cache.set(cacheKey, cacheEntry);
-    // this line actually provides a deep copy of cached object instance
-    value = cacheEntry.getValue();
-    return value;
+    // this line actually provides a private copy of cached object instance
+    return cacheEntry.getValue();
   }
 
   public Cache getCache() {
@@ -6,19 +6,105 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 
+import redis.clients.jedis.Builder;
 import redis.clients.jedis.exceptions.JedisCacheException;
+import redis.clients.jedis.util.KeyValue;
 
+/**
+ * An entry of the client-side cache.
+ * <p>
+ * An entry created by {@link #fromReply(CacheKey, Builder, Object, CacheConnection)} keeps the
+ * unprocessed reply together with the {@link Builder} of the command. Immutable results (e.g.
+ * {@link String}, {@link Long}, {@link Double}, {@link Boolean}) are built once and handed out as
+ * they are; any other result is rebuilt from a private copy of the reply on every hit, so callers
+ * can never modify the cached data. An entry created by
+ * {@link #CacheEntry(CacheKey, Object, CacheConnection)} stores the value using Java
+ * serialization, which requires the value to be {@link java.io.Serializable}.
+ * <p>
+ * The {@link #getWeight() weight} of an entry approximates the encoded size of its data in bytes and
+ * is used by caches that are bounded in bytes.
+ */
 public class CacheEntry<T> {
 
   private final CacheKey<T> cacheKey;
   private final WeakReference<CacheConnection> connection;
   private final byte[] bytes;
+  private final Builder<T> builder;
+  private final Object reply;
+  private final T value;
+  private final OffHeapStore.Handle offHeap;
+  private final int weight;
 
   public CacheEntry(CacheKey<T> cacheKey, T value, CacheConnection connection) {
     this.cacheKey = cacheKey;
     this.connection = new WeakReference<>(connection);
     this.bytes = toBytes(value);
+    this.builder = null;
+    this.reply = null;
+    this.value = null;
+    this.offHeap = null;
+    this.weight = bytes.length;
+  }
+
+  private CacheEntry(CacheKey<T> cacheKey, Builder<T> builder, Object reply, T value,
+      OffHeapStore.Handle offHeap, int weight, WeakReference<CacheConnection> connection) {
+    this.cacheKey = cacheKey;
+    this.connection = connection;
+    this.bytes = null;
+    this.builder = builder;
+    this.reply = reply;
+    this.value = value;
+    this.offHeap = offHeap;
+    this.weight = weight;
+  }
+
+  /**
+   * Creates a cache entry from the unprocessed reply of a command, without serializing it.
+   * @param cacheKey the cache key
+   * @param builder the builder of the command that produced {@code reply}
+   * @param reply the reply as read by {@link redis.clients.jedis.Protocol#read}; must not be
+   *     used by the caller afterwards
+   * @param connection the connection the reply was read from
+   * @return the cache entry
+   */
+  public static <T> CacheEntry<T> fromReply(CacheKey<T> cacheKey, Builder<T> builder, Object reply,
+      CacheConnection connection) {
+    int weight = weigh(reply);
+    T built = builder.build(reply);
+    if (isImmutable(built)) {
+      return new CacheEntry<>(cacheKey, null, null, built, null, weight,
+          new WeakReference<>(connection));
+    }
+    // the built value may share parts of the reply, so it's dropped and only the reply is kept
+    return new CacheEntry<>(cacheKey, builder, reply, null, null, weight,
+        new WeakReference<>(connection));
+  }
+
+  /**
+   * Moves the data of this entry into off-heap memory.
+   * @return the off-heap entry, or this entry if its data can not be moved
+   */
+  CacheEntry<T> toOffHeap(OffHeapStore store) {
+    Object data;
+    if (reply != null) {
+      data = reply;
+    } else if (value instanceof String) {
+      data = value;
+    } else {
+      return this;
+    }
+    OffHeapStore.Handle handle = store.store(data);
+    if (handle == null) {
+      return this;
+    }
+    return new CacheEntry<>(cacheKey, builder, null, null, handle, handle.getLength(), connection);
+  }
+
+  OffHeapStore.Handle getOffHeapHandle() {
+    return offHeap;
   }
 
   public CacheKey<T> getCacheKey() {
@@ -26,13 +112,77 @@ public class CacheEntry<T> {
   }
 
   public T getValue() {
-    return toObject(bytes);
+    if (bytes != null) {
+      return toObject(bytes);
+    }
+    if (offHeap != null) {
+      // decoding already produces a private copy
+      Object data = offHeap.read();
+      return builder != null ? builder.build(data) : (T) data;
+    }
+    if (builder != null) {
+      return builder.build(copyReply(reply));
+    }
+    return value;
+  }
+
+  /**
+   * @return The approximate size of the data of this entry in bytes
+   */
+  public int getWeight() {
+    return weight;
   }
 
   public CacheConnection getConnection() {
     return connection.get();
   }
 
+  private static boolean isImmutable(Object object) {
+    return object == null || object instanceof String || object instanceof Long
+        || object instanceof Integer || object instanceof Double || object instanceof Boolean;
+  }
+
+  /**
+   * Approximates the encoded size of a reply: the length of each bulk string plus a few bytes of
+   * framing per element.
+   */
+  private static int weigh(Object reply) {
+    if (reply instanceof byte[]) {
+      return 5 + ((byte[]) reply).length;
+    } else if (reply instanceof List) {
+      int weight = 5;
+      for (Object item : (List<?>) reply) {
+        weight += weigh(item);
+      }
+      return weight;
+    } else if (reply instanceof KeyValue) {
+      KeyValue<?, ?> kv = (KeyValue<?, ?>) reply;
+      return 1 + weigh(kv.getKey()) + weigh(kv.getValue());
+    }
+    return reply == null ? 1 : 9;
+  }
+
+  /**
+   * Copies the mutable parts ({@code byte[]}, {@link List}, {@link KeyValue}) of a reply, so that
+   * a builder returning (parts of) the reply as is cannot expose the cached reply.
+   */
+  private static Object copyReply(Object reply) {
+    if (reply instanceof byte[]) {
+      return ((byte[]) reply).clone();
+    } else if (reply instanceof List) {
+      List<?> list = (List<?>) reply;
+      List<Object> copy = new ArrayList<>(list.size());
+      for (Object item : list) {
+        copy.add(copyReply(item));
+      }
+      return copy;
+    } else if (reply instanceof KeyValue) {
+      KeyValue<?, ?> kv = (KeyValue<?, ?>) reply;
+      return KeyValue.of(copyReply(kv.getKey()), copyReply(kv.getValue()));
+    }
+    return reply;
+  }
+
   private static byte[] toBytes(Object object) {
     try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
         ObjectOutputStream oos = new ObjectOutputStream(baos)) {
@@ -13,13 +13,22 @@ public final class CacheFactory {
             if (config.getCacheable() == null) {
                 throw new JedisCacheException("Cacheable is required to create the default cache!");
             }
-            return new DefaultCache(config.getMaxSize(), config.getCacheable(), getEvictionPolicy(config));
+            return new DefaultCache(config, getEvictionPolicy(config));
         }
         return instantiateCustomCache(config);
     }
 
     private static Cache instantiateCustomCache(CacheConfig config) {
         try {
+            Constructor ctorWithConfig = findConstructorWithConfig(config.getCacheClass());
+            if (ctorWithConfig != null) {
+                return (Cache) ctorWithConfig.newInstance(config, getEvictionPolicy(config));
+            }
+            if (config.getMaxBytes() > 0 || config.isOffHeap()) {
+                throw new JedisCacheException("Custom cache type must provide a constructor "
+                        + config.getCacheClass().getName() + "(CacheConfig config, EvictionPolicy evictionPolicy)"
+                        + " to support maxBytes and offHeap!");
+            }
             if (config.getCacheable() != null) {
                 Constructor ctorWithCacheable = findConstructorWithCacheable(config.getCacheClass());
                 if (ctorWithCacheable != null) {
@@ -34,6 +43,12 @@ public final class CacheFactory {
         }
     }
 
+    private static Constructor findConstructorWithConfig(Class customCacheType) {
+        return Arrays.stream(customCacheType.getConstructors())
+                .filter(ctor -> Arrays.equals(ctor.getParameterTypes(), new Class[] { CacheConfig.class, EvictionPolicy.class }))
+                .findFirst().orElse(null);
+    }
+
     private static Constructor findConstructorWithCacheable(Class customCacheType) {
         return Arrays.stream(customCacheType.getConstructors())
                 .filter(ctor -> Arrays.equals(ctor.getParameterTypes(), new Class[] { int.class, EvictionPolicy.class, Cacheable.class }))
@@ -48,13 +63,18 @@ public final class CacheFactory {
             throw new JedisCacheException(String.format(
                 "Failed to find compatible constructor for custom cache type!  Provide one of these;"
                         // give hints about the compatible constructors
-                        + "\n - %s(int maxSize, EvictionPolicy evictionPolicy)\n - %s(int maxSize, EvictionPolicy evictionPolicy, Cacheable cacheable)",
-                className, className), e);
+                        + "\n - %s(int maxSize, EvictionPolicy evictionPolicy)\n - %s(int maxSize, EvictionPolicy evictionPolicy, Cacheable cacheable)"
+                        + "\n - %s(CacheConfig config, EvictionPolicy evictionPolicy)",
+                className, className, className), e);
         }
     }
 
     private static EvictionPolicy getEvictionPolicy(CacheConfig config) {
         if (config.getEvictionPolicy() == null) {
+            if (config.getCacheClass() == ConcurrentCache.class) {
+                // LRUEviction would serialize the lock-free hits of ConcurrentCache
+                return new TinyLFUEviction(config.getMaxSize());
+            }
             // It will be default to LRUEviction, until we have other eviction implementations
             return new LRUEviction(config.getMaxSize());
         }
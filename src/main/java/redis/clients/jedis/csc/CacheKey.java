@@ -2,6 +2,7 @@ package redis.clients.jedis.csc;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import redis.clients.jedis.CommandObject;
 import redis.clients.jedis.commands.ProtocolCommand;
@@ -9,14 +10,17 @@ import redis.clients.jedis.commands.ProtocolCommand;
 public class CacheKey<T> {
 
   private final CommandObject<T> command;
+  // computed once; the same key is hashed by the cache store and by the eviction policy
+  private final int hashCode;
 
   public CacheKey(CommandObject<T> command) {
     this.command = Objects.requireNonNull(command);
+    this.hashCode = command.hashCode();
   }
 
   @Override
   public int hashCode() {
-    return command.hashCode();
+    return hashCode;
   }
 
   @Override
@@ -24,13 +28,20 @@ public class CacheKey<T> {
     if (this == obj) return true;
     if (obj == null || getClass() != obj.getClass()) return false;
     final CacheKey other = (CacheKey) obj;
-    return Objects.equals(this.command, other.command);
+    return this.hashCode == other.hashCode && Objects.equals(this.command, other.command);
   }
 
   public List<Object> getRedisKeys() {
     return command.getArguments().getKeys();
   }
 
+  /**
+   * @return the cluster hash slots of the Redis keys
+   */
+  public Set<Integer> getRedisKeySlots() {
+    return command.getArguments().getKeyHashSlots();
+  }
+
   public ProtocolCommand getRedisCommand() {
     return command.getArguments().getCommand();
   }
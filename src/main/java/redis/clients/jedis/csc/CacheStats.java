@@ -12,6 +12,7 @@ public class CacheStats {
     private AtomicLong flush = new AtomicLong(0);
     private AtomicLong invalidationsByServer = new AtomicLong(0);
     private AtomicLong invalidationMessages = new AtomicLong(0);
+    private AtomicLong bytes = new AtomicLong(0);
 
     protected void hit() {
         hits.incrementAndGet();
@@ -45,6 +46,10 @@ public class CacheStats {
         invalidationMessages.incrementAndGet();
     }
 
+    protected void addBytes(long delta) {
+        bytes.addAndGet(delta);
+    }
+
     public long getHitCount() {
         return hits.get();
     }
@@ -73,6 +78,14 @@ public class CacheStats {
         return invalidationsByServer.get();
     }
 
+    /**
+     * @return The current total weight of the cached entries in bytes
+     * @see CacheEntry#getWeight()
+     */
+    public long getBytes() {
+        return bytes.get();
+    }
+
     public String toString() {
         return "CacheStats{" +
                 "hits=" + hits +
@@ -83,6 +96,7 @@ public class CacheStats {
                 ", flush=" + flush +
                 ", invalidationsByServer=" + invalidationsByServer +
                 ", invalidationMessages=" + invalidationMessages +
+                ", bytes=" + bytes +
                 '}';
     }
 
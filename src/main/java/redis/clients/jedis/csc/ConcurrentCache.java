@@ -0,0 +1,88 @@
+package redis.clients.jedis.csc;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+
+import redis.clients.jedis.annots.Experimental;
+
+/**
+ * A cache backed by a {@link ConcurrentHashMap}, so that lookups take no locks.
+ * <p>
+ * Unless another policy is given, entries are evicted with {@link TinyLFUEviction}, which records
+ * cache hits without locking. Combined with a policy that synchronizes on every access, e.g.
+ * {@link LRUEviction}, hits would still be serialized.
+ * <p>
+ * To use this cache through {@link CacheFactory}, which also defaults to {@link TinyLFUEviction}
+ * for this cache type:
+ * <pre>
+ * CacheConfig.builder().cacheClass(ConcurrentCache.class).maxSize(maxSize).build()
+ * </pre>
+ */
+@Experimental
+public class ConcurrentCache extends AbstractCache {
+
+  protected final ConcurrentHashMap<CacheKey, CacheEntry> cache;
+  private final EvictionPolicy evictionPolicy;
+
+  public ConcurrentCache(int maximumSize) {
+    this(maximumSize, new TinyLFUEviction(maximumSize));
+  }
+
+  public ConcurrentCache(int maximumSize, EvictionPolicy evictionPolicy) {
+    this(maximumSize, evictionPolicy, DefaultCacheable.INSTANCE);
+  }
+
+  public ConcurrentCache(int maximumSize, EvictionPolicy evictionPolicy, Cacheable cacheable) {
+    super(maximumSize, cacheable);
+    this.cache = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+    this.evictionPolicy = evictionPolicy;
+    this.evictionPolicy.setCache(this);
+  }
+
+  public ConcurrentCache(CacheConfig config, EvictionPolicy evictionPolicy) {
+    super(config);
+    this.cache = new ConcurrentHashMap<>(Math.min(config.getMaxSize(), 1 << 16));
+    this.evictionPolicy = evictionPolicy;
+    this.evictionPolicy.setCache(this);
+  }
+
+  @Override
+  public int getSize() {
+    return cache.size();
+  }
+
+  @Override
+  public Collection<CacheEntry> getCacheEntries() {
+    return cache.values();
+  }
+
+  @Override
+  public EvictionPolicy getEvictionPolicy() {
+    return this.evictionPolicy;
+  }
+
+  @Override
+  protected CacheEntry getFromStore(CacheKey key) {
+    return cache.get(key);
+  }
+
+  @Override
+  protected CacheEntry putIntoStore(CacheKey key, CacheEntry entry) {
+    return cache.put(key, entry);
+  }
+
+  @Override
+  protected boolean removeFromStore(CacheKey key) {
+    return cache.remove(key) != null;
+  }
+
+  @Override
+  protected final void clearStore() {
+    cache.clear();
+  }
+
+  @Override
+  protected boolean containsKeyInStore(CacheKey cacheKey) {
+    return cache.containsKey(cacheKey);
+  }
+}
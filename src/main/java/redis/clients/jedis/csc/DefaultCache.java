@@ -25,6 +25,13 @@ public class DefaultCache extends AbstractCache {
         this(maximumSize, new HashMap<CacheKey, CacheEntry>(), cacheable, evictionPolicy);
     }
 
+    protected DefaultCache(CacheConfig config, EvictionPolicy evictionPolicy) {
+        super(config);
+        this.cache = new HashMap<CacheKey, CacheEntry>();
+        this.evictionPolicy = evictionPolicy;
+        this.evictionPolicy.setCache(this);
+    }
+
     protected DefaultCache(int maximumSize, Map<CacheKey, CacheEntry> map, Cacheable cacheable, EvictionPolicy evictionPolicy) {
         super(maximumSize, cacheable);
         this.cache = map;
@@ -39,7 +39,7 @@ public class LRUEviction implements EvictionPolicy {
         this.accessTimes = new LinkedHashMap<CacheKey, Long>(initialCapacity, 1f, true) {
             @Override
             protected boolean removeEldestEntry(Map.Entry<CacheKey, Long> eldest) {
-                boolean evictionRequired = cache.getSize() > cache.getMaxSize()
+                boolean evictionRequired = cache.isOverCapacity()
                         || accessTimes.size() > cache.getMaxSize();
                 // here the cache check is only for performance gain; we are trying to avoid the sequence add + poll + hasCacheKey
                 // and prefer to check it in cache once in early stage.
@@ -74,6 +74,17 @@ public class LRUEviction implements EvictionPolicy {
         while (cacheKey != null && !cache.hasCacheKey(cacheKey)) {
             cacheKey = pendingEvictions.pollFirst();
         }
+        if (cacheKey == null && cache.isOverCapacity()) {
+            // e.g. a cache bounded in bytes may need more than one eviction per insertion
+            Iterator<CacheKey> eldest = accessTimes.keySet().iterator();
+            while (cacheKey == null && eldest.hasNext()) {
+                CacheKey candidate = eldest.next();
+                eldest.remove();
+                if (cache.hasCacheKey(candidate)) {
+                    cacheKey = candidate;
+                }
+            }
+        }
         return cacheKey;
     }
 
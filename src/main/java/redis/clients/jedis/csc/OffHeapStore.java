@@ -0,0 +1,318 @@
+package redis.clients.jedis.csc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import redis.clients.jedis.util.KeyValue;
+
+/**
+ * Keeps encoded cache entries in direct {@link ByteBuffer} slabs, outside of the Java heap.
+ * <p>
+ * Entries are appended to the current slab and a slab is never written to again once it is full.
+ * A released entry only decrements the live byte count of its slab; a slab without live entries is
+ * dropped and its memory is reclaimed when the buffer is garbage collected. When too much of the
+ * allocated memory is dead, the live entries of the sparsest slab are copied into the current
+ * slab. Since slab memory is never reused, a reader that still holds the previous location of a
+ * relocated or released entry keeps reading consistent data.
+ * <p>
+ * Encoding supports the reply types produced by {@link redis.clients.jedis.Protocol#read}:
+ * {@code null}, {@code byte[]}, {@link List}, {@link KeyValue}, {@link Long}, {@link Double} and
+ * {@link Boolean}. Entries holding other types stay on the heap.
+ */
+final class OffHeapStore {
+
+  static final int DEFAULT_SLAB_SIZE = 1 << 20;
+
+  private static final byte NULL = 0;
+  private static final byte BYTES = 1;
+  private static final byte LIST = 2;
+  private static final byte KEY_VALUE = 3;
+  private static final byte LONG = 4;
+  private static final byte DOUBLE = 5;
+  private static final byte BOOLEAN = 6;
+  private static final byte STRING = 7;
+
+  private final int slabSize;
+  private final List<Slab> slabs = new ArrayList<>();
+  private Slab current;
+  private long allocatedBytes;
+  private long liveBytes;
+
+  OffHeapStore() {
+    this(DEFAULT_SLAB_SIZE);
+  }
+
+  OffHeapStore(int slabSize) {
+    this.slabSize = slabSize;
+  }
+
+  /**
+   * Encodes a reply, or a {@link String} value, into off-heap memory.
+   * @return the handle to read the data back, or {@code null} if the data can not be encoded
+   */
+  synchronized Handle store(Object data) {
+    if (data instanceof String) {
+      data = new Utf8(((String) data).getBytes(StandardCharsets.UTF_8));
+    }
+    int size = encodedSize(data);
+    if (size < 0) {
+      return null;
+    }
+    Handle handle = new Handle(size);
+    place(handle, data, null);
+    compactIfNeeded();
+    return handle;
+  }
+
+  synchronized void release(Handle handle) {
+    Slab slab = handle.slab;
+    if (slab == null) {
+      return;
+    }
+    handle.slab = null;
+    slab.handles.remove(handle);
+    slab.liveBytes -= handle.length;
+    liveBytes -= handle.length;
+    if (slab.handles.isEmpty() && slab != current) {
+      drop(slab);
+    }
+  }
+
+  synchronized void clear() {
+    for (Slab slab : slabs) {
+      for (Handle handle : slab.handles) {
+        handle.slab = null;
+      }
+    }
+    slabs.clear();
+    current = null;
+    allocatedBytes = 0;
+    liveBytes = 0;
+  }
+
+  /**
+   * @return the off-heap memory held by the slabs of this store
+   */
+  synchronized long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /**
+   * Writes the data of a handle into the current slab, either encoding {@code data} or copying the
+   * previous region of the handle when {@code data} is {@code null}.
+   */
+  private void place(Handle handle, Object data, ByteBuffer previous) {
+    int size = handle.length;
+    Slab slab;
+    if (size > slabSize) {
+      slab = new Slab(size); // dedicated slab, never shared
+      slabs.add(slab);
+      allocatedBytes += size;
+    } else {
+      if (current == null || current.buffer.remaining() < size) {
+        Slab full = current;
+        current = new Slab(slabSize);
+        slabs.add(current);
+        allocatedBytes += slabSize;
+        if (full != null && full.handles.isEmpty()) {
+          drop(full);
+        }
+      }
+      slab = current;
+    }
+
+    ByteBuffer buffer = slab.buffer;
+    int offset = buffer.position();
+    if (previous != null) {
+      buffer.put(previous.duplicate());
+    } else {
+      encode(data, buffer);
+    }
+    ByteBuffer region = buffer.duplicate();
+    region.position(offset).limit(offset + size);
+    handle.region = region.slice().asReadOnlyBuffer();
+    handle.slab = slab;
+    slab.handles.add(handle);
+    slab.liveBytes += size;
+    liveBytes += size;
+  }
+
+  private void drop(Slab slab) {
+    slabs.remove(slab);
+    allocatedBytes -= slab.buffer.capacity();
+  }
+
+  /**
+   * Relocates the live entries of the sparsest full slab once more than half of the allocated
+   * memory (beyond a few slabs of slack) is dead.
+   */
+  private void compactIfNeeded() {
+    if (allocatedBytes - liveBytes <= liveBytes + 2L * slabSize) {
+      return;
+    }
+    Slab sparsest = null;
+    for (Slab slab : slabs) {
+      if (slab != current && (sparsest == null || slab.liveBytes < sparsest.liveBytes)) {
+        sparsest = slab;
+      }
+    }
+    if (sparsest == null) {
+      return;
+    }
+    for (Handle handle : new ArrayList<>(sparsest.handles)) {
+      ByteBuffer previous = handle.region;
+      sparsest.handles.remove(handle);
+      sparsest.liveBytes -= handle.length;
+      liveBytes -= handle.length;
+      place(handle, null, previous);
+    }
+    drop(sparsest);
+  }
+
+  static Object decode(ByteBuffer buffer) {
+    byte type = buffer.get();
+    switch (type) {
+      case NULL:
+        return null;
+      case BYTES: {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+      }
+      case LIST: {
+        int size = buffer.getInt();
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          list.add(decode(buffer));
+        }
+        return list;
+      }
+      case KEY_VALUE:
+        return KeyValue.of(decode(buffer), decode(buffer));
+      case LONG:
+        return buffer.getLong();
+      case DOUBLE:
+        return buffer.getDouble();
+      case BOOLEAN:
+        return buffer.get() != 0;
+      case STRING: {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+      }
+      default:
+        throw new IllegalStateException("Unknown off-heap entry type: " + type);
+    }
+  }
+
+  /**
+   * @return the number of bytes needed to encode {@code data}, or -1 if it can not be encoded
+   */
+  static int encodedSize(Object data) {
+    if (data == null) {
+      return 1;
+    } else if (data instanceof byte[]) {
+      return 5 + ((byte[]) data).length;
+    } else if (data instanceof List) {
+      int size = 5;
+      for (Object item : (List<?>) data) {
+        int itemSize = encodedSize(item);
+        if (itemSize < 0) {
+          return -1;
+        }
+        size += itemSize;
+      }
+      return size;
+    } else if (data instanceof KeyValue) {
+      int keySize = encodedSize(((KeyValue<?, ?>) data).getKey());
+      int valueSize = encodedSize(((KeyValue<?, ?>) data).getValue());
+      return keySize < 0 || valueSize < 0 ? -1 : 1 + keySize + valueSize;
+    } else if (data instanceof Long || data instanceof Double) {
+      return 9;
+    } else if (data instanceof Boolean) {
+      return 2;
+    } else if (data instanceof Utf8) {
+      return 5 + ((Utf8) data).bytes.length;
+    }
+    return -1;
+  }
+
+  private static void encode(Object data, ByteBuffer buffer) {
+    if (data == null) {
+      buffer.put(NULL);
+    } else if (data instanceof byte[]) {
+      byte[] bytes = (byte[]) data;
+      buffer.put(BYTES).putInt(bytes.length).put(bytes);
+    } else if (data instanceof List) {
+      List<?> list = (List<?>) data;
+      buffer.put(LIST).putInt(list.size());
+      for (Object item : list) {
+        encode(item, buffer);
+      }
+    } else if (data instanceof KeyValue) {
+      buffer.put(KEY_VALUE);
+      encode(((KeyValue<?, ?>) data).getKey(), buffer);
+      encode(((KeyValue<?, ?>) data).getValue(), buffer);
+    } else if (data instanceof Long) {
+      buffer.put(LONG).putLong((Long) data);
+    } else if (data instanceof Double) {
+      buffer.put(DOUBLE).putDouble((Double) data);
+    } else if (data instanceof Boolean) {
+      buffer.put(BOOLEAN).put((byte) ((Boolean) data ? 1 : 0));
+    } else {
+      byte[] bytes = ((Utf8) data).bytes;
+      buffer.put(STRING).putInt(bytes.length).put(bytes);
+    }
+  }
+
+  /**
+   * UTF-8 encoding of a {@link String} value; decoded back to a {@link String}.
+   */
+  private static final class Utf8 {
+
+    private final byte[] bytes;
+
+    private Utf8(byte[] bytes) {
+      this.bytes = bytes;
+    }
+  }
+
+  private static final class Slab {
+
+    private final ByteBuffer buffer;
+    private final Set<Handle> handles = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long liveBytes;
+
+    private Slab(int size) {
+      this.buffer = ByteBuffer.allocateDirect(size);
+    }
+  }
+
+  /**
+   * Location of an encoded entry. The region may change when the entry is relocated; it always
+   * refers to a complete and immutable copy of the entry.
+   */
+  static final class Handle {
+
+    private final int length;
+    private volatile ByteBuffer region;
+    private Slab slab;
+
+    private Handle(int length) {
+      this.length = length;
+    }
+
+    int getLength() {
+      return length;
+    }
+
+    Object read() {
+      return decode(region.duplicate());
+    }
+  }
+}
@@ -0,0 +1,349 @@
+package redis.clients.jedis.csc;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import redis.clients.jedis.annots.Experimental;
+
+/**
+ * Sampled W(indow)-TinyLFU eviction policy.
+ * <p>
+ * New entries are admitted into a small FIFO window (1% of the cache). When the window overflows,
+ * its oldest entry competes with a victim of the main region, which is the least frequently used
+ * entry among a few randomly sampled ones; the entry with the higher estimated access frequency
+ * stays in the cache. Access frequencies are estimated with a count-min sketch of 4-bit counters
+ * that is periodically halved, so that the policy adapts to a changing workload.
+ * <p>
+ * {@link #touch(CacheKey)} on an already tracked key takes no locks, which makes this policy
+ * suitable for caches that serve hits concurrently, e.g. {@link ConcurrentCache}. Structural
+ * changes (admission, eviction and reset) are synchronized.
+ */
+@Experimental
+public class TinyLFUEviction implements EvictionPolicy {
+
+  private static final int SAMPLE_SIZE = 8;
+
+  /**
+   * The cache that is associated to that policy instance
+   */
+  protected Cache cache;
+
+  private final int initialCapacity;
+  private FrequencySketch sketch;
+  private final Map<CacheKey, Node> nodes = new ConcurrentHashMap<>();
+  private final LinkedHashSet<Node> window = new LinkedHashSet<>();
+  private final ArrayList<Node> main = new ArrayList<>();
+  private int windowMaxSize;
+  private int mainMaxSize;
+
+  /**
+   * Constructor that gets the cache passed
+   *
+   * @param initialCapacity
+   */
+  public TinyLFUEviction(int initialCapacity) {
+    this.initialCapacity = initialCapacity;
+  }
+
+  @Override
+  public void setCache(Cache cache) {
+    this.cache = cache;
+    int maximumSize = Math.max(1, cache.getMaxSize());
+    this.windowMaxSize = Math.max(1, maximumSize / 100);
+    this.mainMaxSize = Math.max(1, maximumSize - windowMaxSize);
+    this.sketch = new FrequencySketch(Math.max(initialCapacity, maximumSize));
+  }
+
+  @Override
+  public Cache getCache() {
+    return this.cache;
+  }
+
+  @Override
+  public EvictionType getType() {
+    return EvictionType.HYBR;
+  }
+
+  @Override
+  public String getName() {
+    return "Sampled W(indow)-TinyLFU";
+  }
+
+  @Override
+  public synchronized CacheKey evictNext() {
+    boolean overCapacity = cache.isOverCapacity();
+    while (window.size() > windowMaxSize) {
+      Node candidate = pollWindow();
+      if (!cache.hasCacheKey(candidate.key)) {
+        nodes.remove(candidate.key, candidate);
+        continue;
+      }
+      if (!overCapacity || main.size() < mainMaxSize) {
+        addToMain(candidate);
+        if (main.size() > 2 * mainMaxSize) {
+          purgeMain();
+        }
+        continue;
+      }
+      Node victim = sampleVictim();
+      if (victim == null || main.size() < mainMaxSize) {
+        // sampling dropped entries which are not cached anymore, so there is room now
+        addToMain(candidate);
+        continue;
+      }
+      if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+        removeFromMain(victim);
+        nodes.remove(victim.key, victim);
+        addToMain(candidate);
+        return victim.key;
+      }
+      nodes.remove(candidate.key, candidate);
+      return candidate.key;
+    }
+
+    if (!overCapacity) {
+      return null;
+    }
+    Node victim = sampleVictim();
+    if (victim != null) {
+      removeFromMain(victim);
+    } else if (!window.isEmpty()) {
+      victim = pollWindow();
+    } else {
+      return null;
+    }
+    nodes.remove(victim.key, victim);
+    return victim.key;
+  }
+
+  @Override
+  public synchronized List<CacheKey> evictMany(int n) {
+    List<CacheKey> result = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      result.add(this.evictNext());
+    }
+    return result;
+  }
+
+  @Override
+  public void touch(CacheKey cacheKey) {
+    sketch.increment(cacheKey);
+    if (!nodes.containsKey(cacheKey)) {
+      admit(cacheKey);
+    }
+  }
+
+  @Override
+  public synchronized boolean reset(CacheKey cacheKey) {
+    Node node = nodes.remove(cacheKey);
+    if (node == null) {
+      return false;
+    }
+    if (node.index < 0) {
+      window.remove(node);
+    } else {
+      removeFromMain(node);
+    }
+    return true;
+  }
+
+  @Override
+  public synchronized int resetAll() {
+    int result = nodes.size();
+    nodes.clear();
+    window.clear();
+    main.clear();
+    sketch.clear();
+    return result;
+  }
+
+  private synchronized void admit(CacheKey cacheKey) {
+    if (!nodes.containsKey(cacheKey)) {
+      Node node = new Node(cacheKey);
+      nodes.put(cacheKey, node);
+      window.add(node);
+    }
+  }
+
+  private Node pollWindow() {
+    Iterator<Node> iterator = window.iterator();
+    Node node = iterator.next();
+    iterator.remove();
+    return node;
+  }
+
+  private void addToMain(Node node) {
+    node.index = main.size();
+    main.add(node);
+  }
+
+  private void removeFromMain(Node node) {
+    Node last = main.remove(main.size() - 1);
+    if (last != node) {
+      main.set(node.index, last);
+      last.index = node.index;
+    }
+    node.index = -1;
+  }
+
+  /**
+   * Drops the entries of the main region which are not in the cache anymore, e.g. because they
+   * were invalidated by the server.
+   */
+  private void purgeMain() {
+    for (int i = main.size() - 1; i >= 0; i--) {
+      Node node = main.get(i);
+      if (!cache.hasCacheKey(node.key)) {
+        removeFromMain(node);
+        nodes.remove(node.key, node);
+      }
+    }
+  }
+
+  /**
+   * Picks the least frequently used entry among randomly sampled entries of the main region.
+   * Sampled entries which are not in the cache anymore are dropped on the way.
+   */
+  private Node sampleVictim() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Node victim = null;
+    int victimFrequency = Integer.MAX_VALUE;
+    for (int i = 0; i < SAMPLE_SIZE && !main.isEmpty(); i++) {
+      Node node = main.get(random.nextInt(main.size()));
+      if (!cache.hasCacheKey(node.key)) {
+        removeFromMain(node);
+        nodes.remove(node.key, node);
+        continue;
+      }
+      int frequency = sketch.frequency(node.key);
+      if (frequency < victimFrequency) {
+        victim = node;
+        victimFrequency = frequency;
+      }
+    }
+    return victim;
+  }
+
+  private static final class Node {
+
+    private final CacheKey key;
+    /**
+     * Position in the main region; -1 while the node is in the window.
+     */
+    private int index = -1;
+
+    private Node(CacheKey key) {
+      this.key = key;
+    }
+  }
+
+  /**
+   * Count-min sketch with four 4-bit counters per key. Counters are updated with CAS and are
+   * halved once the number of recorded accesses reaches ten times the capacity.
+   */
+  static final class FrequencySketch {
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+        0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final long sampleSize;
+    private final LongAdder additions = new LongAdder();
+
+    FrequencySketch(int capacity) {
+      int size = Integer.highestOneBit(Math.max(2, Math.min(capacity, 1 << 26)) - 1) << 1;
+      this.table = new AtomicLongArray(size);
+      this.tableMask = size - 1;
+      this.sampleSize = 10L * Math.max(capacity, 1);
+    }
+
+    int frequency(Object key) {
+      int hash = spread(key.hashCode());
+      int frequency = Integer.MAX_VALUE;
+      for (int i = 0; i < SEEDS.length; i++) {
+        long slot = slot(hash, i);
+        int index = (int) (slot >>> 32) & tableMask;
+        int offset = counterOffset(slot);
+        frequency = Math.min(frequency, (int) ((table.get(index) >>> offset) & 0xfL));
+      }
+      return frequency;
+    }
+
+    void increment(Object key) {
+      int hash = spread(key.hashCode());
+      boolean added = false;
+      for (int i = 0; i < SEEDS.length; i++) {
+        long slot = slot(hash, i);
+        added |= incrementAt((int) (slot >>> 32) & tableMask, counterOffset(slot));
+      }
+      if (added) {
+        additions.increment();
+        // summing up the striped counter on every access would defeat its purpose
+        if (ThreadLocalRandom.current().nextInt(64) == 0 && additions.sum() >= sampleSize) {
+          halve();
+        }
+      }
+    }
+
+    void clear() {
+      for (int i = 0; i < table.length(); i++) {
+        table.set(i, 0L);
+      }
+      additions.reset();
+    }
+
+    private boolean incrementAt(int index, int offset) {
+      long mask = 0xfL << offset;
+      while (true) {
+        long current = table.get(index);
+        if ((current & mask) == mask) {
+          return false; // saturated, avoid writing to a hot counter
+        }
+        if (table.compareAndSet(index, current, current + (1L << offset))) {
+          return true;
+        }
+      }
+    }
+
+    private synchronized void halve() {
+      if (additions.sum() < sampleSize) {
+        return;
+      }
+      for (int i = 0; i < table.length(); i++) {
+        long current;
+        do {
+          current = table.get(i);
+        } while (!table.compareAndSet(i, current, (current >>> 1) & RESET_MASK));
+      }
+      additions.reset();
+    }
+
+    private static long slot(int hash, int i) {
+      long h = (hash + SEEDS[i]) * SEEDS[i];
+      return h + (h >>> 32);
+    }
+
+    /**
+     * Each long holds 16 counters of 4 bits.
+     */
+    private static int counterOffset(long slot) {
+      return ((int) slot & 0xf) << 2;
+    }
+
+    private static int spread(int x) {
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      return (x >>> 16) ^ x;
+    }
+  }
+}
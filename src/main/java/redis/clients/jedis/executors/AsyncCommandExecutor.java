@@ -0,0 +1,15 @@
+package redis.clients.jedis.executors;
+
+import java.util.concurrent.CompletableFuture;
+
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.annots.Experimental;
+
+@Experimental
+public interface AsyncCommandExecutor extends AutoCloseable {
+
+  <T> CompletableFuture<T> executeCommand(CommandObject<T> commandObject);
+
+  @Override
+  void close();
+}
@@ -0,0 +1,286 @@
+package redis.clients.jedis.executors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandFlagsRegistry;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.StaticCommandFlagsRegistry;
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.providers.ConnectionProvider;
+import redis.clients.jedis.util.IOUtils;
+import redis.clients.jedis.util.JedisAsserts;
+import redis.clients.jedis.util.JedisExecutors;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * Pipelines the commands of concurrent synchronous callers.
+ * <p>
+ * Callers enqueue their commands and wait for their reply. Batcher threads, each owning a
+ * connection borrowed from the {@link ConnectionProvider}, take the queued commands in batches of
+ * at most {@code maxBatchSize} commands, write them with a single flush and hand each caller its
+ * reply. A batcher waits up to {@code batchWindow} for a batch to fill up; with a zero window it
+ * sends the commands queued so far, so that commands are batched only while the previous batch is
+ * on the wire and a lone caller does not wait.
+ * <p>
+ * Blocking commands and commands with pre-process hooks are executed on a connection of their own,
+ * as {@link DefaultCommandExecutor} does. Commands changing the state of the connection, such as
+ * SELECT, CLIENT SETNAME or WATCH and MULTI, would affect the commands of the other callers and
+ * are rejected with an {@link UnsupportedOperationException}. Errors replied to a command are
+ * thrown to its caller only; a connection failure is thrown to all the callers of the batch.
+ * <p>
+ * The commands are sent to the connections of {@link ConnectionProvider#getConnection()}, so the
+ * provider must not route commands, e.g. to cluster nodes. Client-side caching is bypassed by the
+ * batched commands.
+ */
+@Experimental
+public class AutoBatchingCommandExecutor implements CommandExecutor {
+
+  public static final int DEFAULT_CONNECTIONS = 1;
+  public static final int DEFAULT_MAX_BATCH_SIZE = 128;
+  public static final Duration DEFAULT_BATCH_WINDOW = Duration.ZERO;
+
+  private static final long IDLE_POLL_MILLIS = 100;
+
+  private static final EnumSet<Command> CONNECTION_STATE_COMMANDS = EnumSet.of(Command.SELECT,
+      Command.AUTH, Command.HELLO, Command.RESET, Command.WATCH, Command.UNWATCH, Command.MULTI,
+      Command.EXEC, Command.DISCARD, Command.READONLY, Command.READWRITE, Command.ASKING,
+      Command.MONITOR, Command.SUBSCRIBE, Command.UNSUBSCRIBE, Command.PSUBSCRIBE,
+      Command.PUNSUBSCRIBE, Command.SSUBSCRIBE, Command.SUNSUBSCRIBE);
+
+  private static final Set<String> CONNECTION_STATE_CLIENT_SUBCOMMANDS = new HashSet<>(
+      Arrays.asList("SETNAME", "SETINFO", "TRACKING", "CACHING", "REPLY", "NO-EVICT", "NO-TOUCH"));
+
+  protected final ConnectionProvider provider;
+  private final CommandFlagsRegistry flagsRegistry = StaticCommandFlagsRegistry.registry();
+  private final int maxBatchSize;
+  private final long batchWindowNanos;
+  private final BlockingQueue<PendingCommand> queue = new LinkedBlockingQueue<>();
+  private final Thread[] batchers;
+  private volatile boolean closed = false;
+
+  public AutoBatchingCommandExecutor(ConnectionProvider provider) {
+    this(provider, DEFAULT_CONNECTIONS, DEFAULT_MAX_BATCH_SIZE, DEFAULT_BATCH_WINDOW);
+  }
+
+  /**
+   * @param provider the provider of the connections
+   * @param connections the number of batcher threads, each with its own connection
+   * @param maxBatchSize the maximum number of commands written with one flush
+   * @param batchWindow how long a batcher waits for a batch to fill up after its first command
+   */
+  public AutoBatchingCommandExecutor(ConnectionProvider provider, int connections,
+      int maxBatchSize, Duration batchWindow) {
+    JedisAsserts.isTrue(connections > 0, "Number of connections must be greater than 0");
+    JedisAsserts.isTrue(maxBatchSize > 0, "Max batch size must be greater than 0");
+    JedisAsserts.isTrue(!batchWindow.isNegative(), "Batch window must not be negative");
+    this.provider = provider;
+    this.maxBatchSize = maxBatchSize;
+    this.batchWindowNanos = batchWindow.toNanos();
+
+    ThreadFactory threadFactory = JedisExecutors.daemonThreadFactory("jedis-autobatch-");
+    this.batchers = new Thread[connections];
+    for (int i = 0; i < connections; i++) {
+      batchers[i] = threadFactory.newThread(this::runBatcher);
+      batchers[i].start();
+    }
+  }
+
+  /**
+   * Sends the queued commands, returns the connections to the provider, then closes the provider.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (Thread batcher : batchers) {
+      try {
+        batcher.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    PendingCommand left;
+    while ((left = queue.poll()) != null) {
+      left.fail(closedException());
+    }
+    IOUtils.closeQuietly(this.provider);
+  }
+
+  @Override
+  public final <T> T executeCommand(CommandObject<T> commandObject) {
+    final CommandArguments args = commandObject.getArguments();
+    if (changesConnectionState(args)) {
+      throw new UnsupportedOperationException(SafeEncoder.encode(args.getCommand().getRaw())
+          + " changes the state of the connection, which is shared by the batched commands.");
+    }
+    if (args.isBlocking() || commandObject.hasPreProcessHooks()
+        || flagsRegistry.getFlags(args).contains(CommandFlagsRegistry.CommandFlag.BLOCKING)) {
+      try (Connection connection = provider.getConnection(args)) {
+        return connection.executeCommand(commandObject);
+      }
+    }
+    if (closed) {
+      throw closedException();
+    }
+
+    PendingCommand pending = new PendingCommand(args);
+    queue.add(pending);
+    if (closed && queue.remove(pending)) {
+      // the batchers may have stopped before the command was queued
+      throw closedException();
+    }
+
+    Object reply;
+    try {
+      reply = pending.reply.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      // the command may already be sent, its reply is then read and dropped
+      queue.remove(pending);
+      throw new JedisException("Interrupted while waiting for the reply.", e);
+    } catch (ExecutionException ee) {
+      Throwable cause = ee.getCause();
+      throw cause instanceof RuntimeException ? (RuntimeException) cause
+          : new JedisException(cause);
+    }
+    if (reply instanceof JedisDataException) {
+      throw (JedisDataException) reply;
+    }
+    return commandObject.getBuilder().build(reply);
+  }
+
+  private static boolean changesConnectionState(CommandArguments args) {
+    if (!(args.getCommand() instanceof Command)) {
+      return false;
+    }
+    final Command command = (Command) args.getCommand();
+    if (command == Command.CLIENT) {
+      if (args.size() < 2) {
+        return false;
+      }
+      return CONNECTION_STATE_CLIENT_SUBCOMMANDS
+          .contains(SafeEncoder.encode(args.get(1).getRaw()).toUpperCase(Locale.ROOT));
+    }
+    return CONNECTION_STATE_COMMANDS.contains(command);
+  }
+
+  private void runBatcher() {
+    final List<PendingCommand> batch = new ArrayList<>(maxBatchSize);
+    Connection connection = null;
+    try {
+      while (true) {
+        PendingCommand first;
+        try {
+          first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+          break;
+        }
+        if (first == null) {
+          if (closed) {
+            break;
+          }
+          continue;
+        }
+
+        batch.add(first);
+        fillBatch(batch);
+        try {
+          if (connection == null) {
+            connection = provider.getConnection();
+          }
+          sendBatch(connection, batch);
+        } catch (RuntimeException ex) {
+          failBatch(batch, ex);
+          if (connection != null && connection.isBroken()) {
+            IOUtils.closeQuietly(connection);
+            connection = null;
+          }
+        }
+        batch.clear();
+      }
+    } finally {
+      failBatch(batch, closedException());
+      IOUtils.closeQuietly(connection);
+    }
+  }
+
+  private void fillBatch(List<PendingCommand> batch) {
+    queue.drainTo(batch, maxBatchSize - batch.size());
+    if (batchWindowNanos == 0) {
+      return;
+    }
+    final long deadline = System.nanoTime() + batchWindowNanos;
+    while (batch.size() < maxBatchSize && !closed) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return;
+      }
+      PendingCommand next;
+      try {
+        next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+      queue.drainTo(batch, maxBatchSize - batch.size());
+    }
+  }
+
+  private static void sendBatch(Connection connection, List<PendingCommand> batch) {
+    for (PendingCommand pending : batch) {
+      connection.sendCommand(pending.args);
+    }
+    // errors replied to a command are returned as JedisDataException
+    List<Object> replies = connection.getMany(batch.size());
+    for (int i = 0; i < replies.size(); i++) {
+      batch.get(i).reply.complete(replies.get(i));
+    }
+  }
+
+  private static void failBatch(List<PendingCommand> batch, RuntimeException cause) {
+    for (PendingCommand pending : batch) {
+      pending.fail(cause);
+    }
+    batch.clear();
+  }
+
+  private static JedisException closedException() {
+    return new JedisException("Executor is closed.");
+  }
+
+  private static final class PendingCommand {
+
+    private final CommandArguments args;
+    private final CompletableFuture<Object> reply = new CompletableFuture<>();
+
+    private PendingCommand(CommandArguments args) {
+      this.args = args;
+    }
+
+    private void fail(RuntimeException cause) {
+      reply.completeExceptionally(cause);
+    }
+  }
+}
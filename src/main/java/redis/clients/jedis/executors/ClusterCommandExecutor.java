@@ -2,18 +2,26 @@ package redis.clients.jedis.executors;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import redis.clients.jedis.*;
 import redis.clients.jedis.annots.VisibleForTesting;
+import redis.clients.jedis.csc.CacheConnection;
 import redis.clients.jedis.exceptions.*;
 import redis.clients.jedis.executors.aggregators.MultiNodeResultAggregator;
+import redis.clients.jedis.executors.aggregators.PositionedList;
 import redis.clients.jedis.providers.ClusterConnectionProvider;
 import redis.clients.jedis.util.IOUtils;
 import redis.clients.jedis.util.JedisAsserts;
@@ -92,7 +100,9 @@ public class ClusterCommandExecutor implements CommandExecutor {
    * <p>
    * This method uses {@link #doExecuteCommand} with a {@link SingleConnectionResolver} for each
    * node, which adds retry logic and connection failure handling to broadcast commands.
-   * Redirections are not followed since we want to execute on specific nodes.
+   * Redirections are not followed since we want to execute on specific nodes. The nodes are
+   * executed in parallel on the {@link ClusterConnectionProvider#getPipelineExecutor() executor}
+   * of the provider.
    * <p>
    * Error handling depends on the command's response policy:
    * <ul>
@@ -114,24 +124,39 @@ public class ClusterCommandExecutor implements CommandExecutor {
     CommandFlagsRegistry.ResponsePolicy responsePolicy = flags.getResponsePolicy(commandObject
         .getArguments());
 
-    MultiNodeResultAggregator<T> aggregator = new MultiNodeResultAggregator<>(responsePolicy);
-
+    final int size = connectionMap.size();
+    final HostAndPort[] nodes = new HostAndPort[size];
+    final Object[] replies = new Object[size];
+    final Exception[] errors = new Exception[size];
+    List<Runnable> tasks = new ArrayList<>(size);
+    int i = 0;
     for (Map.Entry<String, ConnectionPool> entry : connectionMap.entrySet()) {
-      HostAndPort node = HostAndPort.from(entry.getKey());
+      final int index = i++;
+      nodes[index] = HostAndPort.from(entry.getKey());
       ConnectionPool pool = entry.getValue();
-      try {
-        // Create a resolver that acquires connections from this specific node's pool
-        // A fresh connection is obtained on each resolve() call, allowing retries to work correctly
-        // The doExecuteCommand method will close the connection after each attempt
-        SingleConnectionResolver resolver = new SingleConnectionResolver(pool);
-        // Don't follow redirections - we want to execute on specific nodes
-        T aReply = doExecuteCommand(commandObject, resolver, false);
-        aggregator.addSuccess(node, aReply);
-      } catch (Exception anError) {
-        aggregator.addError(node, anError);
-      }
+      tasks.add(() -> {
+        try {
+          // Create a resolver that acquires connections from this specific node's pool
+          // A fresh connection is obtained on each resolve() call, allowing retries to work correctly
+          // The doExecuteCommand method will close the connection after each attempt
+          SingleConnectionResolver resolver = new SingleConnectionResolver(pool);
+          // Don't follow redirections - we want to execute on specific nodes
+          replies[index] = doExecuteCommand(commandObject, resolver, false);
+        } catch (Exception anError) {
+          errors[index] = anError;
+        }
+      });
     }
+    runInParallel(tasks);
 
+    MultiNodeResultAggregator<T> aggregator = new MultiNodeResultAggregator<>(responsePolicy);
+    for (i = 0; i < size; i++) {
+      if (errors[i] != null) {
+        aggregator.addError(nodes[i], errors[i]);
+      } else {
+        aggregator.addSuccess(nodes[i], reply(replies[i]));
+      }
+    }
     return aggregator.getResult();
   }
 
@@ -141,7 +166,14 @@ public class ClusterCommandExecutor implements CommandExecutor {
    * This method is designed for commands that need to operate on keys distributed across multiple
    * hash slots (e.g., DEL, EXISTS, MGET with keys from different slots). Each CommandObject in the
    * list is executed on its appropriate shard based on the key's hash slot, and the results are
-   * aggregated using the command's response policy.
+   * aggregated in list order using the command's response policy.
+   * <p>
+   * The commands are grouped by the node serving their slot: the commands of a node are pipelined
+   * on one connection, and the nodes are executed in parallel on the
+   * {@link ClusterConnectionProvider#getPipelineExecutor() executor} of the provider, so that the
+   * whole operation takes about one round trip. A command redirected by its node, or whose node
+   * could not be reached, is executed again with the usual retry logic; so is a command whose slot
+   * is not yet mapped to a node.
    * <p>
    * Error handling depends on the command's response policy:
    * <ul>
@@ -163,20 +195,217 @@ public class ClusterCommandExecutor implements CommandExecutor {
     CommandFlagsRegistry.ResponsePolicy responsePolicy = flags.getResponsePolicy(
         commandObjects.get(0).getArguments());
 
+    final int size = commandObjects.size();
+    final Object[] replies = new Object[size];
+    final Exception[] errors = new Exception[size];
+    final HostAndPort[] errorNodes = new HostAndPort[size];
+
+    // Group the commands by node, keeping the commands that can't be pipelined apart
+    Map<HostAndPort, List<Integer>> nodeGroups = new LinkedHashMap<>();
+    List<Integer> unrouted = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      HostAndPort node = pipelineNode(commandObjects.get(i));
+      if (node != null) {
+        nodeGroups.computeIfAbsent(node, n -> new ArrayList<>()).add(i);
+      } else {
+        unrouted.add(i);
+      }
+    }
+
+    List<Runnable> tasks = new ArrayList<>(nodeGroups.size() + 1);
+    for (Map.Entry<HostAndPort, List<Integer>> group : nodeGroups.entrySet()) {
+      tasks.add(() -> executeNodeGroup(group.getKey(), group.getValue(), commandObjects, replies,
+        errors, errorNodes));
+    }
+    if (!unrouted.isEmpty()) {
+      tasks.add(() -> executeOneByOne(unrouted, commandObjects, replies, errors));
+    }
+    runInParallel(tasks);
+
     MultiNodeResultAggregator<T> aggregator = new MultiNodeResultAggregator<>(responsePolicy);
+    for (int i = 0; i < size; i++) {
+      if (errors[i] == null) {
+        aggregator.addSuccess(reply(positioned(commandObjects.get(i), replies[i])));
+      } else if (errorNodes[i] != null) {
+        aggregator.addError(errorNodes[i], errors[i]);
+      } else {
+        // Extract node from exception (JedisClusterOperationException includes node info)
+        aggregator.addError(errors[i]);
+      }
+    }
+    return aggregator.getResult();
+  }
+
+  /**
+   * @return the node a multi-shard command can be pipelined to, or {@code null} if it has to be
+   * executed on its own
+   */
+  private HostAndPort pipelineNode(CommandObject<?> commandObject) {
+    if (commandObject.hasPreProcessHooks()) {
+      return null;
+    }
+    int slot = commandObject.getArguments().getKeyHashSlot();
+    return slot >= 0 ? provider.getNode(slot) : null;
+  }
+
+  /**
+   * Pipelines the commands of a node on one of its connections. The commands redirected by the
+   * node, and those left without reply by a connection failure, are executed again one by one; the
+   * replies are read one at a time, so that a command whose reply was received is never executed
+   * again.
+   */
+  private <T> void executeNodeGroup(HostAndPort node, List<Integer> indexes,
+      List<CommandObject<T>> commandObjects, Object[] replies, Exception[] errors,
+      HostAndPort[] errorNodes) {
+    List<Integer> retries = new ArrayList<>();
+    int replied = 0;
+    Connection connection = null;
+    try {
+      connection = provider.getConnection(node);
+      if (connection instanceof CacheConnection) {
+        // keep client-side caching in force
+        retries.addAll(indexes);
+        return;
+      }
+      for (int index : indexes) {
+        connection.sendCommand(commandObjects.get(index).getArguments());
+      }
+      for (; replied < indexes.size(); replied++) {
+        int index = indexes.get(replied);
+        Object reply;
+        try {
+          reply = connection.getOne();
+        } catch (JedisDataException errorReply) {
+          reply = errorReply;
+        }
+        if (reply instanceof JedisRedirectionException) {
+          provider.handleRedirection((JedisRedirectionException) reply);
+          retries.add(index);
+        } else if (reply instanceof JedisDataException) {
+          errors[index] = (JedisDataException) reply;
+          errorNodes[index] = node;
+        } else {
+          try {
+            replies[index] = commandObjects.get(index).getBuilder().build(reply);
+          } catch (Exception anError) {
+            errors[index] = anError;
+            errorNodes[index] = node;
+          }
+        }
+      }
+    } catch (RuntimeException ex) {
+      log.debug("Failed pipelining to Redis node {}", node, ex);
+      retries.addAll(indexes.subList(replied, indexes.size()));
+    } finally {
+      IOUtils.closeQuietly(connection);
+      if (!retries.isEmpty()) {
+        executeOneByOne(retries, commandObjects, replies, errors);
+      }
+    }
+  }
 
-    for (CommandObject<T> commandObject : commandObjects) {
+  private <T> void executeOneByOne(List<Integer> indexes, List<CommandObject<T>> commandObjects,
+      Object[] replies, Exception[] errors) {
+    for (int index : indexes) {
       try {
         // Execute each command on its appropriate shard using the existing retry logic
-        T aReply = doExecuteCommand(commandObject, slotBasedConnectionResolver, true);
-        aggregator.addSuccess(aReply);
+        replies[index] = doExecuteCommand(commandObjects.get(index), slotBasedConnectionResolver,
+          true);
       } catch (Exception anError) {
-        // Extract node from exception (JedisClusterOperationException includes node info)
-        aggregator.addError(anError);
+        errors[index] = anError;
       }
     }
+  }
 
-    return aggregator.getResult();
+  /**
+   * Runs the tasks in parallel on the executor of the provider and on the calling thread, and waits
+   * for all of them. The tasks are claimed one at a time by the calling thread and by the workers
+   * as they get to run, so the calling thread runs every task no worker has claimed: a task never
+   * waits in the queue of the executor behind the work of other callers. The tasks must not throw.
+   */
+  private void runInParallel(List<Runnable> tasks) {
+    ExecutorService executor = tasks.size() > 1 ? provider.getPipelineExecutor() : null;
+    if (executor == null) {
+      tasks.forEach(Runnable::run);
+      return;
+    }
+
+    final ParallelTasks parallel = new ParallelTasks(tasks);
+    for (int i = 1; i < tasks.size(); i++) {
+      try {
+        executor.execute(parallel::runClaimed);
+      } catch (RejectedExecutionException ree) {
+        // the provider is being closed, the calling thread runs the tasks left
+        break;
+      }
+    }
+    parallel.runClaimed();
+    parallel.awaitCompletion();
+  }
+
+  private static final class ParallelTasks {
+
+    private final List<Runnable> tasks;
+    private final AtomicInteger next = new AtomicInteger();
+    private final CountDownLatch completed;
+    private volatile Throwable failure;
+
+    private ParallelTasks(List<Runnable> tasks) {
+      this.tasks = tasks;
+      this.completed = new CountDownLatch(tasks.size());
+    }
+
+    private void runClaimed() {
+      int index;
+      while ((index = next.getAndIncrement()) < tasks.size()) {
+        try {
+          tasks.get(index).run();
+        } catch (Throwable t) {
+          failure = t;
+        } finally {
+          completed.countDown();
+        }
+      }
+    }
+
+    private void awaitCompletion() {
+      boolean interrupted = false;
+      try {
+        while (true) {
+          try {
+            completed.await();
+            break;
+          } catch (InterruptedException ie) {
+            interrupted = true;
+          }
+        }
+      } finally {
+        if (interrupted) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      if (failure != null) {
+        throw new JedisException(failure);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T reply(Object reply) {
+    return (T) reply;
+  }
+
+  /**
+   * Wraps the reply of a command holding only some keys of a split command with the positions of
+   * its keys, so that its values are aggregated at those positions.
+   */
+  private static Object positioned(CommandObject<?> commandObject, Object reply) {
+    if (commandObject instanceof PositionedCommandObject && reply instanceof List) {
+      PositionedCommandObject<?> positioned = (PositionedCommandObject<?>) commandObject;
+      return new PositionedList<>((List<?>) reply, positioned.getKeyPositions(),
+          positioned.getKeyCount());
+    }
+    return reply;
   }
 
   @Override
@@ -196,7 +425,7 @@ public class ClusterCommandExecutor implements CommandExecutor {
       // NOTE(imalinovskyi): Handling of special commands (SCAN, FT.CURSOR, etc.) should happen
       // in the custom abstractions and dedicated executor methods.
       case MULTI_SHARD: // Here we assume that MULTI_SHARD is already split into single-shard commands
-                        // and we just execute them one by one
+                        // and executed by executeMultiShardCommand
       case SPECIAL:
       case DEFAULT:
       default:
@@ -282,11 +511,9 @@ public class ClusterCommandExecutor implements CommandExecutor {
         if (followRedirections) {
           log.debug("Redirected by server to {}", jre.getTargetNode());
           redirect = jre;
-          // if MOVED redirection occurred,
-          if (jre instanceof JedisMovedDataException) {
-            // it rebuilds cluster's slot cache recommended by Redis cluster specification
-            provider.renewSlotCache(connection);
-          }
+          // the slot cache is updated as recommended by Redis cluster specification: the target of
+          // a MOVED at once, and the whole cache in the background
+          provider.handleRedirection(jre);
         } else {
           // When followRedirections is false, throw the redirection exception immediately
           // instead of silently handling or ignoring it
@@ -0,0 +1,87 @@
+package redis.clients.jedis.executors;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.MultiplexedConnection;
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.providers.ConnectionProvider;
+import redis.clients.jedis.util.IOUtils;
+import redis.clients.jedis.util.JedisAsserts;
+
+/**
+ * Executes commands asynchronously over a fixed number of {@link MultiplexedConnection}s, which
+ * are borrowed from a {@link ConnectionProvider} on first use and selected round-robin. A broken
+ * connection is replaced by the next command that selects it.
+ * <p>
+ * Commands are sent to the connections of {@link ConnectionProvider#getConnection()}, so the
+ * provider must not route commands, e.g. to cluster nodes.
+ */
+@Experimental
+public class MultiplexedCommandExecutor implements AsyncCommandExecutor {
+
+  public static final int DEFAULT_CONNECTIONS = 2;
+
+  private final ConnectionProvider provider;
+  private final AtomicReferenceArray<MultiplexedConnection> connections;
+  private final AtomicInteger next = new AtomicInteger();
+  private volatile boolean closed = false;
+
+  public MultiplexedCommandExecutor(ConnectionProvider provider) {
+    this(provider, DEFAULT_CONNECTIONS);
+  }
+
+  public MultiplexedCommandExecutor(ConnectionProvider provider, int connections) {
+    JedisAsserts.isTrue(connections > 0, "Number of connections must be greater than 0");
+    this.provider = provider;
+    this.connections = new AtomicReferenceArray<>(connections);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> executeCommand(CommandObject<T> commandObject) {
+    final MultiplexedConnection connection;
+    try {
+      connection = getConnection();
+    } catch (JedisException je) {
+      CompletableFuture<T> future = new CompletableFuture<>();
+      future.completeExceptionally(je);
+      return future;
+    }
+    return connection.executeCommand(commandObject);
+  }
+
+  private MultiplexedConnection getConnection() {
+    final int index = (next.getAndIncrement() & Integer.MAX_VALUE) % connections.length();
+    MultiplexedConnection connection = connections.get(index);
+    if (connection != null && !connection.isBroken()) {
+      return connection;
+    }
+    synchronized (this) {
+      if (closed) {
+        throw new JedisException("Executor is closed.");
+      }
+      connection = connections.get(index);
+      if (connection == null || connection.isBroken()) {
+        IOUtils.closeQuietly(connection);
+        connection = new MultiplexedConnection(provider.getConnection());
+        connections.set(index, connection);
+      }
+      return connection;
+    }
+  }
+
+  /**
+   * Waits for the replies of the pending commands and returns the connections to the provider. The
+   * provider itself is not closed.
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    for (int i = 0; i < connections.length(); i++) {
+      IOUtils.closeQuietly(connections.getAndSet(i, null));
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package redis.clients.jedis.executors.aggregators;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 class ListAggregator<T> implements Aggregator<List<T>, List<T>> {
@@ -36,6 +37,10 @@ class ListAggregator<T> implements Aggregator<List<T>, List<T>> {
       return null;
     }
 
+    if (parts.get(0) instanceof PositionedList) {
+      return scatter();
+    }
+
     if (parts.size() == 1) {
       return parts.get(0);
     }
@@ -48,4 +53,18 @@ class ListAggregator<T> implements Aggregator<List<T>, List<T>> {
 
     return result;
   }
-}
\ No newline at end of file
+
+  private List<T> scatter() {
+    List<T> result = new ArrayList<>(
+        Collections.nCopies(((PositionedList<T>) parts.get(0)).getTotalSize(), null));
+
+    for (List<T> part : parts) {
+      int[] positions = ((PositionedList<T>) part).getPositions();
+      for (int i = 0; i < positions.length; i++) {
+        result.set(positions[i], part.get(i));
+      }
+    }
+
+    return result;
+  }
+}
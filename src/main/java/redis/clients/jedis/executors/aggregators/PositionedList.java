@@ -0,0 +1,53 @@
+package redis.clients.jedis.executors.aggregators;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import redis.clients.jedis.annots.Internal;
+
+/**
+ * The values of a part of a multi-shard reply, with the position of each value in the whole reply.
+ * The {@link Aggregator} of lists places each value at its position instead of concatenating the
+ * parts.
+ */
+@Internal
+public final class PositionedList<T> extends AbstractList<T> implements RandomAccess {
+
+  private final List<T> values;
+  private final int[] positions;
+  private final int totalSize;
+
+  /**
+   * @param values the values of the part
+   * @param positions the position of each value in the whole reply
+   * @param totalSize the size of the whole reply
+   */
+  public PositionedList(List<T> values, int[] positions, int totalSize) {
+    if (values.size() != positions.length) {
+      throw new IllegalArgumentException(
+          "Expected " + positions.length + " values, got " + values.size());
+    }
+    this.values = values;
+    this.positions = positions;
+    this.totalSize = totalSize;
+  }
+
+  @Override
+  public T get(int index) {
+    return values.get(index);
+  }
+
+  @Override
+  public int size() {
+    return values.size();
+  }
+
+  int[] getPositions() {
+    return positions;
+  }
+
+  int getTotalSize() {
+    return totalSize;
+  }
+}
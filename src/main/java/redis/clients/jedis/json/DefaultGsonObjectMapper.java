@@ -2,6 +2,15 @@ package redis.clients.jedis.json;
 
 import com.google.gson.Gson;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Use the default {@link Gson} configuration for serialization and deserialization JSON
  * operations.
@@ -23,4 +32,26 @@ public class DefaultGsonObjectMapper implements JsonObjectMapper {
   public String toJson(Object value) {
     return gson.toJson(value);
   }
+
+  @Override
+  public boolean isStreaming() {
+    return true;
+  }
+
+  @Override
+  public void writeTo(Object value, OutputStream out) throws IOException {
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    gson.toJson(value, writer);
+    writer.flush();
+  }
+
+  @Override
+  public <T> T readFrom(InputStream in, Class<T> valueType) {
+    return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), valueType);
+  }
+
+  @Override
+  public <T> T readFrom(byte[] value, Class<T> valueType) {
+    return readFrom(new ByteArrayInputStream(value), valueType);
+  }
 }
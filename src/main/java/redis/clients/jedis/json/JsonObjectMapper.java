@@ -1,8 +1,21 @@
 package redis.clients.jedis.json;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Represents the ability of serialize an object to JSON format string and deserialize it to the
  * typed object.
+ * <p>
+ * The JSON documents are sent and received as UTF-8 bytes. Commands read the replies with
+ * {@link #readFrom(byte[], Class)}, and send the documents returned by {@link #toJson(Object)}
+ * unless {@link #isStreaming()} is {@code true}, in which case they are written with
+ * {@link #writeTo(Object, OutputStream)}. Implementations able to read and write those bytes
+ * directly should override these methods, so that large documents are not copied into a
+ * {@link String} on the way.
  * @see DefaultGsonObjectMapper Default implementation for <em>JSON serializer/deserializer</em>
  *     engine with com.google.gson.Gson
  */
@@ -22,4 +35,65 @@ public interface JsonObjectMapper {
    * @return the JSON format string
    */
   String toJson(Object value);
+
+  /**
+   * Tells whether {@link #writeTo(Object, OutputStream)} writes the UTF-8 encoded JSON directly,
+   * rather than encoding {@link #toJson(Object)} as the default implementation does.
+   * <p>
+   * The default implementation returns {@code false}, so that commands send the result of
+   * {@link #toJson(Object)} as is.
+   * @return whether commands should serialize with {@link #writeTo(Object, OutputStream)}
+   */
+  default boolean isStreaming() {
+    return false;
+  }
+
+  /**
+   * Perform serialization from object to UTF-8 encoded JSON, written to the given stream. The
+   * stream is neither flushed nor closed.
+   * <p>
+   * The default implementation writes the encoding of {@link #toJson(Object)}.
+   * @param value the object to convert
+   * @param out   the stream to write to
+   * @throws IOException if the stream fails
+   */
+  default void writeTo(Object value, OutputStream out) throws IOException {
+    out.write(toJson(value).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Perform deserialization from UTF-8 encoded JSON, read from the given stream until its end, to
+   * the given type object as argument. The stream is not closed.
+   * <p>
+   * The default implementation reads the whole stream and passes it to
+   * {@link #fromJson(String, Class)}.
+   * @param in        the stream to read from
+   * @param valueType the object type to convert
+   * @param <T>       the type object to convert
+   * @return the instance of an object to the type given argument
+   * @throws IOException if the stream fails
+   */
+  default <T> T readFrom(InputStream in, Class<T> valueType) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      bytes.write(buffer, 0, read);
+    }
+    return fromJson(new String(bytes.toByteArray(), StandardCharsets.UTF_8), valueType);
+  }
+
+  /**
+   * Perform deserialization from UTF-8 encoded JSON to the given type object as argument.
+   * <p>
+   * The default implementation decodes the bytes and passes them to
+   * {@link #fromJson(String, Class)}.
+   * @param value     the JSON format, which is not modified
+   * @param valueType the object type to convert
+   * @param <T>       the type object to convert
+   * @return the instance of an object to the type given argument
+   */
+  default <T> T readFrom(byte[] value, Class<T> valueType) {
+    return fromJson(new String(value, StandardCharsets.UTF_8), valueType);
+  }
 }
@@ -0,0 +1,174 @@
+package redis.clients.jedis.mcf;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import redis.clients.jedis.annots.Experimental;
+import redis.clients.jedis.util.JedisAsserts;
+import redis.clients.jedis.util.JedisExecutors;
+
+/**
+ * The threads running the health checks of multi-database clients: a single scheduler thread,
+ * which only times the checks and never waits on them, and a pool running the probes. A probe
+ * which does not complete in time is cancelled and aborted by its strategy, which gives its thread
+ * back to the pool.
+ * <p>
+ * By default, all clients share {@link #shared()}, whose probe pool has a thread per endpoint
+ * checked, and at least as many as the {@value #PROBE_THREADS_PROPERTY} system property sets, so
+ * that the probe of an endpoint never waits for the probes of the endpoints of other clients. A
+ * client can be given its own instance, with a fixed number of probe threads, with
+ * {@link redis.clients.jedis.MultiDbConfig.Builder#healthCheckExecutors}.
+ */
+@Experimental
+public final class HealthCheckExecutors implements AutoCloseable {
+
+  /**
+   * The default number of threads of the probe pool.
+   */
+  public static final int DEFAULT_PROBE_THREADS = 4;
+
+  /**
+   * The system property setting the least number of probe threads of {@link #shared()}, which
+   * defaults to {@link #DEFAULT_PROBE_THREADS}.
+   */
+  public static final String PROBE_THREADS_PROPERTY = "jedis.healthCheck.probeThreads";
+
+  /**
+   * The periodic checks of an endpoint are spread by up to this fraction of their interval, so that
+   * the endpoints are not probed all at once.
+   */
+  static final double JITTER_RATIO = 0.1;
+
+  private static final AtomicInteger SEQUENCE = new AtomicInteger(1);
+
+  private static final class SharedHolder {
+    static final HealthCheckExecutors SHARED = new HealthCheckExecutors(
+        Math.max(1, Integer.getInteger(PROBE_THREADS_PROPERTY, DEFAULT_PROBE_THREADS)), false, true);
+  }
+
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService probeExecutor;
+  private final boolean shared;
+  private final int probeThreads;
+
+  // the pool sized by register and unregister, if any; guarded by this
+  private final ThreadPoolExecutor growingPool;
+  private int checks = 0;
+
+  private HealthCheckExecutors(int probeThreads, boolean virtualThreads, boolean shared) {
+    String prefix = "jedis-healthcheck-" + (shared ? "" : SEQUENCE.getAndIncrement() + "-");
+    ScheduledThreadPoolExecutor scheduledPool = new ScheduledThreadPoolExecutor(1,
+        JedisExecutors.daemonThreadFactory(prefix + "scheduler-"));
+    // cancelled checks do not linger in the queue until they are due
+    scheduledPool.setRemoveOnCancelPolicy(true);
+    this.scheduler = scheduledPool;
+
+    ExecutorService virtualExecutor = virtualThreads
+        ? JedisExecutors.newVirtualThreadPerTaskExecutor() : null;
+    ThreadPoolExecutor growing = null;
+    if (virtualExecutor != null) {
+      this.probeExecutor = virtualExecutor;
+    } else {
+      ThreadPoolExecutor pool = new ThreadPoolExecutor(probeThreads, probeThreads, 60,
+          TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+          JedisExecutors.daemonThreadFactory(prefix + "worker-"));
+      // no thread is kept while no check is running
+      pool.allowCoreThreadTimeOut(true);
+      this.probeExecutor = pool;
+      if (shared) {
+        growing = pool;
+      }
+    }
+    this.growingPool = growing;
+    this.probeThreads = probeThreads;
+    this.shared = shared;
+  }
+
+  /**
+   * @return the instance shared by the clients not given one of their own, which is never closed
+   */
+  public static HealthCheckExecutors shared() {
+    return SharedHolder.SHARED;
+  }
+
+  /**
+   * @param probeThreads the number of threads running probes at the same time
+   * @return a new instance, to be closed by its owner
+   */
+  public static HealthCheckExecutors create(int probeThreads) {
+    JedisAsserts.isTrue(probeThreads > 0, "Number of probe threads must be greater than 0");
+    return new HealthCheckExecutors(probeThreads, false, false);
+  }
+
+  /**
+   * Creates an instance running each probe on a virtual thread of its own, if virtual threads are
+   * available, i.e. on JDK 21 or later. Otherwise, the probes run on
+   * {@link #DEFAULT_PROBE_THREADS} platform threads.
+   * @return a new instance, to be closed by its owner
+   */
+  public static HealthCheckExecutors createWithVirtualThreads() {
+    return new HealthCheckExecutors(DEFAULT_PROBE_THREADS, true, false);
+  }
+
+  ScheduledExecutorService getScheduler() {
+    return scheduler;
+  }
+
+  ExecutorService getProbeExecutor() {
+    return probeExecutor;
+  }
+
+  /**
+   * Registers an endpoint checked with this instance, giving the probe pool of {@link #shared()} a
+   * thread more once there are more endpoints than its least number of threads.
+   */
+  synchronized void register() {
+    checks++;
+    if (growingPool != null && checks > growingPool.getMaximumPoolSize()) {
+      growingPool.setMaximumPoolSize(checks);
+      growingPool.setCorePoolSize(checks);
+    }
+  }
+
+  /**
+   * Unregisters an endpoint registered with {@link #register()}.
+   */
+  synchronized void unregister() {
+    checks--;
+    int size = Math.max(probeThreads, checks);
+    if (growingPool != null && size < growingPool.getMaximumPoolSize()) {
+      growingPool.setCorePoolSize(size);
+      growingPool.setMaximumPoolSize(size);
+    }
+  }
+
+  /**
+   * @param interval an interval in milliseconds
+   * @return the interval, shifted at random by up to {@link #JITTER_RATIO} of it either way
+   */
+  static long jitter(long interval) {
+    long spread = (long) (interval * JITTER_RATIO);
+    if (spread == 0) {
+      return interval;
+    }
+    return interval + ThreadLocalRandom.current().nextLong(-spread, spread + 1);
+  }
+
+  /**
+   * Stops the threads, unless this is the {@link #shared()} instance.
+   */
+  @Override
+  public void close() {
+    if (shared) {
+      return;
+    }
+    scheduler.shutdownNow();
+    probeExecutor.shutdownNow();
+  }
+}
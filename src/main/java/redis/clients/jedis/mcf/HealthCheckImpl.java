@@ -1,15 +1,10 @@
 
 package redis.clients.jedis.mcf;
 
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -21,6 +16,11 @@ import redis.clients.jedis.annots.VisibleForTesting;
 import redis.clients.jedis.mcf.ProbingPolicy.ProbeContext;
 import redis.clients.jedis.util.JedisAsserts;
 
+/**
+ * Checks the health of an endpoint periodically. The checks are timed by the scheduler of
+ * {@link HealthCheckExecutors} and their probes run on its probe pool; no thread waits for a probe
+ * or sleeps between probes, so checking more endpoints does not take more threads.
+ */
 public class HealthCheckImpl implements HealthCheck {
 
   static class HealthProbeContext implements ProbeContext {
@@ -97,35 +97,32 @@ public class HealthCheckImpl implements HealthCheck {
 
   private static final Logger log = LoggerFactory.getLogger(HealthCheckImpl.class);
 
-  private static AtomicInteger workerCounter = new AtomicInteger(1);
-  private static ExecutorService workers = Executors.newCachedThreadPool(r -> {
-    Thread t = new Thread(r, "jedis-healthcheck-worker-" + workerCounter.getAndIncrement());
-    t.setDaemon(true);
-    return t;
-  });
-
   private Endpoint endpoint;
   private HealthCheckStrategy strategy;
   private AtomicReference<HealthCheckResult> resultRef = new AtomicReference<HealthCheckResult>();
-  private Consumer<HealthStatusChangeEvent> statusChangeCallback;
+  private volatile Consumer<HealthStatusChangeEvent> statusChangeCallback;
 
-  private final ScheduledExecutorService scheduler;
+  private final HealthCheckExecutors executors;
+  private volatile boolean stopped = false;
+  private volatile Future<?> nextCheck;
+  private volatile ProbeRun currentRun;
+  private final AtomicBoolean registered = new AtomicBoolean(false);
 
   HealthCheckImpl(Endpoint endpoint, HealthCheckStrategy strategy,
       Consumer<HealthStatusChangeEvent> statusChangeCallback) {
+    this(endpoint, strategy, statusChangeCallback, HealthCheckExecutors.shared());
+  }
+
+  HealthCheckImpl(Endpoint endpoint, HealthCheckStrategy strategy,
+      Consumer<HealthStatusChangeEvent> statusChangeCallback, HealthCheckExecutors executors) {
 
     JedisAsserts.isTrue(strategy.getNumProbes() > 0,
       "Number of HealthCheckStrategy probes must be greater than 0");
     this.endpoint = endpoint;
     this.strategy = strategy;
     this.statusChangeCallback = statusChangeCallback;
+    this.executors = executors;
     resultRef.set(new HealthCheckResult(0L, HealthStatus.UNKNOWN));
-
-    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-      Thread t = new Thread(r, "jedis-healthcheck-" + this.endpoint);
-      t.setDaemon(true);
-      return t;
-    });
   }
 
   public Endpoint getEndpoint() {
@@ -137,24 +134,26 @@ public class HealthCheckImpl implements HealthCheck {
   }
 
   public void start() {
-    scheduler.scheduleAtFixedRate(this::healthCheck, 0, strategy.getInterval(),
-      TimeUnit.MILLISECONDS);
+    if (registered.compareAndSet(false, true)) {
+      executors.register();
+    }
+    scheduleCheck(0);
   }
 
   public void stop() {
+    stopped = true;
     strategy.close();
     this.statusChangeCallback = null;
-    scheduler.shutdown();
-
-    try {
-      // Wait for graceful shutdown then force if required
-      if (!scheduler.awaitTermination(1, TimeUnit.SECONDS)) {
-        scheduler.shutdownNow();
-      }
-    } catch (InterruptedException e) {
-      // Force shutdown immediately
-      scheduler.shutdownNow();
-      Thread.currentThread().interrupt();
+    Future<?> check = nextCheck;
+    if (check != null) {
+      check.cancel(false);
+    }
+    ProbeRun run = currentRun;
+    if (run != null) {
+      run.cancel();
+    }
+    if (registered.compareAndSet(true, false)) {
+      executors.unregister();
     }
   }
 
@@ -164,43 +163,154 @@ public class HealthCheckImpl implements HealthCheck {
     return newStatus;
   }
 
+  private void scheduleCheck(long delay) {
+    if (stopped) {
+      return;
+    }
+    try {
+      nextCheck = executors.getScheduler().schedule(this::healthCheck, delay,
+        TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      log.debug("Health check executors closed, no more checks for {}", endpoint);
+    }
+  }
+
   private void healthCheck() {
-    long me = System.currentTimeMillis();
-    HealthStatus update = null;
-    HealthProbeContext probeContext = new HealthProbeContext(strategy.getPolicy(),
-        strategy.getNumProbes());
+    // checks start a jittered interval apart, and a check still probing delays the next one
+    scheduleCheck(HealthCheckExecutors.jitter(strategy.getInterval()));
+    ProbeRun previous = currentRun;
+    if (previous != null && !previous.isDone()) {
+      return;
+    }
+    ProbeRun run = new ProbeRun(System.currentTimeMillis(),
+        new HealthProbeContext(strategy.getPolicy(), strategy.getNumProbes()));
+    currentRun = run;
+    run.probe();
+  }
 
-    while (!probeContext.isCompleted()) {
-      Future<HealthStatus> future = workers.submit(this::doHealthCheck);
-      try {
-        update = future.get(strategy.getTimeout(), TimeUnit.MILLISECONDS);
-        probeContext.record(update == HealthStatus.HEALTHY);
-      } catch (TimeoutException | ExecutionException e) {
-        future.cancel(true);
-        if (log.isWarnEnabled()) {
-          log.warn(String.format("Health check timed out or failed for %s.", endpoint), e);
-        }
-        probeContext.record(false);
-      } catch (InterruptedException e) {// Health check thread was interrupted
-        future.cancel(true);
-        Thread.currentThread().interrupt(); // Restore interrupted status
-        log.warn(String.format("Health check interrupted for %s.", endpoint), e);
-        // thread interrupted, stop health check process
+  /**
+   * A check in progress: its probes run one after the other on the probe pool, each with a timeout
+   * and a delay before the next one timed by the scheduler. The timeout starts when the probe starts
+   * running: a probe waiting for a thread of the pool says nothing about its endpoint, so it does
+   * not time out, and the check is left without a result until it runs.
+   */
+  private final class ProbeRun {
+
+    private final long startedAt;
+    private final HealthProbeContext probeContext;
+
+    // guarded by this
+    private int attempt = 0;
+    private boolean recorded = false;
+    private boolean done = false;
+    private Future<?> probe;
+    private Future<?> timeout;
+
+    ProbeRun(long startedAt, HealthProbeContext probeContext) {
+      this.startedAt = startedAt;
+      this.probeContext = probeContext;
+    }
+
+    synchronized boolean isDone() {
+      return done;
+    }
+
+    synchronized void probe() {
+      if (done || stopped) {
+        done = true;
         return;
       }
-      if (!probeContext.isCompleted()) {
+      final int current = ++attempt;
+      recorded = false;
+      timeout = null;
+      try {
+        probe = executors.getProbeExecutor().submit(() -> runProbe(current));
+      } catch (RejectedExecutionException e) {
+        done = true;
+      }
+    }
+
+    private void runProbe(int current) {
+      synchronized (this) {
+        if (done || recorded || current != attempt) {
+          return;
+        }
         try {
-          Thread.sleep(strategy.getDelayInBetweenProbes());
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt(); // Restore interrupted status
-          log.warn(String.format("Health check interrupted while sleeping for %s.", endpoint), e);
-          // thread interrupted, stop health check process
+          timeout = executors.getScheduler().schedule(() -> onTimeout(current),
+            strategy.getTimeout(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+          done = true;
           return;
         }
       }
+      boolean healthy;
+      try {
+        healthy = doHealthCheck() == HealthStatus.HEALTHY;
+      } catch (RuntimeException e) {
+        if (log.isWarnEnabled()) {
+          log.warn(String.format("Health check failed for %s.", endpoint), e);
+        }
+        healthy = false;
+      }
+      record(current, healthy);
     }
 
-    safeUpdate(me, probeContext.getResult());
+    private void onTimeout(int current) {
+      Future<?> timedOut;
+      synchronized (this) {
+        timedOut = probe;
+      }
+      if (record(current, false)) {
+        log.warn("Health check timed out for {}.", endpoint);
+        // the running probe is interrupted, and unblocked by the strategy
+        timedOut.cancel(true);
+        strategy.abortHealthCheck(endpoint);
+      }
+    }
+
+    /**
+     * Records the outcome of a probe, unless it was recorded already, i.e. the probe completed
+     * after its timeout or the other way round.
+     * @return whether the outcome was recorded
+     */
+    private boolean record(int current, boolean healthy) {
+      HealthStatus result;
+      synchronized (this) {
+        if (done || recorded || current != attempt) {
+          return false;
+        }
+        recorded = true;
+        if (timeout != null) {
+          timeout.cancel(false);
+        }
+        probeContext.record(healthy);
+        if (!probeContext.isCompleted()) {
+          try {
+            executors.getScheduler().schedule(this::probe, strategy.getDelayInBetweenProbes(),
+              TimeUnit.MILLISECONDS);
+          } catch (RejectedExecutionException e) {
+            done = true;
+          }
+          return true;
+        }
+        done = true;
+        result = probeContext.getResult();
+      }
+      if (!stopped) {
+        safeUpdate(startedAt, result);
+      }
+      return true;
+    }
+
+    synchronized void cancel() {
+      done = true;
+      if (timeout != null) {
+        timeout.cancel(false);
+      }
+      if (probe != null) {
+        probe.cancel(true);
+      }
+    }
   }
 
   /**
@@ -262,8 +372,9 @@ public class HealthCheckImpl implements HealthCheck {
   }
 
   private void notifyListeners(HealthStatus oldStatus, HealthStatus newStatus) {
-    if (statusChangeCallback != null) {
-      statusChangeCallback.accept(new HealthStatusChangeEvent(endpoint, oldStatus, newStatus));
+    Consumer<HealthStatusChangeEvent> callback = statusChangeCallback;
+    if (callback != null) {
+      callback.accept(new HealthStatusChangeEvent(endpoint, oldStatus, newStatus));
     }
   }
 
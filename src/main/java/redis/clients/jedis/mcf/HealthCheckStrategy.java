@@ -24,6 +24,14 @@ public interface HealthCheckStrategy extends Closeable {
    */
   HealthStatus doHealthCheck(Endpoint endpoint);
 
+  /**
+   * Abort the health check of the given endpoint in progress, if any, e.g. by closing its
+   * connection, so that the thread running it is released. Called when the check times out.
+   * @param endpoint the endpoint whose health check timed out
+   */
+  default void abortHealthCheck(Endpoint endpoint) {
+  }
+
   /**
    * Close any resources used by the health check strategy.
    */
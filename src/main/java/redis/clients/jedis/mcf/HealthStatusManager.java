@@ -12,6 +12,18 @@ public class HealthStatusManager {
   private final HealthCheckCollection healthChecks = new HealthCheckCollection();
   private final List<HealthStatusListener> listeners = new CopyOnWriteArrayList<>();
   private final Map<Endpoint, List<HealthStatusListener>> endpointListeners = new ConcurrentHashMap<Endpoint, List<HealthStatusListener>>();
+  private final HealthCheckExecutors executors;
+
+  public HealthStatusManager() {
+    this(HealthCheckExecutors.shared());
+  }
+
+  /**
+   * @param executors the threads running the health checks, which this manager does not close
+   */
+  public HealthStatusManager(HealthCheckExecutors executors) {
+    this.executors = executors;
+  }
 
   public void registerListener(HealthStatusListener listener) {
     listeners.add(listener);
@@ -45,7 +57,7 @@ public class HealthStatusManager {
   }
 
   public HealthCheck add(Endpoint endpoint, HealthCheckStrategy strategy) {
-    HealthCheck hc = new HealthCheckImpl(endpoint, strategy, this::notifyListeners);
+    HealthCheck hc = new HealthCheckImpl(endpoint, strategy, this::notifyListeners, executors);
     HealthCheck old = healthChecks.add(hc);
     hc.start();
     if (old != null) {
@@ -17,13 +17,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import java.util.function.Consumer;
@@ -87,19 +88,16 @@ public class MultiDbConnectionProvider implements ConnectionProvider {
 
   private final List<Class<? extends Throwable>> fallbackExceptionList;
 
-  private final HealthStatusManager healthStatusManager = new HealthStatusManager();
+  private final HealthCheckExecutors healthCheckExecutors;
+
+  private final HealthStatusManager healthStatusManager;
 
   // Flag to control when handleHealthStatusChange should process events (only after initialization)
   private volatile boolean initializationComplete = false;
 
-  // Failback mechanism fields
-  private static final AtomicInteger failbackThreadCounter = new AtomicInteger(1);
-  private final ScheduledExecutorService failbackScheduler = Executors
-      .newSingleThreadScheduledExecutor(r -> {
-        Thread t = new Thread(r, "jedis-failback-" + failbackThreadCounter.getAndIncrement());
-        t.setDaemon(true);
-        return t;
-      });
+  // Failback mechanism fields, the check is timed by the scheduler of the health checks
+  private volatile ScheduledFuture<?> failbackCheck;
+  private final AtomicBoolean failbackCheckRunning = new AtomicBoolean(false);
 
   // Store retry and circuit breaker configs for dynamic database addition/removal
   private final RetryConfig retryConfig;
@@ -131,6 +129,9 @@ public class MultiDbConnectionProvider implements ConnectionProvider {
 
     this.multiDbConfig = multiDbConfig;
     this.cache = cache;
+    this.healthCheckExecutors = multiDbConfig.getHealthCheckExecutors() != null
+        ? multiDbConfig.getHealthCheckExecutors() : HealthCheckExecutors.shared();
+    this.healthStatusManager = new HealthStatusManager(healthCheckExecutors);
 
     ////////////// Configure Retry ////////////////////
     MultiDbConfig.RetryConfig commandRetry = multiDbConfig.getCommandRetry();
@@ -171,8 +172,8 @@ public class MultiDbConnectionProvider implements ConnectionProvider {
     // Start periodic failback checker
     if (multiDbConfig.isFailbackSupported()) {
       long failbackInterval = multiDbConfig.getFailbackCheckInterval();
-      failbackScheduler.scheduleAtFixedRate(this::periodicFailbackCheck, failbackInterval,
-        failbackInterval, TimeUnit.MILLISECONDS);
+      failbackCheck = healthCheckExecutors.getScheduler().scheduleAtFixedRate(
+        this::submitFailbackCheck, failbackInterval, failbackInterval, TimeUnit.MILLISECONDS);
     }
   }
 
@@ -502,6 +503,29 @@ public class MultiDbConnectionProvider implements ConnectionProvider {
         "No healthy database available after initialization policy succeeded.");
   }
 
+  /**
+   * Runs {@link #periodicFailbackCheck()} on the probe pool, so that a failback never delays the
+   * health checks, unless the previous one is still running.
+   */
+  private void submitFailbackCheck() {
+    if (!failbackCheckRunning.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      healthCheckExecutors.getProbeExecutor().execute(() -> {
+        try {
+          periodicFailbackCheck();
+        } finally {
+          failbackCheckRunning.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // thrown out of the scheduled task, it would cancel the next failback checks silently
+      failbackCheckRunning.set(false);
+      log.warn("Periodic failback check rejected, will retry at the next interval", e);
+    }
+  }
+
   /**
    * Periodic failback checker - runs at configured intervals to check for failback opportunities
    */
@@ -744,15 +768,10 @@ public class MultiDbConnectionProvider implements ConnectionProvider {
       healthStatusManager.close();
     }
 
-    // Shutdown the failback scheduler
-    failbackScheduler.shutdown();
-    try {
-      if (!failbackScheduler.awaitTermination(1, TimeUnit.SECONDS)) {
-        failbackScheduler.shutdownNow();
-      }
-    } catch (InterruptedException e) {
-      failbackScheduler.shutdownNow();
-      Thread.currentThread().interrupt();
+    // Stop the failback checks, the scheduler is not owned by this provider
+    ScheduledFuture<?> check = failbackCheck;
+    if (check != null) {
+      check.cancel(false);
     }
 
     // Close all database connection pools
@@ -1,19 +1,37 @@
 package redis.clients.jedis.mcf;
 
+import java.io.IOException;
+import java.time.Duration;
+
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
 import redis.clients.jedis.Connection;
+import redis.clients.jedis.DefaultJedisClientConfig;
 import redis.clients.jedis.Endpoint;
 import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.Protocol;
 import redis.clients.jedis.RedisClient;
 import redis.clients.jedis.MultiDbConfig.StrategySupplier;
 
+/**
+ * Checks an endpoint with a PING on a connection of its own pool. A probe waits for a pooled
+ * connection, connects and reads the reply no longer than its timeout each, and the wait for a
+ * connection is interrupted when the timed-out probe is cancelled; a probe waiting for the reply is
+ * unblocked by {@link #abortHealthCheck(Endpoint)}.
+ */
 public class PingStrategy implements HealthCheckStrategy {
   private static final int MAX_HEALTH_CHECK_POOL_SIZE = 2;
 
+  private static final CommandObject<String> PING = new CommandObject<>(
+      new CommandArguments(Protocol.Command.PING), BuilderFactory.STRING);
+
   private final RedisClient jedis;
   private final HealthCheckStrategy.Config config;
+  private volatile Connection probing;
 
   public PingStrategy(HostAndPort hostAndPort, JedisClientConfig jedisClientConfig) {
     this(hostAndPort, jedisClientConfig, HealthCheckStrategy.Config.create());
@@ -23,11 +41,32 @@ public class PingStrategy implements HealthCheckStrategy {
       HealthCheckStrategy.Config config) {
     GenericObjectPoolConfig<Connection> poolConfig = new GenericObjectPoolConfig<>();
     poolConfig.setMaxTotal(MAX_HEALTH_CHECK_POOL_SIZE);
-    this.jedis = RedisClient.builder().hostAndPort(hostAndPort).clientConfig(jedisClientConfig)
-        .poolConfig(poolConfig).build();
+    // a probe never waits for a connection longer than it may take
+    poolConfig.setMaxWait(Duration.ofMillis(Math.max(1, config.getTimeout())));
+    this.jedis = RedisClient.builder().hostAndPort(hostAndPort)
+        .clientConfig(boundTimeouts(jedisClientConfig, config.getTimeout())).poolConfig(poolConfig)
+        .build();
     this.config = config;
   }
 
+  /**
+   * Bounds the connection and socket timeouts by the probe timeout, since a connect to an
+   * unreachable host can not be aborted.
+   */
+  private static JedisClientConfig boundTimeouts(JedisClientConfig clientConfig, int timeout) {
+    if (timeout <= 0) {
+      return clientConfig;
+    }
+    return DefaultJedisClientConfig.builder().from(clientConfig)
+        .connectionTimeoutMillis(bound(clientConfig.getConnectionTimeoutMillis(), timeout))
+        .socketTimeoutMillis(bound(clientConfig.getSocketTimeoutMillis(), timeout)).build();
+  }
+
+  private static int bound(int clientTimeout, int timeout) {
+    // 0 waits forever
+    return clientTimeout <= 0 ? timeout : Math.min(clientTimeout, timeout);
+  }
+
   @Override
   public int getInterval() {
     return config.getInterval();
@@ -55,7 +94,28 @@ public class PingStrategy implements HealthCheckStrategy {
 
   @Override
   public HealthStatus doHealthCheck(Endpoint endpoint) {
-    return "PONG".equals(jedis.ping()) ? HealthStatus.HEALTHY : HealthStatus.UNHEALTHY;
+    try (Connection connection = jedis.getPool().getResource()) {
+      probing = connection;
+      try {
+        return "PONG".equals(connection.executeCommand(PING)) ? HealthStatus.HEALTHY
+            : HealthStatus.UNHEALTHY;
+      } finally {
+        probing = null;
+      }
+    }
+  }
+
+  @Override
+  public void abortHealthCheck(Endpoint endpoint) {
+    Connection connection = probing;
+    if (connection != null) {
+      // unblocks the read of the reply, and the connection is dropped from the pool
+      try {
+        connection.forceDisconnect();
+      } catch (IOException e) {
+        // the socket is closed quietly
+      }
+    }
   }
 
   @Override
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
@@ -16,10 +17,13 @@ import redis.clients.jedis.JedisClientConfig;
 import redis.clients.jedis.Connection;
 import redis.clients.jedis.ConnectionPool;
 import redis.clients.jedis.JedisClusterInfoCache;
+import redis.clients.jedis.MultiNodePipelineBase;
 import redis.clients.jedis.annots.Experimental;
 import redis.clients.jedis.csc.Cache;
 import redis.clients.jedis.exceptions.JedisClusterOperationException;
 import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
 
 import static redis.clients.jedis.RedisClusterClient.INIT_NO_ERROR_PROPERTY;
 
@@ -27,20 +31,28 @@ public class ClusterConnectionProvider implements ConnectionProvider {
 
   protected final JedisClusterInfoCache cache;
 
+  private final Object pipelineExecutorLock = new Object();
+  private ExecutorService pipelineExecutor;
+  private boolean closed = false;
+  private final int pipelineSyncThreads;
+
   public ClusterConnectionProvider(Set<HostAndPort> clusterNodes, JedisClientConfig clientConfig) {
     this.cache = new JedisClusterInfoCache(clientConfig, clusterNodes);
+    this.pipelineSyncThreads = pipelineSyncThreads(null);
     initializeSlotsCache(clusterNodes, clientConfig);
   }
 
   @Experimental
   public ClusterConnectionProvider(Set<HostAndPort> clusterNodes, JedisClientConfig clientConfig, Cache clientSideCache) {
     this.cache = new JedisClusterInfoCache(clientConfig, clientSideCache, clusterNodes);
+    this.pipelineSyncThreads = pipelineSyncThreads(null);
     initializeSlotsCache(clusterNodes, clientConfig);
   }
 
   public ClusterConnectionProvider(Set<HostAndPort> clusterNodes, JedisClientConfig clientConfig,
       GenericObjectPoolConfig<Connection> poolConfig) {
     this.cache = new JedisClusterInfoCache(clientConfig, poolConfig, clusterNodes);
+    this.pipelineSyncThreads = pipelineSyncThreads(poolConfig);
     initializeSlotsCache(clusterNodes, clientConfig);
   }
 
@@ -48,12 +60,14 @@ public class ClusterConnectionProvider implements ConnectionProvider {
   public ClusterConnectionProvider(Set<HostAndPort> clusterNodes, JedisClientConfig clientConfig, Cache clientSideCache,
       GenericObjectPoolConfig<Connection> poolConfig) {
     this.cache = new JedisClusterInfoCache(clientConfig, clientSideCache, poolConfig, clusterNodes);
+    this.pipelineSyncThreads = pipelineSyncThreads(poolConfig);
     initializeSlotsCache(clusterNodes, clientConfig);
   }
 
   public ClusterConnectionProvider(Set<HostAndPort> clusterNodes, JedisClientConfig clientConfig,
       GenericObjectPoolConfig<Connection> poolConfig, Duration topologyRefreshPeriod) {
     this.cache = new JedisClusterInfoCache(clientConfig, poolConfig, clusterNodes, topologyRefreshPeriod);
+    this.pipelineSyncThreads = pipelineSyncThreads(poolConfig);
     initializeSlotsCache(clusterNodes, clientConfig);
   }
 
@@ -61,9 +75,33 @@ public class ClusterConnectionProvider implements ConnectionProvider {
   public ClusterConnectionProvider(Set<HostAndPort> clusterNodes, JedisClientConfig clientConfig, Cache clientSideCache,
       GenericObjectPoolConfig<Connection> poolConfig, Duration topologyRefreshPeriod) {
     this.cache = new JedisClusterInfoCache(clientConfig, clientSideCache, poolConfig, clusterNodes, topologyRefreshPeriod);
+    this.pipelineSyncThreads = pipelineSyncThreads(poolConfig);
+    initializeSlotsCache(clusterNodes, clientConfig);
+  }
+
+  /**
+   * @param useClusterShards whether the slots are discovered with {@code CLUSTER SHARDS}, from the
+   *     initial discovery on, see {@link JedisClusterInfoCache#setUseClusterShards(boolean)}
+   */
+  @Experimental
+  public ClusterConnectionProvider(Set<HostAndPort> clusterNodes, JedisClientConfig clientConfig, Cache clientSideCache,
+      GenericObjectPoolConfig<Connection> poolConfig, Duration topologyRefreshPeriod, boolean useClusterShards) {
+    this.cache = new JedisClusterInfoCache(clientConfig, clientSideCache, poolConfig, clusterNodes, topologyRefreshPeriod);
+    this.pipelineSyncThreads = pipelineSyncThreads(poolConfig);
+    this.cache.setUseClusterShards(useClusterShards);
     initializeSlotsCache(clusterNodes, clientConfig);
   }
 
+  /**
+   * A pipeline holds a connection to each of its nodes until its replies are read, so there are no
+   * more concurrent pipelines to a node than connections in its pool.
+   */
+  private static int pipelineSyncThreads(GenericObjectPoolConfig<Connection> poolConfig) {
+    int maxTotal = poolConfig != null ? poolConfig.getMaxTotal()
+        : GenericObjectPoolConfig.DEFAULT_MAX_TOTAL;
+    return maxTotal > 0 ? maxTotal : GenericObjectPoolConfig.DEFAULT_MAX_TOTAL;
+  }
+
   private void initializeSlotsCache(Set<HostAndPort> startNodes, JedisClientConfig clientConfig) {
     if (startNodes.isEmpty()) {
       throw new JedisClusterOperationException("No nodes to initialize cluster slots cache.");
@@ -96,9 +134,38 @@ public class ClusterConnectionProvider implements ConnectionProvider {
 
   @Override
   public void close() {
+    ExecutorService executor;
+    synchronized (pipelineExecutorLock) {
+      closed = true;
+      executor = pipelineExecutor;
+      pipelineExecutor = null;
+    }
+    if (executor != null) {
+      executor.shutdownNow();
+    }
     cache.close();
   }
 
+  /**
+   * Returns the executor shared by the {@link redis.clients.jedis.ClusterPipeline}s of this
+   * provider to read the replies of multiple nodes in parallel. It is created on first use, with as
+   * many threads at most as connections in the pool of a node, see
+   * {@link MultiNodePipelineBase#createSharedSyncExecutorService(int)}, and shut down by
+   * {@link #close()}.
+   *
+   * @return the executor, or {@code null} if this provider is closed
+   */
+  @Experimental
+  public ExecutorService getPipelineExecutor() {
+    synchronized (pipelineExecutorLock) {
+      if (pipelineExecutor == null && !closed) {
+        pipelineExecutor = MultiNodePipelineBase
+            .createSharedSyncExecutorService(pipelineSyncThreads);
+      }
+      return pipelineExecutor;
+    }
+  }
+
   public void renewSlotCache() {
     cache.renewClusterSlots(null);
   }
@@ -107,6 +174,43 @@ public class ClusterConnectionProvider implements ConnectionProvider {
     cache.renewClusterSlots(jedis);
   }
 
+  /**
+   * Requests a renewal of the slot cache in the background, coalesced with the other requests, see
+   * {@link JedisClusterInfoCache#requestClusterSlotsRenewal()}.
+   */
+  public void requestSlotCacheRenewal() {
+    cache.requestClusterSlotsRenewal();
+  }
+
+  /**
+   * Handles a redirection replied by a node without waiting for a renewal of the slot cache: the
+   * target of a {@code MOVED} is assigned the slot at once, and a renewal is requested in the
+   * background for both {@code MOVED} and {@code ASK}.
+   */
+  public void handleRedirection(JedisRedirectionException redirection) {
+    if (redirection instanceof JedisMovedDataException) {
+      cache.applyMovedRedirection((JedisMovedDataException) redirection);
+    } else {
+      cache.requestClusterSlotsRenewal();
+    }
+  }
+
+  /**
+   * @see JedisClusterInfoCache#setUseClusterShards(boolean)
+   */
+  @Experimental
+  public void setUseClusterShards(boolean useClusterShards) {
+    cache.setUseClusterShards(useClusterShards);
+  }
+
+  /**
+   * @see JedisClusterInfoCache#setMinRenewalInterval(Duration)
+   */
+  @Experimental
+  public void setMinSlotCacheRenewalInterval(Duration minRenewalInterval) {
+    cache.setMinRenewalInterval(minRenewalInterval);
+  }
+
   public Map<String, ConnectionPool> getNodes() {
     return cache.getNodes();
   }
@@ -125,24 +229,22 @@ public class ClusterConnectionProvider implements ConnectionProvider {
 
   @Override
   public Connection getConnection(CommandArguments args) {
-    Set<Integer> slots = args.getKeyHashSlots();
+    int slot = args.getKeyHashSlot();
 
-    if (slots.size() > 1) {
+    if (slot == CommandArguments.MULTIPLE_KEY_SLOTS) {
       throw new JedisClusterOperationException("Cannot get connection for command with multiple hash slots");
     }
 
-    int slot = slots.iterator().next();
     return slot >= 0 ? getConnectionFromSlot(slot) : getConnection();
   }
 
   public Connection getReplicaConnection(CommandArguments args) {
-    Set<Integer> slots = args.getKeyHashSlots();
+    int slot = args.getKeyHashSlot();
 
-    if (slots.size() > 1) {
+    if (slot == CommandArguments.MULTIPLE_KEY_SLOTS) {
       throw new JedisClusterOperationException("Cannot get connection for command with multiple hash slots");
     }
 
-    int slot = slots.iterator().next();
     return slot >= 0 ? getReplicaConnectionFromSlot(slot) : getConnection();
   }
 
@@ -223,12 +325,12 @@ public class ClusterConnectionProvider implements ConnectionProvider {
 
   @Override
   public Map<String, ConnectionPool> getConnectionMap() {
-    return Collections.unmodifiableMap(getNodes());
+    return cache.getNodesSnapshot();
   }
 
   @Override
   public Map<String, ConnectionPool> getPrimaryNodesConnectionMap() {
-    return Collections.unmodifiableMap(getPrimaryNodes());
+    return cache.getPrimaryNodesSnapshot();
   }
 
 }
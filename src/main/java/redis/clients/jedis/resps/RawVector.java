@@ -1,5 +1,10 @@
 package redis.clients.jedis.resps;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Locale;
+
 import redis.clients.jedis.annots.Experimental;
 
 /**
@@ -60,6 +65,84 @@ public class RawVector {
     return quantizationRange;
   }
 
+  /**
+   * Decode the components of the vector, as stored: normalized, i.e. to be multiplied by
+   * {@link #getNorm()} to get those returned by VEMB without RAW.
+   * <ul>
+   * <li>fp32: the little-endian floats of the blob
+   * <li>q8: the signed bytes of the blob, scaled by the quantization range over 127
+   * <li>bin: one component per bit of the blob, least significant bit first, {@code 1} when set and
+   * {@code -1} otherwise; the bits past the dimension of the vector set, up to a multiple of 8, are
+   * decoded as well
+   * </ul>
+   * @return the components
+   * @throws UnsupportedOperationException for an unknown quantization type
+   */
+  public float[] toFloatArray() {
+    switch (quantization()) {
+      case FP32: {
+        float[] vector = new float[rawData.length / Float.BYTES];
+        fp32Buffer().get(vector);
+        return vector;
+      }
+      case Q8: {
+        float scale = quantizationRange.floatValue() / 127;
+        float[] vector = new float[rawData.length];
+        for (int i = 0; i < rawData.length; i++) {
+          vector[i] = rawData[i] * scale;
+        }
+        return vector;
+      }
+      default: {
+        float[] vector = new float[rawData.length * 8];
+        for (int i = 0; i < vector.length; i++) {
+          vector[i] = (rawData[i >>> 3] & (1 << (i & 7))) != 0 ? 1f : -1f;
+        }
+        return vector;
+      }
+    }
+  }
+
+  /**
+   * Get the components of the vector as a read-only buffer, with the same values as
+   * {@link #toFloatArray()}. For fp32 it is a view of the raw data, without a copy.
+   * @return the components
+   * @throws UnsupportedOperationException for an unknown quantization type
+   */
+  public FloatBuffer asFloatBuffer() {
+    if (quantization() == Quantization.FP32) {
+      return fp32Buffer().asReadOnlyBuffer();
+    }
+    return FloatBuffer.wrap(toFloatArray()).asReadOnlyBuffer();
+  }
+
+  private FloatBuffer fp32Buffer() {
+    return ByteBuffer.wrap(rawData).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+  }
+
+  private enum Quantization {
+    FP32, Q8, BIN
+  }
+
+  private Quantization quantization() {
+    if (quantizationType != null) {
+      switch (quantizationType.toLowerCase(Locale.ROOT)) {
+        case "f32":
+        case "fp32":
+          return Quantization.FP32;
+        case "int8":
+        case "q8":
+          if (quantizationRange == null) {
+            throw new UnsupportedOperationException("q8 vector without quantization range");
+          }
+          return Quantization.Q8;
+        case "bin":
+          return Quantization.BIN;
+      }
+    }
+    throw new UnsupportedOperationException("Unknown quantization type: " + quantizationType);
+  }
+
   @Override
   public String toString() {
     return "RawVector{quantizationType='" + quantizationType + "', norm=" + norm
@@ -6,7 +6,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +22,7 @@ import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.providers.ConnectionProvider;
 import redis.clients.jedis.search.SearchProtocol;
 import redis.clients.jedis.util.Pool;
+import redis.clients.jedis.util.ReadAheadIterator;
 
 /**
  * Iterator for Redis search aggregation results with cursor support. This class manages the
@@ -30,6 +36,10 @@ import redis.clients.jedis.util.Pool;
  * long-running aggregation operations. Connections are borrowed from the pool for each batch
  * operation and returned immediately after use.
  * <p>
+ * With a read-ahead, the next batches are read in the background while the caller processes the
+ * current one. The rows of all batches can also be consumed as a {@link #stream()}; closing the
+ * stream, or leaving it early and closing the iterator, deletes the cursor on the server.
+ * <p>
  * Usage example:
  *
  * <pre>
@@ -67,8 +77,9 @@ public class AggregateIterator implements Iterator<AggregationResult>, Closeable
 
   // Connection pool entry - can be either Connection or Pool<Connection>
   private final Map.Entry<?, ?> connectionEntry;
-  private Long cursorId = -1L;
+  private volatile Long cursorId = -1L;
   private AggregationResult aggrCommandResult;
+  private final ReadAheadIterator<AggregationResult> readAhead;
 
   /**
    * Creates a new AggregateIterator.
@@ -79,6 +90,24 @@ public class AggregateIterator implements Iterator<AggregationResult>, Closeable
    */
   public AggregateIterator(ConnectionProvider connectionProvider, String indexName,
       AggregationBuilder aggregationBuilder) {
+    this(connectionProvider, indexName, aggregationBuilder, 0, null);
+  }
+
+  /**
+   * Creates a new AggregateIterator reading batches ahead of the caller.
+   * @param connectionProvider the connection provider for cluster/standalone Redis
+   * @param indexName the search index name
+   * @param aggregationBuilder the aggregation query with cursor configuration
+   * @param readAhead the number of batches read ahead of the caller, {@code 0} for none
+   * @param executor the executor reading the batches ahead, {@code null} for a daemon thread of
+   *     the iterator's own
+   * @throws IllegalArgumentException if aggregation doesn't have cursor configured
+   */
+  public AggregateIterator(ConnectionProvider connectionProvider, String indexName,
+      AggregationBuilder aggregationBuilder, int readAhead, Executor executor) {
+    if (readAhead < 0) {
+      throw new IllegalArgumentException("Read-ahead must not be negative");
+    }
     if (!aggregationBuilder.isWithCursor()) {
       throw new IllegalArgumentException("AggregationBuilder must have cursor configured");
     }
@@ -97,11 +126,18 @@ public class AggregateIterator implements Iterator<AggregationResult>, Closeable
 
     // Execute initial aggregation command
     initializeAggregation(aggregationBuilder);
+
+    // the first batch is processed while the second is read
+    this.readAhead = readAhead == 0 ? null
+        : new ReadAheadIterator<>(this::doFetch, this::hasCursor, readAhead, executor);
   }
 
   @Override
   public boolean hasNext() {
-    return aggrCommandResult != null || cursorId != null && cursorId > 0;
+    if (aggrCommandResult != null) {
+      return true;
+    }
+    return readAhead != null ? readAhead.hasNext() : hasCursor();
   }
 
   @Override
@@ -117,6 +153,8 @@ public class AggregateIterator implements Iterator<AggregationResult>, Closeable
         } finally {
           aggrCommandResult = null;
         }
+      } else if (readAhead != null) {
+        return readAhead.next();
       } else {
         return doFetch();
       }
@@ -126,6 +164,16 @@ public class AggregateIterator implements Iterator<AggregationResult>, Closeable
     }
   }
 
+  /**
+   * Streams the rows of the remaining batches. Closing the stream closes this iterator.
+   * @return the rows of the remaining batches
+   */
+  public Stream<Row> stream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+        Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .flatMap(batch -> batch.getRows().stream()).onClose(this::close);
+  }
+
   /**
    * Returns the current cursor ID.
    * @return cursor ID, or null if not initialized
@@ -137,6 +185,9 @@ public class AggregateIterator implements Iterator<AggregationResult>, Closeable
   @Override
   public void remove() {
     aggrCommandResult = null;
+    if (readAhead != null) {
+      readAhead.close();
+    }
 
     if (cursorId == null || cursorId <= 0) {
       // Cursor is already closed or not initialized, nothing to do
@@ -151,6 +202,9 @@ public class AggregateIterator implements Iterator<AggregationResult>, Closeable
   @Override
   public void close() {
     aggrCommandResult = null;
+    if (readAhead != null) {
+      readAhead.close();
+    }
     deleteCursor();
     // Mark cursor as closed to prevent further operations
     cursorId = -1L;
@@ -163,7 +217,7 @@ public class AggregateIterator implements Iterator<AggregationResult>, Closeable
    * Deletes the cursor on the server to free resources. This method is idempotent and safe to call
    * multiple times.
    */
-  private void deleteCursor() {
+  private synchronized void deleteCursor() {
     if (cursorId != null && cursorId > 0) {
       CommandArguments args = new CommandArguments(SearchProtocol.SearchCommand.CURSOR)
           .add(SearchProtocol.SearchKeyword.DEL).add(indexName).add(cursorId);
@@ -174,10 +228,21 @@ public class AggregateIterator implements Iterator<AggregationResult>, Closeable
         // Log but don't throw - cursor will expire naturally
         logger.warn("Failed to delete cursor {}: {}", cursorId, e.getMessage());
       }
+      // a batch already due to be read ahead finds no cursor
+      cursorId = -1L;
     }
   }
 
-  private AggregationResult doFetch() {
+  private boolean hasCursor() {
+    Long cursor = cursorId;
+    return cursor != null && cursor > 0;
+  }
+
+  /**
+   * Reads the next batch. Synchronized with {@link #deleteCursor()}, so that closing the iterator
+   * while a batch is read ahead deletes the cursor returned by that read.
+   */
+  private synchronized AggregationResult doFetch() {
     if (cursorId == null || cursorId <= 0) {
       return null;
     }
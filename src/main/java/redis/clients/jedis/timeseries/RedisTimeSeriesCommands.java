@@ -3,6 +3,8 @@ package redis.clients.jedis.timeseries;
 import java.util.List;
 import java.util.Map;
 
+import redis.clients.jedis.annots.Experimental;
+
 public interface RedisTimeSeriesCommands {
 
   /**
@@ -184,6 +186,78 @@ public interface RedisTimeSeriesCommands {
    */
   List<TSElement> tsRevRange(String key, TSRangeParams rangeParams);
 
+  /**
+   * {@code TS.RANGE}, with the samples in primitive arrays rather than one {@link TSElement} each.
+   *
+   * @param key
+   * @param rangeParams
+   * @return range samples
+   * @see #tsRange(String, TSRangeParams)
+   */
+  @Experimental
+  TSSamples tsRangeSamples(String key, TSRangeParams rangeParams);
+
+  /**
+   * {@code TS.RANGE}, with the samples in primitive arrays rather than one {@link TSElement} each.
+   *
+   * @param key
+   * @param rangeParams
+   * @param samples the instance to fill, reusing its arrays when they are large enough
+   * @return the given instance
+   * @see #tsRange(String, TSRangeParams)
+   */
+  @Experimental
+  TSSamples tsRangeSamples(String key, TSRangeParams rangeParams, TSSamples samples);
+
+  /**
+   * {@code TS.RANGE}, passing the samples to a consumer rather than returning them.
+   *
+   * @param key
+   * @param rangeParams
+   * @param consumer the consumer of the samples
+   * @return the number of samples
+   * @see #tsRange(String, TSRangeParams)
+   */
+  @Experimental
+  long tsRange(String key, TSRangeParams rangeParams, TSSampleConsumer consumer);
+
+  /**
+   * {@code TS.REVRANGE}, with the samples in primitive arrays rather than one {@link TSElement}
+   * each.
+   *
+   * @param key
+   * @param rangeParams
+   * @return range samples
+   * @see #tsRevRange(String, TSRangeParams)
+   */
+  @Experimental
+  TSSamples tsRevRangeSamples(String key, TSRangeParams rangeParams);
+
+  /**
+   * {@code TS.REVRANGE}, with the samples in primitive arrays rather than one {@link TSElement}
+   * each.
+   *
+   * @param key
+   * @param rangeParams
+   * @param samples the instance to fill, reusing its arrays when they are large enough
+   * @return the given instance
+   * @see #tsRevRange(String, TSRangeParams)
+   */
+  @Experimental
+  TSSamples tsRevRangeSamples(String key, TSRangeParams rangeParams, TSSamples samples);
+
+  /**
+   * {@code TS.REVRANGE}, passing the samples to a consumer rather than returning them.
+   *
+   * @param key
+   * @param rangeParams
+   * @param consumer the consumer of the samples
+   * @return the number of samples
+   * @see #tsRevRange(String, TSRangeParams)
+   */
+  @Experimental
+  long tsRevRange(String key, TSRangeParams rangeParams, TSSampleConsumer consumer);
+
   /**
    * {@code TS.READ key timestamp}
    * <p>
@@ -338,6 +412,28 @@ public interface RedisTimeSeriesCommands {
    */
   Map<String, TSMRangeElements> tsMRevRange(TSMRangeParams multiRangeParams);
 
+  /**
+   * {@code TS.MRANGE}, with the samples of each series in primitive arrays rather than one
+   * {@link TSElement} each. The labels, aggregators, reducers and sources are left out.
+   *
+   * @param multiRangeParams
+   * @return the samples of each series
+   * @see #tsMRange(TSMRangeParams)
+   */
+  @Experimental
+  Map<String, TSSamples> tsMRangeSamples(TSMRangeParams multiRangeParams);
+
+  /**
+   * {@code TS.MREVRANGE}, with the samples of each series in primitive arrays rather than one
+   * {@link TSElement} each. The labels, aggregators, reducers and sources are left out.
+   *
+   * @param multiRangeParams
+   * @return the samples of each series
+   * @see #tsMRevRange(TSMRangeParams)
+   */
+  @Experimental
+  Map<String, TSSamples> tsMRevRangeSamples(TSMRangeParams multiRangeParams);
+
   /**
    * {@code TS.GET key}
    *
@@ -3,6 +3,7 @@ package redis.clients.jedis.timeseries;
 import java.util.List;
 import java.util.Map;
 import redis.clients.jedis.Response;
+import redis.clients.jedis.annots.Experimental;
 
 public interface RedisTimeSeriesPipelineCommands {
 
@@ -45,6 +46,18 @@ public interface RedisTimeSeriesPipelineCommands {
 
   Response<List<TSElement>> tsRevRange(String key, TSRangeParams rangeParams);
 
+  @Experimental
+  Response<TSSamples> tsRangeSamples(String key, TSRangeParams rangeParams);
+
+  @Experimental
+  Response<TSSamples> tsRangeSamples(String key, TSRangeParams rangeParams, TSSamples samples);
+
+  @Experimental
+  Response<TSSamples> tsRevRangeSamples(String key, TSRangeParams rangeParams);
+
+  @Experimental
+  Response<TSSamples> tsRevRangeSamples(String key, TSRangeParams rangeParams, TSSamples samples);
+
   Response<List<TSElement>> tsRead(String key, long timestamp);
 
   Response<List<TSElement>> tsRead(String key, TSReadParams readParams);
@@ -81,6 +94,12 @@ public interface RedisTimeSeriesPipelineCommands {
 
   Response<Map<String, TSMRangeElements>> tsMRevRange(TSMRangeParams multiRangeParams);
 
+  @Experimental
+  Response<Map<String, TSSamples>> tsMRangeSamples(TSMRangeParams multiRangeParams);
+
+  @Experimental
+  Response<Map<String, TSSamples>> tsMRevRangeSamples(TSMRangeParams multiRangeParams);
+
   Response<TSElement> tsGet(String key);
 
   Response<TSElement> tsGet(String key, TSGetParams getParams);
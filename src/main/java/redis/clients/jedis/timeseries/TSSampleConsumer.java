@@ -0,0 +1,16 @@
+package redis.clients.jedis.timeseries;
+
+import redis.clients.jedis.annots.Experimental;
+
+/**
+ * Receives the samples of a time series one at a time, without a {@link TSElement} per sample.
+ * <p>
+ * A sample with several values, as returned by a query with multiple aggregators, is received as
+ * consecutive calls with the same timestamp, one per value in the order of the aggregators.
+ */
+@Experimental
+@FunctionalInterface
+public interface TSSampleConsumer {
+
+  void accept(long timestamp, double value);
+}
@@ -0,0 +1,147 @@
+package redis.clients.jedis.timeseries;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import redis.clients.jedis.annots.Experimental;
+
+/**
+ * Samples of a time series held in parallel primitive arrays, rather than one {@link TSElement}
+ * per sample.
+ * <p>
+ * Each sample has a timestamp and {@link #getValueCount()} values: one for most queries, one per
+ * aggregator for queries with multiple aggregators. The values of the sample at {@code index} are
+ * stored at {@code index * getValueCount()} and after in {@link #getValues()}.
+ * <p>
+ * An instance can be passed again to the commands returning it, which then reuse its arrays as long
+ * as they are large enough. It must not be read while being filled, and is not thread-safe.
+ */
+@Experimental
+public class TSSamples {
+
+  private static final long[] NO_TIMESTAMPS = new long[0];
+  private static final double[] NO_VALUES = new double[0];
+
+  long[] timestamps;
+  double[] values;
+  private int size;
+  private int valueCount = 1;
+
+  public TSSamples() {
+    this.timestamps = NO_TIMESTAMPS;
+    this.values = NO_VALUES;
+  }
+
+  /**
+   * @param capacity the number of single-value samples held without growing the arrays
+   */
+  public TSSamples(int capacity) {
+    this.timestamps = new long[capacity];
+    this.values = new double[capacity];
+  }
+
+  /**
+   * Empties this instance and makes room for the given samples, keeping its arrays when they are
+   * large enough.
+   */
+  void reset(int size, int valueCount) {
+    if (timestamps.length < size) {
+      timestamps = new long[size];
+    }
+    if (values.length < size * valueCount) {
+      values = new double[size * valueCount];
+    }
+    this.size = size;
+    this.valueCount = valueCount;
+  }
+
+  /**
+   * @return the number of samples
+   */
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * @return the number of values of each sample
+   */
+  public int getValueCount() {
+    return valueCount;
+  }
+
+  public long getTimestamp(int index) {
+    checkIndex(index);
+    return timestamps[index];
+  }
+
+  /**
+   * @return the first value of the sample at {@code index}
+   */
+  public double getValue(int index) {
+    return getValue(index, 0);
+  }
+
+  /**
+   * @return the value at {@code valueIndex} of the sample at {@code index}
+   */
+  public double getValue(int index, int valueIndex) {
+    checkIndex(index);
+    if (valueIndex < 0 || valueIndex >= valueCount) {
+      throw new IndexOutOfBoundsException("Value index: " + valueIndex + ", value count: " + valueCount);
+    }
+    return values[index * valueCount + valueIndex];
+  }
+
+  /**
+   * @return the timestamps, in the first {@link #size()} elements of an array which may be longer
+   *         and is reused when this instance is
+   */
+  public long[] getTimestamps() {
+    return timestamps;
+  }
+
+  /**
+   * @return the values, in the first {@code size() * getValueCount()} elements of an array which
+   *         may be longer and is reused when this instance is
+   */
+  public double[] getValues() {
+    return values;
+  }
+
+  /**
+   * @return the samples as {@link TSElement}s
+   */
+  public List<TSElement> toElements() {
+    List<TSElement> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      if (valueCount == 1) {
+        elements.add(new TSElement(timestamps[i], values[i]));
+      } else {
+        List<Double> sampleValues = new ArrayList<>(valueCount);
+        for (int j = i * valueCount; j < (i + 1) * valueCount; j++) {
+          sampleValues.add(values[j]);
+        }
+        elements.add(new TSElement.MultiValueTSElement(timestamps[i], sampleValues));
+      }
+    }
+    return elements;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "TSSamples{size=" + size + ", valueCount=" + valueCount + ", timestamps="
+        + Arrays.toString(Arrays.copyOf(timestamps, size)) + ", values="
+        + Arrays.toString(Arrays.copyOf(values, size * valueCount)) + '}';
+  }
+}
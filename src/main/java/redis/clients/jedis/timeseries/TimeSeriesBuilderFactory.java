@@ -8,6 +8,10 @@ import java.util.stream.Collectors;
 
 import redis.clients.jedis.Builder;
 import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.RespReader;
+import redis.clients.jedis.StreamingBuilder;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.util.DoublePrecision;
 import redis.clients.jedis.util.KeyValue;
 
 public final class TimeSeriesBuilderFactory {
@@ -37,6 +41,125 @@ public final class TimeSeriesBuilderFactory {
     }
   };
 
+  /**
+   * Builds the samples of a range reply into primitive arrays, without a {@link TSElement} or a
+   * boxed value per sample. When streaming reply decoding is enabled, the samples are decoded into
+   * the arrays while the reply is read from the connection.
+   * @param samples the instance to fill, reusing its arrays, or {@code null} for a new one
+   * @return the builder, which returns the given instance when there is one
+   */
+  public static Builder<TSSamples> timeseriesSamples(TSSamples samples) {
+    return new StreamingBuilder<TSSamples>() {
+      @Override
+      public TSSamples build(Object data) {
+        return buildSamples((List<Object>) data, samples != null ? samples : new TSSamples());
+      }
+
+      @Override
+      public TSSamples read(RespReader reader) {
+        return readSamples(reader, samples != null ? samples : new TSSamples());
+      }
+    };
+  }
+
+  /**
+   * Passes the samples of a range reply to a consumer, without a {@link TSElement} or a boxed value
+   * per sample. When streaming reply decoding is enabled, each sample is passed as soon as it is
+   * read from the connection.
+   * @param consumer the consumer of the samples
+   * @return the builder, which returns the number of samples
+   */
+  public static Builder<Long> timeseriesSamples(TSSampleConsumer consumer) {
+    return new StreamingBuilder<Long>() {
+      @Override
+      public Long build(Object data) {
+        List<Object> sampleList = (List<Object>) data;
+        for (Object sampleObject : sampleList) {
+          List<Object> sample = (List<Object>) sampleObject;
+          long timestamp = BuilderFactory.LONG.build(sample.get(0));
+          for (int i = 1; i < sample.size(); i++) {
+            consumer.accept(timestamp, toDouble(sample.get(i)));
+          }
+        }
+        return (long) sampleList.size();
+      }
+
+      @Override
+      public Long read(RespReader reader) {
+        final int size = reader.readAggregateLength();
+        for (int i = 0; i < size; i++) {
+          final int sampleSize = reader.readAggregateLength();
+          final long timestamp = reader.readLongValue();
+          for (int j = 1; j < sampleSize; j++) {
+            consumer.accept(timestamp, reader.readDoubleValue());
+          }
+        }
+        return (long) Math.max(size, 0);
+      }
+    };
+  }
+
+  private static TSSamples buildSamples(List<Object> sampleList, TSSamples samples) {
+    int size = sampleList.size();
+    int valueCount = size == 0 ? 1 : ((List<Object>) sampleList.get(0)).size() - 1;
+    samples.reset(size, valueCount);
+    long[] timestamps = samples.timestamps;
+    double[] values = samples.values;
+    int v = 0;
+    for (int i = 0; i < size; i++) {
+      List<Object> sample = (List<Object>) sampleList.get(i);
+      if (sample.size() != valueCount + 1) {
+        throw new IllegalStateException("Sample " + i + " has " + (sample.size() - 1)
+            + " values, expected " + valueCount);
+      }
+      timestamps[i] = BuilderFactory.LONG.build(sample.get(0));
+      for (int j = 1; j <= valueCount; j++) {
+        values[v++] = toDouble(sample.get(j));
+      }
+    }
+    return samples;
+  }
+
+  private static TSSamples readSamples(RespReader reader, TSSamples samples) {
+    final int size = reader.readAggregateLength();
+    if (size <= 0) {
+      samples.reset(0, 1);
+      return samples;
+    }
+    int valueCount = -1;
+    long[] timestamps = null;
+    double[] values = null;
+    int v = 0;
+    for (int i = 0; i < size; i++) {
+      final int sampleSize = reader.readAggregateLength();
+      if (valueCount == -1) {
+        valueCount = sampleSize - 1;
+        samples.reset(size, valueCount);
+        timestamps = samples.timestamps;
+        values = samples.values;
+      } else if (sampleSize != valueCount + 1) {
+        // the rest of the reply can not be skipped reliably
+        throw new JedisConnectionException("Sample " + i + " has " + (sampleSize - 1)
+            + " values, expected " + valueCount);
+      }
+      timestamps[i] = reader.readLongValue();
+      for (int j = 0; j < valueCount; j++) {
+        values[v++] = reader.readDoubleValue();
+      }
+    }
+    return samples;
+  }
+
+  private static double toDouble(Object data) {
+    if (data instanceof Double) {
+      return (Double) data;
+    }
+    if (data instanceof byte[]) {
+      return DoublePrecision.parseDouble((byte[]) data);
+    }
+    return BuilderFactory.DOUBLE.build(data);
+  }
+
   /**
    * Parses the pivoted reply of {@code TS.NRANGE} / {@code TS.NREVRANGE}, whose rows have the shape
    * {@code [timestamp, [value_0, value_1, ...]]} where the value array holds one cell per key (or
@@ -114,6 +237,72 @@ public final class TimeSeriesBuilderFactory {
     }
   };
 
+  /**
+   * Builds the samples of each series of a {@code TS.MRANGE} / {@code TS.MREVRANGE} reply into
+   * primitive arrays. The labels, aggregators, reducers and sources are left out, and skipped when
+   * the reply is decoded while read from the connection.
+   */
+  public static final Builder<Map<String, TSSamples>> TIMESERIES_MRANGE_SAMPLES
+      = new StreamingBuilder<Map<String, TSSamples>>() {
+    @Override
+    public Map<String, TSSamples> build(Object data) {
+      List<Object> dataList = (List<Object>) data;
+      Map<String, TSSamples> map = new LinkedHashMap<>(dataList.size() * 4 / 3 + 1);
+      for (Object tsObject : dataList) {
+        List<Object> tsList = (List<Object>) tsObject;
+        map.putIfAbsent(BuilderFactory.STRING.build(tsList.get(0)),
+            buildSamples((List<Object>) tsList.get(tsList.size() - 1), new TSSamples()));
+      }
+      return map;
+    }
+
+    @Override
+    public Map<String, TSSamples> read(RespReader reader) {
+      final int size = reader.readAggregateLength();
+      Map<String, TSSamples> map = new LinkedHashMap<>(Math.max(size, 0) * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        final int tsSize = reader.readAggregateLength();
+        String key = reader.readString();
+        for (int j = 2; j < tsSize; j++) {
+          reader.skip();
+        }
+        map.putIfAbsent(key, readSamples(reader, new TSSamples()));
+      }
+      return map;
+    }
+  };
+
+  public static final Builder<Map<String, TSSamples>> TIMESERIES_MRANGE_SAMPLES_RESP3
+      = new StreamingBuilder<Map<String, TSSamples>>() {
+    @Override
+    public Map<String, TSSamples> build(Object data) {
+      List<KeyValue> dataList = (List<KeyValue>) data;
+      Map<String, TSSamples> map = new LinkedHashMap<>(dataList.size() * 4 / 3 + 1);
+      for (KeyValue kv : dataList) {
+        List<Object> valueList = (List<Object>) kv.getValue();
+        map.put(BuilderFactory.STRING.build(kv.getKey()),
+            buildSamples((List<Object>) valueList.get(valueList.size() - 1), new TSSamples()));
+      }
+      return map;
+    }
+
+    @Override
+    public Map<String, TSSamples> read(RespReader reader) {
+      // two elements per entry of the map
+      final int size = reader.readAggregateLength();
+      Map<String, TSSamples> map = new LinkedHashMap<>(Math.max(size, 0) * 2 / 3 + 1);
+      for (int i = 0; i < size; i += 2) {
+        String key = reader.readString();
+        final int valueSize = reader.readAggregateLength();
+        for (int j = 1; j < valueSize; j++) {
+          reader.skip();
+        }
+        map.put(key, readSamples(reader, new TSSamples()));
+      }
+      return map;
+    }
+  };
+
   public static final Builder<Map<String, TSMGetElement>> TIMESERIES_MGET_RESPONSE
       = new Builder<Map<String, TSMGetElement>>() {
     @Override
@@ -2,6 +2,14 @@ package redis.clients.jedis.util;
 
 public final class DoublePrecision {
 
+  /**
+   * Powers of ten which are exact as doubles.
+   */
+  private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8,
+      1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
   private DoublePrecision() {
     throw new InstantiationError("Must not instantiate this class");
   }
@@ -10,9 +18,19 @@ public final class DoublePrecision {
 
     if (str == null) return null;
 
+    return parseDouble(str);
+  }
+
+  /**
+   * Same as {@link #parseFloatingPointNumber(String)}, without boxing.
+   * @param str a non-null number
+   * @return the number
+   */
+  public static double parseDouble(String str) throws NumberFormatException {
+
     try {
 
-      return Double.valueOf(str);
+      return Double.parseDouble(str);
 
     } catch (NumberFormatException e) {
 
@@ -35,6 +53,61 @@ public final class DoublePrecision {
     }
   }
 
+  /**
+   * Same as {@link #parseDouble(String)}, for the ASCII bytes of the number. A plain decimal number
+   * is parsed without decoding the bytes to a {@link String}.
+   * @param bytes a non-null number
+   * @return the number
+   */
+  public static double parseDouble(byte[] bytes) throws NumberFormatException {
+    final double value = parseDecimal(bytes, 0, bytes.length);
+    return Double.isNaN(value) ? parseDouble(SafeEncoder.encode(bytes)) : value;
+  }
+
+  /**
+   * Parses a plain decimal number, such as {@code -12.5}, from ASCII bytes without decoding them to
+   * a {@link String}. The result is correctly rounded since both the digits, read as an integer,
+   * and the power of ten dividing them are exact doubles.
+   * @return the number, or {@code NaN} when the bytes hold anything else (an exponent, too many
+   *     digits, {@code inf}, ...) and must be parsed with {@link #parseDouble(String)}
+   */
+  static double parseDecimal(byte[] buf, int offset, int length) {
+    final int end = offset + length;
+    int i = offset;
+    final boolean isNeg = i < end && buf[i] == '-';
+    if (isNeg || i < end && buf[i] == '+') {
+      i++;
+    }
+    long mantissa = 0;
+    int digits = 0;
+    int fractionDigits = -1;
+    for (; i < end; i++) {
+      final int b = buf[i];
+      if (b >= '0' && b <= '9') {
+        // leading zeros are not significant
+        if (mantissa != 0 || b != '0') {
+          if (++digits > 16) {
+            return Double.NaN;
+          }
+        }
+        mantissa = mantissa * 10 + b - '0';
+        if (fractionDigits >= 0) {
+          fractionDigits++;
+        }
+      } else if (b == '.' && fractionDigits < 0) {
+        fractionDigits = 0;
+      } else {
+        return Double.NaN;
+      }
+    }
+    if (i == offset || mantissa > MAX_EXACT_MANTISSA || fractionDigits >= POWERS_OF_TEN.length
+        || buf[end - 1] == '.' || buf[end - 1] == '-' || buf[end - 1] == '+') {
+      return Double.NaN;
+    }
+    final double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+    return isNeg ? -value : value;
+  }
+
   public static Double parseEncodedFloatingPointNumber(Object val) throws NumberFormatException {
     if (val == null) return null;
     else if (val instanceof Double) return (Double) val;
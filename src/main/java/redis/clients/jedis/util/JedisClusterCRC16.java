@@ -1,5 +1,7 @@
 package redis.clients.jedis.util;
 
+import redis.clients.jedis.annots.VisibleForTesting;
+
 /**
  * CRC16 Implementation according to CCITT standard Polynomial : 1021 (x^16 + x^12 + x^5 + 1) See <a
  * href="http://redis.io/topics/cluster-spec">Appendix A. CRC16 reference implementation in ANSI
@@ -32,14 +34,46 @@ public final class JedisClusterCRC16 {
       0x2C83, 0x1CE0, 0x0CC1, 0xEF1F, 0xFF3E, 0xCF5D, 0xDF7C, 0xAF9B, 0xBFBA, 0x8FD9, 0x9FF8,
       0x6E17, 0x7E36, 0x4E55, 0x5E74, 0x2E93, 0x3EB2, 0x0ED1, 0x1EF0, };
 
+  /**
+   * The number of bytes processed at a time by {@link #getCRC16(byte[], int, int)}.
+   */
+  private static final int SLICES = 8;
+
+  /**
+   * {@code SLICED_TABLE[k * 256 + b]} is the CRC16 of the byte {@code b} followed by {@code k} zero
+   * bytes, so that the CRC16 of 8 bytes is the exclusive or of 8 lookups, which do not depend on
+   * each other, rather than a chain of 8 lookups.
+   */
+  private static final int[] SLICED_TABLE = new int[SLICES * 256];
+
+  static {
+    System.arraycopy(LOOKUP_TABLE, 0, SLICED_TABLE, 0, 256);
+    for (int k = 1; k < SLICES; k++) {
+      for (int b = 0; b < 256; b++) {
+        int crc = SLICED_TABLE[(k - 1) * 256 + b];
+        SLICED_TABLE[k * 256 + b] = ((crc << 8) ^ LOOKUP_TABLE[(crc >>> 8) & 0xFF]) & 0xFFFF;
+      }
+    }
+  }
+
   public static int getSlot(String key) {
     if (key == null) {
       throw new NullPointerException("Slot calculation of null is impossible");
     }
 
-    key = JedisClusterHashTag.getHashTag(key);
+    // same hash tag as JedisClusterHashTag.getHashTag(key), without a substring
+    int s = 0;
+    int e = key.length();
+    int open = key.indexOf('{');
+    if (open > -1) {
+      int close = key.indexOf('}', open + 1);
+      if (close > -1 && close != open + 1) {
+        s = open + 1;
+        e = close;
+      }
+    }
     // optimization with modulo operator with power of 2 equivalent to getCRC16(key) % 16384
-    return getCRC16(key) & (16384 - 1);
+    return getCRC16(key, s, e) & (16384 - 1);
   }
 
   public static int getSlot(byte[] key) {
@@ -78,19 +112,80 @@ public final class JedisClusterCRC16 {
   public static int getCRC16(byte[] bytes, int s, int e) {
     int crc = 0x0000;
 
+    int i = s;
+    for (; i <= e - SLICES; i += SLICES) {
+      // the CRC so far is folded into the first two bytes
+      crc = SLICED_TABLE[7 * 256 + (((crc >>> 8) ^ bytes[i]) & 0xFF)]
+          ^ SLICED_TABLE[6 * 256 + ((crc ^ bytes[i + 1]) & 0xFF)]
+          ^ SLICED_TABLE[5 * 256 + (bytes[i + 2] & 0xFF)]
+          ^ SLICED_TABLE[4 * 256 + (bytes[i + 3] & 0xFF)]
+          ^ SLICED_TABLE[3 * 256 + (bytes[i + 4] & 0xFF)]
+          ^ SLICED_TABLE[2 * 256 + (bytes[i + 5] & 0xFF)]
+          ^ SLICED_TABLE[256 + (bytes[i + 6] & 0xFF)]
+          ^ LOOKUP_TABLE[bytes[i + 7] & 0xFF];
+    }
+    for (; i < e; i++) {
+      crc = update(crc, bytes[i]);
+    }
+    return crc & 0xFFFF;
+  }
+
+  /**
+   * The reference implementation, one byte at a time.
+   */
+  @VisibleForTesting
+  static int getCRC16Bytewise(byte[] bytes, int s, int e) {
+    int crc = 0x0000;
+
     for (int i = s; i < e; i++) {
-      crc = ((crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (bytes[i] & 0xFF)) & 0xFF]);
+      crc = update(crc, bytes[i]);
     }
     return crc & 0xFFFF;
   }
 
+  private static int update(int crc, int b) {
+    return (crc << 8) ^ LOOKUP_TABLE[((crc >>> 8) ^ (b & 0xFF)) & 0xFF];
+  }
+
   public static int getCRC16(byte[] bytes) {
     return getCRC16(bytes, 0, bytes.length);
   }
 
   public static int getCRC16(String key) {
-    byte[] bytesKey = SafeEncoder.encode(key);
-    return getCRC16(bytesKey, 0, bytesKey.length);
+    return getCRC16(key, 0, key.length());
+  }
+
+  /**
+   * The CRC16 of the UTF-8 encoding of the characters from {@code s} to {@code e}, encoded on the
+   * fly rather than into a new array. As with {@link SafeEncoder#encode(String)}, an unpaired
+   * surrogate is encoded as {@code '?'}.
+   */
+  private static int getCRC16(String key, int s, int e) {
+    int crc = 0x0000;
+
+    for (int i = s; i < e; i++) {
+      char c = key.charAt(i);
+      if (c < 0x80) {
+        crc = update(crc, c);
+      } else if (c < 0x800) {
+        crc = update(crc, 0xC0 | (c >> 6));
+        crc = update(crc, 0x80 | (c & 0x3F));
+      } else if (!Character.isSurrogate(c)) {
+        crc = update(crc, 0xE0 | (c >> 12));
+        crc = update(crc, 0x80 | ((c >> 6) & 0x3F));
+        crc = update(crc, 0x80 | (c & 0x3F));
+      } else if (Character.isHighSurrogate(c) && i + 1 < e
+          && Character.isLowSurrogate(key.charAt(i + 1))) {
+        int cp = Character.toCodePoint(c, key.charAt(++i));
+        crc = update(crc, 0xF0 | (cp >> 18));
+        crc = update(crc, 0x80 | ((cp >> 12) & 0x3F));
+        crc = update(crc, 0x80 | ((cp >> 6) & 0x3F));
+        crc = update(crc, 0x80 | (cp & 0x3F));
+      } else {
+        crc = update(crc, '?');
+      }
+    }
+    return crc & 0xFFFF;
   }
 
   private JedisClusterCRC16() {
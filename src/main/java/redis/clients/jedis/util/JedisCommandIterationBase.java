@@ -3,11 +3,16 @@ package redis.clients.jedis.util;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
-import java.util.function.Supplier;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import redis.clients.jedis.Builder;
 import redis.clients.jedis.CommandArguments;
@@ -97,4 +102,41 @@ public abstract class JedisCommandIterationBase<B, D> {
     }
     return c;
   }
+
+  /**
+   * Fetches each batch when the previous one has been consumed.
+   * @return the data of the remaining batches
+   */
+  public final Stream<D> stream() {
+    Iterator<Collection<D>> batches = new Iterator<Collection<D>>() {
+      @Override
+      public boolean hasNext() {
+        return !isIterationCompleted();
+      }
+
+      @Override
+      public Collection<D> next() {
+        return nextBatchList();
+      }
+    };
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches,
+        Spliterator.ORDERED | Spliterator.NONNULL), false).flatMap(Collection::stream);
+  }
+
+  /**
+   * Fetches up to {@code readAhead} batches in the background while the caller consumes the
+   * current one. Closing the stream stops fetching. This iteration must not be used otherwise
+   * while the stream is open.
+   * @param readAhead the number of batches fetched ahead of the caller
+   * @param executor the executor running the fetches, {@code null} for a daemon thread of the
+   *     stream's own
+   * @return the data of the remaining batches
+   */
+  public final Stream<D> stream(int readAhead, Executor executor) {
+    ReadAheadIterator<Collection<D>> batches = new ReadAheadIterator<>(this::nextBatchList,
+        () -> !isIterationCompleted(), readAhead, executor);
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches,
+        Spliterator.ORDERED | Spliterator.NONNULL), false).flatMap(Collection::stream)
+        .onClose(batches::close);
+  }
 }
@@ -0,0 +1,103 @@
+package redis.clients.jedis.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import redis.clients.jedis.annots.Internal;
+
+/**
+ * Factories of the executors Jedis creates for its own background work. Threads are daemon
+ * threads named after their purpose.
+ */
+@Internal
+public final class JedisExecutors {
+
+  private static final Logger log = LoggerFactory.getLogger(JedisExecutors.class);
+
+  private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadFactory();
+
+  private JedisExecutors() {
+    throw new InstantiationError("Must not instantiate this class");
+  }
+
+  /**
+   * @param namePrefix the prefix of the thread names, followed by a sequence number
+   * @return a factory of daemon threads
+   */
+  public static ThreadFactory daemonThreadFactory(String namePrefix) {
+    AtomicInteger counter = new AtomicInteger(1);
+    return r -> {
+      Thread t = new Thread(r, namePrefix + counter.getAndIncrement());
+      t.setDaemon(true);
+      return t;
+    };
+  }
+
+  /**
+   * @param threads the number of threads
+   * @param namePrefix the prefix of the thread names
+   * @return a fixed thread pool of daemon threads
+   */
+  public static ExecutorService newFixedDaemonThreadPool(int threads, String namePrefix) {
+    return Executors.newFixedThreadPool(threads, daemonThreadFactory(namePrefix));
+  }
+
+  /**
+   * Creates a pool starting daemon threads as needed, up to {@code maxThreads}, and stopping them
+   * after a minute idle. Tasks are not queued: a task finding all the threads busy runs on the
+   * calling thread, unless the pool is shut down, which rejects it.
+   * @param maxThreads the number of threads at most
+   * @param namePrefix the prefix of the thread names
+   * @return the pool
+   */
+  public static ExecutorService newElasticDaemonThreadPool(int maxThreads, String namePrefix) {
+    return new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+        daemonThreadFactory(namePrefix), (task, pool) -> {
+          if (pool.isShutdown()) {
+            throw new RejectedExecutionException("Executor is shut down");
+          }
+          task.run();
+        });
+  }
+
+  /**
+   * @return whether virtual threads are available, i.e. whether the JVM is JDK 21 or later
+   */
+  public static boolean isVirtualThreadSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * Creates an executor that starts a new virtual thread for each task.
+   * @return the executor, or {@code null} if virtual threads are not available
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+      return null;
+    }
+    try {
+      return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      log.warn("Could not create a virtual thread executor.", e);
+      return null;
+    }
+  }
+
+  private static Method findVirtualThreadFactory() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package redis.clients.jedis.util;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import redis.clients.jedis.annots.Internal;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * Iterates over batches fetched in the background, so that the next batches are read from the
+ * server while the caller processes the current one.
+ * <p>
+ * The batches are fetched one at a time, in order, and at most {@code depth} of them wait for the
+ * caller. A fetch only starts when there is room for its batch, so no thread ever waits for the
+ * caller. An error of a fetch is thrown to the caller in place of the batch.
+ * @param <B> type of each batch
+ */
+@Internal
+public final class ReadAheadIterator<B> implements Iterator<B>, AutoCloseable {
+
+  private static final Object END = new Object();
+
+  private final Supplier<B> fetch;
+  private final BooleanSupplier hasMore;
+  private final int depth;
+  private final Executor executor;
+  private final ExecutorService ownedExecutor;
+
+  // room for the end of the iteration behind a full read-ahead
+  private final BlockingQueue<Object> ready;
+  private final AtomicBoolean fetching = new AtomicBoolean();
+  private volatile boolean fetched;
+  private volatile boolean closed;
+
+  private Object next;
+
+  /**
+   * Starts fetching at once.
+   * @param fetch fetches the next batch, never called by two threads at the same time; a
+   *     {@code null} batch ends the iteration
+   * @param hasMore whether there is a batch after those fetched
+   * @param depth the number of batches fetched ahead of the caller
+   * @param executor the executor running the fetches, {@code null} for a daemon thread of its own,
+   *     stopped once the last batch is fetched, a fetch fails or the iterator is closed
+   */
+  public ReadAheadIterator(Supplier<B> fetch, BooleanSupplier hasMore, int depth,
+      Executor executor) {
+    JedisAsserts.isTrue(depth > 0, "Read-ahead depth must be greater than 0");
+    this.fetch = fetch;
+    this.hasMore = hasMore;
+    this.depth = depth;
+    this.ready = new ArrayBlockingQueue<>(depth + 1);
+    if (executor != null) {
+      this.executor = executor;
+      this.ownedExecutor = null;
+    } else {
+      this.ownedExecutor = JedisExecutors.newFixedDaemonThreadPool(1, "jedis-read-ahead-");
+      this.executor = ownedExecutor;
+    }
+
+    if (hasMore.getAsBoolean()) {
+      fetchAhead();
+    } else {
+      fetched = true;
+      ready.add(END);
+      shutdownOwnedExecutor();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+    if (next == null) {
+      try {
+        next = ready.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new JedisException("Interrupted while waiting for the next batch.", e);
+      }
+      if (next instanceof RuntimeException) {
+        // the error is thrown again if the caller asks for more
+        RuntimeException error = (RuntimeException) next;
+        next = null;
+        ready.add(error);
+        throw error;
+      }
+      fetchAhead();
+    }
+    return next != END;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public B next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    B batch = (B) next;
+    next = null;
+    return batch;
+  }
+
+  /**
+   * Stops fetching batches. A fetch already running completes.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    shutdownOwnedExecutor();
+  }
+
+  private void fetchAhead() {
+    while (!fetched && !closed && ready.size() < depth && fetching.compareAndSet(false, true)) {
+      // only the owner of the flag adds batches, so the room is checked again once owned
+      if (ready.size() < depth) {
+        try {
+          executor.execute(this::fetchNext);
+        } catch (RejectedExecutionException e) {
+          fail(e);
+        }
+        return;
+      }
+      fetching.set(false);
+    }
+  }
+
+  private void fetchNext() {
+    try {
+      B batch = fetch.get();
+      fetched = batch == null || closed || !hasMore.getAsBoolean();
+      if (batch != null) {
+        ready.add(batch);
+      }
+      if (fetched) {
+        ready.add(END);
+        shutdownOwnedExecutor();
+      }
+    } catch (RuntimeException e) {
+      fail(e);
+      return;
+    }
+    fetching.set(false);
+    fetchAhead();
+  }
+
+  private void fail(RuntimeException error) {
+    fetched = true;
+    ready.add(error);
+    shutdownOwnedExecutor();
+  }
+
+  /**
+   * Stops the thread of its own, if any, once no more batches are to be fetched, so that an
+   * iterator not closed by the caller does not keep it.
+   */
+  private void shutdownOwnedExecutor() {
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdown();
+    }
+  }
+}
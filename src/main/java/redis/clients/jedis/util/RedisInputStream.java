@@ -14,6 +14,7 @@ import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 
 import redis.clients.jedis.annots.Experimental;
 import redis.clients.jedis.exceptions.JedisConnectionException;
@@ -229,13 +230,83 @@ public class RedisInputStream extends FilterInputStream {
   }
 
   public double readDoubleCrLf() {
+    ensureFill();
+    for (int i = count; i < limit; i++) {
+      if (buf[i] == '\r') {
+        final double value = DoublePrecision.parseDecimal(buf, count, i - count);
+        if (Double.isNaN(value)) {
+          break;
+        }
+        count = i;
+        ensureCrLf();
+        return value;
+      }
+    }
     return DoublePrecision.parseFloatingPointNumber(readLine());
   }
 
+  /**
+   * Reads exactly {@code length} bytes and parses them as a number. When all the bytes are already
+   * buffered, a plain decimal number is parsed in place.
+   */
+  @Experimental
+  public double readDouble(int length) throws JedisConnectionException {
+    ensureFill();
+    if (limit - count >= length) {
+      final double value = DoublePrecision.parseDecimal(buf, count, length);
+      if (!Double.isNaN(value)) {
+        count += length;
+        return value;
+      }
+    }
+    return DoublePrecision.parseDouble(readString(length));
+  }
+
   public BigInteger readBigIntegerCrLf() {
     return new BigInteger(readLine());
   }
 
+  /**
+   * Reads exactly {@code b.length} bytes.
+   */
+  @Experimental
+  public void readFully(byte[] b) throws JedisConnectionException {
+    int offset = 0;
+    while (offset < b.length) {
+      offset += read(b, offset, b.length - offset);
+    }
+  }
+
+  /**
+   * Skips exactly {@code n} bytes.
+   */
+  @Experimental
+  public void skipBytes(int n) throws JedisConnectionException {
+    while (n > 0) {
+      ensureFill();
+      final int length = Math.min(limit - count, n);
+      count += length;
+      n -= length;
+    }
+  }
+
+  /**
+   * Reads exactly {@code length} bytes and decodes them as UTF-8. When all the bytes are already
+   * buffered, they are decoded in place.
+   */
+  @Experimental
+  public String readString(int length) throws JedisConnectionException {
+    ensureFill();
+    if (limit - count >= length) {
+      final String str = new String(buf, count, length, StandardCharsets.UTF_8);
+      count += length;
+      return str;
+    }
+    final byte[] bytes = new byte[length];
+    readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
   @Override
   public int read(byte[] b, int off, int len) throws JedisConnectionException {
     ensureFill();
@@ -3,6 +3,7 @@ package redis.clients.jedis.util;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.FloatBuffer;
 
 /**
  * The class implements a buffered output stream without synchronization There are also special
@@ -19,6 +20,13 @@ public final class RedisOutputStream extends FilterOutputStream {
 
   protected int count;
 
+  private static final byte DOLLAR = '$';
+
+  /**
+   * Room needed to write an {@code int} as a bulk string: {@code $11\r\n-2147483647\r\n}.
+   */
+  private static final int MAX_INT_BULK_SIZE = 18;
+
   private final static int[] sizeTable = { 9, 99, 999, 9999, 99999, 999999, 9999999, 99999999,
       999999999, Integer.MAX_VALUE };
 
@@ -101,15 +109,196 @@ public final class RedisOutputStream extends FilterOutputStream {
       value = -value;
     }
 
-    int size = 0;
-    while (value > sizeTable[size])
-      size++;
-
-    size++;
+    int size = stringSize(value);
     if (size >= buf.length - count) {
       flushBuffer();
     }
 
+    putDigits(value, size);
+    writeCrLf();
+  }
+
+  /**
+   * Writes a RESP bulk string, i.e. {@code $<length>\r\n<bytes>\r\n}.
+   * @param b the bytes of the bulk string
+   */
+  public void writeBulk(final byte[] b) throws IOException {
+    write(DOLLAR);
+    writeIntCrLf(b.length);
+    write(b);
+    writeCrLf();
+  }
+
+  /**
+   * Writes a part of a byte array as a RESP bulk string.
+   * @param b the array
+   * @param off the start of the part
+   * @param len the length of the part
+   */
+  public void writeBulk(final byte[] b, final int off, final int len) throws IOException {
+    write(DOLLAR);
+    writeIntCrLf(len);
+    write(b, off, len);
+    writeCrLf();
+  }
+
+  /**
+   * Writes the remaining floats of a buffer as a RESP bulk string of little-endian IEEE 754 single
+   * precision numbers, i.e. an FP32 blob, encoding them straight into the buffer. The position of
+   * the given buffer is not changed.
+   * @param floats the floats
+   */
+  public void writeBulkFP32(final FloatBuffer floats) throws IOException {
+    final int from = floats.position();
+    final int to = floats.limit();
+    write(DOLLAR);
+    writeIntCrLf((to - from) * Float.BYTES);
+    for (int i = from; i < to; i++) {
+      final int bits = Float.floatToRawIntBits(floats.get(i));
+      if (buf.length - count < Float.BYTES) {
+        flushBuffer();
+        if (buf.length < Float.BYTES) {
+          write((byte) bits);
+          write((byte) (bits >>> 8));
+          write((byte) (bits >>> 16));
+          write((byte) (bits >>> 24));
+          continue;
+        }
+      }
+      buf[count++] = (byte) bits;
+      buf[count++] = (byte) (bits >>> 8);
+      buf[count++] = (byte) (bits >>> 16);
+      buf[count++] = (byte) (bits >>> 24);
+    }
+    writeCrLf();
+  }
+
+  /**
+   * Writes the decimal representation of a number as a RESP bulk string, without encoding it to a
+   * {@code byte[]} first.
+   * @param value the number
+   */
+  public void writeBulk(final long value) throws IOException {
+    if (value <= Integer.MIN_VALUE || value > Integer.MAX_VALUE || buf.length < MAX_INT_BULK_SIZE) {
+      writeBulk(SafeEncoder.encode(String.valueOf(value)));
+      return;
+    }
+    if (buf.length - count < MAX_INT_BULK_SIZE) {
+      flushBuffer();
+    }
+
+    final boolean negative = value < 0;
+    final int abs = (int) (negative ? -value : value);
+    final int digits = stringSize(abs);
+    final int length = negative ? digits + 1 : digits;
+
+    buf[count++] = DOLLAR;
+    putDigits(length, stringSize(length));
+    buf[count++] = '\r';
+    buf[count++] = '\n';
+    if (negative) {
+      buf[count++] = '-';
+    }
+    putDigits(abs, digits);
+    buf[count++] = '\r';
+    buf[count++] = '\n';
+  }
+
+  /**
+   * Writes the UTF-8 encoding of a string as a RESP bulk string, encoding the characters straight
+   * into the buffer. Malformed surrogates are encoded as {@code '?'}, as
+   * {@link String#getBytes(java.nio.charset.Charset)} does.
+   * @param str the string
+   */
+  public void writeBulkUtf8(final String str) throws IOException {
+    if (buf.length < MAX_INT_BULK_SIZE) {
+      writeBulk(SafeEncoder.encode(str));
+      return;
+    }
+
+    final int length = str.length();
+    int ascii = 0;
+    while (ascii < length && str.charAt(ascii) < 0x80) {
+      ascii++;
+    }
+
+    write(DOLLAR);
+    writeIntCrLf(ascii == length ? length : ascii + utf8Length(str, ascii));
+
+    int i = 0;
+    while (i < ascii) {
+      if (count == buf.length) {
+        flushBuffer();
+      }
+      final int end = Math.min(ascii, i + buf.length - count);
+      while (i < end) {
+        buf[count++] = (byte) str.charAt(i++);
+      }
+    }
+    while (i < length) {
+      if (buf.length - count < 4) {
+        flushBuffer();
+      }
+      final char c = str.charAt(i++);
+      if (c < 0x80) {
+        buf[count++] = (byte) c;
+      } else if (c < 0x800) {
+        buf[count++] = (byte) (0xc0 | (c >> 6));
+        buf[count++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(str.charAt(i))) {
+          final int cp = Character.toCodePoint(c, str.charAt(i++));
+          buf[count++] = (byte) (0xf0 | (cp >> 18));
+          buf[count++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+          buf[count++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+          buf[count++] = (byte) (0x80 | (cp & 0x3f));
+        } else {
+          buf[count++] = '?';
+        }
+      } else {
+        buf[count++] = (byte) (0xe0 | (c >> 12));
+        buf[count++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        buf[count++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+    writeCrLf();
+  }
+
+  private static int utf8Length(final String str, final int from) {
+    final int length = str.length();
+    int bytes = 0;
+    for (int i = from; i < length; i++) {
+      final char c = str.charAt(i);
+      if (c < 0x80) {
+        bytes++;
+      } else if (c < 0x800) {
+        bytes += 2;
+      } else if (Character.isSurrogate(c)) {
+        if (Character.isHighSurrogate(c) && i + 1 < length
+            && Character.isLowSurrogate(str.charAt(i + 1))) {
+          bytes += 4;
+          i++;
+        } else {
+          bytes++;
+        }
+      } else {
+        bytes += 3;
+      }
+    }
+    return bytes;
+  }
+
+  private static int stringSize(final int value) {
+    int size = 0;
+    while (value > sizeTable[size])
+      size++;
+    return size + 1;
+  }
+
+  /**
+   * Writes the digits of a non-negative number, the caller having ensured there is room for them.
+   */
+  private void putDigits(int value, final int size) {
     int q, r;
     int charPos = count + size;
 
@@ -129,8 +318,6 @@ public final class RedisOutputStream extends FilterOutputStream {
       if (value == 0) break;
     }
     count += size;
-
-    writeCrLf();
   }
 
   @Override
@@ -1,6 +1,8 @@
 package redis.clients.jedis;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -8,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -351,6 +354,25 @@ public class ClusterCommandObjectsTest {
     return result;
   }
 
+  @Test
+  public void testGetKeyHashSlot() {
+    CommandArguments args = new CommandArguments(Protocol.Command.MGET);
+    assertEquals(CommandArguments.NO_KEY_SLOT, args.getKeyHashSlot());
+    assertTrue(args.getKeyHashSlots().isEmpty());
+
+    args.key("{user}:1");
+    assertEquals(JedisClusterCRC16.getSlot("user"), args.getKeyHashSlot());
+
+    args.key("{user}:2".getBytes());
+    assertEquals(JedisClusterCRC16.getSlot("user"), args.getKeyHashSlot());
+    assertEquals(java.util.Collections.singleton(JedisClusterCRC16.getSlot("user")),
+        args.getKeyHashSlots());
+
+    args.key("other");
+    assertEquals(CommandArguments.MULTIPLE_KEY_SLOTS, args.getKeyHashSlot());
+    assertEquals(2, args.getKeyHashSlots().size());
+  }
+
   @Test
   public void testGetKeyHashSlots_withRawableFromByteArray() {
     CommandArguments args = new CommandArguments(Protocol.Command.GET);
@@ -618,6 +640,35 @@ public class ClusterCommandObjectsTest {
     assertTrue(argsStrings.contains("{sameSlot}:key3"));
   }
 
+  @Test
+  public void testMgetMultiShard_sendsAllKeysOfASlotInOneCommand() {
+    String[] keys = { "{a}1", "{b}1", "{a}2", "{b}2", "{a}3" };
+    boolean aFirst = JedisClusterCRC16.getSlot("{a}") < JedisClusterCRC16.getSlot("{b}");
+
+    List<CommandObject<List<String>>> commands = clusterCommandObjects.mgetMultiShard(keys);
+
+    assertEquals(2, commands.size());
+    PositionedCommandObject<List<String>> a = (PositionedCommandObject<List<String>>) commands
+        .get(aFirst ? 0 : 1);
+    PositionedCommandObject<List<String>> b = (PositionedCommandObject<List<String>>) commands
+        .get(aFirst ? 1 : 0);
+    assertEquals(Arrays.asList("MGET", "{a}1", "{a}2", "{a}3"),
+      extractArgsAsStrings(a.getArguments()));
+    assertArrayEquals(new int[] { 0, 2, 4 }, a.getKeyPositions());
+    assertEquals(Arrays.asList("MGET", "{b}1", "{b}2"), extractArgsAsStrings(b.getArguments()));
+    assertArrayEquals(new int[] { 1, 3 }, b.getKeyPositions());
+    assertEquals(5, a.getKeyCount());
+  }
+
+  @Test
+  public void testMgetMultiShard_singleSlotIsNotPositioned() {
+    List<CommandObject<List<byte[]>>> commands = clusterCommandObjects.mgetMultiShard(
+      "{a}1".getBytes(), "{a}2".getBytes());
+
+    assertEquals(1, commands.size());
+    assertFalse(commands.get(0) instanceof PositionedCommandObject);
+  }
+
   /**
    * SCAN is routed by the hash tag of its MATCH pattern, and the pattern reaches the wire as the
    * bytes {@link ScanParams#match(String)} produced with {@link SafeEncoder#DEFAULT_CHARSET}, so
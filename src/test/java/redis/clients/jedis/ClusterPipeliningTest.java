@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -1299,6 +1300,38 @@ public class ClusterPipeliningTest {
       executorService.shutdown();
     }
   }
+  @Test
+  public void clientExecutorIsReusedAcrossSyncs() {
+    ClusterConnectionProvider provider = new ClusterConnectionProvider(nodes, clientConfig);
+    ExecutorService executorService;
+    try {
+      try (ClusterPipeline pipeline = new ClusterPipeline(provider, protocol)) {
+        // multiple keys at different slots, to ensure multi-node pipeline
+        pipeline.set("key1", "value1");
+        pipeline.set("key2", "value2");
+        pipeline.set("key3", "value3");
+        pipeline.sync();
+      }
+      executorService = provider.getPipelineExecutor();
+
+      try (ClusterPipeline pipeline = new ClusterPipeline(provider, protocol)) {
+        Response<String> r1 = pipeline.get("key1");
+        Response<String> r2 = pipeline.get("key2");
+        Response<String> r3 = pipeline.get("key3");
+        pipeline.sync();
+        assertEquals("value1", r1.get());
+        assertEquals("value2", r2.get());
+        assertEquals("value3", r3.get());
+      }
+      assertSame(executorService, provider.getPipelineExecutor());
+      assertFalse(executorService.isShutdown());
+    } finally {
+      provider.close();
+    }
+    assertTrue(executorService.isShutdown());
+    assertNull(provider.getPipelineExecutor());
+  }
+
   @Test
   public void sharedExecutorPipelineKeysAtSameNode() {
     try (RedisClusterClient cluster = RedisClusterClient.builder().nodes(nodes).clientConfig(clientConfig).build()) {
@@ -0,0 +1,138 @@
+package redis.clients.jedis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.exceptions.JedisClusterOperationException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
+import redis.clients.jedis.util.server.RespResponse;
+import redis.clients.jedis.util.server.TcpMockServer;
+
+/**
+ * Unit tests for {@link HashImportLoader} on a cluster of two mock servers, the first serving the
+ * lower half of the slots and the second the upper half. Until {@link #assignUpperHalf} is set,
+ * {@code CLUSTER SLOTS} replies with the lower half only.
+ */
+public class HashImportLoaderClusterTest {
+
+  private static final String INIT_NO_ERROR_PROPERTY = "jedis.cluster.initNoError";
+  private static final int LAST_LOWER_SLOT = Protocol.CLUSTER_HASHSLOTS / 2 - 1;
+
+  private TcpMockServer lower;
+  private TcpMockServer upper;
+  private final List<String> receivedByLower = new CopyOnWriteArrayList<>();
+  private final List<String> receivedByUpper = new CopyOnWriteArrayList<>();
+  private volatile boolean assignUpperHalf = true;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    lower = new TcpMockServer();
+    upper = new TcpMockServer();
+    lower.setCommandHandler((args, clientId) -> reply(args, receivedByLower));
+    upper.setCommandHandler((args, clientId) -> reply(args, receivedByUpper));
+    lower.start();
+    upper.start();
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    System.getProperties().remove(INIT_NO_ERROR_PROPERTY);
+    lower.stop();
+    upper.stop();
+  }
+
+  private String reply(CommandArguments args, List<String> received) {
+    if (args.getCommand() == Protocol.Command.CLUSTER) {
+      String lowerHalf = RespResponse.array(RespResponse.integer(0),
+        RespResponse.integer(LAST_LOWER_SLOT), node(lower));
+      String upperHalf = RespResponse.array(RespResponse.integer(LAST_LOWER_SLOT + 1),
+        RespResponse.integer(Protocol.CLUSTER_HASHSLOTS - 1), node(upper));
+      return assignUpperHalf ? RespResponse.array(lowerHalf, upperHalf)
+          : RespResponse.array(lowerHalf);
+    }
+    if (args.getCommand() != Protocol.Command.HIMPORT) {
+      return null;
+    }
+    received.add(SafeEncoder.encode(args.get(1).getRaw()) + " "
+        + SafeEncoder.encode(args.get(2).getRaw()));
+    return RespResponse.simpleString("OK");
+  }
+
+  private static String node(TcpMockServer server) {
+    return RespResponse.array(RespResponse.bulkString("localhost"),
+      RespResponse.integer(server.getPort()), RespResponse.bulkString("node" + server.getPort()));
+  }
+
+  private RedisClusterClient newClient() {
+    return RedisClusterClient.builder()
+        .nodes(Collections.singleton(new HostAndPort("localhost", lower.getPort())))
+        .build();
+  }
+
+  private static HashImportLoader.Result load(RedisClusterClient client, int rows) {
+    try (HashImport fs = HashImport.of("f")) {
+      return client.hashImportLoader(fs, 16).load(IntStream.range(0, rows).boxed(),
+        i -> "key:" + i, i -> new String[] { "v" + i });
+    }
+  }
+
+  private static void assertServedSlots(List<String> received, boolean lowerHalf) {
+    for (String command : received) {
+      if (command.startsWith("SET ")) {
+        int slot = JedisClusterCRC16.getSlot(command.substring(4));
+        assertEquals(lowerHalf, slot <= LAST_LOWER_SLOT, command);
+      }
+    }
+  }
+
+  @Test
+  public void rowsAreRoutedToTheNodeOfTheirSlot() {
+    try (RedisClusterClient client = newClient()) {
+      assertEquals(500, load(client, 500).getImported());
+    }
+
+    assertEquals(1, receivedByLower.stream().filter(c -> c.startsWith("PREPARE")).count());
+    assertEquals(1, receivedByUpper.stream().filter(c -> c.startsWith("PREPARE")).count());
+    assertEquals(502, receivedByLower.size() + receivedByUpper.size());
+    assertServedSlots(receivedByLower, true);
+    assertServedSlots(receivedByUpper, false);
+  }
+
+  @Test
+  public void unassignedSlotIsLookedUpAgainAfterRenewal() {
+    System.setProperty(INIT_NO_ERROR_PROPERTY, "");
+    assignUpperHalf = false;
+    try (RedisClusterClient client = newClient()) {
+      assignUpperHalf = true;
+      assertEquals(500, load(client, 500).getImported());
+    }
+
+    assertTrue(receivedByUpper.size() > 1);
+    assertServedSlots(receivedByLower, true);
+    assertServedSlots(receivedByUpper, false);
+  }
+
+  @Test
+  public void slotStillUnassignedAbortsTheLoad() {
+    System.setProperty(INIT_NO_ERROR_PROPERTY, "");
+    assignUpperHalf = false;
+    try (RedisClusterClient client = newClient()) {
+      assertThrows(JedisClusterOperationException.class, () -> load(client, 500));
+    }
+
+    assertTrue(receivedByUpper.isEmpty());
+    assertServedSlots(receivedByLower, true);
+  }
+}
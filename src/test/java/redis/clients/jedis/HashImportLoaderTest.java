@@ -0,0 +1,116 @@
+package redis.clients.jedis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.util.SafeEncoder;
+import redis.clients.jedis.util.server.RespResponse;
+import redis.clients.jedis.util.server.TcpMockServer;
+
+/**
+ * Unit tests for {@link HashImportLoader} against a mock server recording the HIMPORT commands,
+ * which replies with an error to {@code HIMPORT SET} of a key starting with {@code bad}.
+ */
+public class HashImportLoaderTest {
+
+  private TcpMockServer mockServer;
+  private RedisClient client;
+  private final List<String> received = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    mockServer = new TcpMockServer();
+    mockServer.setCommandHandler((args, clientId) -> {
+      if (args.getCommand() != Protocol.Command.HIMPORT) {
+        return null;
+      }
+      String subcommand = SafeEncoder.encode(args.get(1).getRaw());
+      String key = SafeEncoder.encode(args.get(2).getRaw());
+      received.add(subcommand + " " + key);
+      return "SET".equals(subcommand) && key.startsWith("bad")
+          ? RespResponse.error("ERR wrong number of values")
+          : RespResponse.simpleString("OK");
+    });
+    mockServer.start();
+    client = RedisClient.builder().hostAndPort(new HostAndPort("localhost", mockServer.getPort()))
+        .build();
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    client.close();
+    mockServer.stop();
+  }
+
+  @Test
+  public void loadsAllRowsOverOnePreparedConnection() {
+    try (HashImport fs = HashImport.of("name", "age")) {
+      HashImportLoader.Result result = client.hashImportLoader(fs, 64).load(
+        IntStream.range(0, 1000).boxed(), i -> "user:" + i,
+        i -> new String[] { "name" + i, Integer.toString(i) });
+
+      assertEquals(1000, result.getImported());
+      assertEquals(0, result.getFailed());
+      assertEquals(1001, received.size());
+      assertEquals(1, received.stream().filter(c -> c.startsWith("PREPARE")).count());
+      assertEquals("SET user:999", received.get(1000));
+    }
+  }
+
+  @Test
+  public void errorRepliesAreReportedWithTheirKey() {
+    try (HashImport fs = HashImport.of("f")) {
+      List<String> keys = IntStream.range(0, 300)
+          .mapToObj(i -> i % 100 == 7 ? "bad" + i : "ok" + i).collect(Collectors.toList());
+      HashImportLoader.Result result = client.hashImportLoader(fs, 16)
+          .load(keys.iterator(), k -> k, k -> new String[] { "v" });
+
+      assertEquals(297, result.getImported());
+      assertEquals(3, result.getFailed());
+      assertEquals("bad7", result.getFailures().get(0).getKey());
+      assertEquals("bad107", result.getFailures().get(1).getKey());
+      assertEquals("bad207", result.getFailures().get(2).getKey());
+    }
+  }
+
+  @Test
+  public void loaderCanBeReusedAndConnectionIsReturnedClean() {
+    try (HashImport fs = HashImport.of("f")) {
+      HashImportLoader loader = client.hashImportLoader(fs, 8);
+      assertEquals(20, loader.loadBinary(IntStream.range(0, 20).boxed(),
+        i -> SafeEncoder.encode("k" + i), i -> new byte[][] { SafeEncoder.encode("v") })
+          .getImported());
+
+      // a row with a missing value aborts the load after the rows already sent
+      assertThrows(IllegalArgumentException.class, () -> loader.load(
+        IntStream.range(0, 20).boxed(), i -> "k" + i,
+        i -> i == 15 ? new String[0] : new String[] { "v" }));
+
+      // the replies still due were read, so the pooled connection is in sync
+      assertEquals("PONG", client.ping());
+      assertEquals(5, loader.load(IntStream.range(0, 5).boxed(), i -> "k" + i,
+        i -> new String[] { "v" }).getImported());
+    }
+  }
+
+  @Test
+  public void discardedTemplateIsRejected() {
+    HashImport fs = HashImport.of("f");
+    HashImportLoader loader = client.hashImportLoader(fs);
+    fs.close();
+    assertThrows(IllegalStateException.class, () -> loader.load(IntStream.range(0, 1).boxed(),
+      i -> "k", i -> new String[] { "v" }));
+    assertTrue(received.isEmpty());
+  }
+}
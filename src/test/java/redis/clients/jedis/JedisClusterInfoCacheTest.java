@@ -6,14 +6,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import redis.clients.jedis.csc.Cache;
+import redis.clients.jedis.csc.CacheEntry;
+import redis.clients.jedis.csc.CacheKey;
+import redis.clients.jedis.csc.ConcurrentCache;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisMovedDataException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.equalTo;
@@ -22,7 +33,13 @@ import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static redis.clients.jedis.JedisClusterInfoCache.getNodeKey;
 import static redis.clients.jedis.Protocol.Command.CLUSTER;
@@ -156,6 +173,199 @@ public class JedisClusterInfoCacheTest {
             hasEntry(equalTo(getNodeKey(REPLICA_1_HOST)), equalTo(cache.getNode(REPLICA_1_HOST))));
   }
 
+  @Test
+  public void topologyChangeDeletesClientSideCacheEntriesOfMovedSlotsOnly() {
+    String movedKey = keyInSlots(1, 8190);
+    String keptKey = keyInSlots(JedisClusterCRC16.getSlot(movedKey) + 1, 8191);
+    int movedSlot = JedisClusterCRC16.getSlot(movedKey);
+
+    Cache clientSideCache = new ConcurrentCache(100);
+    JedisClusterInfoCache cache = new JedisClusterInfoCache(
+        DefaultJedisClientConfig.builder().protocol(RedisProtocol.RESP3).build(), clientSideCache,
+        new HashSet<>(Collections.singletonList(MASTER_HOST)));
+
+    when(mockConnection.executeCommand(argThat(commandWithArgs(CLUSTER, "SLOTS")))).thenReturn(
+        createClusterSlotsResponse(
+            new SlotRange.Builder(0, 8191).master(MASTER_HOST, "master-id-1").build(),
+            new SlotRange.Builder(8192, 16383).master(REPLICA_1_HOST, "master-id-2").build()))
+        .thenReturn(createClusterSlotsResponse(
+            new SlotRange.Builder(0, movedSlot - 1).master(MASTER_HOST, "master-id-1").build(),
+            new SlotRange.Builder(movedSlot, movedSlot).master(REPLICA_1_HOST, "master-id-2")
+                .build(),
+            new SlotRange.Builder(movedSlot + 1, 8191).master(MASTER_HOST, "master-id-1").build(),
+            new SlotRange.Builder(8192, 16383).master(REPLICA_1_HOST, "master-id-2").build()));
+    cache.discoverClusterNodesAndSlots(mockConnection);
+
+    CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP3);
+    CacheKey<String> moved = new CacheKey<>(commandObjects.get(movedKey));
+    CacheKey<String> kept = new CacheKey<>(commandObjects.get(keptKey));
+    clientSideCache.set(moved, CacheEntry.fromReply(moved, BuilderFactory.STRING,
+      SafeEncoder.encode("v"), null));
+    clientSideCache.set(kept, CacheEntry.fromReply(kept, BuilderFactory.STRING,
+      SafeEncoder.encode("v"), null));
+
+    cache.renewClusterSlots(mockConnection);
+
+    assertEquals(REPLICA_1_HOST, cache.getSlotNode(movedSlot));
+    assertNull(clientSideCache.get(moved));
+    assertNotNull(clientSideCache.get(kept));
+    assertEquals(1, clientSideCache.getSize());
+  }
+
+  @Test
+  public void topologyIsPublishedAsImmutableSnapshots() {
+    JedisClusterInfoCache cache = createCacheWithReplicasEnabled();
+    when(mockConnection.executeCommand(argThat(commandWithArgs(CLUSTER, "SLOTS")))).thenReturn(
+        masterReplicaSlotsResponse(MASTER_HOST, REPLICA_1_HOST)).thenReturn(masterOnlySlotsResponse());
+
+    cache.discoverClusterNodesAndSlots(mockConnection);
+    Map<String, ConnectionPool> nodes = cache.getNodes();
+    List<ConnectionPool> replicas = cache.getSlotReplicaPools(TEST_SLOT);
+    assertThrows(UnsupportedOperationException.class, () -> replicas.clear());
+    // the nodes are returned as a copy, which callers may modify
+    cache.getNodes().clear();
+    assertEquals(2, cache.getNodes().size());
+    // the snapshots are shared rather than copied
+    Map<String, ConnectionPool> snapshot = cache.getNodesSnapshot();
+    assertSame(snapshot, cache.getNodesSnapshot());
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.clear());
+    assertThrows(UnsupportedOperationException.class,
+        () -> cache.getPrimaryNodesSnapshot().clear());
+
+    cache.renewClusterSlots(mockConnection);
+
+    // the snapshots read before the renewal are unchanged
+    assertEquals(2, nodes.size());
+    assertEquals(1, replicas.size());
+    assertEquals(1, cache.getNodes().size());
+    assertEquals(2, snapshot.size());
+    assertEquals(1, cache.getNodesSnapshot().size());
+    assertNoReplicasAvailable(cache);
+    assertMasterNodeAvailable(cache);
+  }
+
+  @Test
+  public void slotAssignmentKeepsTheOtherSlotsAndTheirReplicas() {
+    JedisClusterInfoCache cache = createCacheWithReplicasEnabled();
+    when(mockConnection.executeCommand(argThat(commandWithArgs(CLUSTER, "SLOTS")))).thenReturn(
+        masterReplicaSlotsResponse(MASTER_HOST, REPLICA_1_HOST));
+    cache.discoverClusterNodesAndSlots(mockConnection);
+    List<ConnectionPool> otherReplicas = cache.getSlotReplicaPools(TEST_SLOT + 1);
+    ConnectionPool otherPool = cache.getSlotPool(TEST_SLOT + 1);
+
+    cache.assignSlotToNode(TEST_SLOT, REPLICA_2_HOST);
+    cache.assignSlotsToReplicaNode(Collections.singletonList(TEST_SLOT), REPLICA_2_HOST);
+
+    assertEquals(REPLICA_2_HOST, cache.getSlotNode(TEST_SLOT));
+    assertEquals(cache.getNode(REPLICA_2_HOST), cache.getSlotPool(TEST_SLOT));
+    assertEquals(2, cache.getSlotReplicaPools(TEST_SLOT).size());
+    assertEquals(MASTER_HOST, cache.getSlotNode(TEST_SLOT + 1));
+    assertSame(otherPool, cache.getSlotPool(TEST_SLOT + 1));
+    assertSame(otherReplicas, cache.getSlotReplicaPools(TEST_SLOT + 1));
+    assertEquals(MASTER_HOST, cache.getSlotNode(Protocol.CLUSTER_HASHSLOTS - 1));
+  }
+
+  @Test
+  public void movedRedirectionIsAppliedAtOnceAndRenewalsAreCoalesced() {
+    JedisClusterInfoCache cache = createCacheWithReplicasEnabled();
+    when(mockConnection.executeCommand(argThat(commandWithArgs(CLUSTER, "SLOTS")))).thenReturn(
+        masterOnlySlotsResponse());
+    cache.discoverClusterNodesAndSlots(mockConnection);
+    cache.setMinRenewalInterval(Duration.ofHours(1));
+    cache.renewClusterSlots(mockConnection);
+
+    try {
+      cache.applyMovedRedirection(new JedisMovedDataException("MOVED", REPLICA_1_HOST, 5));
+      assertEquals(REPLICA_1_HOST, cache.getSlotNode(5));
+      assertEquals(MASTER_HOST, cache.getSlotNode(6));
+      assertTrue(cache.isRenewalRequested());
+
+      cache.applyMovedRedirection(new JedisMovedDataException("MOVED", REPLICA_1_HOST, 6));
+      cache.requestClusterSlotsRenewal();
+      assertEquals(REPLICA_1_HOST, cache.getSlotNode(6));
+
+      // the requests wait for the single renewal due in an hour
+      verify(mockConnection, times(2)).executeCommand(argThat(commandWithArgs(CLUSTER, "SLOTS")));
+    } finally {
+      cache.close();
+    }
+  }
+
+  @Test
+  public void clusterShardsDiscoveryUsesOnlineReplicasOnly() {
+    JedisClusterInfoCache cache = createCacheWithReplicasEnabled();
+    cache.setUseClusterShards(true);
+    when(mockConnection.executeCommand(argThat(commandWithArgs(CLUSTER, "SHARDS")))).thenReturn(
+        Collections.singletonList(clusterShard(0, 16383, shardNode(MASTER_HOST, "master", "online"),
+          shardNode(REPLICA_1_HOST, "replica", "online"),
+          shardNode(REPLICA_2_HOST, "replica", "loading"))));
+
+    cache.renewClusterSlots(mockConnection);
+
+    assertMasterNodeAvailable(cache);
+    assertReplicasAvailable(cache, REPLICA_1_HOST);
+    assertNull(cache.getNode(REPLICA_2_HOST));
+  }
+
+  @Test
+  public void clusterShardsDiscoveryFallsBackToClusterSlots() {
+    JedisClusterInfoCache cache = createCacheWithReplicasEnabled();
+    cache.setUseClusterShards(true);
+    when(mockConnection.executeCommand(argThat(commandWithArgs(CLUSTER, "SHARDS")))).thenThrow(
+        new JedisDataException("ERR unknown subcommand 'SHARDS'"));
+    when(mockConnection.executeCommand(argThat(commandWithArgs(CLUSTER, "SLOTS")))).thenReturn(
+        masterReplicaSlotsResponse(MASTER_HOST, REPLICA_1_HOST));
+
+    cache.renewClusterSlots(mockConnection);
+    cache.renewClusterSlots(mockConnection);
+
+    assertMasterNodeAvailable(cache);
+    assertReplicasAvailable(cache, REPLICA_1_HOST);
+    verify(mockConnection, times(1)).executeCommand(argThat(commandWithArgs(CLUSTER, "SHARDS")));
+    verify(mockConnection, times(2)).executeCommand(argThat(commandWithArgs(CLUSTER, "SLOTS")));
+  }
+
+  @Test
+  public void clusterShardsIsKeptAfterOtherErrors() {
+    JedisClusterInfoCache cache = createCacheWithReplicasEnabled();
+    cache.setUseClusterShards(true);
+    when(mockConnection.executeCommand(argThat(commandWithArgs(CLUSTER, "SHARDS"))))
+        .thenThrow(new JedisDataException("LOADING Redis is loading the dataset in memory"))
+        .thenReturn(Collections.singletonList(clusterShard(0, 16383,
+          shardNode(MASTER_HOST, "master", "online"),
+          shardNode(REPLICA_1_HOST, "replica", "online"))));
+
+    // the initial discovery uses CLUSTER SHARDS too
+    assertThrows(JedisDataException.class, () -> cache.discoverClusterNodesAndSlots(mockConnection));
+    cache.discoverClusterNodesAndSlots(mockConnection);
+
+    assertMasterNodeAvailable(cache);
+    assertReplicasAvailable(cache, REPLICA_1_HOST);
+    verify(mockConnection, times(2)).executeCommand(argThat(commandWithArgs(CLUSTER, "SHARDS")));
+    verify(mockConnection, never()).executeCommand(argThat(commandWithArgs(CLUSTER, "SLOTS")));
+  }
+
+  private static List<Object> clusterShard(long from, long to, List<Object>... nodes) {
+    return Arrays.asList(SafeEncoder.encode("slots"), Arrays.asList(from, to),
+        SafeEncoder.encode("nodes"), Arrays.asList((Object[]) nodes));
+  }
+
+  private static List<Object> shardNode(HostAndPort node, String role, String health) {
+    return Arrays.asList(SafeEncoder.encode("id"), SafeEncoder.encode(node + "-id"),
+        SafeEncoder.encode("endpoint"), SafeEncoder.encode(node.getHost()),
+        SafeEncoder.encode("port"), (long) node.getPort(), SafeEncoder.encode("role"),
+        SafeEncoder.encode(role), SafeEncoder.encode("health"), SafeEncoder.encode(health));
+  }
+
+  private static String keyInSlots(int from, int to) {
+    for (int i = 0;; i++) {
+      int slot = JedisClusterCRC16.getSlot("key" + i);
+      if (slot >= from && slot <= to) {
+        return "key" + i;
+      }
+    }
+  }
+
   private List<Object> masterReplicaSlotsResponse(HostAndPort masterHost, HostAndPort replicaHost) {
     return createClusterSlotsResponse(
             new SlotRange.Builder(0, 16383).master(masterHost, masterHost.toString() + "-id")
@@ -3,17 +3,32 @@ package redis.clients.jedis;
 import org.junit.jupiter.api.Test;
 import redis.clients.jedis.util.SafeEncoder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import redis.clients.jedis.Protocol.ResponseKeyword;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static redis.clients.jedis.Protocol.ResponseKeyword.MESSAGE;
 import static redis.clients.jedis.Protocol.ResponseKeyword.SUBSCRIBE;
+import static redis.clients.jedis.Protocol.ResponseKeyword.UNSUBSCRIBE;
 
 public class JedisPubSubBaseTest  {
     @Test
@@ -63,4 +78,94 @@ public class JedisPubSubBaseTest  {
             throw new AssertionError("proceed() threw unexpectedly", workerError.get());
         }
     }
+
+    @Test
+    public void typeOfRecognizesEachKeywordOnly() {
+        for (ResponseKeyword keyword : ResponseKeyword.values()) {
+            assertEquals(keyword, PubSubDispatcher.typeOf(keyword.getRaw()));
+        }
+        assertNull(PubSubDispatcher.typeOf(SafeEncoder.encode("massage")));
+        assertNull(PubSubDispatcher.typeOf(SafeEncoder.encode("xmessage")));
+        assertNull(PubSubDispatcher.typeOf(SafeEncoder.encode("invalidate")));
+        assertNull(PubSubDispatcher.typeOf(new byte[0]));
+    }
+
+    @Test
+    public void rawMessagesAreHandedOutWithoutDecoding() {
+        final List<byte[]> received = new ArrayList<>();
+        final JedisPubSub pubSub = new JedisPubSub() {
+            @Override
+            protected void onRawMessage(byte[] channel, byte[] message) {
+                received.add(message);
+            }
+
+            @Override
+            public void onMessage(String channel, String message) {
+                fail("messages should not be decoded");
+            }
+        };
+
+        final Connection mockConnection = mock(Connection.class);
+        when(mockConnection.getUnflushedObject()).thenReturn(
+                Arrays.asList(SUBSCRIBE.getRaw(), "channel".getBytes(), 1L),
+                Arrays.asList(MESSAGE.getRaw(), "channel".getBytes(), new byte[] { 1, 2 }),
+                Arrays.asList(UNSUBSCRIBE.getRaw(), "channel".getBytes(), 0L));
+
+        pubSub.proceed(mockConnection, "channel");
+
+        assertEquals(1, received.size());
+        assertArrayEquals(new byte[] { 1, 2 }, received.get(0));
+    }
+
+    @Test
+    public void callbacksRunOnTheExecutorInChannelOrder() throws InterruptedException {
+        final int messages = 1000;
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final Map<String, List<String>> received = new ConcurrentHashMap<>();
+        final CountDownLatch unsubscribed = new CountDownLatch(2);
+        final Thread reader = Thread.currentThread();
+        final JedisPubSub pubSub = new JedisPubSub(executor) {
+            @Override
+            public void onMessage(String channel, String message) {
+                assertNotEquals(reader, Thread.currentThread());
+                received.computeIfAbsent(channel, c -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(message);
+            }
+
+            @Override
+            public void onUnsubscribe(String channel, int subscribedChannels) {
+                unsubscribed.countDown();
+            }
+        };
+
+        final List<Object> replies = new ArrayList<>();
+        replies.add(Arrays.asList(SUBSCRIBE.getRaw(), "a".getBytes(), 1L));
+        replies.add(Arrays.asList(SUBSCRIBE.getRaw(), "b".getBytes(), 2L));
+        for (int i = 0; i < messages; i++) {
+            replies.add(Arrays.asList(MESSAGE.getRaw(), "a".getBytes(), SafeEncoder.encode("" + i)));
+            replies.add(Arrays.asList(MESSAGE.getRaw(), "b".getBytes(), SafeEncoder.encode("" + i)));
+        }
+        replies.add(Arrays.asList(UNSUBSCRIBE.getRaw(), "a".getBytes(), 1L));
+        replies.add(Arrays.asList(UNSUBSCRIBE.getRaw(), "b".getBytes(), 0L));
+
+        final Connection mockConnection = mock(Connection.class);
+        when(mockConnection.getUnflushedObject()).thenReturn(replies.get(0),
+                replies.subList(1, replies.size()).toArray());
+
+        try {
+            pubSub.proceed(mockConnection, "a", "b");
+
+            // the unsubscriptions are delivered after the messages of their channel
+            assertTrue(unsubscribed.await(5, TimeUnit.SECONDS));
+            for (String channel : Arrays.asList("a", "b")) {
+                List<String> channelMessages = received.get(channel);
+                assertEquals(messages, channelMessages.size());
+                for (int i = 0; i < messages; i++) {
+                    assertEquals("" + i, channelMessages.get(i));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,124 @@
+package redis.clients.jedis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.SafeEncoder;
+import redis.clients.jedis.util.server.RespResponse;
+import redis.clients.jedis.util.server.TcpMockServer;
+
+/**
+ * Unit tests for {@link MultiplexedConnection} against {@link TcpMockServer}, which replies to GET
+ * with the requested key and to GET of {@code error} with an error.
+ */
+public class MultiplexedConnectionTest {
+
+  private final CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP2);
+
+  private TcpMockServer mockServer;
+  private MultiplexedConnection connection;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    mockServer = new TcpMockServer();
+    mockServer.setCommandHandler((args, clientId) -> {
+      if (args.getCommand() != Protocol.Command.GET) {
+        return null;
+      }
+      String key = SafeEncoder.encode(args.get(1).getRaw());
+      return "error".equals(key) ? RespResponse.error("ERR no such key")
+          : RespResponse.bulkString(key);
+    });
+    mockServer.start();
+    connection = new MultiplexedConnection(new Connection("localhost", mockServer.getPort()));
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    connection.close();
+    mockServer.stop();
+  }
+
+  @Test
+  public void repliesCompleteTheirOwnFutures() throws Exception {
+    ExecutorService submitters = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<List<CompletableFuture<String>>>> submissions = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        final int thread = t;
+        submissions.add(submitters.submit(() -> {
+          List<CompletableFuture<String>> futures = new ArrayList<>();
+          for (int i = 0; i < 250; i++) {
+            futures.add(connection.executeCommand(commandObjects.get(thread + ":" + i)));
+          }
+          return futures;
+        }));
+      }
+      for (int t = 0; t < 4; t++) {
+        List<CompletableFuture<String>> futures = submissions.get(t).get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < futures.size(); i++) {
+          assertEquals(t + ":" + i, futures.get(i).get(10, TimeUnit.SECONDS));
+        }
+      }
+    } finally {
+      submitters.shutdownNow();
+    }
+  }
+
+  @Test
+  public void errorReplyFailsOnlyItsCommand() throws Exception {
+    CompletableFuture<String> before = connection.executeCommand(commandObjects.get("before"));
+    CompletableFuture<String> error = connection.executeCommand(commandObjects.get("error"));
+    CompletableFuture<String> after = connection.executeCommand(commandObjects.get("after"));
+
+    assertEquals("before", before.get(5, TimeUnit.SECONDS));
+    ExecutionException ee = assertThrows(ExecutionException.class,
+      () -> error.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(JedisDataException.class, ee.getCause());
+    assertEquals("after", after.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void blockingCommandIsRejected() {
+    CompletableFuture<?> future = connection.executeCommand(commandObjects.blpop(1, "list"));
+    ExecutionException ee = assertThrows(ExecutionException.class,
+      () -> future.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(JedisException.class, ee.getCause());
+  }
+
+  @Test
+  public void commandsFailOnceTheServerIsGone() throws Exception {
+    assertEquals("key", connection.executeCommand(commandObjects.get("key"))
+        .get(5, TimeUnit.SECONDS));
+    mockServer.stop();
+
+    CompletableFuture<String> future = connection.executeCommand(commandObjects.get("key"));
+    assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertTrue(connection.isBroken());
+  }
+
+  @Test
+  public void closedConnectionRejectsCommands() {
+    connection.close();
+    CompletableFuture<String> future = connection.executeCommand(commandObjects.get("key"));
+    assertTrue(future.isCompletedExceptionally());
+  }
+}
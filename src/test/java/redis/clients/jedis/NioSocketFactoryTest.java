@@ -0,0 +1,205 @@
+package redis.clients.jedis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.newsclub.net.unix.AFUNIXServerSocket;
+import org.newsclub.net.unix.AFUNIXSocketAddress;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.util.SafeEncoder;
+import redis.clients.jedis.util.server.RespResponse;
+import redis.clients.jedis.util.server.TcpMockServer;
+
+/**
+ * Unit tests for {@link NioSocketFactory} against {@link TcpMockServer}, which replies to GET with
+ * the requested key, repeated when the key is {@code big}, and replies to GET of {@code slow}
+ * after a second.
+ */
+public class NioSocketFactoryTest {
+
+  private static final String BIG_VALUE = repeat('x', 3 * NioSocketFactory.DEFAULT_BUFFER_SIZE);
+
+  private TcpMockServer mockServer;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    mockServer = new TcpMockServer();
+    mockServer.setCommandHandler((args, clientId) -> {
+      if (args.getCommand() != Protocol.Command.GET) {
+        return null;
+      }
+      String key = SafeEncoder.encode(args.get(1).getRaw());
+      if ("slow".equals(key)) {
+        try {
+          Thread.sleep(1000);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return RespResponse.bulkString("big".equals(key) ? BIG_VALUE : key);
+    });
+    mockServer.start();
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    mockServer.stop();
+  }
+
+  @Test
+  public void commandRoundTrip() {
+    try (Jedis jedis = new Jedis(newConnection(DefaultJedisClientConfig.builder().build()))) {
+      assertEquals("PONG", jedis.ping());
+      assertEquals("key", jedis.get("key"));
+      assertEquals(BIG_VALUE, jedis.get("big"));
+    }
+  }
+
+  @Test
+  public void largeArgumentsAndPipeline() {
+    try (Jedis jedis = new Jedis(newConnection(DefaultJedisClientConfig.builder().build()))) {
+      Pipeline pipeline = jedis.pipelined();
+      for (int i = 0; i < 1000; i++) {
+        pipeline.get(i % 100 == 0 ? BIG_VALUE : "key" + i);
+      }
+      List<Object> replies = pipeline.syncAndReturnAll();
+      assertEquals(1000, replies.size());
+      for (int i = 0; i < 1000; i++) {
+        assertEquals(i % 100 == 0 ? BIG_VALUE : "key" + i, replies.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void readTimesOut() {
+    Connection connection = newConnection(DefaultJedisClientConfig.builder()
+        .socketTimeoutMillis(200).build());
+    try (Jedis jedis = new Jedis(connection)) {
+      JedisConnectionException jce = assertThrows(JedisConnectionException.class,
+        () -> jedis.get("slow"));
+      assertInstanceOf(java.net.SocketTimeoutException.class, jce.getCause());
+      assertTrue(connection.isBroken());
+    }
+  }
+
+  @Test
+  public void writeTimesOut() throws IOException {
+    try (java.net.ServerSocket silent = new java.net.ServerSocket(0)) {
+      // accepted by the backlog, but never read
+      Socket socket = new NioSocketFactory(new HostAndPort("localhost", silent.getLocalPort()),
+          DefaultJedisClientConfig.builder().build()).createSocket();
+      try {
+        socket.setSoTimeout(200);
+        OutputStream out = socket.getOutputStream();
+        byte[] chunk = new byte[NioSocketFactory.DEFAULT_BUFFER_SIZE];
+        long start = System.nanoTime();
+        assertThrows(java.net.SocketTimeoutException.class, () -> {
+          while (true) {
+            out.write(chunk);
+            out.flush();
+          }
+        });
+        assertTrue(System.nanoTime() - start < java.util.concurrent.TimeUnit.SECONDS.toNanos(10));
+      } finally {
+        socket.close();
+      }
+    }
+  }
+
+  @Test
+  public void closedSocketIsNotConnected() throws IOException {
+    Socket socket = new NioSocketFactory(new HostAndPort("localhost", mockServer.getPort()),
+        DefaultJedisClientConfig.builder().build()).createSocket();
+    assertTrue(socket.isConnected());
+    socket.close();
+    assertTrue(socket.isClosed());
+    assertThrows(IOException.class, () -> socket.getOutputStream().write(new byte[1]));
+  }
+
+  @Test
+  public void sslIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new NioSocketFactory(
+        new HostAndPort("localhost", 6379), DefaultJedisClientConfig.builder().ssl(true).build()));
+  }
+
+  @Test
+  public void connectsToUnixDomainSocket() throws Exception {
+    SocketAddress address;
+    File file = File.createTempFile("jedis-nio", ".sock");
+    assertTrue(file.delete());
+    try {
+      // java.net.UnixDomainSocketAddress is only available on Java 16 and later
+      address = (SocketAddress) Class.forName("java.net.UnixDomainSocketAddress")
+          .getMethod("of", String.class).invoke(null, file.getPath());
+    } catch (ClassNotFoundException e) {
+      address = null;
+    }
+    assumeTrue(address != null, "Unix domain sockets require Java 16");
+
+    try (AFUNIXServerSocket server = AFUNIXServerSocket.newInstance()) {
+      server.bind(new AFUNIXSocketAddress(file));
+      Thread serverThread = new Thread(() -> replyPong(server));
+      serverThread.setDaemon(true);
+      serverThread.start();
+
+      Socket socket = new NioSocketFactory(address, DefaultJedisClientConfig.builder().build())
+          .createSocket();
+      try (Jedis jedis = new Jedis(new Connection(() -> socket))) {
+        assertEquals("PONG", jedis.ping());
+      }
+      assertTrue(socket.isClosed());
+    } finally {
+      file.delete();
+    }
+  }
+
+  private Connection newConnection(JedisClientConfig config) {
+    return new Connection(new NioSocketFactory(new HostAndPort("localhost", mockServer.getPort()),
+        config), config);
+  }
+
+  private static void replyPong(AFUNIXServerSocket server) {
+    try (Socket client = server.accept()) {
+      InputStream in = client.getInputStream();
+      OutputStream out = client.getOutputStream();
+      byte[] buf = new byte[1024];
+      // *1\r\n$4\r\nPING\r\n
+      int read = 0;
+      while (read < 14) {
+        int n = in.read(buf, read, buf.length - read);
+        if (n < 0) {
+          return;
+        }
+        read += n;
+      }
+      out.write("+PONG\r\n".getBytes(StandardCharsets.US_ASCII));
+      out.flush();
+      in.read(buf);
+    } catch (IOException e) {
+      // the client is gone
+    }
+  }
+
+  private static String repeat(char c, int count) {
+    char[] chars = new char[count];
+    Arrays.fill(chars, c);
+    return new String(chars);
+  }
+}
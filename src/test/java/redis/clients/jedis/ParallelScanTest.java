@@ -0,0 +1,164 @@
+package redis.clients.jedis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.providers.ConnectionProvider;
+import redis.clients.jedis.util.SafeEncoder;
+
+public class ParallelScanTest {
+
+  private static final int KEYS_PER_NODE = 10;
+  private static final int PAGE = 3;
+
+  private final Map<String, Connection> nodes = new LinkedHashMap<>();
+
+  private ConnectionProvider provider(int nodeCount) {
+    for (int i = 0; i < nodeCount; i++) {
+      nodes.put("node" + i + ":6379", node("node" + i));
+    }
+    ConnectionProvider provider = mock(ConnectionProvider.class);
+    doReturn(nodes).when(provider).getPrimaryNodesConnectionMap();
+    return provider;
+  }
+
+  /**
+   * A node holding {@link #KEYS_PER_NODE} keys, returned {@link #PAGE} at a time, the cursor being
+   * the index of the next page.
+   */
+  private static Connection node(String name) {
+    Connection connection = mock(Connection.class);
+    when(connection.executeCommand(any(CommandArguments.class))).thenAnswer(invocation -> {
+      CommandArguments args = invocation.getArgument(0);
+      int page = Integer.parseInt(SafeEncoder.encode(args.get(1).getRaw()));
+      List<byte[]> keys = new ArrayList<>();
+      for (int i = page * PAGE; i < Math.min((page + 1) * PAGE, KEYS_PER_NODE); i++) {
+        keys.add(SafeEncoder.encode(name + ":" + i));
+      }
+      String cursor = (page + 1) * PAGE < KEYS_PER_NODE ? String.valueOf(page + 1) : "0";
+      return Arrays.asList(SafeEncoder.encode(cursor), keys);
+    });
+    return connection;
+  }
+
+  private static Set<String> allKeys(int nodeCount) {
+    Set<String> keys = new HashSet<>();
+    for (int n = 0; n < nodeCount; n++) {
+      for (int i = 0; i < KEYS_PER_NODE; i++) {
+        keys.add("node" + n + ":" + i);
+      }
+    }
+    return keys;
+  }
+
+  @Test
+  public void parallelStreamReturnsTheKeysOfAllNodes() {
+    try (ParallelScan scan = new ParallelScan(provider(5), PAGE, "*");
+        Stream<String> keys = scan.stream().parallel()) {
+      List<String> result = keys.collect(Collectors.toList());
+      assertEquals(5 * KEYS_PER_NODE, result.size());
+      assertEquals(allKeys(5), new HashSet<>(result));
+
+      ScanCheckpoint checkpoint = scan.checkpoint();
+      assertEquals(5, checkpoint.getCursors().size());
+      nodes.keySet().forEach(node -> assertTrue(checkpoint.isNodeCompleted(node)));
+    }
+  }
+
+  @Test
+  public void spliteratorSplitsByNode() {
+    try (ParallelScan scan = new ParallelScan(provider(3), PAGE, "*")) {
+      Spliterator<String> first = scan.spliterator();
+      Spliterator<String> second = first.trySplit();
+      Spliterator<String> third = second.trySplit();
+      assertNull(first.trySplit());
+
+      Set<String> keys = new HashSet<>();
+      first.forEachRemaining(keys::add);
+      second.forEachRemaining(keys::add);
+      third.forEachRemaining(keys::add);
+      assertEquals(allKeys(3), keys);
+
+      assertThrows(IllegalStateException.class, scan::spliterator);
+    }
+  }
+
+  @Test
+  public void pausedScanResumesFromTheCheckpoint() {
+    ConnectionProvider provider = provider(2);
+    Set<String> keys = new HashSet<>();
+
+    ScanCheckpoint checkpoint;
+    try (ParallelScan scan = new ParallelScan(provider, PAGE, "*")) {
+      // all of the first batch of node0, and one key of the second
+      scan.stream().limit(PAGE + 1).forEach(keys::add);
+      checkpoint = scan.checkpoint();
+    }
+    assertEquals(1, checkpoint.getCursors().size());
+    assertEquals("1", checkpoint.getCursor("node0:6379"));
+    assertFalse(checkpoint.isNodeCompleted("node0:6379"));
+
+    List<String> resumed;
+    try (ParallelScan scan = new ParallelScan(provider, PAGE, "*", null, checkpoint, 1, null)) {
+      resumed = scan.stream().collect(Collectors.toList());
+    }
+    // the partly consumed batch is returned again
+    assertTrue(resumed.contains("node0:" + PAGE));
+    assertFalse(resumed.contains("node0:0"));
+    assertEquals(2 * KEYS_PER_NODE - PAGE, resumed.size());
+
+    keys.addAll(resumed);
+    assertEquals(allKeys(2), keys);
+  }
+
+  @Test
+  public void completedNodesAreNotScannedAgain() {
+    ConnectionProvider provider = provider(2);
+    Map<String, String> cursors = new LinkedHashMap<>();
+    cursors.put("node0:6379", ScanParams.SCAN_POINTER_START);
+
+    try (ParallelScan scan = new ParallelScan(provider, PAGE, "*", null,
+        new ScanCheckpoint(cursors), ParallelScan.DEFAULT_PREFETCH, null)) {
+      assertEquals(KEYS_PER_NODE, scan.stream().count());
+    }
+    verify(nodes.get("node0:6379"), never()).executeCommand(any(CommandArguments.class));
+  }
+
+  @Test
+  public void scanErrorIsThrownToTheConsumer() {
+    ConnectionProvider provider = provider(1);
+    JedisConnectionException error = new JedisConnectionException("down");
+    doThrow(error).when(nodes.get("node0:6379")).executeCommand(any(CommandArguments.class));
+
+    try (ParallelScan scan = new ParallelScan(provider, PAGE, "*")) {
+      assertSame(error, assertThrows(JedisConnectionException.class,
+          () -> scan.stream().forEach(key -> { })));
+    }
+  }
+}
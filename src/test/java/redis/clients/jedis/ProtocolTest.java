@@ -6,26 +6,34 @@ import redis.clients.jedis.util.FragmentedByteArrayInputStream;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static redis.clients.jedis.util.AssertUtil.assertByteArrayListEquals;
 
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.nio.FloatBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
+import redis.clients.jedis.args.Rawable;
+import redis.clients.jedis.args.RawableFactory;
 import redis.clients.jedis.exceptions.JedisBusyException;
 import redis.clients.jedis.util.RedisInputStream;
 import redis.clients.jedis.util.RedisOutputStream;
 import redis.clients.jedis.util.SafeEncoder;
+import redis.clients.jedis.util.VectorTestUtils;
 
 public class ProtocolTest {
   @Test
@@ -50,6 +58,113 @@ public class ProtocolTest {
     assertEquals(expectedCommand, sb.toString());
   }
 
+  @Test
+  public void directlyWrittenArgumentsMatchTheirRawBytes() throws IOException {
+    StringBuilder longString = new StringBuilder();
+    for (int i = 0; i < 3000; i++) {
+      longString.append(i % 7 == 0 ? "\u00e9t\u00e9" : "x");
+    }
+    CommandArguments args = new CommandArguments(Protocol.Command.SET).key("key")
+        .add("caf\u00e9 \u20ac \ud83d\ude00 \ud83d lone").add(0).add(-1).add(Integer.MIN_VALUE)
+        .add(Long.MAX_VALUE).add(Long.MIN_VALUE).add(1.5).add(longString.toString())
+        .add(Protocol.Keyword.GET);
+
+    // a small buffer, so that arguments span buffer flushes
+    ByteArrayOutputStream direct = new ByteArrayOutputStream();
+    RedisOutputStream ros = new RedisOutputStream(direct, 64);
+    Protocol.sendCommand(ros, args);
+    ros.flush();
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.write(SafeEncoder.encode("*" + args.size() + "\r\n"));
+    for (Rawable arg : args) {
+      expected.write(SafeEncoder.encode("$" + arg.getRaw().length + "\r\n"));
+      expected.write(arg.getRaw());
+      expected.write(SafeEncoder.encode("\r\n"));
+    }
+    assertArrayEquals(expected.toByteArray(), direct.toByteArray());
+  }
+
+  @Test
+  public void fp32ArgumentsAreWrittenAsLittleEndianBlobs() throws IOException {
+    float[] vector = new float[40];
+    for (int i = 0; i < vector.length; i++) {
+      vector[i] = i % 3 == 0 ? -i / 7f : i * 1.25f;
+    }
+    FloatBuffer floats = FloatBuffer.wrap(vector);
+    floats.position(3);
+    Rawable fp32 = RawableFactory.fp32(floats);
+    byte[] blob = VectorTestUtils.floatArrayToFP32Bytes(Arrays.copyOfRange(vector, 3, 40));
+    assertArrayEquals(blob, fp32.getRaw());
+
+    // a small buffer, so that the blob spans buffer flushes
+    ByteArrayOutputStream direct = new ByteArrayOutputStream();
+    RedisOutputStream ros = new RedisOutputStream(direct, 64);
+    Protocol.sendCommand(ros, new CommandArguments(Protocol.Command.VADD).key("key")
+        .add(Protocol.Keyword.FP32).add(fp32).add("element"));
+    ros.flush();
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.write(SafeEncoder.encode("*5\r\n$4\r\nVADD\r\n$3\r\nkey\r\n$4\r\nFP32\r\n$"
+        + blob.length + "\r\n"));
+    expected.write(blob);
+    expected.write(SafeEncoder.encode("\r\n$7\r\nelement\r\n"));
+    assertArrayEquals(expected.toByteArray(), direct.toByteArray());
+    assertEquals(3, floats.position());
+  }
+
+  @Test
+  public void fp32EncodingIsKeptOnceRead() throws IOException {
+    float[] vector = { 1.5f, -2f, 3.25f };
+    FloatBuffer floats = FloatBuffer.wrap(vector);
+    Rawable fp32 = RawableFactory.fp32(floats);
+    byte[] blob = VectorTestUtils.floatArrayToFP32Bytes(vector);
+
+    byte[] raw = fp32.getRaw();
+    assertArrayEquals(blob, raw);
+    int hashCode = fp32.hashCode();
+    vector[0] = 0f;
+    assertSame(raw, fp32.getRaw());
+    assertEquals(hashCode, fp32.hashCode());
+    assertEquals(RawableFactory.from(blob), fp32);
+
+    ByteArrayOutputStream direct = new ByteArrayOutputStream();
+    RedisOutputStream ros = new RedisOutputStream(direct);
+    Protocol.sendCommand(ros, new CommandArguments(Protocol.Command.VADD).add(fp32));
+    ros.flush();
+
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.write(SafeEncoder.encode("*2\r\n$4\r\nVADD\r\n$" + blob.length + "\r\n"));
+    expected.write(blob);
+    expected.write(SafeEncoder.encode("\r\n"));
+    assertArrayEquals(expected.toByteArray(), direct.toByteArray());
+  }
+
+
+  @Test
+  public void lazilyEncodedArgumentsEqualTheirEncoding() {
+    assertEquals(RawableFactory.from("caf\u00e9"), RawableFactory.from("caf\u00e9"));
+    assertEquals(RawableFactory.from("caf\u00e9").hashCode(),
+      new RawableFactory.RawString("caf\u00e9").hashCode());
+    assertArrayEquals(SafeEncoder.encode("-42"), RawableFactory.from(-42L).getRaw());
+    assertEquals(RawableFactory.from(42), RawableFactory.from(42L));
+  }
+
+  @Test
+  public void rawsOfDifferentEncodingsWithTheSameBytesAreEqual() {
+    byte[] bytes = SafeEncoder.encode("42");
+    List<Rawable> raws = Arrays.asList(RawableFactory.from(bytes), RawableFactory.from("42"),
+      RawableFactory.from(42), RawableFactory.from(42L),
+      RawableFactory.wrap(SafeEncoder.encode("x42x"), 1, 2));
+    for (Rawable a : raws) {
+      for (Rawable b : raws) {
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+      }
+    }
+    assertNotEquals(RawableFactory.from(43), RawableFactory.from(bytes));
+  }
+
   @Test
   public void writeOverflow() throws IOException {
     RedisOutputStream ros = new RedisOutputStream(new OutputStream() {
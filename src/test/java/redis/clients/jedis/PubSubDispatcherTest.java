@@ -0,0 +1,56 @@
+package redis.clients.jedis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class PubSubDispatcherTest {
+
+  @Test
+  public void fullStripeBlocksTheReaderUntilCallbacksCatchUp() throws Exception {
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final PubSubDispatcher dispatcher = new PubSubDispatcher(executor, 2);
+    final CountDownLatch release = new CountDownLatch(1);
+    final AtomicInteger ran = new AtomicInteger();
+    final AtomicInteger dispatched = new AtomicInteger();
+    final byte[] channel = "a".getBytes();
+
+    Thread reader = new Thread(() -> {
+      for (int i = 0; i < 10; i++) {
+        dispatcher.dispatch(channel, () -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          ran.incrementAndGet();
+        });
+        dispatched.incrementAndGet();
+      }
+    });
+    try {
+      reader.start();
+
+      // one callback runs, two wait in the stripe, and the reader waits for room
+      Thread.sleep(200);
+      assertEquals(3, dispatched.get());
+      assertTrue(reader.isAlive());
+
+      release.countDown();
+      reader.join(5000);
+      assertEquals(10, dispatched.get());
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+      assertEquals(10, ran.get());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -176,6 +176,45 @@ public class StaticCommandFlagsRegistryTest {
       "Unknown FUNCTION subcommand should return empty flags (parent flags)");
   }
 
+  /**
+   * Test that the commands declared as enum constants, resolved by ordinal, have the same metadata
+   * as when they are looked up by name.
+   */
+  @Test
+  public void testEnumCommandsMatchLookupByName() {
+    for (Protocol.Command command : Protocol.Command.values()) {
+      String name = SafeEncoder.encode(command.getRaw()).toLowerCase();
+      CommandArguments enumArgs = new CommandArguments(command);
+      CommandArguments nameArgs = new CommandArguments(() -> SafeEncoder.encode(name));
+
+      assertEquals(registry.getFlags(nameArgs), registry.getFlags(enumArgs), name);
+      assertEquals(registry.getRequestPolicy(nameArgs), registry.getRequestPolicy(enumArgs), name);
+      assertEquals(registry.getResponsePolicy(nameArgs), registry.getResponsePolicy(enumArgs),
+        name);
+    }
+  }
+
+  /**
+   * Test that a subcommand given as a keyword has the same flags as when given as a string, and
+   * that an unknown keyword falls back to the parent command.
+   */
+  @Test
+  public void testKeywordSubcommand() {
+    CommandArguments keywordArgs = new CommandArguments(Protocol.Command.FUNCTION)
+        .add(Protocol.Keyword.DELETE);
+    CommandArguments stringArgs = new CommandArguments(Protocol.Command.FUNCTION).add("delete");
+
+    assertFalse(registry.getFlags(keywordArgs).isEmpty(), "FUNCTION DELETE should have flags");
+    assertEquals(registry.getFlags(stringArgs), registry.getFlags(keywordArgs));
+    // resolved again from the cache
+    assertEquals(registry.getFlags(stringArgs), registry.getFlags(keywordArgs));
+
+    CommandArguments unknownArgs = new CommandArguments(Protocol.Command.FUNCTION)
+        .add(Protocol.Keyword.WITHCODE);
+    assertTrue(registry.getFlags(unknownArgs).isEmpty(),
+      "Unknown FUNCTION subcommand should return the parent flags");
+  }
+
   // ==================== Request Policy Tests ====================
 
   /**
@@ -0,0 +1,189 @@
+package redis.clients.jedis;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.resps.StreamEntry;
+import redis.clients.jedis.resps.Tuple;
+import redis.clients.jedis.util.DoublePrecision;
+import redis.clients.jedis.util.FragmentedByteArrayInputStream;
+import redis.clients.jedis.util.RedisInputStream;
+import redis.clients.jedis.util.SafeEncoder;
+
+public class StreamingBuilderTest {
+
+  private static final PushConsumerChain PUSH_CONSUMERS = PushConsumerChainImpl
+      .of(PushConsumerChainImpl.PUBSUB_CONSUMER);
+
+  @Test
+  public void stringMapResp2() {
+    String reply = "*4\r\n$2\r\nf1\r\n$2\r\nv1\r\n$2\r\nf2\r\n$-1\r\n";
+    Map<String, String> map = assertSameAsTree(reply, BuilderFactory.STRING_MAP);
+    assertEquals(2, map.size());
+    assertEquals("v1", map.get("f1"));
+    assertNull(map.get("f2"));
+  }
+
+  @Test
+  public void stringMapResp3() {
+    String reply = "%2\r\n$2\r\nf1\r\n$2\r\nv1\r\n+f2\r\n=8\r\ntxt:v2é\r\n";
+    Map<String, String> map = assertSameAsTree(reply, BuilderFactory.STRING_MAP);
+    assertEquals("v1", map.get("f1"));
+    assertEquals("v2é", map.get("f2"));
+  }
+
+  @Test
+  public void emptyStringMap() {
+    assertSameAsTree("*0\r\n", BuilderFactory.STRING_MAP);
+    assertSameAsTree("%0\r\n", BuilderFactory.STRING_MAP);
+  }
+
+  @Test
+  public void tupleListResp2() {
+    String reply = "*4\r\n$1\r\na\r\n$3\r\n1.5\r\n$1\r\nb\r\n$4\r\n+inf\r\n";
+    List<Tuple> tuples = assertSameAsTree(reply, BuilderFactory.TUPLE_LIST);
+    assertEquals(new Tuple("a", 1.5), tuples.get(0));
+    assertEquals(new Tuple("b", Double.POSITIVE_INFINITY), tuples.get(1));
+  }
+
+  @Test
+  public void tupleListResp3() {
+    String reply = "*2\r\n*2\r\n$1\r\na\r\n,1.5\r\n*2\r\n$1\r\nb\r\n,-inf\r\n";
+    List<Tuple> tuples = assertSameAsTree(reply, BuilderFactory.TUPLE_LIST_RESP3);
+    assertEquals(new Tuple("a", 1.5), tuples.get(0));
+    assertEquals(new Tuple("b", Double.NEGATIVE_INFINITY), tuples.get(1));
+  }
+
+  @Test
+  public void tupleListResp3NullAndEmpty() {
+    assertSameAsTree("*1\r\n*0\r\n", BuilderFactory.TUPLE_LIST_RESP3);
+    assertNull(read("*-1\r\n", BuilderFactory.TUPLE_LIST_RESP3));
+    assertNull(read("_\r\n", BuilderFactory.TUPLE_LIST_RESP3));
+
+    List<Tuple> tuples = read("*3\r\n*-1\r\n_\r\n*2\r\n$1\r\na\r\n,1\r\n",
+      BuilderFactory.TUPLE_LIST_RESP3);
+    assertEquals(3, tuples.size());
+    assertNull(tuples.get(0));
+    assertNull(tuples.get(1));
+    assertEquals(new Tuple("a", 1d), tuples.get(2));
+  }
+
+  @Test
+  public void streamEntryList() {
+    String reply = "*3\r\n"
+        + "*2\r\n$3\r\n1-0\r\n*4\r\n$1\r\na\r\n$1\r\n1\r\n$1\r\nb\r\n$1\r\n2\r\n"
+        + "*-1\r\n"
+        + "*4\r\n$3\r\n2-1\r\n*-1\r\n:15\r\n:3\r\n";
+    List<StreamEntry> entries = read(reply, BuilderFactory.STREAM_ENTRY_LIST);
+    // StreamEntry does not implement equals()
+    assertEquals(String.valueOf(BuilderFactory.STREAM_ENTRY_LIST.build(Protocol.read(stream(reply),
+      PUSH_CONSUMERS))), String.valueOf(entries));
+    assertEquals(new StreamEntryID(1, 0), entries.get(0).getID());
+    assertEquals("2", entries.get(0).getFields().get("b"));
+    assertNull(entries.get(1));
+    assertNull(entries.get(2).getFields());
+    assertEquals(Long.valueOf(15), entries.get(2).getMillisElapsedFromDelivery());
+    assertEquals(Long.valueOf(3), entries.get(2).getDeliveredCount());
+  }
+
+  @Test
+  public void nullReply() {
+    assertNull(read("*-1\r\n", BuilderFactory.TUPLE_LIST));
+    assertNull(read("_\r\n", BuilderFactory.STREAM_ENTRY_LIST));
+  }
+
+  @Test
+  public void stringsSpanningBufferRefills() {
+    StringBuilder value = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      value.append("été");
+    }
+    byte[] encoded = SafeEncoder.encode(value.toString());
+    String reply = "*2\r\n$5\r\nfield\r\n$" + encoded.length + "\r\n" + value + "\r\n";
+
+    RedisInputStream is = new RedisInputStream(
+        new FragmentedByteArrayInputStream(SafeEncoder.encode(reply)), 16);
+    Map<String, String> map = Protocol.read(is, PUSH_CONSUMERS,
+        (StreamingBuilder<Map<String, String>>) BuilderFactory.STRING_MAP);
+    assertEquals(value.toString(), map.get("field"));
+  }
+
+  @Test
+  public void errorReply() {
+    RedisInputStream is = stream("-ERR wrong type\r\n*2\r\n$1\r\na\r\n$1\r\n1\r\n");
+    StreamingBuilder<List<Tuple>> builder = (StreamingBuilder<List<Tuple>>) BuilderFactory.TUPLE_LIST;
+    JedisDataException error = assertThrows(JedisDataException.class,
+      () -> Protocol.read(is, PUSH_CONSUMERS, builder));
+    assertEquals("ERR wrong type", error.getMessage());
+    // the stream is still aligned
+    assertEquals(new Tuple("a", 1d), Protocol.read(is, PUSH_CONSUMERS, builder).get(0));
+  }
+
+  @Test
+  public void consumedPushMessageIsSkipped() {
+    String reply = ">2\r\n$10\r\ninvalidate\r\n*1\r\n$3\r\nkey\r\n%1\r\n$1\r\nf\r\n$1\r\nv\r\n";
+    Map<String, String> map = read(reply, BuilderFactory.STRING_MAP);
+    assertEquals("v", map.get("f"));
+  }
+
+  @Test
+  public void unexpectedType() {
+    assertThrows(JedisConnectionException.class, () -> read("*2\r\n:1\r\n:2\r\n",
+      BuilderFactory.STREAM_ENTRY_LIST));
+  }
+
+  @Test
+  public void readerSkipsAnyElement() {
+    RedisInputStream is = stream("*2\r\n%1\r\n$1\r\na\r\n*1\r\n-ERR\r\n$1\r\nb\r\n");
+    RespReader reader = new RespReader(is);
+    assertEquals(2, reader.readAggregateLength());
+    reader.skip();
+    assertArrayEquals(SafeEncoder.encode("b"), reader.readBulk());
+  }
+
+  @Test
+  public void readerParsesNumbersWithoutBoxing() {
+    String[] numbers = { "0", "-0", "1.5", "-2", "+3.25", ".5", "5.", "0.1", "123456789.123456",
+        "9007199254740993", "1e3", "-1.5E-7", "0.00000000000000000000000001", "inf", "-inf" };
+    for (int bufferSize : new int[] { 8192, 4 }) {
+      for (String number : numbers) {
+        String reply = "*2\r\n$" + number.length() + "\r\n" + number + "\r\n," + number + "\r\n";
+        RespReader reader = new RespReader(new RedisInputStream(
+            new FragmentedByteArrayInputStream(SafeEncoder.encode(reply)), bufferSize));
+        double expected = DoublePrecision.parseDouble(number);
+        assertEquals(2, reader.readAggregateLength());
+        assertEquals(expected, reader.readDoubleValue(), number);
+        assertEquals(expected, reader.readDoubleValue(), number);
+      }
+    }
+    RespReader reader = new RespReader(stream("$4\r\n1000\r\n:-5\r\n$-1\r\n"));
+    assertEquals(1000L, reader.readLongValue());
+    assertEquals(-5L, reader.readLongValue());
+    assertThrows(JedisConnectionException.class, reader::readDoubleValue);
+  }
+
+  private static <T> T assertSameAsTree(String reply, Builder<T> builder) {
+    T tree = builder.build(Protocol.read(stream(reply), PUSH_CONSUMERS));
+    T streamed = read(reply, builder);
+    assertEquals(tree, streamed);
+    return streamed;
+  }
+
+  private static <T> T read(String reply, Builder<T> builder) {
+    return Protocol.read(stream(reply), PUSH_CONSUMERS, (StreamingBuilder<T>) builder);
+  }
+
+  private static RedisInputStream stream(String reply) {
+    return new RedisInputStream(new ByteArrayInputStream(SafeEncoder.encode(reply)));
+  }
+}
@@ -4,10 +4,14 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import redis.clients.jedis.BuilderFactory;
 import redis.clients.jedis.CommandArguments;
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.PushConsumerChainImpl;
+import redis.clients.jedis.StreamingBuilder;
 import redis.clients.jedis.util.RedisInputStream;
 import redis.clients.jedis.util.RedisOutputStream;
 
@@ -50,6 +54,39 @@ public class ProtocolBenchmark {
     }
 
     System.out.println((total / 5) + " avg");
+
+    total = 0;
+    for (int at = 0; at != 10; ++at) {
+      long elapsed = measureCommandWithStrings();
+      long ops = ((1000 * 2 * TOTAL_OPERATIONS) / TimeUnit.NANOSECONDS.toMillis(elapsed));
+      if (at >= 5) {
+        total += ops;
+      }
+    }
+
+    System.out.println((total / 5) + " avg (SET EX, String arguments)");
+
+    total = 0;
+    for (int at = 0; at != 10; ++at) {
+      long elapsed = measureHgetall(false);
+      long ops = ((1000 * 2 * TOTAL_OPERATIONS) / TimeUnit.NANOSECONDS.toMillis(elapsed));
+      if (at >= 5) {
+        total += ops;
+      }
+    }
+
+    System.out.println((total / 5) + " avg (HGETALL, reply tree)");
+
+    total = 0;
+    for (int at = 0; at != 10; ++at) {
+      long elapsed = measureHgetall(true);
+      long ops = ((1000 * 2 * TOTAL_OPERATIONS) / TimeUnit.NANOSECONDS.toMillis(elapsed));
+      if (at >= 5) {
+        total += ops;
+      }
+    }
+
+    System.out.println((total / 5) + " avg (HGETALL, streaming)");
   }
 
   private static long measureInputMulti() throws Exception {
@@ -85,6 +122,29 @@ public class ProtocolBenchmark {
     return duration;
   }
 
+  private static long measureHgetall(boolean streaming) throws Exception {
+    long duration = 0;
+
+    InputStream is = new ByteArrayInputStream(
+        "*6\r\n$3\r\nfoo\r\n$13\r\nbarbarbarfooz\r\n$5\r\nHello\r\n$5\r\nWorld\r\n$1\r\na\r\n$1\r\nb\r\n"
+            .getBytes());
+
+    RedisInputStream in = new RedisInputStream(is);
+    StreamingBuilder<Map<String, String>> builder = (StreamingBuilder<Map<String, String>>) BuilderFactory.STRING_MAP;
+    for (int n = 0; n <= TOTAL_OPERATIONS; n++) {
+      long start = System.nanoTime();
+      if (streaming) {
+        Protocol.read(in, PushConsumerChainImpl.of(), builder);
+      } else {
+        builder.build(Protocol.read(in));
+      }
+      duration += (System.nanoTime() - start);
+      in.reset();
+    }
+
+    return duration;
+  }
+
   private static long measureCommand() throws Exception {
     long duration = 0;
 
@@ -101,4 +161,18 @@ public class ProtocolBenchmark {
 
     return duration;
   }
+
+  private static long measureCommandWithStrings() throws Exception {
+    long duration = 0;
+
+    for (int n = 0; n <= TOTAL_OPERATIONS; n++) {
+      RedisOutputStream out = new RedisOutputStream(new ByteArrayOutputStream(8192));
+      long start = System.nanoTime();
+      Protocol.sendCommand(out, new CommandArguments(Protocol.Command.SET).key("user:1000")
+          .add("FooBar").add(Protocol.Keyword.EX).add(n));
+      duration += (System.nanoTime() - start);
+    }
+
+    return duration;
+  }
 }
@@ -1,21 +1,29 @@
 package redis.clients.jedis.benchmark;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import redis.clients.jedis.*;
 import redis.clients.jedis.csc.Cache;
+import redis.clients.jedis.csc.CacheEntry;
+import redis.clients.jedis.csc.CacheKey;
 import redis.clients.jedis.csc.TestCache;
+import redis.clients.jedis.util.SafeEncoder;
 
 public class RedisClientCSCBenchmark {
 
     private static EndpointConfig endpoint = Endpoints.getRedisEndpoint("standalone0");
     private static final int TOTAL_OPERATIONS = 1000000;
     private static final int NUMBER_OF_THREADS = 50;
+    private static final int HIT_ITERATIONS = 1000000;
 
     public static void main(String[] args) throws Exception {
 
+        measureHitCost();
+
         try (Jedis j = new Jedis(endpoint.getHost(), endpoint.getPort())) {
             j.auth(endpoint.getPassword());
             j.flushAll();
@@ -37,6 +45,48 @@ public class RedisClientCSCBenchmark {
         System.out.println("execution time ratio: " + (double) withCache / withoutCache);
     }
 
+    /**
+     * Compares the cost of a cache hit between an entry holding a Java-serialized value and an entry
+     * holding the raw reply together with the command's builder. No server is required.
+     */
+    private static void measureHitCost() {
+        CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP3);
+
+        CommandObject<String> get = commandObjects.get("foo");
+        Object getReply = SafeEncoder.encode("bar");
+        measureHitCost("GET", new CacheEntry<>(new CacheKey<>(get), get.getBuilder().build(getReply), null),
+            CacheEntry.fromReply(new CacheKey<>(get), get.getBuilder(), getReply, null));
+
+        CommandObject<Map<String, String>> hgetAll = commandObjects.hgetAll("hash");
+        List<Object> hgetAllReply = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            hgetAllReply.add(SafeEncoder.encode("field" + i));
+            hgetAllReply.add(SafeEncoder.encode("value" + i));
+        }
+        measureHitCost("HGETALL",
+            new CacheEntry<>(new CacheKey<>(hgetAll), new HashMap<>(hgetAll.getBuilder().build(hgetAllReply)), null),
+            CacheEntry.fromReply(new CacheKey<>(hgetAll), hgetAll.getBuilder(), hgetAllReply, null));
+    }
+
+    private static void measureHitCost(String name, CacheEntry<?> serialized, CacheEntry<?> raw) {
+        for (int i = 0; i < HIT_ITERATIONS; i++) { // warm-up
+            serialized.getValue();
+            raw.getValue();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < HIT_ITERATIONS; i++) {
+            serialized.getValue();
+        }
+        long serializedNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < HIT_ITERATIONS; i++) {
+            raw.getValue();
+        }
+        long rawNanos = System.nanoTime() - start;
+        System.out.println(String.format("%s hit cost - serialized entry: %d ns, raw reply entry: %d ns", name,
+                serializedNanos / HIT_ITERATIONS, rawNanos / HIT_ITERATIONS));
+    }
+
     private static long runBenchmark(Cache cache) throws Exception {
         long start = System.currentTimeMillis();
         withPool(cache);
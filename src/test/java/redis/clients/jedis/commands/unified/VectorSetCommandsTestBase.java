@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import org.junit.jupiter.api.TestInfo;
 import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.VectorSetLoader;
 import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.params.VAddParams;
 import redis.clients.jedis.params.VSimParams;
@@ -32,6 +33,7 @@ import redis.clients.jedis.resps.VectorInfo;
 import redis.clients.jedis.util.SafeEncoder;
 import redis.clients.jedis.util.VectorTestUtils;
 
+import java.nio.FloatBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -169,6 +171,56 @@ public abstract class VectorSetCommandsTestBase extends UnifiedJedisCommandsTest
     assertEquals(2.0, storedVector.get(1), 0.01);
   }
 
+  /**
+   * Test VADD with the FP32 blob encoded from a FloatBuffer as it is sent, and VSIM with the same
+   * encoding.
+   */
+  @Test
+  @SinceRedisVersion("8.0.0")
+  public void testVaddAndVsimWithFP32FloatBuffer(TestInfo testInfo) {
+    String testKey = testInfo.getDisplayName() + ":test:vector:set";
+    FloatBuffer vector = FloatBuffer.wrap(new float[] { 9.0f, 1.0f, 2.0f });
+    vector.position(1);
+
+    assertTrue(jedis.vaddFP32(testKey, vector, "point:J", null));
+    assertTrue(jedis.vaddFP32(testKey, FloatBuffer.wrap(new float[] { -1.0f, -2.0f }), "point:K",
+      new VAddParams()));
+    assertEquals(1, vector.position());
+
+    assertEquals(2L, jedis.vdim(testKey));
+    List<Double> storedVector = jedis.vemb(testKey, "point:J");
+    assertEquals(1.0, storedVector.get(0), 0.01);
+    assertEquals(2.0, storedVector.get(1), 0.01);
+
+    List<String> similar = jedis.vsimFP32(testKey, vector, null);
+    assertEquals(Arrays.asList("point:J", "point:K"), similar);
+  }
+
+  /**
+   * Test the loader adding elements through a pipeline with bounded commands in flight, and the
+   * decoding of their raw vectors.
+   */
+  @Test
+  @SinceRedisVersion("8.0.0")
+  public void testVectorSetLoader(TestInfo testInfo) {
+    String testKey = testInfo.getDisplayName() + ":test:vector:set";
+    try (VectorSetLoader loader = jedis.vectorSetLoader(testKey, new VAddParams().noQuant(), 3)) {
+      for (int i = 0; i < 10; i++) {
+        loader.add("element:" + i, new float[] { i + 1, 1.0f });
+      }
+      loader.add("element:0", new float[] { 1.0f, 1.0f });
+      loader.flush();
+      assertEquals(10, loader.getAdded());
+    }
+    assertEquals(10L, jedis.vcard(testKey));
+
+    RawVector rawVector = jedis.vembRaw(testKey, "element:2");
+    float[] stored = rawVector.toFloatArray();
+    assertEquals(3.0, stored[0] * rawVector.getNorm(), 0.01);
+    assertEquals(1.0, stored[1] * rawVector.getNorm(), 0.01);
+    assertEquals(stored[0], rawVector.asFloatBuffer().get(0));
+  }
+
   /**
    * Test VADD with quantization parameters. Demonstrates how quantization parameters can be used
    * with VADD.
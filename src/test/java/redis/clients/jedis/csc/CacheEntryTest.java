@@ -0,0 +1,86 @@
+package redis.clients.jedis.csc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.util.KeyValue;
+import redis.clients.jedis.util.SafeEncoder;
+
+public class CacheEntryTest {
+
+  private final CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP3);
+
+  @Test
+  public void immutableValueIsSharedBetweenHits() {
+    CommandObject<String> get = commandObjects.get("foo");
+    CacheEntry<String> entry = CacheEntry.fromReply(new CacheKey<>(get), get.getBuilder(),
+        SafeEncoder.encode("bar"), null);
+
+    assertEquals("bar", entry.getValue());
+    assertSame(entry.getValue(), entry.getValue());
+  }
+
+  @Test
+  public void mutableValueIsRebuiltOnEveryHit() {
+    CommandObject<byte[]> get = commandObjects.get(SafeEncoder.encode("foo"));
+    CacheEntry<byte[]> entry = CacheEntry.fromReply(new CacheKey<>(get), get.getBuilder(),
+        SafeEncoder.encode("bar"), null);
+
+    byte[] first = entry.getValue();
+    first[0] = 'x';
+
+    assertArrayEquals(SafeEncoder.encode("bar"), entry.getValue());
+    assertNotSame(entry.getValue(), entry.getValue());
+  }
+
+  @Test
+  public void nestedReplyIsCopied() {
+    CommandObject<Map<String, String>> hgetAll = commandObjects.hgetAll("hash");
+    List<Object> reply = new ArrayList<>();
+    reply.add(KeyValue.of(SafeEncoder.encode("f1"), SafeEncoder.encode("v1")));
+    reply.add(KeyValue.of(SafeEncoder.encode("f2"), SafeEncoder.encode("v2")));
+    CacheEntry<Map<String, String>> entry = CacheEntry.fromReply(new CacheKey<>(hgetAll),
+        hgetAll.getBuilder(), reply, null);
+
+    Map<String, String> value = entry.getValue();
+    value.put("f3", "v3");
+
+    assertEquals(2, entry.getValue().size());
+    assertEquals("v1", entry.getValue().get("f1"));
+  }
+
+  @Test
+  public void builderReturningReplyAsIsDoesNotExposeCachedReply() {
+    CommandObject<List<byte[]>> cmd = new CommandObject<>(
+        commandObjects.mget(SafeEncoder.encode("a")).getArguments(), BuilderFactory.BINARY_LIST);
+    List<Object> reply = new ArrayList<>(Arrays.asList(SafeEncoder.encode("a"), null));
+    CacheEntry<List<byte[]>> entry = CacheEntry.fromReply(new CacheKey<>(cmd), cmd.getBuilder(),
+        reply, null);
+
+    entry.getValue().clear();
+
+    assertEquals(2, entry.getValue().size());
+    assertArrayEquals(SafeEncoder.encode("a"), entry.getValue().get(0));
+  }
+
+  @Test
+  public void serializedValue() {
+    CommandObject<String> get = commandObjects.get("foo");
+    CacheEntry<String> entry = new CacheEntry<>(new CacheKey<>(get), "bar", null);
+
+    assertEquals("bar", entry.getValue());
+  }
+}
@@ -0,0 +1,179 @@
+package redis.clients.jedis.csc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.exceptions.JedisCacheException;
+import redis.clients.jedis.util.KeyValue;
+import redis.clients.jedis.util.SafeEncoder;
+
+public class CacheMaxBytesTest {
+
+  private final CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP3);
+
+  private CacheKey<String> put(Cache cache, String key, int valueLength) {
+    CommandObject<String> get = commandObjects.get(key);
+    CacheKey<String> cacheKey = new CacheKey<>(get);
+    byte[] value = new byte[valueLength];
+    Arrays.fill(value, (byte) 'v');
+    cache.set(cacheKey, CacheEntry.fromReply(cacheKey, get.getBuilder(), value, null));
+    return cacheKey;
+  }
+
+  @Test
+  public void weightTracksSetDeleteAndFlush() {
+    Cache cache = CacheFactory.getCache(CacheConfig.builder().build());
+
+    CacheKey<String> a = put(cache, "a", 100);
+    put(cache, "b", 200);
+    assertEquals(105 + 205, cache.getStats().getBytes());
+
+    put(cache, "a", 10); // replaces
+    assertEquals(15 + 205, cache.getStats().getBytes());
+
+    cache.delete(a);
+    assertEquals(205, cache.getStats().getBytes());
+
+    cache.deleteByRedisKey("b");
+    assertEquals(0, cache.getStats().getBytes());
+
+    put(cache, "c", 1);
+    cache.getAndResetStats();
+    assertEquals(6, cache.getStats().getBytes());
+    cache.flush();
+    assertEquals(0, cache.getStats().getBytes());
+  }
+
+  @Test
+  public void largeEntryEvictsManySmallOnesWithLRU() {
+    assertLargeEntryEvictsManySmallOnes(CacheConfig.builder().maxBytes(10_000));
+  }
+
+  @Test
+  public void largeEntryEvictsManySmallOnesWithTinyLFU() {
+    assertLargeEntryEvictsManySmallOnes(CacheConfig.builder().maxBytes(10_000)
+        .cacheClass(ConcurrentCache.class));
+  }
+
+  @Test
+  public void largeEntryEvictsManySmallOnesOffHeap() {
+    assertLargeEntryEvictsManySmallOnes(CacheConfig.builder().maxBytes(10_000).offHeap(true));
+  }
+
+  private void assertLargeEntryEvictsManySmallOnes(CacheConfig.Builder config) {
+    Cache cache = CacheFactory.getCache(config.build());
+    for (int i = 0; i < 95; i++) {
+      put(cache, "small" + i, 95);
+    }
+    assertEquals(95, cache.getSize());
+    assertEquals(9500, cache.getStats().getBytes());
+
+    put(cache, "large", 5000);
+
+    assertTrue(cache.getStats().getBytes() <= 10_000, "bytes: " + cache.getStats().getBytes());
+    assertTrue(cache.getSize() <= 50, "size: " + cache.getSize());
+    assertTrue(cache.getStats().getEvictCount() >= 45);
+  }
+
+  @Test
+  public void rejectedEntryIsNotIndexed() {
+    AbstractCache cache = (AbstractCache) CacheFactory.getCache(CacheConfig.builder().maxBytes(1_000)
+        .cacheClass(ConcurrentCache.class).build());
+    cache.enableSlotIndex();
+
+    CacheKey<String> small = put(cache, "small", 95);
+    CacheKey<String> other = put(cache, "other", 95);
+    long bytes = cache.getStats().getBytes();
+    put(cache, "large", 5000); // does not fit at all, so it is rejected
+
+    assertFalse(cache.hasCacheKey(new CacheKey<>(commandObjects.get("large"))));
+    // the entries already cached survive
+    assertTrue(cache.hasCacheKey(small));
+    assertTrue(cache.hasCacheKey(other));
+    assertEquals(2, cache.getSize());
+    assertEquals(bytes, cache.getStats().getBytes());
+    assertEquals(4, cache.getIndexedCount()); // by Redis key and by slot
+    assertEquals(0, cache.getStats().getEvictCount());
+  }
+
+  @Test
+  public void offHeapEntriesReturnPrivateCopies() {
+    Cache cache = CacheFactory.getCache(CacheConfig.builder().offHeap(true).build());
+
+    CacheKey<String> stringKey = put(cache, "string", 3);
+    assertEquals("vvv", cache.get(stringKey).getValue());
+
+    CommandObject<byte[]> getBinary = commandObjects.get(SafeEncoder.encode("binary"));
+    CacheKey<byte[]> binaryKey = new CacheKey<>(getBinary);
+    cache.set(binaryKey, CacheEntry.fromReply(binaryKey, getBinary.getBuilder(), SafeEncoder.encode("bar"), null));
+    CacheEntry<byte[]> binaryEntry = cache.get(binaryKey);
+    binaryEntry.getValue()[0] = 'x';
+    assertArrayEquals(SafeEncoder.encode("bar"), binaryEntry.getValue());
+
+    CommandObject<Map<String, String>> hgetAll = commandObjects.hgetAll("hash");
+    CacheKey<Map<String, String>> hashKey = new CacheKey<>(hgetAll);
+    List<Object> reply = new ArrayList<>();
+    reply.add(KeyValue.of(SafeEncoder.encode("f1"), SafeEncoder.encode("v1")));
+    reply.add(KeyValue.of(SafeEncoder.encode("f2"), SafeEncoder.encode("2")));
+    cache.set(hashKey, CacheEntry.fromReply(hashKey, hgetAll.getBuilder(), reply, null));
+    Map<String, String> hash = (Map<String, String>) cache.get(hashKey).getValue();
+    assertEquals("v1", hash.get("f1"));
+    assertEquals("2", hash.get("f2"));
+
+    CommandObject<String> missing = commandObjects.get("missing");
+    CacheKey<String> missingKey = new CacheKey<>(missing);
+    cache.set(missingKey, CacheEntry.fromReply(missingKey, missing.getBuilder(), null, null));
+    assertNotNull(cache.get(missingKey));
+    assertNull(cache.get(missingKey).getValue());
+  }
+
+  @Test
+  public void offHeapStoreReclaimsAndRelocates() {
+    OffHeapStore store = new OffHeapStore(1024);
+    List<OffHeapStore.Handle> handles = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      handles.add(store.store(new byte[95]));
+    }
+    assertEquals(10 * 1024, store.getAllocatedBytes());
+
+    // keep one entry per slab alive, which leaves most of the memory dead
+    OffHeapStore.Handle survivor = handles.get(5);
+    for (int i = 0; i < handles.size(); i++) {
+      if (i % 10 != 5) {
+        store.release(handles.get(i));
+      }
+    }
+    for (int i = 0; i < 20; i++) {
+      store.release(store.store(new byte[95]));
+    }
+
+    assertTrue(store.getAllocatedBytes() < 10 * 1024, "allocated: " + store.getAllocatedBytes());
+    assertEquals(95, ((byte[]) survivor.read()).length);
+
+    OffHeapStore.Handle large = store.store(new byte[4096]);
+    assertEquals(4096, ((byte[]) large.read()).length);
+    store.clear();
+    assertEquals(0, store.getAllocatedBytes());
+  }
+
+  @Test
+  public void customCacheWithoutConfigConstructorRejectsMaxBytes() {
+    assertThrows(JedisCacheException.class, () -> CacheFactory.getCache(
+      CacheConfig.builder().maxBytes(100).cacheClass(TestCache.class).build()));
+  }
+}
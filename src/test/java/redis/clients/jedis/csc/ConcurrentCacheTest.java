@@ -0,0 +1,176 @@
+package redis.clients.jedis.csc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
+
+public class ConcurrentCacheTest {
+
+  private final CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP3);
+
+  private CacheKey<String> cacheKey(String key) {
+    return new CacheKey<>(commandObjects.get(key));
+  }
+
+  private void put(Cache cache, String key) {
+    CacheKey<String> cacheKey = cacheKey(key);
+    CommandObject<String> get = commandObjects.get(key);
+    cache.set(cacheKey, CacheEntry.fromReply(cacheKey, get.getBuilder(), SafeEncoder.encode(key), null));
+  }
+
+  @Test
+  public void factoryDefaultsToTinyLFU() {
+    Cache cache = CacheFactory.getCache(CacheConfig.builder().cacheClass(ConcurrentCache.class).maxSize(10).build());
+
+    assertInstanceOf(ConcurrentCache.class, cache);
+    assertInstanceOf(TinyLFUEviction.class, cache.getEvictionPolicy());
+    assertEquals(10, cache.getMaxSize());
+  }
+
+  @Test
+  public void deleteBySlotsDeletesOnlyEntriesOfThoseSlots() {
+    ConcurrentCache cache = new ConcurrentCache(100);
+    put(cache, "{a}1");
+    cache.enableSlotIndex();
+    put(cache, "{a}2");
+    put(cache, "{b}1");
+    cache.delete(cacheKey("{a}2"));
+
+    BitSet slots = new BitSet();
+    slots.set(JedisClusterCRC16.getSlot("{a}"));
+    assertEquals(1, cache.deleteBySlots(slots));
+
+    assertNull(cache.get(cacheKey("{a}1")));
+    assertNotNull(cache.get(cacheKey("{b}1")));
+    assertEquals(1, cache.getSize());
+    assertEquals(0, cache.deleteBySlots(slots));
+  }
+
+  @Test
+  public void deleteBySlotsFlushesWithoutSlotIndex() {
+    ConcurrentCache cache = new ConcurrentCache(100);
+    put(cache, "{a}1");
+    put(cache, "{b}1");
+
+    BitSet slots = new BitSet();
+    slots.set(JedisClusterCRC16.getSlot("{a}"));
+    assertEquals(2, cache.deleteBySlots(slots));
+    assertEquals(0, cache.getSize());
+  }
+
+  @Test
+  public void sizeIsBounded() {
+    ConcurrentCache cache = new ConcurrentCache(100);
+    for (int i = 0; i < 1000; i++) {
+      put(cache, "key" + i);
+    }
+
+    assertEquals(100, cache.getSize());
+    assertEquals(900, cache.getStats().getEvictCount());
+  }
+
+  @Test
+  public void frequentlyUsedEntriesSurviveScan() {
+    ConcurrentCache cache = new ConcurrentCache(100);
+    for (int i = 0; i < 50; i++) {
+      put(cache, "hot" + i);
+    }
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 50; i++) {
+        assertNotNull(cache.get(cacheKey("hot" + i)));
+      }
+    }
+
+    for (int i = 0; i < 1000; i++) {
+      put(cache, "scan" + i);
+    }
+
+    int hotHits = 0;
+    for (int i = 0; i < 50; i++) {
+      if (cache.get(cacheKey("hot" + i)) != null) {
+        hotHits++;
+      }
+    }
+    assertTrue(hotHits >= 45, "hot entries left: " + hotHits);
+    assertEquals(100, cache.getSize());
+  }
+
+  @Test
+  public void deleteAndFlush() {
+    ConcurrentCache cache = new ConcurrentCache(10);
+    put(cache, "a");
+    put(cache, "b");
+
+    assertTrue(cache.delete(cacheKey("a")));
+    assertFalse(cache.delete(cacheKey("a")));
+    assertNull(cache.get(cacheKey("a")));
+    assertEquals(1, cache.deleteByRedisKey("b").size());
+    assertEquals(0, cache.getSize());
+
+    put(cache, "c");
+    assertEquals(1, cache.flush());
+    assertEquals(0, cache.getSize());
+    assertEquals(0, cache.getEvictionPolicy().resetAll());
+  }
+
+  @Test
+  public void invalidatedEntriesDoNotCauseEvictions() {
+    ConcurrentCache cache = new ConcurrentCache(10);
+    for (int i = 0; i < 100; i++) {
+      put(cache, "key" + i);
+      cache.deleteByRedisKey("key" + i);
+    }
+    for (int i = 0; i < 10; i++) {
+      put(cache, "live" + i);
+    }
+
+    assertEquals(10, cache.getSize());
+    assertEquals(0, cache.getStats().getEvictCount());
+  }
+
+  @Test
+  public void concurrentAccess() throws Exception {
+    ConcurrentCache cache = new ConcurrentCache(500);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        final int thread = t;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 5000; i++) {
+            String key = "key" + ((i * 31 + thread) % 1000);
+            if (cache.get(cacheKey(key)) == null) {
+              put(cache, key);
+            }
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertTrue(cache.getSize() <= 500);
+  }
+}
@@ -0,0 +1,138 @@
+package redis.clients.jedis.executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.providers.PooledConnectionProvider;
+import redis.clients.jedis.util.SafeEncoder;
+import redis.clients.jedis.util.server.RespResponse;
+import redis.clients.jedis.util.server.TcpMockServer;
+
+/**
+ * Unit tests for {@link AutoBatchingCommandExecutor} against {@link TcpMockServer}, which replies
+ * to GET with the requested key and to GET of {@code error} with an error.
+ */
+public class AutoBatchingCommandExecutorTest {
+
+  private final CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP2);
+
+  private TcpMockServer mockServer;
+  private AutoBatchingCommandExecutor executor;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    mockServer = new TcpMockServer();
+    mockServer.setCommandHandler((args, clientId) -> {
+      if (args.getCommand() != Protocol.Command.GET) {
+        return null;
+      }
+      String key = SafeEncoder.encode(args.get(1).getRaw());
+      return "error".equals(key) ? RespResponse.error("ERR no such key")
+          : RespResponse.bulkString(key);
+    });
+    mockServer.start();
+    executor = new AutoBatchingCommandExecutor(
+        new PooledConnectionProvider(new HostAndPort("localhost", mockServer.getPort())), 2, 16,
+        Duration.ofMillis(1));
+  }
+
+  @AfterEach
+  public void tearDown() throws IOException {
+    executor.close();
+    mockServer.stop();
+  }
+
+  @Test
+  public void concurrentCallersGetTheirOwnReply() throws Exception {
+    ExecutorService callers = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        final int thread = t;
+        futures.add(callers.submit(() -> {
+          for (int i = 0; i < 200; i++) {
+            String key = thread + ":" + i;
+            assertEquals(key, executor.executeCommand(commandObjects.get(key)));
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      callers.shutdownNow();
+    }
+    // at most one connection per batcher
+    assertTrue(mockServer.getConnectedClientCount() <= 2);
+  }
+
+  @Test
+  public void errorReplyIsThrownToItsCallerOnly() {
+    assertThrows(JedisDataException.class,
+      () -> executor.executeCommand(commandObjects.get("error")));
+    assertEquals("key", executor.executeCommand(commandObjects.get("key")));
+  }
+
+  @Test
+  public void connectionFailureIsThrownAndConnectionReplaced() throws IOException {
+    // a single batcher, so that the next command is sure to use the broken connection
+    executor.close();
+    executor = new AutoBatchingCommandExecutor(
+        new PooledConnectionProvider(new HostAndPort("localhost", mockServer.getPort())));
+
+    assertEquals("key", executor.executeCommand(commandObjects.get("key")));
+    mockServer.stop();
+    assertThrows(JedisException.class, () -> executor.executeCommand(commandObjects.get("key")));
+
+    mockServer = restart(mockServer.getPort());
+    assertEquals("again", executor.executeCommand(commandObjects.get("again")));
+  }
+
+  @Test
+  public void connectionStateCommandsAreRejected() {
+    assertThrows(UnsupportedOperationException.class,
+      () -> executor.executeCommand(new CommandObject<>(
+          new CommandArguments(Protocol.Command.SELECT).add(1), BuilderFactory.STRING)));
+    assertThrows(UnsupportedOperationException.class,
+      () -> executor.executeCommand(new CommandObject<>(
+          new CommandArguments(Protocol.Command.CLIENT).add("setname").add("name"),
+          BuilderFactory.STRING)));
+    assertEquals("key", executor.executeCommand(commandObjects.get("key")));
+  }
+
+  @Test
+  public void closedExecutorRejectsCommands() {
+    executor.close();
+    assertThrows(JedisException.class, () -> executor.executeCommand(commandObjects.get("key")));
+  }
+
+  private TcpMockServer restart(int port) throws IOException {
+    TcpMockServer server = new TcpMockServer();
+    server.setCommandHandler(mockServer.getCommandHandler());
+    server.start(port);
+    return server;
+  }
+}
@@ -11,13 +11,20 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongConsumer;
 
@@ -40,6 +47,9 @@ import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.exceptions.JedisMovedDataException;
 import redis.clients.jedis.providers.ClusterConnectionProvider;
 import redis.clients.jedis.util.ReflectionTestUtil;
+import redis.clients.jedis.util.SafeEncoder;
+import redis.clients.jedis.util.server.RespResponse;
+import redis.clients.jedis.util.server.TcpMockServer;
 
 public class ClusterCommandExecutorTest {
 
@@ -186,7 +196,8 @@ public class ClusterCommandExecutorTest {
 
     InOrder inOrder = inOrder(connectionHandler);
     inOrder.verify(connectionHandler).getConnection(ArgumentMatchers.any(CommandArguments.class));
-    inOrder.verify(connectionHandler).renewSlotCache(ArgumentMatchers.any());
+    inOrder.verify(connectionHandler)
+        .handleRedirection(ArgumentMatchers.any(JedisMovedDataException.class));
     inOrder.verify(connectionHandler).getConnection(movedTarget);
     inOrder.verifyNoMoreInteractions();
   }
@@ -226,6 +237,8 @@ public class ClusterCommandExecutorTest {
 
     InOrder inOrder = inOrder(connectionHandler, connection);
     inOrder.verify(connectionHandler).getConnection(ArgumentMatchers.any(CommandArguments.class));
+    inOrder.verify(connectionHandler)
+        .handleRedirection(ArgumentMatchers.any(JedisAskDataException.class));
     inOrder.verify(connectionHandler).getConnection(askTarget);
     // inOrder.verify(connection).asking();
     inOrder.verify(connection).close(); // From the finally clause in runWithRetries()
@@ -288,7 +301,8 @@ public class ClusterCommandExecutorTest {
     }
     InOrder inOrder = inOrder(connectionHandler, sleep);
     inOrder.verify(connectionHandler).getConnection(ArgumentMatchers.any(CommandArguments.class));
-    inOrder.verify(connectionHandler).renewSlotCache(redirecter);
+    inOrder.verify(connectionHandler)
+        .handleRedirection(ArgumentMatchers.any(JedisMovedDataException.class));
     inOrder.verify(connectionHandler, times(2)).getConnection(movedTarget);
     inOrder.verify(sleep).accept(ArgumentMatchers.anyLong());
     inOrder.verify(connectionHandler).renewSlotCache();
@@ -1314,9 +1328,9 @@ public class ClusterCommandExecutorTest {
 
   /**
    * This test verifies that MGET multi-shard returns values in the correct order when keys have
-   * interleaved hash slots (e.g., [slotA, slotB, slotA]). This is the critical case that the fix
-   * addresses: without the fix, keys with the same slot would be grouped together, producing 2
-   * commands instead of 3, which would return values in wrong order.
+   * interleaved hash slots (e.g., [slotA, slotB, slotA]). The keys of a slot are sent in a single
+   * command, producing 2 commands instead of 3, and each value is put back at the position of its
+   * key.
    */
   @Test
   public void mgetMultiShardReturnsValuesInCorrectOrderForInterleavedSlots() {
@@ -1338,11 +1352,11 @@ public class ClusterCommandExecutorTest {
 
       ClusterCommandObjects commandObjects = new ClusterCommandObjects(RedisProtocol.RESP2);
 
-      // The fix should create 3 separate commands (not 2) to preserve order
+      // The keys of slot A are sent together, whatever their position
       List<CommandObject<List<String>>> mgetCommands = commandObjects.mgetMultiShard(key1, key2,
         key3);
-      assertEquals(3, mgetCommands.size(),
-        "Should have 3 separate commands for interleaved slots [A, B, A], not 2");
+      assertEquals(2, mgetCommands.size(),
+        "Should have 2 commands for interleaved slots [A, B, A], one per slot");
 
       // Execute MGET with the standard executeMultiShardCommand
       ClusterCommandExecutor testMe = new ClusterCommandExecutor(connectionHandler, 10,
@@ -1592,4 +1606,185 @@ public class ClusterCommandExecutorTest {
       assertEquals("OK", result, "Should handle counter overflow gracefully");
     }
   }
+
+  /**
+   * This test verifies that the commands of executeMultiShardCommand are pipelined on one
+   * connection per node, and that the replies are merged in input order.
+   */
+  @Test
+  public void multiShardCommandsArePipelinedPerNodeAndMergedInInputOrder() throws Exception {
+    Map<String, Set<String>> clientsByServer = new ConcurrentHashMap<>();
+    TcpMockServer serverA = mgetServer("A", clientsByServer);
+    TcpMockServer serverB = mgetServer("B", clientsByServer);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      HostAndPort nodeA = new HostAndPort("localhost", serverA.getPort());
+      HostAndPort nodeB = new HostAndPort("localhost", serverB.getPort());
+      ClusterConnectionProvider connectionHandler = mock(ClusterConnectionProvider.class);
+      when(connectionHandler.getNode(ArgumentMatchers.anyInt()))
+          .thenAnswer(invocation -> (int) invocation.getArgument(0) < 8192 ? nodeA : nodeB);
+      when(connectionHandler.getConnection(ArgumentMatchers.any(HostAndPort.class)))
+          .thenAnswer(invocation -> new Connection((HostAndPort) invocation.getArgument(0)));
+      when(connectionHandler.getPipelineExecutor()).thenReturn(executor);
+
+      ClusterCommandExecutor testMe = new ClusterCommandExecutor(connectionHandler, 10,
+          Duration.ZERO, StaticCommandFlagsRegistry.registry());
+
+      String[] keys = new String[40];
+      List<String> expected = new ArrayList<>();
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = "key" + i;
+        expected.add((JedisClusterCRC16.getSlot(keys[i]) < 8192 ? "A:" : "B:") + keys[i]);
+      }
+      List<CommandObject<List<String>>> mgetCommands = new ClusterCommandObjects(
+          RedisProtocol.RESP2).mgetMultiShard(keys);
+      assertTrue(mgetCommands.size() > 2);
+
+      assertEquals(expected, testMe.executeMultiShardCommand(mgetCommands));
+      // all the commands of a node went through a single connection
+      assertEquals(1, clientsByServer.get("A").size());
+      assertEquals(1, clientsByServer.get("B").size());
+    } finally {
+      executor.shutdownNow();
+      serverA.stop();
+      serverB.stop();
+    }
+  }
+
+  /**
+   * This test verifies that broadcastCommand executes the nodes in parallel: each node waits for
+   * all the others to be executing.
+   */
+  @Test
+  public void broadcastCommandExecutesNodesInParallel() {
+    ClusterConnectionProvider connectionHandler = mock(ClusterConnectionProvider.class);
+    Map<String, ConnectionPool> connectionMap = new java.util.LinkedHashMap<>();
+    for (int i = 1; i <= 3; i++) {
+      ConnectionPool pool = mock(ConnectionPool.class);
+      when(pool.getResource()).thenReturn(mock(Connection.class));
+      connectionMap.put("node" + i + ":6379", pool);
+    }
+    when(connectionHandler.getPrimaryNodesConnectionMap()).thenReturn(connectionMap);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    when(connectionHandler.getPipelineExecutor()).thenReturn(executor);
+
+    CountDownLatch allExecuting = new CountDownLatch(3);
+    ClusterCommandExecutor testMe = new ClusterCommandExecutor(connectionHandler, 1, ONE_SECOND,
+        StaticCommandFlagsRegistry.registry()) {
+      @Override
+      public <T> T execute(Connection connection, CommandObject<T> commandObject) {
+        allExecuting.countDown();
+        try {
+          if (!allExecuting.await(5, TimeUnit.SECONDS)) {
+            throw new JedisDataException("ERR nodes executed one after another");
+          }
+        } catch (InterruptedException e) {
+          throw new JedisDataException("ERR interrupted");
+        }
+        return (T) "OK";
+      }
+    };
+    try {
+      assertEquals("OK", testMe.broadcastCommand(KEYLESS_WRITE_COM_OBJECT, true));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * This test verifies that broadcastCommand does not wait for a saturated executor: the calling
+   * thread runs the nodes no worker got to.
+   */
+  @Test
+  public void broadcastCommandRunsOnCallerWhenExecutorIsSaturated() throws Exception {
+    ClusterConnectionProvider connectionHandler = mock(ClusterConnectionProvider.class);
+    Map<String, ConnectionPool> connectionMap = new java.util.LinkedHashMap<>();
+    for (int i = 1; i <= 3; i++) {
+      ConnectionPool pool = mock(ConnectionPool.class);
+      when(pool.getResource()).thenReturn(mock(Connection.class));
+      connectionMap.put("node" + i + ":6379", pool);
+    }
+    when(connectionHandler.getPrimaryNodesConnectionMap()).thenReturn(connectionMap);
+    ExecutorService executor = Executors.newFixedThreadPool(1);
+    when(connectionHandler.getPipelineExecutor()).thenReturn(executor);
+
+    CountDownLatch release = new CountDownLatch(1);
+    executor.execute(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+
+    Set<Thread> executingThreads = ConcurrentHashMap.newKeySet();
+    ClusterCommandExecutor testMe = new ClusterCommandExecutor(connectionHandler, 1, ONE_SECOND,
+        StaticCommandFlagsRegistry.registry()) {
+      @Override
+      public <T> T execute(Connection connection, CommandObject<T> commandObject) {
+        executingThreads.add(Thread.currentThread());
+        return (T) "OK";
+      }
+    };
+    try {
+      assertEquals("OK", testMe.broadcastCommand(KEYLESS_WRITE_COM_OBJECT, true));
+      assertEquals(Collections.singleton(Thread.currentThread()), executingThreads);
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * This test verifies that when the connection of a node fails while its pipelined replies are
+   * read, only the commands left without reply are executed again.
+   */
+  @Test
+  public void multiShardCommandsWithReceivedRepliesAreNotExecutedAgain() {
+    HostAndPort node = new HostAndPort("node", 6379);
+    ClusterConnectionProvider connectionHandler = mock(ClusterConnectionProvider.class);
+    when(connectionHandler.getNode(ArgumentMatchers.anyInt())).thenReturn(node);
+    Connection pipelined = mock(Connection.class);
+    when(pipelined.getOne()).thenReturn(1L)
+        .thenThrow(new JedisConnectionException("connection lost"));
+    when(connectionHandler.getConnection(node)).thenReturn(pipelined);
+    when(connectionHandler.getConnection(ArgumentMatchers.any(CommandArguments.class)))
+        .thenReturn(mock(Connection.class));
+
+    List<CommandObject<Long>> dels = new ArrayList<>();
+    for (String key : new String[] { "a", "b", "c" }) {
+      dels.add(new CommandObject<>(new CommandArguments(Protocol.Command.DEL).key(key),
+          BuilderFactory.LONG));
+    }
+    List<CommandObject<?>> executed = new ArrayList<>();
+    ClusterCommandExecutor testMe = new ClusterCommandExecutor(connectionHandler, 1, ONE_SECOND,
+        StaticCommandFlagsRegistry.registry()) {
+      @Override
+      public <T> T execute(Connection connection, CommandObject<T> commandObject) {
+        executed.add(commandObject);
+        return (T) Long.valueOf(1);
+      }
+    };
+
+    assertEquals(3L, (long) testMe.executeMultiShardCommand(dels));
+    assertEquals(dels.subList(1, 3), executed);
+  }
+
+  private static TcpMockServer mgetServer(String name, Map<String, Set<String>> clientsByServer)
+      throws IOException {
+    TcpMockServer server = new TcpMockServer();
+    server.setCommandHandler((args, clientId) -> {
+      if (args.getCommand() != Protocol.Command.MGET) {
+        return null;
+      }
+      clientsByServer.computeIfAbsent(name, n -> ConcurrentHashMap.newKeySet()).add(clientId);
+      List<String> values = new ArrayList<>();
+      for (int i = 1; i < args.size(); i++) {
+        values.add(name + ":" + SafeEncoder.encode(args.get(i).getRaw()));
+      }
+      return RespResponse.arrayOfBulkStrings(values);
+    });
+    server.start();
+    return server;
+  }
 }
@@ -45,6 +45,18 @@ public class MultiNodeResultAggregatorTest {
     }
   }
 
+  @Test
+  public void testDefaultPolicy_placesPositionedListsAtTheirPositions() {
+    MultiNodeResultAggregator<List<String>> aggregator = new MultiNodeResultAggregator<>(
+        ResponsePolicy.DEFAULT);
+
+    aggregator.addSuccess(new PositionedList<>(Arrays.asList("v0", "v2", "v4"),
+        new int[] { 0, 2, 4 }, 5));
+    aggregator.addSuccess(new PositionedList<>(Arrays.asList("v3", null), new int[] { 3, 1 }, 5));
+
+    assertEquals(Arrays.asList("v0", null, "v2", "v3", "v4"), aggregator.getResult());
+  }
+
   @Nested
   class BasicTests {
     // ==================== getResponsePolicy Tests ====================
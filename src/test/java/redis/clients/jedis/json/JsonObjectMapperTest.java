@@ -0,0 +1,149 @@
+package redis.clients.jedis.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.util.JsonObjectMapperTestUtil;
+import redis.clients.jedis.util.ProtocolTestUtil;
+
+/**
+ * Unit tests for the stream-oriented serialization of {@link JsonObjectMapper} and its use by
+ * {@link CommandObjects}.
+ */
+public class JsonObjectMapperTest {
+
+  private static final Person PERSON = new Person("Zoë", 42);
+
+  /**
+   * A mapper implementing only the {@link String} methods.
+   */
+  private static final JsonObjectMapper STRING_ONLY_MAPPER = new JsonObjectMapper() {
+    private final Gson gson = new Gson();
+
+    @Override
+    public <T> T fromJson(String value, Class<T> valueType) {
+      return gson.fromJson(value, valueType);
+    }
+
+    @Override
+    public String toJson(Object value) {
+      return gson.toJson(value);
+    }
+  };
+
+  private static byte[] write(JsonObjectMapper mapper, Object value) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    mapper.writeTo(value, out);
+    return out.toByteArray();
+  }
+
+  private static void assertRoundTrip(JsonObjectMapper mapper) throws IOException {
+    byte[] json = write(mapper, PERSON);
+    assertEquals(mapper.toJson(PERSON), new String(json, StandardCharsets.UTF_8));
+    assertEquals(PERSON, mapper.readFrom(new ByteArrayInputStream(json), Person.class));
+    assertEquals(PERSON, mapper.readFrom(json, Person.class));
+  }
+
+  @Test
+  public void defaultMethodsUseStringMethods() throws IOException {
+    assertRoundTrip(STRING_ONLY_MAPPER);
+  }
+
+  @Test
+  public void gsonStreamsUtf8() throws IOException {
+    assertRoundTrip(new DefaultGsonObjectMapper());
+    assertRoundTrip(JsonObjectMapperTestUtil.getCustomGsonObjectMapper());
+  }
+
+  @Test
+  public void jacksonStreamsUtf8() throws IOException {
+    assertRoundTrip(JsonObjectMapperTestUtil.getCustomJacksonObjectMapper());
+  }
+
+  @Test
+  public void commandsSendTheSerializedBytes() {
+    CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP2);
+    String json = new DefaultGsonObjectMapper().toJson(PERSON);
+
+    CommandArguments expected = new CommandArguments(JsonProtocol.JsonCommand.SET).key("person")
+        .add(Path2.ROOT_PATH).add(json);
+    CommandArguments actual = commandObjects.jsonSetWithEscape("person", Path2.ROOT_PATH, PERSON)
+        .getArguments();
+    assertEquals(ProtocolTestUtil.captureCommandOutput(expected),
+      ProtocolTestUtil.captureCommandOutput(actual));
+    assertEquals(json, new String(actual.get(3).getRaw(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void repliesAreReadFromTheirBytes() {
+    CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP2);
+    commandObjects.setJsonObjectMapper(JsonObjectMapperTestUtil.getCustomJacksonObjectMapper());
+    byte[] json = "{\"name\":\"Zoë\",\"age\":42}".getBytes(StandardCharsets.UTF_8);
+
+    CommandObject<Person> get = commandObjects.jsonGet("person", Person.class);
+    assertEquals(PERSON, get.getBuilder().build(json));
+
+    commandObjects.setJsonObjectMapper(new DefaultGsonObjectMapper());
+    CommandObject<List<Person>> mget = commandObjects.jsonMGet(Path.ROOT_PATH, Person.class,
+      "person", "missing");
+    List<Person> people = mget.getBuilder().build(Arrays.asList(json, null));
+    assertEquals(PERSON, people.get(0));
+    assertNull(people.get(1));
+  }
+
+  @Test
+  public void commandsUseStringMethodsOfNonStreamingMappers() {
+    CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP2);
+    commandObjects.setJsonObjectMapper(STRING_ONLY_MAPPER);
+    String json = STRING_ONLY_MAPPER.toJson(PERSON);
+
+    CommandArguments args = commandObjects.jsonSetWithEscape("person", Path2.ROOT_PATH, PERSON)
+        .getArguments();
+    assertEquals(json, new String(args.get(3).getRaw(), StandardCharsets.UTF_8));
+
+    CommandObject<Person> get = commandObjects.jsonGet("person", Person.class);
+    assertEquals(PERSON, get.getBuilder().build(json.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  public static class Person {
+
+    public String name;
+    public int age;
+
+    public Person() {
+    }
+
+    Person(String name, int age) {
+      this.name = name;
+      this.age = age;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Person)) return false;
+      Person other = (Person) o;
+      return age == other.age && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, age);
+    }
+  }
+}
@@ -13,6 +13,10 @@ import redis.clients.jedis.MultiDbConfig;
 import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.mcf.ProbingPolicy.BuiltIn;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -662,64 +666,41 @@ public class HealthCheckTest {
   }
 
   /**
-   * <p>
-   * - Verifies that the health check probes stop after the first probe when the scheduler thread is
-   * interrupted.
-   * <p>
-   * - The scheduler thread is the one that calls healthCheck(), which in turn calls
-   * doHealthCheck().
-   * <p>
-   * - This test interrupts the scheduler thread while it is waiting on the future from the first
-   * probe.
-   * <p>
-   * - The health check operation itself is not interrupted. This test does not validate
-   * interruption of the health check operation itself, as that is not the responsibility of the
-   * HealthCheckImpl.
+   * Verifies that the health check probes stop after the first probe when the health check is
+   * stopped while that probe is in flight, and that no status is published. No thread waits on the
+   * probe, so the check is stopped rather than interrupted.
    */
   @Test
-  void testRetryLogic_InterruptionStopsProbes() throws Exception {
+  void testRetryLogic_StopStopsProbes() throws Exception {
     AtomicInteger callCount = new AtomicInteger(0);
-    CountDownLatch schedulerTaskStarted = new CountDownLatch(1);
+    CountDownLatch probeStarted = new CountDownLatch(1);
     CountDownLatch statusChanged = new CountDownLatch(1);
 
-    Thread[] schedulerThread = new Thread[1];
-
     final int OPERATION_TIMEOUT = 1000;
     final int LESS_THAN_OPERATION_TIMEOUT = 800;
     final int NUM_PROBES = 3;
-    // Long interval so no second run, generous timeout so we can interrupt while waiting
+    // Long interval so no second run, generous timeout so we can stop while probing
     Function<Endpoint, HealthStatus> healthCheckOperation = e -> {
       callCount.incrementAndGet();
+      probeStarted.countDown();
       try {
-        Thread.sleep(LESS_THAN_OPERATION_TIMEOUT); // keep worker busy so scheduler waits on
-                                                   // future.get
+        Thread.sleep(LESS_THAN_OPERATION_TIMEOUT);
       } catch (InterruptedException ie) {
       }
       return HealthStatus.UNHEALTHY;
     };
 
-    // Override getPolicy() to capture the scheduler thread
     HealthCheckStrategy strategy = new TestHealthCheckStrategy(5000, OPERATION_TIMEOUT, NUM_PROBES,
-        BuiltIn.ANY_SUCCESS, 10, healthCheckOperation) {
-      public ProbingPolicy getPolicy() {
-        schedulerThread[0] = Thread.currentThread();
-        schedulerTaskStarted.countDown();
-        return super.getPolicy();
-      }
-    };
+        BuiltIn.ANY_SUCCESS, 10, healthCheckOperation);
 
     Consumer<HealthStatusChangeEvent> callback = evt -> statusChanged.countDown();
 
     HealthCheckImpl hc = new HealthCheckImpl(testEndpoint, strategy, callback);
     hc.start();
 
-    // Ensure first probe is in flight (scheduler is blocked on future.get)
-    assertTrue(schedulerTaskStarted.await(1, TimeUnit.SECONDS), "Task should have started");
-
-    // Interrupt the scheduler thread that runs HealthCheckImpl.healthCheck()
-    schedulerThread[0].interrupt();
+    assertTrue(probeStarted.await(1, TimeUnit.SECONDS), "Probe should have started");
+    hc.stop();
 
-    // No status change should be published because healthCheck() returns early without safeUpdate
     assertFalse(statusChanged.await(hc.getMaxWaitFor(), TimeUnit.MILLISECONDS),
       "No status change expected");
     assertEquals(HealthStatus.UNKNOWN, hc.getStatus());
@@ -727,8 +708,177 @@ public class HealthCheckTest {
     // Only the first probe should have been attempted
     int calls = callCount.get();
     assertTrue(calls <= 1, "Only one probe should have been attempted: " + calls);
+  }
 
-    hc.stop();
+  @Test
+  void testManyEndpointsAreCheckedByABoundedNumberOfThreads() throws Exception {
+    final int endpoints = 20;
+    Set<String> probeThreads = ConcurrentHashMap.newKeySet();
+    CountDownLatch allHealthy = new CountDownLatch(endpoints);
+    HealthCheckStrategy strategy = new TestHealthCheckStrategy(5000, 1000, 2, BuiltIn.ALL_SUCCESS,
+        5, e -> {
+          probeThreads.add(Thread.currentThread().getName());
+          return HealthStatus.HEALTHY;
+        });
+
+    List<HealthCheckImpl> checks = new ArrayList<>();
+    try (HealthCheckExecutors executors = HealthCheckExecutors.create(2)) {
+      for (int i = 0; i < endpoints; i++) {
+        HealthCheckImpl hc = new HealthCheckImpl(new HostAndPort("host" + i, 6379), strategy,
+            evt -> allHealthy.countDown(), executors);
+        checks.add(hc);
+        hc.start();
+      }
+
+      assertTrue(allHealthy.await(5, TimeUnit.SECONDS));
+      assertTrue(probeThreads.size() <= 2, "Probes ran on " + probeThreads);
+      checks.forEach(HealthCheckImpl::stop);
+    }
+  }
+
+  @Test
+  void testTimedOutProbeIsAborted() throws Exception {
+    CountDownLatch aborted = new CountDownLatch(1);
+    CountDownLatch unhealthy = new CountDownLatch(1);
+    HealthCheckStrategy strategy = new TestHealthCheckStrategy(5000, 100, 1, BuiltIn.ALL_SUCCESS,
+        5, e -> {
+          try {
+            aborted.await();
+          } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+          }
+          return HealthStatus.HEALTHY;
+        }) {
+      @Override
+      public void abortHealthCheck(Endpoint endpoint) {
+        aborted.countDown();
+      }
+    };
+
+    try (HealthCheckExecutors executors = HealthCheckExecutors.create(1)) {
+      HealthCheckImpl hc = new HealthCheckImpl(testEndpoint, strategy, evt -> {
+        if (evt.getNewStatus() == HealthStatus.UNHEALTHY) {
+          unhealthy.countDown();
+        }
+      }, executors);
+      hc.start();
+
+      assertTrue(unhealthy.await(2, TimeUnit.SECONDS));
+      assertTrue(aborted.await(1, TimeUnit.SECONDS));
+      hc.stop();
+    }
+  }
+
+  @Test
+  void testQueuedProbeDoesNotTimeOut() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch healthy = new CountDownLatch(1);
+    AtomicInteger unhealthy = new AtomicInteger();
+    HealthCheckStrategy blocking = new TestHealthCheckStrategy(5000, 5000, 1, BuiltIn.ALL_SUCCESS,
+        5, e -> {
+          try {
+            release.await();
+          } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+          }
+          return HealthStatus.HEALTHY;
+        });
+    HealthCheckStrategy queued = new TestHealthCheckStrategy(5000, 100, 1, BuiltIn.ALL_SUCCESS, 5,
+        e -> HealthStatus.HEALTHY);
+
+    try (HealthCheckExecutors executors = HealthCheckExecutors.create(1)) {
+      HealthCheckImpl blocked = new HealthCheckImpl(new HostAndPort("blocked", 6379), blocking,
+          evt -> {
+          }, executors);
+      blocked.start();
+      HealthCheckImpl waiting = new HealthCheckImpl(new HostAndPort("waiting", 6379), queued,
+          evt -> {
+            if (evt.getNewStatus() == HealthStatus.UNHEALTHY) {
+              unhealthy.incrementAndGet();
+            } else if (evt.getNewStatus() == HealthStatus.HEALTHY) {
+              healthy.countDown();
+            }
+          }, executors);
+      Thread.sleep(50);
+      waiting.start();
+
+      // the probe waits for the only thread of the pool well beyond its timeout
+      Thread.sleep(500);
+      assertEquals(HealthStatus.UNKNOWN, waiting.getStatus());
+      release.countDown();
+      assertTrue(healthy.await(2, TimeUnit.SECONDS));
+      assertEquals(0, unhealthy.get());
+      blocked.stop();
+      waiting.stop();
+    }
+  }
+
+  @Test
+  void testSharedProbeThreadsFollowTheEndpoints() {
+    HealthCheckExecutors shared = HealthCheckExecutors.shared();
+    java.util.concurrent.ThreadPoolExecutor pool = (java.util.concurrent.ThreadPoolExecutor) shared
+        .getProbeExecutor();
+    int initial = pool.getCorePoolSize();
+    int endpoints = initial + 3;
+    List<HealthCheckImpl> checks = new ArrayList<>();
+    for (int i = 0; i < endpoints; i++) {
+      HealthCheckImpl hc = new HealthCheckImpl(new HostAndPort("host" + i, 6379),
+          new TestHealthCheckStrategy(60000, 1000, 1, BuiltIn.ALL_SUCCESS, 5,
+              e -> HealthStatus.HEALTHY),
+          evt -> {
+          }, shared);
+      checks.add(hc);
+      hc.start();
+    }
+    try {
+      assertTrue(pool.getCorePoolSize() >= endpoints);
+    } finally {
+      checks.forEach(HealthCheckImpl::stop);
+    }
+    assertEquals(initial, pool.getCorePoolSize());
+  }
+
+  @Test
+  void testProbeThreadsDoNotGrowWithTheEndpoints() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch timedOut = new CountDownLatch(10);
+    List<HealthCheckImpl> checks = new ArrayList<>();
+    try (HealthCheckExecutors executors = HealthCheckExecutors.create(2)) {
+      for (int i = 0; i < 10; i++) {
+        HealthCheckStrategy blocking = new TestHealthCheckStrategy(5000, 100, 1,
+            BuiltIn.ALL_SUCCESS, 5, e -> {
+              try {
+                release.await();
+              } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+              }
+              return HealthStatus.HEALTHY;
+            });
+        HealthCheckImpl hc = new HealthCheckImpl(new HostAndPort("host" + i, 6379), blocking,
+            evt -> {
+              if (evt.getNewStatus() == HealthStatus.UNHEALTHY) {
+                timedOut.countDown();
+              }
+            }, executors);
+        checks.add(hc);
+        hc.start();
+      }
+
+      assertTrue(timedOut.await(2, TimeUnit.SECONDS));
+      assertTrue(((java.util.concurrent.ThreadPoolExecutor) executors.getProbeExecutor())
+          .getLargestPoolSize() <= 2);
+      release.countDown();
+      checks.forEach(HealthCheckImpl::stop);
+    }
+  }
+
+  @Test
+  void testJitterStaysWithinTenPercentOfTheInterval() {
+    for (int i = 0; i < 1000; i++) {
+      long delay = HealthCheckExecutors.jitter(1000);
+      assertTrue(delay >= 900 && delay <= 1100, "Jittered delay " + delay);
+    }
+    assertEquals(5, HealthCheckExecutors.jitter(5));
   }
 
   // ========== ProbingPolicy Unit Tests ==========
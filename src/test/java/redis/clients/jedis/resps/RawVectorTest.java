@@ -0,0 +1,66 @@
+package redis.clients.jedis.resps;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.FloatBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.util.VectorTestUtils;
+
+public class RawVectorTest {
+
+  private static float[] toArray(FloatBuffer buffer) {
+    float[] array = new float[buffer.remaining()];
+    buffer.get(array);
+    return array;
+  }
+
+  @Test
+  public void decodesFP32() {
+    float[] vector = { 0.6f, -0.8f, 0f };
+    RawVector raw = new RawVector("f32", VectorTestUtils.floatArrayToFP32Bytes(vector), 5.0, null);
+
+    assertArrayEquals(vector, raw.toFloatArray());
+
+    FloatBuffer view = raw.asFloatBuffer();
+    assertTrue(view.isReadOnly());
+    assertArrayEquals(vector, toArray(view));
+
+    // a view of the raw data
+    raw.getRawData()[0] = 0;
+    raw.getRawData()[1] = 0;
+    raw.getRawData()[2] = 0;
+    raw.getRawData()[3] = 0;
+    assertEquals(0f, raw.asFloatBuffer().get(0));
+  }
+
+  @Test
+  public void decodesQ8() {
+    RawVector raw = new RawVector("int8", new byte[] { 127, -127, 0, 64 }, 2.0, 0.5);
+
+    assertArrayEquals(new float[] { 0.5f, -0.5f, 0f, 64 * 0.5f / 127 }, raw.toFloatArray(), 1e-6f);
+    assertArrayEquals(raw.toFloatArray(), toArray(raw.asFloatBuffer()));
+    assertTrue(raw.asFloatBuffer().isReadOnly());
+  }
+
+  @Test
+  public void decodesBin() {
+    RawVector raw = new RawVector("bin", new byte[] { 0b0000_0101, (byte) 0b1000_0000 }, 1.0, null);
+
+    float[] vector = raw.toFloatArray();
+    assertEquals(16, vector.length);
+    assertArrayEquals(new float[] { 1, -1, 1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1 },
+        vector);
+  }
+
+  @Test
+  public void unknownQuantizationIsNotDecoded() {
+    RawVector raw = new RawVector("f16", new byte[2], 1.0, null);
+    assertThrows(UnsupportedOperationException.class, raw::toFloatArray);
+    assertThrows(UnsupportedOperationException.class, raw::asFloatBuffer);
+  }
+}
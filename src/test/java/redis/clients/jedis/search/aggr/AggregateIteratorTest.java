@@ -6,8 +6,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -18,13 +20,17 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import redis.clients.jedis.CommandArguments;
 import redis.clients.jedis.Connection;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.providers.ConnectionProvider;
+import redis.clients.jedis.search.SearchProtocol;
 import redis.clients.jedis.util.Pool;
 
 /**
@@ -256,4 +262,58 @@ public class AggregateIteratorTest {
     assertFalse(iterator.hasNext());
     assertEquals(-1L, iterator.getCursorId());
   }
+
+  /**
+   * Tests that with a read-ahead, the rows of all batches are streamed in order.
+   */
+  @Test
+  public void readAheadStreamReturnsAllRowsInOrder() {
+    Connection mockConnection = mock(Connection.class);
+    ConnectionProvider mockProvider = providerOf(mockConnection);
+
+    when(mockConnection.executeCommand(any(CommandArguments.class))).thenReturn(
+      batch("1", 7L), batch("2", 7L), batch("3", 0L));
+
+    AggregationBuilder aggr = new AggregationBuilder().cursor(1);
+    try (AggregateIterator iterator = new AggregateIterator(mockProvider, "testIndex", aggr, 2,
+        null); Stream<Row> rows = iterator.stream()) {
+      assertEquals(Arrays.asList("1", "2", "3"),
+        rows.map(row -> row.getString("n")).collect(Collectors.toList()));
+    }
+  }
+
+  /**
+   * Tests that closing a read-ahead stream early deletes the cursor on the server.
+   */
+  @Test
+  public void closingReadAheadStreamEarlyDeletesCursor() {
+    Connection mockConnection = mock(Connection.class);
+    ConnectionProvider mockProvider = providerOf(mockConnection);
+
+    when(mockConnection.executeCommand(any(CommandArguments.class))).thenReturn(batch("1", 7L));
+
+    AggregationBuilder aggr = new AggregationBuilder().cursor(1);
+    AggregateIterator iterator = new AggregateIterator(mockProvider, "testIndex", aggr, 2, null);
+    try (Stream<Row> rows = iterator.stream()) {
+      assertEquals(3, rows.limit(3).count());
+    }
+
+    assertFalse(iterator.hasNext());
+    assertEquals(-1L, iterator.getCursorId());
+    ArgumentCaptor<CommandArguments> commands = ArgumentCaptor.forClass(CommandArguments.class);
+    verify(mockConnection, atLeastOnce()).executeCommand(commands.capture());
+    assertTrue(commands.getAllValues().stream()
+        .anyMatch(args -> Arrays.equals(SearchProtocol.SearchKeyword.DEL.getRaw(), args.get(1).getRaw())));
+  }
+
+  private static ConnectionProvider providerOf(Connection connection) {
+    ConnectionProvider mockProvider = mock(ConnectionProvider.class);
+    doReturn(Collections.singletonMap("node1", connection)).when(mockProvider)
+        .getPrimaryNodesConnectionMap();
+    return mockProvider;
+  }
+
+  private static List<Object> batch(String value, long cursorId) {
+    return Arrays.asList(Arrays.asList(1L, Arrays.asList("n", value)), cursorId);
+  }
 }
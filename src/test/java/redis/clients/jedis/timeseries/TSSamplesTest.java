@@ -0,0 +1,193 @@
+package redis.clients.jedis.timeseries;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.Builder;
+import redis.clients.jedis.RespReader;
+import redis.clients.jedis.StreamingBuilder;
+import redis.clients.jedis.util.KeyValue;
+import redis.clients.jedis.util.RedisInputStream;
+import redis.clients.jedis.util.SafeEncoder;
+
+public class TSSamplesTest {
+
+  /**
+   * A RESP2 sample, whose values are bulk strings.
+   */
+  private static List<Object> resp2Sample(long timestamp, String... values) {
+    List<Object> sample = new ArrayList<>();
+    sample.add(timestamp);
+    for (String value : values) {
+      sample.add(SafeEncoder.encode(value));
+    }
+    return sample;
+  }
+
+  private static List<Object> resp2Range() {
+    return Arrays.asList(resp2Sample(1000L, "1.5"), resp2Sample(2000L, "inf"),
+        resp2Sample(3000L, "-2"));
+  }
+
+  @Test
+  public void buildsResp2Range() {
+    TSSamples samples = TimeSeriesBuilderFactory.timeseriesSamples((TSSamples) null)
+        .build(resp2Range());
+
+    assertEquals(3, samples.size());
+    assertEquals(1, samples.getValueCount());
+    assertArrayEquals(new long[] { 1000L, 2000L, 3000L }, Arrays.copyOf(samples.getTimestamps(), 3));
+    assertArrayEquals(new double[] { 1.5, Double.POSITIVE_INFINITY, -2 },
+        Arrays.copyOf(samples.getValues(), 3));
+    assertEquals(TimeSeriesBuilderFactory.TIMESERIES_ELEMENT_LIST.build(resp2Range()),
+        samples.toElements());
+  }
+
+  @Test
+  public void buildsResp3Range() {
+    List<Object> reply = Arrays.asList(Arrays.asList(1000L, 1.5), Arrays.asList(2000L, 2.5));
+    TSSamples samples = TimeSeriesBuilderFactory.timeseriesSamples((TSSamples) null).build(reply);
+
+    assertEquals(2, samples.size());
+    assertEquals(2000L, samples.getTimestamp(1));
+    assertEquals(2.5, samples.getValue(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> samples.getTimestamp(2));
+  }
+
+  @Test
+  public void buildsMultipleValuesPerSample() {
+    List<Object> reply = Arrays.asList(resp2Sample(1000L, "1", "2"), resp2Sample(2000L, "3", "4"));
+    TSSamples samples = TimeSeriesBuilderFactory.timeseriesSamples((TSSamples) null).build(reply);
+
+    assertEquals(2, samples.size());
+    assertEquals(2, samples.getValueCount());
+    assertEquals(3.0, samples.getValue(1));
+    assertEquals(4.0, samples.getValue(1, 1));
+    assertEquals(TimeSeriesBuilderFactory.TIMESERIES_ELEMENT_LIST.build(reply),
+        samples.toElements());
+  }
+
+  @Test
+  public void reusesTheGivenArrays() {
+    TSSamples reused = new TSSamples(8);
+    long[] timestamps = reused.getTimestamps();
+    double[] values = reused.getValues();
+
+    assertSame(reused, TimeSeriesBuilderFactory.timeseriesSamples(reused).build(resp2Range()));
+    assertSame(timestamps, reused.getTimestamps());
+    assertSame(values, reused.getValues());
+    assertEquals(3, reused.size());
+
+    TimeSeriesBuilderFactory.timeseriesSamples(reused).build(Collections.emptyList());
+    assertTrue(reused.isEmpty());
+    assertSame(timestamps, reused.getTimestamps());
+  }
+
+  @Test
+  public void streamsSamplesToConsumer() {
+    List<String> received = new ArrayList<>();
+    long count = TimeSeriesBuilderFactory
+        .timeseriesSamples((timestamp, value) -> received.add(timestamp + "=" + value))
+        .build(Arrays.asList(resp2Sample(1000L, "1.5"), resp2Sample(2000L, "1", "2")));
+
+    assertEquals(2, count);
+    assertEquals(Arrays.asList("1000=1.5", "2000=1.0", "2000=2.0"), received);
+  }
+
+  @Test
+  public void buildsMultiRange() {
+    List<Object> resp2 = Arrays.asList(
+        Arrays.asList(SafeEncoder.encode("a"), Collections.emptyList(), resp2Range()),
+        Arrays.asList(SafeEncoder.encode("b"), Collections.emptyList(), Collections.emptyList()));
+    Map<String, TSSamples> fromResp2 = TimeSeriesBuilderFactory.TIMESERIES_MRANGE_SAMPLES
+        .build(resp2);
+    assertEquals(Arrays.asList("a", "b"), new ArrayList<>(fromResp2.keySet()));
+    assertEquals(3, fromResp2.get("a").size());
+    assertTrue(fromResp2.get("b").isEmpty());
+
+    List<Object> resp3 = Collections.singletonList(KeyValue.of(SafeEncoder.encode("a"),
+        Arrays.asList(Collections.emptyList(), Collections.emptyList(), resp2Range())));
+    Map<String, TSSamples> fromResp3 = TimeSeriesBuilderFactory.TIMESERIES_MRANGE_SAMPLES_RESP3
+        .build(resp3);
+    assertEquals(1000L, fromResp3.get("a").getTimestamp(0));
+  }
+
+  @Test
+  public void readsResp2RangeFromStream() {
+    String reply = "*3\r\n*2\r\n:1000\r\n$3\r\n1.5\r\n*2\r\n:2000\r\n$3\r\ninf\r\n"
+        + "*2\r\n:3000\r\n$2\r\n-2\r\n";
+    TSSamples reused = new TSSamples(8);
+    double[] values = reused.getValues();
+
+    assertSame(reused, read(reply, TimeSeriesBuilderFactory.timeseriesSamples(reused)));
+    assertSame(values, reused.getValues());
+    assertEquals(resp2Range().size(), reused.size());
+    assertEquals(TimeSeriesBuilderFactory.TIMESERIES_ELEMENT_LIST.build(resp2Range()),
+        reused.toElements());
+  }
+
+  @Test
+  public void readsResp3RangeFromStream() {
+    String reply = "*2\r\n*3\r\n:1000\r\n,1\r\n,2.5\r\n*3\r\n:2000\r\n,-inf\r\n,nan\r\n";
+    TSSamples samples = read(reply, TimeSeriesBuilderFactory.timeseriesSamples((TSSamples) null));
+
+    assertEquals(2, samples.size());
+    assertEquals(2, samples.getValueCount());
+    assertEquals(2.5, samples.getValue(0, 1));
+    assertEquals(Double.NEGATIVE_INFINITY, samples.getValue(1));
+    assertTrue(Double.isNaN(samples.getValue(1, 1)));
+
+    assertTrue(read("*0\r\n", TimeSeriesBuilderFactory.timeseriesSamples(samples)).isEmpty());
+  }
+
+  @Test
+  public void streamsSamplesToConsumerFromStream() {
+    List<String> received = new ArrayList<>();
+    long count = read("*2\r\n*2\r\n:1000\r\n$3\r\n1.5\r\n*3\r\n:2000\r\n,1\r\n,2\r\n",
+        TimeSeriesBuilderFactory.timeseriesSamples((timestamp, value) -> received.add(timestamp
+            + "=" + value)));
+
+    assertEquals(2, count);
+    assertEquals(Arrays.asList("1000=1.5", "2000=1.0", "2000=2.0"), received);
+  }
+
+  @Test
+  public void readsMultiRangeFromStream() {
+    String resp2 = "*2\r\n"
+        + "*3\r\n$1\r\na\r\n*1\r\n*2\r\n$1\r\nl\r\n$1\r\nv\r\n"
+        + "*1\r\n*2\r\n:1000\r\n$3\r\n1.5\r\n"
+        + "*3\r\n$1\r\nb\r\n*0\r\n*0\r\n";
+    Map<String, TSSamples> fromResp2 = read(resp2,
+        TimeSeriesBuilderFactory.TIMESERIES_MRANGE_SAMPLES);
+    assertEquals(Arrays.asList("a", "b"), new ArrayList<>(fromResp2.keySet()));
+    assertEquals(1.5, fromResp2.get("a").getValue(0));
+    assertTrue(fromResp2.get("b").isEmpty());
+
+    String resp3 = "%1\r\n$1\r\na\r\n*3\r\n%1\r\n$1\r\nl\r\n$1\r\nv\r\n"
+        + "%1\r\n$11\r\naggregators\r\n*1\r\n$3\r\navg\r\n"
+        + "*1\r\n*2\r\n:1000\r\n,1.5\r\n";
+    Map<String, TSSamples> fromResp3 = read(resp3,
+        TimeSeriesBuilderFactory.TIMESERIES_MRANGE_SAMPLES_RESP3);
+    assertEquals(1000L, fromResp3.get("a").getTimestamp(0));
+    assertEquals(1.5, fromResp3.get("a").getValue(0));
+  }
+
+  private static <T> T read(String reply, Builder<T> builder) {
+    RedisInputStream is = new RedisInputStream(new ByteArrayInputStream(SafeEncoder.encode(reply)));
+    T result = ((StreamingBuilder<T>) builder).read(new RespReader(is));
+    assertThrows(Exception.class, is::readByte, "the whole reply is read");
+    return result;
+  }
+}
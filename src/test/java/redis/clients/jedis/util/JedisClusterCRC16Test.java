@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 public class JedisClusterCRC16Test {
@@ -61,4 +62,28 @@ public class JedisClusterCRC16Test {
       JedisClusterCRC16.getSlot("bar".getBytes()));
   }
 
+  @Test
+  public void slicedCRC16MatchesBytewiseCRC16() {
+    Random random = new Random(42);
+    for (int length = 0; length < 100; length++) {
+      byte[] bytes = new byte[length + 3];
+      random.nextBytes(bytes);
+      assertEquals(JedisClusterCRC16.getCRC16Bytewise(bytes, 0, bytes.length),
+        JedisClusterCRC16.getCRC16(bytes));
+      assertEquals(JedisClusterCRC16.getCRC16Bytewise(bytes, 1, length + 2),
+        JedisClusterCRC16.getCRC16(bytes, 1, length + 2));
+    }
+  }
+
+  @Test
+  public void stringCRC16MatchesItsUTF8Encoding() {
+    String[] keys = { "plain", "caf\u00e9", "\u30ad\u30fc", "emoji:\ud83d\ude00",
+        "lone:\ud83d", "lone:\ude00:end", "{t\u00e4g}:1", "\u00e9{}{x}" };
+    for (String key : keys) {
+      assertEquals(JedisClusterCRC16.getCRC16(SafeEncoder.encode(key)),
+        JedisClusterCRC16.getCRC16(key), key);
+      assertEquals(JedisClusterCRC16.getSlot(SafeEncoder.encode(key)),
+        JedisClusterCRC16.getSlot(key), key);
+    }
+  }
 }
@@ -0,0 +1,49 @@
+package redis.clients.jedis.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+public class JedisExecutorsTest {
+
+  @Test
+  public void elasticPoolRunsOnTheCallerOnceAllThreadsAreBusy() throws InterruptedException {
+    ExecutorService pool = JedisExecutors.newElasticDaemonThreadPool(2, "test-elastic-");
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      for (int i = 0; i < 2; i++) {
+        pool.execute(() -> {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+      }
+      assertTrue(started.await(1, TimeUnit.SECONDS));
+
+      AtomicReference<Thread> runner = new AtomicReference<>();
+      pool.execute(() -> runner.set(Thread.currentThread()));
+      // not queued behind the busy threads
+      assertSame(Thread.currentThread(), runner.get());
+      assertEquals(2, ((ThreadPoolExecutor) pool).getLargestPoolSize());
+    } finally {
+      release.countDown();
+      pool.shutdownNow();
+    }
+    assertThrows(RejectedExecutionException.class, () -> pool.execute(() -> {
+    }));
+  }
+}
@@ -1,5 +1,7 @@
 package redis.clients.jedis.util;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -8,7 +10,14 @@ import com.google.gson.*;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.json.JsonObjectMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
@@ -70,6 +79,30 @@ public class JsonObjectMapperTestUtil {
         throw new JedisException(e);
       }
     }
+
+    @Override
+    public boolean isStreaming() {
+      return true;
+    }
+
+    @Override
+    public void writeTo(Object value, OutputStream out) throws IOException {
+      om.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, value);
+    }
+
+    @Override
+    public <T> T readFrom(InputStream in, Class<T> valueType) throws IOException {
+      return om.readerFor(valueType).without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(in);
+    }
+
+    @Override
+    public <T> T readFrom(byte[] value, Class<T> valueType) {
+      try {
+        return om.readValue(value, valueType);
+      } catch (IOException e) {
+        throw new JedisException(e);
+      }
+    }
   }
 
   public static class CustomGsonObjectMapper implements JsonObjectMapper {
@@ -88,5 +121,22 @@ public class JsonObjectMapperTestUtil {
     public String toJson(Object value) {
       return gson.toJson(value);
     }
+
+    @Override
+    public boolean isStreaming() {
+      return true;
+    }
+
+    @Override
+    public void writeTo(Object value, OutputStream out) throws IOException {
+      Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+      gson.toJson(value, writer);
+      writer.flush();
+    }
+
+    @Override
+    public <T> T readFrom(InputStream in, Class<T> valueType) {
+      return gson.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), valueType);
+    }
   }
 }
@@ -0,0 +1,106 @@
+package redis.clients.jedis.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+public class ReadAheadIteratorTest {
+
+  @Test
+  public void batchesAreReturnedInOrder() {
+    AtomicInteger next = new AtomicInteger();
+    List<Integer> batches = new ArrayList<>();
+    try (ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(next::getAndIncrement,
+        () -> next.get() < 5, 2, null)) {
+      iterator.forEachRemaining(batches::add);
+    }
+    assertEquals(Arrays.asList(0, 1, 2, 3, 4), batches);
+  }
+
+  @Test
+  public void noMoreThanDepthBatchesAreFetchedAhead() throws InterruptedException {
+    AtomicInteger fetched = new AtomicInteger();
+    CountDownLatch full = new CountDownLatch(3);
+    try (ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(() -> {
+      full.countDown();
+      return fetched.getAndIncrement();
+    }, () -> true, 3, null)) {
+      assertTrue(full.await(5, TimeUnit.SECONDS));
+      Thread.sleep(100);
+      assertEquals(3, fetched.get());
+
+      assertEquals(0, (int) iterator.next());
+      long deadline = System.currentTimeMillis() + 5000;
+      while (fetched.get() < 4 && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+      Thread.sleep(100);
+      assertEquals(4, fetched.get());
+    }
+  }
+
+  @Test
+  public void fetchErrorIsThrownToTheCaller() {
+    JedisConnectionException error = new JedisConnectionException("down");
+    AtomicInteger next = new AtomicInteger();
+    try (ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(() -> {
+      if (next.get() == 1) {
+        throw error;
+      }
+      return next.getAndIncrement();
+    }, () -> true, 2, null)) {
+      assertEquals(0, (int) iterator.next());
+      assertSame(error, assertThrows(JedisConnectionException.class, iterator::hasNext));
+      assertSame(error, assertThrows(JedisConnectionException.class, iterator::next));
+    }
+  }
+
+  @Test
+  public void ownThreadStopsOnceIterationEndsWithoutClose() throws InterruptedException {
+    AtomicInteger next = new AtomicInteger();
+    AtomicReference<Thread> fetcher = new AtomicReference<>();
+    ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(() -> {
+      fetcher.set(Thread.currentThread());
+      return next.getAndIncrement();
+    }, () -> next.get() < 3, 2, null);
+    iterator.forEachRemaining(batch -> {
+    });
+
+    fetcher.get().join(5000);
+    assertFalse(fetcher.get().isAlive());
+  }
+
+  @Test
+  public void ownThreadStopsOnceAFetchFails() throws InterruptedException {
+    AtomicReference<Thread> fetcher = new AtomicReference<>();
+    ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(() -> {
+      fetcher.set(Thread.currentThread());
+      throw new JedisConnectionException("down");
+    }, () -> true, 2, null);
+    assertThrows(JedisConnectionException.class, iterator::hasNext);
+
+    fetcher.get().join(5000);
+    assertFalse(fetcher.get().isAlive());
+  }
+
+  @Test
+  public void closedIteratorHasNoNext() {
+    ReadAheadIterator<Integer> iterator = new ReadAheadIterator<>(() -> 1, () -> true, 2, null);
+    iterator.close();
+    assertFalse(iterator.hasNext());
+  }
+}
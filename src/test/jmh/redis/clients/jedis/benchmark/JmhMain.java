@@ -15,7 +15,8 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
  * <ul>
  * <li>All benchmarks
  * <li>Protocol benchmarks (RESP3, cache-aware, push messages)
- * <li>CRC16 benchmarks (hash slot calculation)
+ * <li>CRC16 benchmarks (hash slot calculation, cluster routing)
+ * <li>Loopback benchmarks (pool, round trips, pipelines against an in-process stub server)
  * </ul>
  * <p>
  * To run from IDE:
@@ -44,6 +45,8 @@ public class JmhMain {
     // runSafeEncoderBenchmarks();
     // runGetSetMixedR90W10Benchmarks();
     // runPubSubPushBenchmarks();
+    // runCacheHitBenchmarks();
+    // runLoopbackBenchmarks();
     // runSpecificBenchmark("ReadPushesBenchmark");
 
     // results saved to benchmarks.json and benchmark.log
@@ -121,6 +124,24 @@ public class JmhMain {
     new Runner(prepareOptions().addProfiler("gc").include(".*PubSubPushBenchmark.*").build()).run();
   }
 
+  /**
+   * Run only client-side cache hit throughput benchmarks (1/8/64 threads). Uses benchmark class
+   * defaults for mode and timeUnit.
+   */
+  private static void runCacheHitBenchmarks() throws RunnerException {
+    System.out.println("Running client-side cache hit benchmarks...");
+    new Runner(prepareOptions().include(".*CacheHitBenchmark.*").build()).run();
+  }
+
+  /**
+   * Run only the benchmarks of the network paths against the in-process {@link RespStubServer}
+   * (no Redis server required). Uses benchmark class defaults for mode and timeUnit.
+   */
+  private static void runLoopbackBenchmarks() throws RunnerException {
+    System.out.println("Running loopback benchmarks...");
+    new Runner(prepareOptions().include(".*benchmark\\.loopback\\..*").build()).run();
+  }
+
   /**
    * Run a specific benchmark by name. Uses benchmark class defaults for mode and timeUnit.
    * @param benchmarkPattern Benchmark name pattern (e.g., "CRC16Benchmark.getSlotString")
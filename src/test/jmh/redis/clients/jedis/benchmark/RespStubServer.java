@@ -0,0 +1,225 @@
+package redis.clients.jedis.benchmark;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process RESP2/RESP3 server on the loopback interface, so that the benchmarks of the network
+ * paths (pool, round trips, pipelines) run without a Redis server and can be compared across
+ * versions.
+ * <p>
+ * It keeps strings in memory and answers {@code HELLO}, {@code PING}, {@code SET}, {@code GET},
+ * {@code DEL} and, with {@code +OK}, the {@code AUTH}, {@code CLIENT} and {@code SELECT} commands
+ * sent when connecting. Each connection has a thread of its own.
+ * <p>
+ * A latency can be added to each round trip: the replies are held for that time whenever the
+ * server has answered all the commands received so far, so a pipeline pays it once per flush as
+ * it would over a network.
+ */
+public final class RespStubServer implements AutoCloseable {
+
+  private static final byte[] OK = bytes("+OK\r\n");
+  private static final byte[] PONG = bytes("+PONG\r\n");
+  private static final byte[] RESP2_NULL = bytes("$-1\r\n");
+  private static final byte[] RESP3_NULL = bytes("_\r\n");
+
+  private final long latencyNanos;
+  private final ServerSocket serverSocket;
+  private final Map<String, byte[]> data = new ConcurrentHashMap<>();
+  private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+
+  private volatile boolean running = true;
+
+  /**
+   * Starts the server on an ephemeral port of the loopback interface.
+   * @param latencyMicros the latency added to each round trip, in microseconds
+   */
+  public RespStubServer(long latencyMicros) throws IOException {
+    this.latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+    this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+    Thread acceptor = new Thread(this::accept, "resp-stub-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  public String getHost() {
+    return serverSocket.getInetAddress().getHostAddress();
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Sets a string, as if by {@code SET}.
+   */
+  public void set(String key, String value) {
+    data.put(key, bytes(value));
+  }
+
+  @Override
+  public void close() throws IOException {
+    running = false;
+    serverSocket.close();
+    for (Socket client : clients) {
+      client.close();
+    }
+  }
+
+  private void accept() {
+    while (running) {
+      try {
+        Socket socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+        clients.add(socket);
+        Thread handler = new Thread(() -> serve(socket), "resp-stub-" + socket.getPort());
+        handler.setDaemon(true);
+        handler.start();
+      } catch (IOException e) {
+        // closed
+      }
+    }
+  }
+
+  private void serve(Socket socket) {
+    try (Socket s = socket) {
+      InputStream in = new BufferedInputStream(s.getInputStream(), 64 * 1024);
+      OutputStream out = new BufferedOutputStream(s.getOutputStream(), 64 * 1024);
+      boolean resp3 = false;
+      while (running) {
+        List<byte[]> command = readCommand(in);
+        String name = new String(command.get(0), StandardCharsets.US_ASCII).toUpperCase();
+        switch (name) {
+          case "HELLO":
+            resp3 = command.size() > 1 && command.get(1)[0] == '3';
+            out.write(hello(resp3));
+            break;
+          case "PING":
+            out.write(PONG);
+            break;
+          case "SET":
+            data.put(key(command), command.get(2));
+            out.write(OK);
+            break;
+          case "GET":
+            writeBulk(out, data.get(key(command)), resp3);
+            break;
+          case "DEL":
+            writeInteger(out, data.remove(key(command)) != null ? 1 : 0);
+            break;
+          case "AUTH":
+          case "CLIENT":
+          case "SELECT":
+            out.write(OK);
+            break;
+          default:
+            out.write(bytes("-ERR unknown command '" + name + "'\r\n"));
+        }
+        if (in.available() == 0) {
+          if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+          }
+          out.flush();
+        }
+      }
+    } catch (IOException e) {
+      // disconnected
+    } finally {
+      clients.remove(socket);
+    }
+  }
+
+  private static String key(List<byte[]> command) {
+    return new String(command.get(1), StandardCharsets.UTF_8);
+  }
+
+  private static List<byte[]> readCommand(InputStream in) throws IOException {
+    expect(in, '*');
+    int count = readInt(in);
+    List<byte[]> command = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      expect(in, '$');
+      byte[] arg = new byte[readInt(in)];
+      int read = 0;
+      while (read < arg.length) {
+        int n = in.read(arg, read, arg.length - read);
+        if (n < 0) {
+          throw new EOFException();
+        }
+        read += n;
+      }
+      in.read(); // CR
+      in.read(); // LF
+      command.add(arg);
+    }
+    return command;
+  }
+
+  private static void expect(InputStream in, char type) throws IOException {
+    int b = in.read();
+    if (b < 0) {
+      throw new EOFException();
+    }
+    if (b != type) {
+      throw new IOException("Unexpected '" + (char) b + "', expected '" + type + "'");
+    }
+  }
+
+  private static int readInt(InputStream in) throws IOException {
+    int value = 0;
+    int b;
+    while ((b = in.read()) != '\r') {
+      if (b < 0) {
+        throw new EOFException();
+      }
+      value = value * 10 + (b - '0');
+    }
+    in.read(); // LF
+    return value;
+  }
+
+  private static void writeBulk(OutputStream out, byte[] value, boolean resp3) throws IOException {
+    if (value == null) {
+      out.write(resp3 ? RESP3_NULL : RESP2_NULL);
+      return;
+    }
+    out.write('$');
+    out.write(bytes(Integer.toString(value.length)));
+    out.write('\r');
+    out.write('\n');
+    out.write(value);
+    out.write('\r');
+    out.write('\n');
+  }
+
+  private static void writeInteger(OutputStream out, long value) throws IOException {
+    out.write(bytes(":" + value + "\r\n"));
+  }
+
+  private static byte[] hello(boolean resp3) {
+    String fields = "$6\r\nserver\r\n$5\r\nredis\r\n" + "$7\r\nversion\r\n$5\r\n7.4.0\r\n"
+        + "$5\r\nproto\r\n:" + (resp3 ? 3 : 2) + "\r\n" + "$2\r\nid\r\n:1\r\n"
+        + "$4\r\nmode\r\n$10\r\nstandalone\r\n" + "$4\r\nrole\r\n$6\r\nmaster\r\n"
+        + "$7\r\nmodules\r\n*0\r\n";
+    return bytes((resp3 ? "%7\r\n" : "*14\r\n") + fields);
+  }
+
+  private static byte[] bytes(String s) {
+    return s.getBytes(StandardCharsets.UTF_8);
+  }
+}
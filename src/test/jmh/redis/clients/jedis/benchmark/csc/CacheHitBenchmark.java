@@ -0,0 +1,87 @@
+package redis.clients.jedis.benchmark.csc;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.csc.Cache;
+import redis.clients.jedis.csc.CacheConfig;
+import redis.clients.jedis.csc.CacheEntry;
+import redis.clients.jedis.csc.CacheFactory;
+import redis.clients.jedis.csc.CacheKey;
+import redis.clients.jedis.csc.ConcurrentCache;
+import redis.clients.jedis.util.SafeEncoder;
+
+/**
+ * JMH benchmark for client-side cache hit throughput under concurrency.
+ * <p>
+ * Compares {@code DefaultCache} ({@code HashMap} store, {@code LRUEviction} which synchronizes on
+ * every hit) with {@link ConcurrentCache} ({@code ConcurrentHashMap} store, lock-free
+ * {@code TinyLFUEviction} hits). This base class is extended by nested classes with specific
+ * thread counts:
+ * <ul>
+ * <li>{@code CacheHitBenchmark$Threads1} - 1 thread (baseline)
+ * <li>{@code CacheHitBenchmark$Threads8} - 8 threads
+ * <li>{@code CacheHitBenchmark$Threads64} - 64 threads
+ * </ul>
+ * The whole working set fits into the cache, so every lookup is a hit. No server is required.
+ * <p>
+ * Run with: {@code mvn -Pjmh test -Djmh.includes="CacheHitBenchmark"}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public abstract class CacheHitBenchmark {
+
+  private static final int WORKING_SET = 10_000;
+
+  @Param({ "DefaultCache", "ConcurrentCache" })
+  public String cacheType;
+
+  private Cache cache;
+  private CacheKey[] keys;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    CacheConfig.Builder config = CacheConfig.builder().maxSize(WORKING_SET);
+    if ("ConcurrentCache".equals(cacheType)) {
+      config.cacheClass(ConcurrentCache.class);
+    }
+    cache = CacheFactory.getCache(config.build());
+
+    CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP3);
+    keys = new CacheKey[WORKING_SET];
+    for (int i = 0; i < WORKING_SET; i++) {
+      CommandObject<String> get = commandObjects.get("key:" + i);
+      keys[i] = new CacheKey<>(get);
+      cache.set(keys[i],
+        CacheEntry.fromReply(keys[i], get.getBuilder(), SafeEncoder.encode("value:" + i), null));
+    }
+  }
+
+  @Benchmark
+  public void hit(Blackhole blackhole) {
+    CacheEntry entry = cache.get(keys[ThreadLocalRandom.current().nextInt(WORKING_SET)]);
+    blackhole.consume(entry.getValue());
+  }
+
+  @Threads(1)
+  public static class Threads1 extends CacheHitBenchmark {
+  }
+
+  @Threads(8)
+  public static class Threads8 extends CacheHitBenchmark {
+  }
+
+  @Threads(64)
+  public static class Threads64 extends CacheHitBenchmark {
+  }
+}
@@ -0,0 +1,138 @@
+package redis.clients.jedis.benchmark.loopback;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import redis.clients.jedis.*;
+import redis.clients.jedis.benchmark.RespStubServer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the network paths of {@link RedisClient} against an in-process
+ * {@link RespStubServer}, so that it needs no Redis server and its results only depend on the
+ * client and the loopback interface.
+ * <p>
+ * Benchmarks:
+ * <ul>
+ * <li>{@code poolBorrow}: borrowing a connection from the pool and returning it
+ * <li>{@code get}, {@code set}: one command per round trip
+ * <li>{@code pipelinedGet}: 1000 GETs, synced every 100
+ * </ul>
+ * <p>
+ * Parameters: {@code protocol} (RESP2, RESP3) and {@code latencyMicros}, the latency the server
+ * adds to each round trip.
+ * <p>
+ * Run with: {@code mvn -Pjmh test -Djmh.includes="LoopbackBenchmark"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Threads(1)
+public class LoopbackBenchmark {
+
+  /**
+   * Total operations per pipelined benchmark invocation.
+   */
+  private static final int TOTAL_OPERATIONS = 1000;
+
+  /**
+   * Number of commands to batch before calling sync().
+   */
+  private static final int BATCH_SIZE = 100;
+
+  private static final String KEY = "foo";
+  private static final String VALUE = "bar";
+
+  @Param({ "RESP2", "RESP3" })
+  private RedisProtocol protocol;
+
+  @Param({ "0", "100" })
+  private long latencyMicros;
+
+  private RespStubServer server;
+  private RedisClient redisClient;
+  private ConnectionPool pool;
+
+  @SuppressWarnings("unchecked")
+  private final Response<String>[] responses = (Response<String>[]) new Response[BATCH_SIZE];
+
+  @Setup(Level.Trial)
+  public void setupTrial() throws IOException {
+    server = new RespStubServer(latencyMicros);
+    server.set(KEY, VALUE);
+
+    HostAndPort hostAndPort = new HostAndPort(server.getHost(), server.getPort());
+    JedisClientConfig clientConfig = DefaultJedisClientConfig.builder().protocol(protocol).build();
+
+    GenericObjectPoolConfig<Connection> poolConfig = new GenericObjectPoolConfig<>();
+    poolConfig.setMaxTotal(8);
+    poolConfig.setMaxIdle(8);
+
+    redisClient = RedisClient.builder().hostAndPort(hostAndPort).clientConfig(clientConfig)
+        .poolConfig(poolConfig).build();
+    pool = new ConnectionPool(hostAndPort, clientConfig, poolConfig);
+  }
+
+  @TearDown(Level.Trial)
+  public void teardownTrial() throws IOException {
+    if (redisClient != null) {
+      redisClient.close();
+    }
+    if (pool != null) {
+      pool.close();
+    }
+    if (server != null) {
+      server.close();
+    }
+  }
+
+  /**
+   * Benchmark borrowing a connection from the pool and returning it, without any command.
+   */
+  @Benchmark
+  public void poolBorrow(Blackhole blackhole) {
+    try (Connection connection = pool.getResource()) {
+      blackhole.consume(connection);
+    }
+  }
+
+  /**
+   * Benchmark a GET round trip.
+   */
+  @Benchmark
+  public void get(Blackhole blackhole) {
+    blackhole.consume(redisClient.get(KEY));
+  }
+
+  /**
+   * Benchmark a SET round trip.
+   */
+  @Benchmark
+  public void set(Blackhole blackhole) {
+    blackhole.consume(redisClient.set(KEY, VALUE));
+  }
+
+  /**
+   * Benchmark pipelined GETs: 1000 operations, synced every 100.
+   */
+  @Benchmark
+  @OperationsPerInvocation(TOTAL_OPERATIONS)
+  public void pipelinedGet(Blackhole blackhole) {
+    try (Pipeline pipeline = redisClient.pipelined()) {
+      for (int n = 0; n < TOTAL_OPERATIONS; n += BATCH_SIZE) {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+          responses[i] = pipeline.get(KEY);
+        }
+        pipeline.sync();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+          blackhole.consume(responses[i].get());
+        }
+      }
+    }
+  }
+}
@@ -15,6 +15,8 @@ import java.util.concurrent.TimeUnit;
  * flushes still happen periodically (when the 8 KB buffer fills) but cost nothing because the sink
  * is a no-op.
  * <p>
+ * Run with {@code -prof gc} to see the allocations per command.
+ * <p>
  * Run with: {@code mvn -Pjmh clean test}
  */
 @BenchmarkMode(Mode.AverageTime)
@@ -30,6 +32,8 @@ public class SendCommandBenchmark {
 
   private static final byte[] KEY = "123456789".getBytes();
   private static final byte[] VAL = "FooBar".getBytes();
+  private static final String STRING_KEY = "user:1000:profile";
+  private static final String STRING_VAL = "FooBar";
 
   private RedisOutputStream out;
 
@@ -51,6 +55,33 @@ public class SendCommandBenchmark {
     blackhole.consume(out);
   }
 
+  /**
+   * SET of {@link String} key and value: the strings are encoded straight into the output buffer.
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void measureSendCommandStrings(Blackhole blackhole) throws Exception {
+    for (int i = 0; i < BATCH; i++) {
+      Protocol.sendCommand(out,
+        new CommandArguments(Protocol.Command.SET).key(STRING_KEY).add(STRING_VAL));
+    }
+    blackhole.consume(out);
+  }
+
+  /**
+   * SET with expiration ({@code SET key value EX seconds}): the keyword is written from its
+   * precomputed bulk string, the number from its digits.
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void measureSendCommandWithExpiration(Blackhole blackhole) throws Exception {
+    for (int i = 0; i < BATCH; i++) {
+      Protocol.sendCommand(out, new CommandArguments(Protocol.Command.SET).key(STRING_KEY)
+          .add(STRING_VAL).add(Protocol.Keyword.EX).add(3600 + i));
+    }
+    blackhole.consume(out);
+  }
+
   /** Discards all output. Removes I/O cost from the measurement. */
   private static final class NullOutputStream extends OutputStream {
     static final NullOutputStream INSTANCE = new NullOutputStream();
@@ -0,0 +1,151 @@
+package redis.clients.jedis.benchmark.protocol;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import redis.clients.jedis.Builder;
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.PushConsumerChain;
+import redis.clients.jedis.PushConsumerChainImpl;
+import redis.clients.jedis.StreamingBuilder;
+import redis.clients.jedis.benchmark.CyclingInputStream;
+import redis.clients.jedis.util.RedisInputStream;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the two ways of decoding a reply into its result:
+ * <ol>
+ * <li>{@code tree*}: {@link Protocol#read} builds the reply objects, then the {@link Builder} converts
+ * them
+ * <li>{@code streaming*}: the {@link StreamingBuilder} decodes the result directly from the
+ * {@link RedisInputStream}
+ * </ol>
+ * Replies: HGETALL of 100 fields (RESP2 and RESP3), ZRANGE WITHSCORES of 100 members (RESP2 and
+ * RESP3) and XRANGE of 10 entries with 5 fields each.
+ * <p>
+ * Run with: {@code mvn -Pjmh clean test}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Threads(1)
+public class StreamingReadBenchmark {
+
+  private static final int FIELDS = 100;
+  private static final int MEMBERS = 100;
+  private static final int ENTRIES = 10;
+
+  private final PushConsumerChain pushConsumers = PushConsumerChainImpl
+      .of(PushConsumerChainImpl.PUBSUB_CONSUMER);
+
+  private RedisInputStream hgetallResp2Stream;
+  private RedisInputStream hgetallResp3Stream;
+  private RedisInputStream zrangeResp2Stream;
+  private RedisInputStream zrangeResp3Stream;
+  private RedisInputStream xrangeStream;
+
+  @Setup(Level.Iteration)
+  public void setupIteration() {
+    StringBuilder hash = new StringBuilder();
+    for (int i = 0; i < FIELDS; i++) {
+      bulk(hash, "field:" + i);
+      bulk(hash, "value-of-field-" + i);
+    }
+    hgetallResp2Stream = wrap("*" + (2 * FIELDS) + "\r\n" + hash);
+    hgetallResp3Stream = wrap("%" + FIELDS + "\r\n" + hash);
+
+    StringBuilder zsetResp2 = new StringBuilder("*").append(2 * MEMBERS).append("\r\n");
+    StringBuilder zsetResp3 = new StringBuilder("*").append(MEMBERS).append("\r\n");
+    for (int i = 0; i < MEMBERS; i++) {
+      bulk(zsetResp2, "member:" + i);
+      bulk(zsetResp2, String.valueOf(i * 1.5));
+      zsetResp3.append("*2\r\n");
+      bulk(zsetResp3, "member:" + i);
+      zsetResp3.append(',').append(i * 1.5).append("\r\n");
+    }
+    zrangeResp2Stream = wrap(zsetResp2.toString());
+    zrangeResp3Stream = wrap(zsetResp3.toString());
+
+    StringBuilder stream = new StringBuilder("*").append(ENTRIES).append("\r\n");
+    for (int i = 0; i < ENTRIES; i++) {
+      stream.append("*2\r\n");
+      bulk(stream, "1700000000000-" + i);
+      stream.append("*10\r\n");
+      for (int j = 0; j < 5; j++) {
+        bulk(stream, "sensor" + j);
+        bulk(stream, String.valueOf(i * j));
+      }
+    }
+    xrangeStream = wrap(stream.toString());
+  }
+
+  private static void bulk(StringBuilder sb, String value) {
+    sb.append('$').append(value.length()).append("\r\n").append(value).append("\r\n");
+  }
+
+  private static RedisInputStream wrap(String record) {
+    return new RedisInputStream(new CyclingInputStream(record.getBytes()));
+  }
+
+  private Object tree(RedisInputStream is, Builder<?> builder) {
+    return builder.build(Protocol.read(is, pushConsumers));
+  }
+
+  private Object streaming(RedisInputStream is, Builder<?> builder) {
+    return Protocol.read(is, pushConsumers, (StreamingBuilder<?>) builder);
+  }
+
+  @Benchmark
+  public void treeHgetallResp2(Blackhole blackhole) {
+    blackhole.consume(tree(hgetallResp2Stream, BuilderFactory.STRING_MAP));
+  }
+
+  @Benchmark
+  public void streamingHgetallResp2(Blackhole blackhole) {
+    blackhole.consume(streaming(hgetallResp2Stream, BuilderFactory.STRING_MAP));
+  }
+
+  @Benchmark
+  public void treeHgetallResp3(Blackhole blackhole) {
+    blackhole.consume(tree(hgetallResp3Stream, BuilderFactory.STRING_MAP));
+  }
+
+  @Benchmark
+  public void streamingHgetallResp3(Blackhole blackhole) {
+    blackhole.consume(streaming(hgetallResp3Stream, BuilderFactory.STRING_MAP));
+  }
+
+  @Benchmark
+  public void treeZrangeWithScoresResp2(Blackhole blackhole) {
+    blackhole.consume(tree(zrangeResp2Stream, BuilderFactory.TUPLE_LIST));
+  }
+
+  @Benchmark
+  public void streamingZrangeWithScoresResp2(Blackhole blackhole) {
+    blackhole.consume(streaming(zrangeResp2Stream, BuilderFactory.TUPLE_LIST));
+  }
+
+  @Benchmark
+  public void treeZrangeWithScoresResp3(Blackhole blackhole) {
+    blackhole.consume(tree(zrangeResp3Stream, BuilderFactory.TUPLE_LIST_RESP3));
+  }
+
+  @Benchmark
+  public void streamingZrangeWithScoresResp3(Blackhole blackhole) {
+    blackhole.consume(streaming(zrangeResp3Stream, BuilderFactory.TUPLE_LIST_RESP3));
+  }
+
+  @Benchmark
+  public void treeXrange(Blackhole blackhole) {
+    blackhole.consume(tree(xrangeStream, BuilderFactory.STREAM_ENTRY_LIST));
+  }
+
+  @Benchmark
+  public void streamingXrange(Blackhole blackhole) {
+    blackhole.consume(streaming(xrangeStream, BuilderFactory.STREAM_ENTRY_LIST));
+  }
+}
@@ -0,0 +1,118 @@
+package redis.clients.jedis.benchmark.redisclient;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import redis.clients.jedis.*;
+import redis.clients.jedis.executors.AutoBatchingCommandExecutor;
+import redis.clients.jedis.providers.PooledConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * JMH benchmark comparing synchronous {@link RedisClient} calls executed by the default executor
+ * (one pooled connection per call, one round trip per command) and by the
+ * {@link AutoBatchingCommandExecutor} (commands of concurrent callers pipelined over a few
+ * connections). Each operation is a SET followed by a GET of a distinct key, as in
+ * {@code PoolBenchmark}.
+ * <ul>
+ * <li>{@link Threads1}: single caller, where batching can only add latency
+ * <li>{@link Threads8}: moderate concurrency
+ * <li>{@link Threads64}: high concurrency, the workload auto-batching targets
+ * </ul>
+ * <p>
+ * Requirements:
+ * <ul>
+ * <li>Running Redis instance on {@code localhost:6379} (or configured endpoint)
+ * </ul>
+ * <p>
+ * Run with: {@code mvn -Pjmh test -Djmh.includes="redisclient.AutoBatchingBenchmark"}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+public abstract class AutoBatchingBenchmark {
+
+  private static final EndpointConfig endpoint = Endpoints.getRedisEndpoint("standalone0");
+
+  private static final int KEYS = 100_000;
+
+  /**
+   * {@code pooled}: default executor; {@code autobatch}: auto-batching executor with a zero batch
+   * window; {@code autobatch-window}: auto-batching executor waiting up to 50µs for a batch.
+   */
+  @Param({ "pooled", "autobatch", "autobatch-window" })
+  public String executor;
+
+  private RedisClient redisClient;
+
+  @State(Scope.Thread)
+  public static class Keys {
+    private static final AtomicInteger THREAD_INDEX = new AtomicInteger();
+    private final String prefix = "foo" + THREAD_INDEX.getAndIncrement() + ":";
+    private int next;
+
+    String next() {
+      return prefix + (next++ % KEYS);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setupTrial() {
+    GenericObjectPoolConfig<Connection> poolConfig = new GenericObjectPoolConfig<>();
+    poolConfig.setMaxTotal(64);
+    poolConfig.setMaxIdle(64);
+    poolConfig.setMinIdle(8);
+
+    JedisClientConfig clientConfig = DefaultJedisClientConfig.builder()
+        .password(endpoint.getPassword()).build();
+    PooledConnectionProvider provider = new PooledConnectionProvider(endpoint.getHostAndPort(),
+        clientConfig, poolConfig);
+
+    RedisClient.Builder builder = RedisClient.builder();
+    builder.clientConfig(clientConfig).connectionProvider(provider);
+    if ("autobatch".equals(executor)) {
+      builder.commandExecutor(new AutoBatchingCommandExecutor(provider));
+    } else if ("autobatch-window".equals(executor)) {
+      builder.commandExecutor(new AutoBatchingCommandExecutor(provider,
+          AutoBatchingCommandExecutor.DEFAULT_CONNECTIONS,
+          AutoBatchingCommandExecutor.DEFAULT_MAX_BATCH_SIZE, Duration.ofNanos(50_000)));
+    }
+    redisClient = builder.build();
+    redisClient.flushDB();
+  }
+
+  @TearDown(Level.Trial)
+  public void teardownTrial() {
+    if (redisClient != null) {
+      redisClient.close();
+    }
+  }
+
+  @Benchmark
+  public void setGet(Keys keys, Blackhole blackhole) {
+    String key = keys.next();
+    blackhole.consume(redisClient.set(key, key));
+    blackhole.consume(redisClient.get(key));
+  }
+
+  /** Single-threaded benchmark (baseline). */
+  @Threads(1)
+  public static class Threads1 extends AutoBatchingBenchmark {
+  }
+
+  /** 8-thread benchmark (moderate concurrency). */
+  @Threads(8)
+  public static class Threads8 extends AutoBatchingBenchmark {
+  }
+
+  /** 64-thread benchmark (high concurrency). */
+  @Threads(64)
+  public static class Threads64 extends AutoBatchingBenchmark {
+  }
+}
@@ -2,6 +2,10 @@ package redis.clients.jedis.benchmark.util;
 
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.CommandObjects;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.RedisProtocol;
 import redis.clients.jedis.util.JedisClusterCRC16;
 import redis.clients.jedis.util.SafeEncoder;
 
@@ -14,7 +18,9 @@ import java.util.concurrent.TimeUnit;
  * patterns. Each benchmark invocation rotates through different key types (short, medium, long,
  * hashtag, etc.) to simulate real-world workload distribution.
  * <p>
- * Compares {@code String}-based vs {@code byte[]}-based slot calculation.
+ * Compares {@code String}-based vs {@code byte[]}-based slot calculation, and measures the full
+ * routing of a command to a node: building its arguments, computing the hash slot of its keys and
+ * looking up the node serving the slot.
  * <p>
  * Run with: {@code mvn -Pjmh clean test}
  */
@@ -60,6 +66,23 @@ public class CRC16Benchmark {
    */
   private long counter = 0;
 
+  /**
+   * Long keys, where the CRC16 processes 8 bytes at a time for most of the key.
+   */
+  private static final String[] LONG_STRING_TEST_SET = {
+      "session:4f1c2a9e-7b3d-4c8e-9a1f-2e6d5b7c8a90:attributes:last-access", // 67 chars
+      "{tenant:acme}:orders:2024-06-01:region:eu-west:warehouse:42:items" // 65 chars
+  };
+
+  private byte[][] longByteTestSet;
+
+  private final CommandObjects commandObjects = new CommandObjects(RedisProtocol.RESP2);
+
+  /**
+   * The node of each slot, as a cluster of three primaries.
+   */
+  private final HostAndPort[] slotNodes = new HostAndPort[16384];
+
   // Multiple of KEYS.length so each invocation hits every pattern equally.
   private static final int BATCH_SIZE = 128; // = 8 patterns × 16 // 128
 
@@ -70,6 +93,16 @@ public class CRC16Benchmark {
     for (int i = 0; i < STRING_TEST_SET.length; i++) {
       byteTestSet[i] = SafeEncoder.encode(STRING_TEST_SET[i]);
     }
+    longByteTestSet = new byte[LONG_STRING_TEST_SET.length][];
+    for (int i = 0; i < LONG_STRING_TEST_SET.length; i++) {
+      longByteTestSet[i] = SafeEncoder.encode(LONG_STRING_TEST_SET[i]);
+    }
+
+    HostAndPort[] nodes = { new HostAndPort("127.0.0.1", 7000), new HostAndPort("127.0.0.1", 7001),
+        new HostAndPort("127.0.0.1", 7002) };
+    for (int slot = 0; slot < slotNodes.length; slot++) {
+      slotNodes[slot] = nodes[slot * nodes.length / slotNodes.length];
+    }
   }
 
   // ========== STRING-BASED SLOT CALCULATION ==========
@@ -104,4 +137,64 @@ public class CRC16Benchmark {
       blackhole.consume(slot);
     }
   }
+
+  /**
+   * Benchmark byte[]-based slot calculation of long keys.
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void getSlotLongBytes(Blackhole blackhole) {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      int slot = JedisClusterCRC16
+          .getSlot(longByteTestSet[(int) (counter++ % longByteTestSet.length)]);
+      blackhole.consume(slot);
+    }
+  }
+
+  // ========== KEY-TO-NODE ROUTING ==========
+
+  /**
+   * Benchmark the routing of a single-key command: building the command, computing the hash slot
+   * of its key and looking up the node of the slot.
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void routeSingleKeyCommand(Blackhole blackhole) {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      CommandArguments args = commandObjects
+          .get(STRING_TEST_SET[(int) (counter++ % STRING_TEST_SET.length)]).getArguments();
+      int slot = args.getKeyHashSlot();
+      blackhole.consume(slot >= 0 ? slotNodes[slot] : null);
+    }
+  }
+
+  /**
+   * Same as {@link #routeSingleKeyCommand(Blackhole)}, through the set of hash slots, for
+   * comparison.
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void routeSingleKeyCommandThroughSlotSet(Blackhole blackhole) {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      CommandArguments args = commandObjects
+          .get(STRING_TEST_SET[(int) (counter++ % STRING_TEST_SET.length)]).getArguments();
+      int slot = args.getKeyHashSlots().iterator().next();
+      blackhole.consume(slotNodes[slot]);
+    }
+  }
+
+  /**
+   * Benchmark the routing of a multi-key command whose keys share a hash tag.
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public void routeMultiKeyCommand(Blackhole blackhole) {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      long n = counter++;
+      CommandArguments args = commandObjects
+          .mget("{user:" + (n & 7) + "}:name", "{user:" + (n & 7) + "}:email").getArguments();
+      int slot = args.getKeyHashSlot();
+      blackhole.consume(slot >= 0 ? slotNodes[slot] : null);
+    }
+  }
 }